@@ -9,11 +9,13 @@ import org.junit.jupiter.api.Test;
 import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -384,6 +386,31 @@ public class AsyncCacheAopTests extends AbstractCacheAnnotationProcessorTests im
             delegate.flushAll();
         }
 
+        @Override
+        public boolean psetnx(byte[] key, byte[] value, long expireAfterMillis) {
+            return delegate.psetnx(key, value, expireAfterMillis);
+        }
+
+        @Override
+        public boolean delIfEquals(byte[] key, byte[] expectedValue) {
+            return delegate.delIfEquals(key, expectedValue);
+        }
+
+        @Override
+        public ValueWithTtl getWithTtl(byte[] key) {
+            return delegate.getWithTtl(key);
+        }
+
+        @Override
+        public CompletionStage<Long> publish(byte[] channel, byte[] message) {
+            return delegate.publish(channel, message);
+        }
+
+        @Override
+        public Subscription subscribe(byte[] channel, Consumer<byte[]> listener) {
+            return delegate.subscribe(channel, listener);
+        }
+
         private enum Mode {
             NONE,
             SET,
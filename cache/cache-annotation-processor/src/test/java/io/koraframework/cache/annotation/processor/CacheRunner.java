@@ -15,6 +15,9 @@ import org.mockito.Mockito;
 
 import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import static org.mockito.Mockito.when;
 
@@ -127,6 +130,31 @@ final class CacheRunner {
             public void flushAll() {
                 cache.clear();
             }
+
+            @Override
+            public boolean psetnx(byte[] key, byte[] value, long expireAfterMillis) {
+                return cache.putIfAbsent(ByteBuffer.wrap(key), ByteBuffer.wrap(value)) == null;
+            }
+
+            @Override
+            public boolean delIfEquals(byte[] key, byte[] expectedValue) {
+                return cache.remove(ByteBuffer.wrap(key), ByteBuffer.wrap(expectedValue));
+            }
+
+            @Override
+            public ValueWithTtl getWithTtl(byte[] key) {
+                return new ValueWithTtl(get(key), -1);
+            }
+
+            @Override
+            public CompletionStage<Long> publish(byte[] channel, byte[] message) {
+                return CompletableFuture.completedFuture(0L);
+            }
+
+            @Override
+            public Subscription subscribe(byte[] channel, Consumer<byte[]> listener) {
+                return () -> {};
+            }
         };
     }
 }
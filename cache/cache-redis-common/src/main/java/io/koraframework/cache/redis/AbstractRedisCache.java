@@ -1,7 +1,9 @@
 package io.koraframework.cache.redis;
 
+import io.koraframework.application.graph.Lifecycle;
 import io.koraframework.cache.redis.mapper.RedisCacheKeyMapper;
 import io.koraframework.cache.redis.mapper.RedisCacheValueMapper;
+import io.koraframework.cache.redis.telemetry.RedisCacheObservation;
 import io.koraframework.cache.redis.telemetry.RedisCacheTelemetry;
 import io.koraframework.cache.redis.telemetry.RedisCacheTelemetry.Operation;
 import io.koraframework.cache.redis.telemetry.RedisCacheTelemetryFactory;
@@ -16,13 +18,17 @@ import org.slf4j.helpers.NOPLogger;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static io.koraframework.cache.redis.telemetry.RedisCacheTelemetry.Operation.*;
 
-public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
+public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V>, Lifecycle {
 
     private final Logger logger;
 
@@ -39,6 +45,17 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
     @Nullable
     private final Long expireAfterWriteMillis;
 
+    private final boolean singleFlight;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    @Nullable
+    private final Long lockLeaseMillis;
+    private final long lockWaitMillis;
+    private final long lockPollIntervalMillis;
+    private final double earlyRefreshBeta;
+    private final AtomicLong computeNanosEstimate = new AtomicLong();
+    @Nullable
+    private final RedisNearCache<V> nearCache;
+
     protected AbstractRedisCache(String cacheConfigPath,
                                  RedisCacheConfig config,
                                  RedisCacheClient redisClient,
@@ -56,6 +73,17 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
         this.expireAfterWriteMillis = (config.expireAfterWrite() == null)
             ? null
             : config.expireAfterWrite().toMillis();
+        this.singleFlight = config.singleFlight();
+        this.lockLeaseMillis = (config.lockLease() == null)
+            ? null
+            : config.lockLease().toMillis();
+        this.lockWaitMillis = (config.lockWait() == null)
+            ? 0
+            : config.lockWait().toMillis();
+        this.lockPollIntervalMillis = (config.lockPollInterval() == null)
+            ? 50
+            : Math.max(config.lockPollInterval().toMillis(), 1);
+        this.earlyRefreshBeta = config.earlyRefreshBeta();
 
         this.logger = config.telemetry().logging().enabled()
             ? LoggerFactory.getLogger(getClass())
@@ -70,6 +98,32 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
             System.arraycopy(prefixRaw, 0, this.keyPrefix, 0, prefixRaw.length);
             System.arraycopy(RedisCacheKeyMapper.DELIMITER, 0, this.keyPrefix, prefixRaw.length, RedisCacheKeyMapper.DELIMITER.length);
         }
+
+        var nearCacheConfig = config.nearCache();
+        if (this.enabled && nearCacheConfig != null && nearCacheConfig.enabled() && this.expireAfterAccessMillis != null) {
+            // local hits don't reach Redis, so hot keys would expire there while they are read
+            logger.warn("Near cache of '{}' is disabled because it can't prolong expireAfterAccess in Redis", cacheConfigPath);
+            this.nearCache = null;
+        } else if (this.enabled && nearCacheConfig != null && nearCacheConfig.enabled()) {
+            var channel = (config.keyPrefix().isBlank() ? "kora:cache" : config.keyPrefix()) + ":near-cache";
+            this.nearCache = new RedisNearCache<>(nearCacheConfig, redisClient, channel.getBytes(StandardCharsets.UTF_8), logger);
+        } else {
+            this.nearCache = null;
+        }
+    }
+
+    @Override
+    public void init() {
+        if (nearCache != null) {
+            nearCache.start();
+        }
+    }
+
+    @Override
+    public void release() {
+        if (nearCache != null) {
+            nearCache.stop();
+        }
     }
 
     @Override
@@ -89,11 +143,23 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
                 observation.observeKey(key);
                 try {
                     final byte[] keyAsBytes = mapKey(key);
+                    if (nearCache != null) {
+                        final V local = nearCache.get(keyAsBytes);
+                        if (local != null) {
+                            observation.observeValue(local);
+                            return local;
+                        }
+                    }
+
+                    final long nearMarker = (nearCache == null) ? 0 : nearCache.readMarker();
                     final byte[] jsonAsBytes = (expireAfterAccessMillis == null)
                         ? redisClient.get(keyAsBytes)
                         : redisClient.getex(keyAsBytes, expireAfterAccessMillis);
 
                     final V value = valueMapper.read(jsonAsBytes);
+                    if (nearCache != null && value != null) {
+                        nearCache.putRead(keyAsBytes, value, nearMarker);
+                    }
                     observation.observeValue(value);
                     return value;
                 } catch (CompletionException e) {
@@ -127,20 +193,37 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
                     final Map<K, byte[]> keysByKeyBytes = keys.stream()
                         .collect(Collectors.toMap(k -> k, this::mapKey, (v1, v2) -> v2));
 
-                    final byte[][] keysByBytes = keysByKeyBytes.values().toArray(byte[][]::new);
+                    final Map<K, V> keyToValue = new HashMap<>();
+                    readNear(keysByKeyBytes, keyToValue);
+                    if (keyToValue.size() == keysByKeyBytes.size()) {
+                        observation.observeValues(keyToValue);
+                        return keyToValue;
+                    }
+
+                    final long nearMarker = (nearCache == null) ? 0 : nearCache.readMarker();
+                    final byte[][] keysByBytes = keysByKeyBytes.entrySet().stream()
+                        .filter(e -> !keyToValue.containsKey(e.getKey()))
+                        .map(Map.Entry::getValue)
+                        .toArray(byte[][]::new);
                     final Map<byte[], byte[]> valueByKeys = (expireAfterAccessMillis == null)
                         ? redisClient.mget(keysByBytes)
                         : redisClient.getex(keysByBytes, expireAfterAccessMillis);
 
-                    final Map<K, V> keyToValue = new HashMap<>();
+                    final Map<byte[], V> readByKeyBytes = new HashMap<>();
                     for (var entry : keysByKeyBytes.entrySet()) {
                         valueByKeys.forEach((k, v) -> {
                             if (Arrays.equals(entry.getValue(), k)) {
                                 var value = valueMapper.read(v);
                                 keyToValue.put(entry.getKey(), value);
+                                if (value != null) {
+                                    readByKeyBytes.put(k, value);
+                                }
                             }
                         });
                     }
+                    if (nearCache != null) {
+                        nearCache.putRead(readByKeyBytes, nearMarker);
+                    }
 
                     observation.observeValues(keyToValue);
                     return keyToValue;
@@ -190,6 +273,9 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
                     } else {
                         redisClient.psetex(keyAsBytes, valueAsBytes, expireAfterWriteMillis);
                     }
+                    if (nearCache != null) {
+                        nearCache.putWritten(keyAsBytes, value);
+                    }
                     return value;
                 } catch (CompletionException e) {
                     observation.observeError(e.getCause());
@@ -231,11 +317,13 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
                 observation.observeValues(keyAndValues);
                 try {
                     var keyAndValuesAsBytes = new HashMap<byte[], byte[]>();
+                    var valuesByKeyBytes = new HashMap<byte[], V>();
                     keyAndValues.forEach((k, v) -> {
                         if (k != null && v != null) {
                             final byte[] keyAsBytes = mapKey(k);
                             final byte[] valueAsBytes = valueMapper.write(v);
                             keyAndValuesAsBytes.put(keyAsBytes, valueAsBytes);
+                            valuesByKeyBytes.put(keyAsBytes, v);
                         } else {
                             logger.warn("Key or value is null for 'PUT_MANY' operation, skipping...");
                         }
@@ -250,6 +338,9 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
                     } else {
                         redisClient.psetex(keyAndValuesAsBytes, expireAfterWriteMillis);
                     }
+                    if (nearCache != null) {
+                        nearCache.putWritten(valuesByKeyBytes);
+                    }
                     return keyAndValues;
                 } catch (CompletionException e) {
                     observation.observeError(e.getCause());
@@ -279,52 +370,43 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
             .call(() -> {
                 observation.observeKey(key);
                 try {
-                    try {
-                        final byte[] keyAsBytes = mapKey(key);
-                        final byte[] jsonAsBytes = (expireAfterAccessMillis == null)
-                            ? redisClient.get(keyAsBytes)
-                            : redisClient.getex(keyAsBytes, expireAfterAccessMillis);
-
-                        var fromCache = valueMapper.read(jsonAsBytes);
-                        if (fromCache != null) {
-                            observation.observeValue(fromCache);
-                            return fromCache;
-                        }
-                    } catch (Exception e) {
-                        observation.observeError(e);
-                    }
-
-                    final V value;
-                    try {
-                        value = mappingFunction.apply(key);
-                    } catch (Exception e) {
-                        observation.observeError(e);
-                        throw e;
+                    var cached = readForCompute(key, observation);
+                    if (cached != null && !cached.refresh()) {
+                        observation.observeValue(cached.value());
+                        return cached.value();
                     }
+                    // value that is refreshed early is still valid and is served while someone else recomputes it
+                    final V stale = (cached == null) ? null : cached.value();
 
-                    if (value == null) {
-                        return null;
+                    if (!singleFlight) {
+                        return computeWithLock(key, mappingFunction, observation, stale);
                     }
 
-                    try {
+                    var flight = new CompletableFuture<V>();
+                    var existing = this.inFlight.putIfAbsent(key, flight);
+                    if (existing != null) {
                         try {
-                            final byte[] keyAsBytes = mapKey(key);
-                            final byte[] valueAsBytes = valueMapper.write(value);
-                            if (expireAfterWriteMillis == null) {
-                                redisClient.set(keyAsBytes, valueAsBytes);
-                            } else {
-                                redisClient.psetex(keyAsBytes, valueAsBytes, expireAfterWriteMillis);
+                            return existing.join();
+                        } catch (CompletionException e) {
+                            observation.observeError(e.getCause());
+                            if (e.getCause() instanceof RuntimeException re) {
+                                throw re;
+                            } else if (e.getCause() instanceof Error err) {
+                                throw err;
                             }
-                        } catch (Exception e) {
-                            observation.observeError(e);
+                            throw e;
                         }
+                    }
+
+                    try {
+                        var value = computeWithLock(key, mappingFunction, observation, stale);
+                        flight.complete(value);
                         return value;
-                    } catch (CompletionException e) {
-                        observation.observeError(e.getCause());
-                        return value;
-                    } catch (Exception e) {
-                        observation.observeError(e);
-                        return value;
+                    } catch (Throwable e) {
+                        flight.completeExceptionally(e);
+                        throw e;
+                    } finally {
+                        this.inFlight.remove(key, flight);
                     }
                 } finally {
                     observation.end();
@@ -332,6 +414,197 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
             });
     }
 
+    @Nullable
+    private CachedValue<V> readForCompute(K key, RedisCacheObservation observation) {
+        try {
+            final byte[] keyAsBytes = mapKey(key);
+            if (nearCache != null) {
+                var local = nearCache.get(keyAsBytes);
+                if (local != null) {
+                    return new CachedValue<>(local, false);
+                }
+            }
+
+            final long nearMarker = (nearCache == null) ? 0 : nearCache.readMarker();
+            final V value;
+            final boolean refresh;
+            var computeNanos = this.computeNanosEstimate.get();
+            if (isEarlyRefreshEnabled() && computeNanos > 0) {
+                var valueWithTtl = redisClient.getWithTtl(keyAsBytes);
+                value = valueMapper.read(valueWithTtl.value());
+                refresh = value != null && shouldRefreshEarly(valueWithTtl.ttlMillis(), computeNanos);
+            } else {
+                value = read(keyAsBytes);
+                refresh = false;
+            }
+            if (value == null) {
+                return null;
+            }
+            if (nearCache != null && !refresh) {
+                nearCache.putRead(keyAsBytes, value, nearMarker);
+            }
+            return new CachedValue<>(value, refresh);
+        } catch (CompletionException e) {
+            observation.observeError(e.getCause());
+            return null;
+        } catch (Exception e) {
+            observation.observeError(e);
+            return null;
+        }
+    }
+
+    private boolean isEarlyRefreshEnabled() {
+        return earlyRefreshBeta > 0 && expireAfterWriteMillis != null && expireAfterAccessMillis == null;
+    }
+
+    /**
+     * XFetch: value is treated as expired with probability that grows as expiration comes closer and computation takes longer,
+     * so a single caller refreshes a hot key before it expires for everyone at once.
+     */
+    private boolean shouldRefreshEarly(long ttlMillis, long computeNanos) {
+        if (ttlMillis < 0) {
+            return false;
+        }
+        var computeMillis = computeNanos / 1_000_000.0;
+        return -computeMillis * earlyRefreshBeta * Math.log(ThreadLocalRandom.current().nextDouble()) >= ttlMillis;
+    }
+
+    /**
+     * @param stale value that is still in cache but is refreshed early, null if value is absent
+     */
+    @Nullable
+    private V computeWithLock(K key, Function<K, @Nullable V> mappingFunction, RedisCacheObservation observation, @Nullable V stale) {
+        if (lockLeaseMillis == null) {
+            return computeAndStore(key, mappingFunction, observation);
+        }
+
+        final byte[] keyAsBytes;
+        final byte[] lockKey;
+        final byte[] token = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+        boolean locked;
+        try {
+            keyAsBytes = mapKey(key);
+            lockKey = new byte[keyAsBytes.length + LOCK_SUFFIX.length];
+            System.arraycopy(keyAsBytes, 0, lockKey, 0, keyAsBytes.length);
+            System.arraycopy(LOCK_SUFFIX, 0, lockKey, keyAsBytes.length, LOCK_SUFFIX.length);
+            locked = redisClient.psetnx(lockKey, token, lockLeaseMillis);
+        } catch (UnsupportedOperationException e) {
+            // client can't lock, so every caller computes value on its own
+            return computeAndStore(key, mappingFunction, observation);
+        } catch (Exception e) {
+            observation.observeError(e instanceof CompletionException ce && ce.getCause() != null ? ce.getCause() : e);
+            return computeAndStore(key, mappingFunction, observation);
+        }
+
+        if (!locked && stale != null) {
+            // another instance is already refreshing the value, the current one is still valid
+            observation.observeValue(stale);
+            return stale;
+        }
+
+        if (!locked) {
+            final long deadline = System.nanoTime() + lockWaitMillis * 1_000_000;
+            while (!locked && System.nanoTime() < deadline) {
+                try {
+                    Thread.sleep(lockPollIntervalMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                try {
+                    var value = read(keyAsBytes);
+                    if (value != null) {
+                        observation.observeValue(value);
+                        return value;
+                    }
+                    // lock holder failed or lease expired without value, try to become the holder
+                    locked = redisClient.psetnx(lockKey, token, lockLeaseMillis);
+                } catch (Exception e) {
+                    observation.observeError(e instanceof CompletionException ce && ce.getCause() != null ? ce.getCause() : e);
+                    break;
+                }
+            }
+            if (!locked) {
+                // lock holder is too slow or Redis is unavailable, waiting any longer only adds latency
+                return computeAndStore(key, mappingFunction, observation);
+            }
+        }
+
+        try {
+            if (stale == null) {
+                try {
+                    // value could be stored by previous lock holder between our read and lock acquisition
+                    var value = read(keyAsBytes);
+                    if (value != null) {
+                        observation.observeValue(value);
+                        return value;
+                    }
+                } catch (Exception e) {
+                    observation.observeError(e instanceof CompletionException ce && ce.getCause() != null ? ce.getCause() : e);
+                }
+            }
+            return computeAndStore(key, mappingFunction, observation);
+        } finally {
+            try {
+                redisClient.delIfEquals(lockKey, token);
+            } catch (Exception e) {
+                observation.observeError(e instanceof CompletionException ce && ce.getCause() != null ? ce.getCause() : e);
+            }
+        }
+    }
+
+    @Nullable
+    private V computeAndStore(K key, Function<K, @Nullable V> mappingFunction, RedisCacheObservation observation) {
+        final long started = System.nanoTime();
+        final V value;
+        try {
+            value = mappingFunction.apply(key);
+        } catch (Exception e) {
+            observation.observeError(e);
+            throw e;
+        }
+        recordComputeTime(System.nanoTime() - started);
+
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            final byte[] keyAsBytes = mapKey(key);
+            final byte[] valueAsBytes = valueMapper.write(value);
+            if (expireAfterWriteMillis == null) {
+                redisClient.set(keyAsBytes, valueAsBytes);
+            } else {
+                redisClient.psetex(keyAsBytes, valueAsBytes, expireAfterWriteMillis);
+            }
+            if (nearCache != null) {
+                nearCache.putWritten(keyAsBytes, value);
+            }
+        } catch (CompletionException e) {
+            observation.observeError(e.getCause());
+        } catch (Exception e) {
+            observation.observeError(e);
+        }
+        observation.observeValue(value);
+        return value;
+    }
+
+    private void recordComputeTime(long tookNanos) {
+        if (earlyRefreshBeta <= 0) {
+            return;
+        }
+        // exponentially weighted moving average, so a single slow call does not trigger refresh storm
+        this.computeNanosEstimate.updateAndGet(prev -> prev == 0 ? tookNanos : prev + (tookNanos - prev) / 8);
+    }
+
+    @Nullable
+    private V read(byte[] keyAsBytes) {
+        final byte[] jsonAsBytes = (expireAfterAccessMillis == null)
+            ? redisClient.get(keyAsBytes)
+            : redisClient.getex(keyAsBytes, expireAfterAccessMillis);
+        return valueMapper.read(jsonAsBytes);
+    }
+
     @Override
     public Map<K, V> computeIfAbsent(Collection<K> keys, Function<Set<K>, Map<K, V>> mappingFunction) {
         if (keys == null || keys.isEmpty()) {
@@ -353,18 +626,32 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
                         final Map<K, byte[]> keysByKeyBytes = keys.stream()
                             .collect(Collectors.toMap(k -> k, this::mapKey, (v1, v2) -> v2));
 
-                        final byte[][] keysByBytes = keysByKeyBytes.values().toArray(byte[][]::new);
-                        final Map<byte[], byte[]> valueByKeys = (expireAfterAccessMillis == null)
-                            ? redisClient.mget(keysByBytes)
-                            : redisClient.getex(keysByBytes, expireAfterAccessMillis);
-
-                        for (var entry : keysByKeyBytes.entrySet()) {
-                            for (var e : valueByKeys.entrySet()) {
-                                if (Arrays.equals(entry.getValue(), e.getKey())) {
-                                    var value = valueMapper.read(e.getValue());
-                                    fromCache.put(entry.getKey(), value);
+                        readNear(keysByKeyBytes, fromCache);
+                        if (fromCache.size() < keysByKeyBytes.size()) {
+                            final long nearMarker = (nearCache == null) ? 0 : nearCache.readMarker();
+                            final byte[][] keysByBytes = keysByKeyBytes.entrySet().stream()
+                                .filter(e -> !fromCache.containsKey(e.getKey()))
+                                .map(Map.Entry::getValue)
+                                .toArray(byte[][]::new);
+                            final Map<byte[], byte[]> valueByKeys = (expireAfterAccessMillis == null)
+                                ? redisClient.mget(keysByBytes)
+                                : redisClient.getex(keysByBytes, expireAfterAccessMillis);
+
+                            final Map<byte[], V> readByKeyBytes = new HashMap<>();
+                            for (var entry : keysByKeyBytes.entrySet()) {
+                                for (var e : valueByKeys.entrySet()) {
+                                    if (Arrays.equals(entry.getValue(), e.getKey())) {
+                                        var value = valueMapper.read(e.getValue());
+                                        fromCache.put(entry.getKey(), value);
+                                        if (value != null) {
+                                            readByKeyBytes.put(e.getKey(), value);
+                                        }
+                                    }
                                 }
                             }
+                            if (nearCache != null) {
+                                nearCache.putRead(readByKeyBytes, nearMarker);
+                            }
                         }
                     } catch (Exception e) {
                         observation.observeError(e);
@@ -392,10 +679,12 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
                         if (!values.isEmpty()) {
                             try {
                                 var keyAndValuesAsBytes = new HashMap<byte[], byte[]>();
+                                var valuesByKeyBytes = new HashMap<byte[], V>();
                                 values.forEach((k, v) -> {
                                     final byte[] keyAsBytes = mapKey(k);
                                     final byte[] valueAsBytes = valueMapper.write(v);
                                     keyAndValuesAsBytes.put(keyAsBytes, valueAsBytes);
+                                    valuesByKeyBytes.put(keyAsBytes, v);
                                 });
 
                                 if (expireAfterWriteMillis == null) {
@@ -403,6 +692,9 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
                                 } else {
                                     redisClient.psetex(keyAndValuesAsBytes, expireAfterWriteMillis);
                                 }
+                                if (nearCache != null) {
+                                    nearCache.putWritten(valuesByKeyBytes);
+                                }
                             } catch (Exception e) {
                                 observation.observeError(e);
                             }
@@ -440,6 +732,10 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
                 try {
                     final byte[] keyAsBytes = mapKey(key);
                     redisClient.del(keyAsBytes);
+                    // evicted after Redis so other instances can not read the old value back into their local memory
+                    if (nearCache != null) {
+                        nearCache.invalidate(keyAsBytes);
+                    }
                 } catch (CompletionException e) {
                     observation.observeError(e.getCause());
                 } catch (Exception e) {
@@ -471,6 +767,9 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
                         .toArray(byte[][]::new);
 
                     redisClient.del(keysAsBytes);
+                    if (nearCache != null) {
+                        nearCache.invalidate(Arrays.asList(keysAsBytes));
+                    }
                 } catch (CompletionException e) {
                     observation.observeError(e.getCause());
                 } catch (Exception e) {
@@ -512,11 +811,30 @@ public abstract class AbstractRedisCache<K, V> implements RedisCache<K, V> {
                 } catch (Exception e) {
                     observation.observeError(e);
                 } finally {
+                    if (nearCache != null) {
+                        nearCache.invalidateAll();
+                    }
                     observation.end();
                 }
             });
     }
 
+    private void readNear(Map<K, byte[]> keysByKeyBytes, Map<K, V> result) {
+        if (nearCache == null) {
+            return;
+        }
+        for (var entry : keysByKeyBytes.entrySet()) {
+            var local = nearCache.get(entry.getValue());
+            if (local != null) {
+                result.put(entry.getKey(), local);
+            }
+        }
+    }
+
+    private static final byte[] LOCK_SUFFIX = ":lock".getBytes(StandardCharsets.UTF_8);
+
+    private record CachedValue<V>(V value, boolean refresh) {}
+
     private byte[] mapKey(K key) {
         final byte[] suffixAsBytes = keyMapper.apply(key);
         if (this.keyPrefix == null) {
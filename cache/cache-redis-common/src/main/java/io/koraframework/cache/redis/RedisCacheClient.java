@@ -6,6 +6,8 @@ import org.jspecify.annotations.Nullable;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 public interface RedisCacheClient {
 
@@ -44,4 +46,59 @@ public interface RedisCacheClient {
     long del(byte[][] keys);
 
     void flushAll();
+
+    /**
+     * Sets value only if key does not exist, i.e. SET key value NX PX expireAfterMillis
+     *
+     * Client that doesn't support it throws {@link UnsupportedOperationException} and cache computes value without lock
+     *
+     * @return true if value was set
+     */
+    default boolean psetnx(byte[] key, byte[] value, long expireAfterMillis) {
+        throw new UnsupportedOperationException("SET NX PX is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Deletes key only if it holds expected value, done atomically on Redis side
+     *
+     * @return true if key was deleted
+     */
+    default boolean delIfEquals(byte[] key, byte[] expectedValue) {
+        throw new UnsupportedOperationException("Compare and delete is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Reads value together with its remaining time to live in a single command, so both describe the same state of the key
+     * <p>
+     * Default implementation reads value without time to live, so value is never refreshed early
+     */
+    default ValueWithTtl getWithTtl(byte[] key) {
+        return new ValueWithTtl(get(key), -1);
+    }
+
+    /**
+     * @param value     value of key or null if key does not exist
+     * @param ttlMillis remaining time to live in milliseconds, negative value if key does not exist or has no expiration
+     */
+    record ValueWithTtl(byte @Nullable [] value, long ttlMillis) {}
+
+    /**
+     * Publishes message to Redis pub/sub channel without waiting for Redis reply
+     *
+     * @return number of clients that received the message
+     */
+    CompletionStage<Long> publish(byte[] channel, byte[] message);
+
+    /**
+     * Subscribes listener to Redis pub/sub channel, listener is invoked on client I/O thread and must not block
+     *
+     * @return subscription that unsubscribes listener when closed
+     */
+    Subscription subscribe(byte[] channel, Consumer<byte[]> listener);
+
+    interface Subscription extends AutoCloseable {
+
+        @Override
+        void close();
+    }
 }
@@ -30,5 +30,69 @@ public interface RedisCacheConfig {
     @Nullable
     Duration expireAfterAccess();
 
+    /**
+     * @return Whether concurrent computeIfAbsent calls for the same key within the application share a single mapping function call.
+     */
+    default boolean singleFlight() {
+        return true;
+    }
+
+    /**
+     * @return Lease time of the distributed lock taken with SET NX PX while value is computed, so other application instances wait for the value instead of computing it too, lock is not used if not specified.
+     */
+    @Nullable
+    Duration lockLease();
+
+    /**
+     * @return Maximum time to wait for the value computed by the lock holder before computing it without the lock.
+     */
+    default Duration lockWait() {
+        return Duration.ofSeconds(5);
+    }
+
+    /**
+     * @return Interval of checking whether the value computed by the lock holder appeared.
+     */
+    default Duration lockPollInterval() {
+        return Duration.ofMillis(50);
+    }
+
+    /**
+     * @return Probabilistic early refresh (XFetch) factor, values close to expiration are recomputed earlier with probability growing with computation time, 1.0 is the recommended value, 0 disables early refresh, works only with expireAfterWrite.
+     */
+    default double earlyRefreshBeta() {
+        return 0.0;
+    }
+
+    /**
+     * @return Local in-memory tier kept in front of Redis, invalidated on all application instances through Redis pub/sub.
+     */
+    NearCacheConfig nearCache();
+
     RedisCacheTelemetryConfig telemetry();
+
+    @ConfigMapper
+    interface NearCacheConfig {
+
+        /**
+         * @return Whether values are additionally kept in local memory, writes and invalidations are broadcast to other instances to evict their local copies. Ignored when expireAfterAccess is set, as local reads don't prolong expiration in Redis.
+         */
+        default boolean enabled() {
+            return false;
+        }
+
+        /**
+         * @return Maximum number of values kept in local memory.
+         */
+        default long maximumSize() {
+            return 10_000L;
+        }
+
+        /**
+         * @return Time after which a value is removed from local memory, bounds staleness if an invalidation message is lost while pub/sub connection is down.
+         */
+        default Duration expireAfterWrite() {
+            return Duration.ofMinutes(1);
+        }
+    }
 }
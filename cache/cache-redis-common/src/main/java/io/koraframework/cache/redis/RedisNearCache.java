@@ -0,0 +1,195 @@
+package io.koraframework.cache.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local in-memory tier of {@link AbstractRedisCache}, keyed by Redis key bytes.
+ * <p>
+ * Every write or invalidation evicts local copies on other application instances with a message to Redis pub/sub channel,
+ * messages are ignored by the instance that published them.
+ * Values read from Redis are not stored locally if any invalidation arrived while they were read, so a slow read can not put back a stale value.
+ * Messages are not delivered while pub/sub connection is down, so local values also expire after {@link RedisCacheConfig.NearCacheConfig#expireAfterWrite()}.
+ * Messages are published without waiting for Redis reply and the channel is subscribed only between {@link #start()} and {@link #stop()}.
+ */
+final class RedisNearCache<V> {
+
+    private static final byte OP_INVALIDATE = 1;
+    private static final byte OP_INVALIDATE_ALL = 2;
+    private static final int ID_LENGTH = 16;
+
+    private final Cache<ByteBuffer, V> local;
+    private final RedisCacheClient redisClient;
+    private final byte[] channel;
+    private final byte[] instanceId;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Logger logger;
+    @Nullable
+    private volatile RedisCacheClient.Subscription subscription;
+    private volatile boolean started;
+
+    RedisNearCache(RedisCacheConfig.NearCacheConfig config, RedisCacheClient redisClient, byte[] channel, Logger logger) {
+        this.local = Caffeine.newBuilder()
+            .maximumSize(config.maximumSize())
+            .expireAfterWrite(config.expireAfterWrite())
+            .build();
+        this.redisClient = redisClient;
+        this.channel = channel;
+        this.logger = logger;
+
+        var id = UUID.randomUUID();
+        this.instanceId = ByteBuffer.allocate(ID_LENGTH)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+
+    /**
+     * Subscribes to invalidations of other instances, local values are not used before that
+     */
+    void start() {
+        this.subscription = this.redisClient.subscribe(this.channel, this::onMessage);
+        this.started = true;
+    }
+
+    void stop() {
+        this.started = false;
+        var subscription = this.subscription;
+        this.subscription = null;
+        this.local.invalidateAll();
+        if (subscription != null) {
+            subscription.close();
+        }
+    }
+
+    @Nullable
+    V get(byte[] key) {
+        if (!this.started) {
+            // invalidations are not received, so local value could be stale
+            return null;
+        }
+        return this.local.getIfPresent(ByteBuffer.wrap(key));
+    }
+
+    /**
+     * @return marker to pass to {@link #putRead(byte[], Object, long)} that is taken before reading value from Redis
+     */
+    long readMarker() {
+        return this.invalidations.get();
+    }
+
+    /**
+     * Stores value read from Redis unless any invalidation arrived since marker was taken
+     */
+    void putRead(byte[] key, V value, long marker) {
+        this.local.put(ByteBuffer.wrap(key), value);
+        if (this.invalidations.get() != marker) {
+            this.local.invalidate(ByteBuffer.wrap(key));
+        }
+    }
+
+    void putRead(Map<byte[], V> values, long marker) {
+        for (var entry : values.entrySet()) {
+            this.putRead(entry.getKey(), entry.getValue(), marker);
+        }
+    }
+
+    /**
+     * Stores value written to Redis by this instance and evicts it on other instances
+     */
+    void putWritten(byte[] key, V value) {
+        this.local.put(ByteBuffer.wrap(key), value);
+        this.publish(OP_INVALIDATE, List.of(key));
+    }
+
+    void putWritten(Map<byte[], V> values) {
+        for (var entry : values.entrySet()) {
+            this.local.put(ByteBuffer.wrap(entry.getKey()), entry.getValue());
+        }
+        this.publish(OP_INVALIDATE, values.keySet());
+    }
+
+    void invalidate(byte[] key) {
+        this.local.invalidate(ByteBuffer.wrap(key));
+        this.publish(OP_INVALIDATE, List.of(key));
+    }
+
+    void invalidate(Collection<byte[]> keys) {
+        for (var key : keys) {
+            this.local.invalidate(ByteBuffer.wrap(key));
+        }
+        this.publish(OP_INVALIDATE, keys);
+    }
+
+    void invalidateAll() {
+        this.local.invalidateAll();
+        this.publish(OP_INVALIDATE_ALL, List.of());
+    }
+
+    private void publish(byte op, Collection<byte[]> keys) {
+        int size = ID_LENGTH + 1;
+        for (var key : keys) {
+            size += Integer.BYTES + key.length;
+        }
+        var message = ByteBuffer.allocate(size)
+            .put(this.instanceId)
+            .put(op);
+        for (var key : keys) {
+            message.putInt(key.length).put(key);
+        }
+
+        try {
+            // fire and forget, writer must not wait for Redis to deliver invalidation
+            this.redisClient.publish(this.channel, message.array()).whenComplete((_, e) -> {
+                if (e != null) {
+                    this.onPublishFailed(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                }
+            });
+        } catch (CompletionException e) {
+            this.onPublishFailed(e.getCause());
+        } catch (Exception e) {
+            this.onPublishFailed(e);
+        }
+    }
+
+    private void onPublishFailed(Throwable e) {
+        logger.warn("Redis Cache failed to publish near cache invalidation, other instances keep local values until they expire", e);
+    }
+
+    private void onMessage(byte[] message) {
+        if (message.length < ID_LENGTH + 1) {
+            return;
+        }
+        var buffer = ByteBuffer.wrap(message);
+        if (buffer.slice(0, ID_LENGTH).equals(ByteBuffer.wrap(this.instanceId))) {
+            return;
+        }
+
+        this.invalidations.incrementAndGet();
+        var op = buffer.get(ID_LENGTH);
+        buffer.position(ID_LENGTH + 1);
+        if (op == OP_INVALIDATE_ALL) {
+            this.local.invalidateAll();
+        } else if (op == OP_INVALIDATE) {
+            while (buffer.remaining() >= Integer.BYTES) {
+                var length = buffer.getInt();
+                if (length < 0 || length > buffer.remaining()) {
+                    return;
+                }
+                var key = new byte[length];
+                buffer.get(key);
+                this.local.invalidate(ByteBuffer.wrap(key));
+            }
+        }
+    }
+}
@@ -6,8 +6,10 @@ import io.koraframework.common.util.TimeUtils;
 import io.lettuce.core.*;
 import io.lettuce.core.cluster.RedisClusterClient;
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.pubsub.StatefulRedisClusterPubSubConnection;
 import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
 import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
 import io.lettuce.core.support.AsyncConnectionPoolSupport;
 import io.lettuce.core.support.BoundedAsyncPool;
 import io.lettuce.core.support.BoundedPoolConfig;
@@ -15,15 +17,23 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class LettuceClusterCacheClient implements RedisCacheClient, Lifecycle {
 
     private static final Logger logger = LoggerFactory.getLogger(LettuceClusterCacheClient.class);
     private static final byte[] ASTERIX = "*".getBytes();
+    // GET returns false for missing key, which Redis replies as nil element
+    private static final byte[] GET_WITH_TTL_SCRIPT = "return {redis.call('get', KEYS[1]), redis.call('pttl', KEYS[1])}".getBytes();
+    private static final byte[] DEL_IF_EQUALS_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end".getBytes();
 
     protected final RedisClusterClient redisClient;
 
@@ -34,6 +44,10 @@ public class LettuceClusterCacheClient implements RedisCacheClient, Lifecycle {
     // always use async cause sync uses JDK Proxy wrapped async impl
     protected RedisAdvancedClusterAsyncCommands<byte[], byte[]> commands;
 
+    protected final Map<ByteBuffer, List<Consumer<byte[]>>> subscriptions = new ConcurrentHashMap<>();
+    @Nullable
+    protected volatile StatefulRedisClusterPubSubConnection<byte[], byte[]> pubSubConnection;
+
     public LettuceClusterCacheClient(RedisClusterClient redisClient) {
         this.redisClient = redisClient;
     }
@@ -189,6 +203,84 @@ public class LettuceClusterCacheClient implements RedisCacheClient, Lifecycle {
         }
     }
 
+    @Override
+    public boolean psetnx(byte[] key, byte[] value, long expireAfterMillis) {
+        var result = commands.set(key, value, SetArgs.Builder.nx().px(expireAfterMillis)).toCompletableFuture().join();
+        return "OK".equals(result);
+    }
+
+    @Override
+    public boolean delIfEquals(byte[] key, byte[] expectedValue) {
+        Long result = commands.<Long>eval(DEL_IF_EQUALS_SCRIPT, ScriptOutputType.INTEGER, new byte[][]{key}, expectedValue)
+            .toCompletableFuture().join();
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public ValueWithTtl getWithTtl(byte[] key) {
+        List<Object> result = commands.<List<Object>>eval(GET_WITH_TTL_SCRIPT, ScriptOutputType.MULTI, new byte[][]{key})
+            .toCompletableFuture().join();
+        var value = (result == null || result.isEmpty()) ? null : (byte[]) result.get(0);
+        var ttl = (result == null || result.size() < 2 || result.get(1) == null) ? -2L : (Long) result.get(1);
+        return new ValueWithTtl(value, ttl);
+    }
+
+    @Override
+    public CompletionStage<Long> publish(byte[] channel, byte[] message) {
+        return commands.publish(channel, message);
+    }
+
+    @Override
+    public synchronized Subscription subscribe(byte[] channel, Consumer<byte[]> listener) {
+        var listeners = subscriptions.computeIfAbsent(ByteBuffer.wrap(channel), _ -> new CopyOnWriteArrayList<>());
+        listeners.add(listener);
+        Subscription subscription = () -> unsubscribe(channel, listener);
+        if (listeners.size() > 1) {
+            return subscription;
+        }
+
+        var connection = this.pubSubConnection;
+        if (connection == null) {
+            // lettuce resubscribes channels itself after reconnect
+            connection = redisClient.connectPubSub(ByteArrayCodec.INSTANCE);
+            connection.addListener(new RedisPubSubAdapter<>() {
+                @Override
+                public void message(byte[] channel, byte[] message) {
+                    onMessage(channel, message);
+                }
+            });
+            this.pubSubConnection = connection;
+        }
+        connection.async().subscribe(channel).toCompletableFuture().join();
+        return subscription;
+    }
+
+    private synchronized void unsubscribe(byte[] channel, Consumer<byte[]> listener) {
+        var listeners = subscriptions.get(ByteBuffer.wrap(channel));
+        if (listeners == null || !listeners.remove(listener) || !listeners.isEmpty()) {
+            return;
+        }
+        subscriptions.remove(ByteBuffer.wrap(channel));
+        var connection = this.pubSubConnection;
+        if (connection != null && connection.isOpen()) {
+            connection.async().unsubscribe(channel).toCompletableFuture().join();
+        }
+    }
+
+    private void onMessage(byte[] channel, byte[] message) {
+        var listeners = subscriptions.get(ByteBuffer.wrap(channel));
+        if (listeners == null) {
+            return;
+        }
+        for (var listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (Exception e) {
+                logger.warn("Redis pub/sub listener failed to handle message", e);
+            }
+        }
+    }
+
     @Override
     public long del(byte[] key) {
         return commands.del(key).toCompletableFuture().join();
@@ -237,6 +329,10 @@ public class LettuceClusterCacheClient implements RedisCacheClient, Lifecycle {
 
         this.connection.close();
         this.pool.close();
+        var pubSubConnection = this.pubSubConnection;
+        if (pubSubConnection != null) {
+            pubSubConnection.close();
+        }
 
         logger.info("Redis Cluster Client (Lettuce) stopped in {}", TimeUtils.tookForLogging(started));
     }
@@ -27,6 +27,22 @@ public abstract class CacheRunner extends Assertions implements LettuceRedisCach
     public static RedisCacheConfig getConfig(@Nullable Duration expireWrite,
                                              @Nullable Duration expireRead,
                                              boolean enabled) {
+        return getConfig(expireWrite, expireRead, enabled, false);
+    }
+
+    public static RedisCacheConfig getConfig(@Nullable Duration expireWrite,
+                                             @Nullable Duration expireRead,
+                                             boolean enabled,
+                                             boolean nearCache) {
+        return getConfig(expireWrite, expireRead, enabled, nearCache, null, 0.0);
+    }
+
+    public static RedisCacheConfig getConfig(@Nullable Duration expireWrite,
+                                             @Nullable Duration expireRead,
+                                             boolean enabled,
+                                             boolean nearCache,
+                                             @Nullable Duration lockLease,
+                                             double earlyRefreshBeta) {
         return new RedisCacheConfig() {
 
             @Override
@@ -51,6 +67,22 @@ public abstract class CacheRunner extends Assertions implements LettuceRedisCach
                 return expireRead;
             }
 
+            @Nullable
+            @Override
+            public Duration lockLease() {
+                return lockLease;
+            }
+
+            @Override
+            public double earlyRefreshBeta() {
+                return earlyRefreshBeta;
+            }
+
+            @Override
+            public NearCacheConfig nearCache() {
+                return new $RedisCacheConfig_NearCacheConfig_ConfigValueMapper.NearCacheConfig_Impl(nearCache, 10_000L, Duration.ofMinutes(1));
+            }
+
             @Override
             public RedisCacheTelemetryConfig telemetry() {
                 return new $RedisCacheTelemetryConfig_ConfigValueMapper.RedisCacheTelemetryConfig_Impl(
@@ -111,9 +143,19 @@ public abstract class CacheRunner extends Assertions implements LettuceRedisCach
     }
 
     private DummyCache createDummyCache(RedisParams redisParams, Duration expireWrite, Duration expireRead, boolean enabled) throws Exception {
+        return createDummyCache(redisParams, expireWrite, expireRead, enabled, false);
+    }
+
+    private DummyCache createDummyCache(RedisParams redisParams, Duration expireWrite, Duration expireRead, boolean enabled, boolean nearCache) throws Exception {
+        return createDummyCache(redisParams, getConfig(expireWrite, expireRead, enabled, nearCache));
+    }
+
+    private DummyCache createDummyCache(RedisParams redisParams, RedisCacheConfig config) throws Exception {
         var lettuceClient = createLettuce(redisParams);
-        return new DummyCache(getConfig(expireWrite, expireRead, enabled), lettuceClient, defaultRedisCacheTelemetryFactory(null, null, null, null),
+        var cache = new DummyCache(config, lettuceClient, defaultRedisCacheTelemetryFactory(null, null, null, null),
             stringRedisCacheKeyMapper(), stringRedisCacheValueMapper());
+        cache.init();
+        return cache;
     }
 
     protected DummyCache createCache(RedisParams redisParams) throws Exception {
@@ -131,4 +173,12 @@ public abstract class CacheRunner extends Assertions implements LettuceRedisCach
     protected DummyCache createCacheDisabled(RedisParams redisParams) throws Exception {
         return createDummyCache(redisParams, null, null, false);
     }
+
+    protected DummyCache createCacheNear(RedisParams redisParams) throws Exception {
+        return createDummyCache(redisParams, null, null, true, true);
+    }
+
+    protected DummyCache createCacheLocked(RedisParams redisParams, Duration expireWrite, double earlyRefreshBeta) throws Exception {
+        return createDummyCache(redisParams, getConfig(expireWrite, null, true, false, Duration.ofSeconds(5), earlyRefreshBeta));
+    }
 }
@@ -7,9 +7,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @RedisTestContainer
@@ -45,4 +51,150 @@ class SyncCacheTests extends AbstractSyncCacheTests {
         assertNull(disabledCache.get("3"));
         assertTrue(disabledCache.get(List.of("4")).isEmpty());
     }
+
+    @Test
+    void computeIfAbsentLoadsOnceForConcurrentCallers() throws Exception {
+        // given
+        var calls = new AtomicInteger();
+        var started = new CountDownLatch(1);
+
+        // when
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = new ArrayList<Future<String>>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(executor.submit(() -> {
+                    started.await();
+                    return cache.computeIfAbsent("1", k -> {
+                        calls.incrementAndGet();
+                        try {
+                            Thread.sleep(100);
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                        return "1";
+                    });
+                }));
+            }
+            started.countDown();
+            for (var future : futures) {
+                assertEquals("1", future.get());
+            }
+        }
+
+        // then
+        assertEquals(1, calls.get());
+        assertEquals("1", cache.get("1"));
+    }
+
+    @Test
+    void nearCacheIsInvalidatedByOtherInstance() throws Exception {
+        // given
+        var first = createCacheNear(redisParams);
+        var second = createCacheNear(redisParams);
+        first.put("1", "1");
+        assertEquals("1", second.get("1"));
+
+        // when
+        first.put("1", "2");
+
+        // then
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!"2".equals(second.get("1")) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("2", second.get("1"));
+
+        // when
+        first.invalidate("1");
+
+        // then
+        deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (second.get("1") != null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNull(second.get("1"));
+    }
+
+    @Test
+    void nearCacheUnsubscribesOnRelease() throws Exception {
+        // given
+        var channel = PREFIX + ":near-cache";
+        var first = createCacheNear(redisParams);
+        var second = createCacheNear(redisParams);
+        assertEquals(2L, redisParams.execute(cmd -> cmd.pubsubNumsub(channel)).get(channel));
+
+        // when
+        second.release();
+
+        // then
+        assertEquals(1L, redisParams.execute(cmd -> cmd.pubsubNumsub(channel)).get(channel));
+        first.release();
+        assertEquals(0L, redisParams.execute(cmd -> cmd.pubsubNumsub(channel)).get(channel));
+    }
+
+    @Test
+    void computeIfAbsentWaitsForValueOfLockHolder() throws Exception {
+        // given
+        var lockedCache = createCacheLocked(redisParams, Duration.ofMinutes(1), 0.0);
+        redisParams.execute(cmd -> cmd.set(PREFIX + ":1:lock", "other-instance"));
+        var calls = new AtomicInteger();
+
+        // when
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var future = executor.submit(() -> lockedCache.computeIfAbsent("1", k -> {
+                calls.incrementAndGet();
+                return "computed";
+            }));
+            Thread.sleep(200);
+            redisParams.execute(cmd -> cmd.set(PREFIX + ":1", "stored"));
+
+            // then
+            assertEquals("stored", future.get());
+        }
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void computeIfAbsentRefreshesEarlyUnderLock() throws Exception {
+        // given
+        var lockedCache = createCacheLocked(redisParams, Duration.ofMinutes(1), Double.MAX_VALUE);
+        assertEquals("1", lockedCache.computeIfAbsent("1", k -> slowly("1")));
+
+        // when
+        var refreshed = lockedCache.computeIfAbsent("1", k -> "2");
+
+        // then
+        assertEquals("2", refreshed);
+        assertEquals("2", lockedCache.get("1"));
+        assertEquals(0L, redisParams.execute(cmd -> cmd.exists(PREFIX + ":1:lock")));
+    }
+
+    @Test
+    void computeIfAbsentServesCurrentValueWhileOtherInstanceRefreshes() throws Exception {
+        // given
+        var lockedCache = createCacheLocked(redisParams, Duration.ofMinutes(1), Double.MAX_VALUE);
+        assertEquals("1", lockedCache.computeIfAbsent("1", k -> slowly("1")));
+        redisParams.execute(cmd -> cmd.set(PREFIX + ":1:lock", "other-instance"));
+        var calls = new AtomicInteger();
+
+        // when
+        var value = lockedCache.computeIfAbsent("1", k -> {
+            calls.incrementAndGet();
+            return "2";
+        });
+
+        // then
+        assertEquals("1", value);
+        assertEquals(0, calls.get());
+    }
+
+    // compute time must be measurable for early refresh to kick in
+    private static String slowly(String value) {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
 }
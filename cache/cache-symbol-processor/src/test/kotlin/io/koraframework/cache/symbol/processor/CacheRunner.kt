@@ -18,6 +18,7 @@ import java.time.Duration
 import java.util.*
 import java.util.concurrent.CompletableFuture
 import java.util.concurrent.CompletionStage
+import java.util.function.Consumer
 
 
 class CacheRunner {
@@ -46,6 +47,8 @@ class CacheRunner {
                 override fun expireAfterWrite(): Duration? = null
 
                 override fun expireAfterAccess(): Duration? = null
+                override fun lockLease(): Duration? = null
+                override fun nearCache() = `$RedisCacheConfig_NearCacheConfig_ConfigValueMapper`.NearCacheConfig_Defaults()
                 override fun telemetry() = `$RedisCacheTelemetryConfig_ConfigValueMapper`.RedisCacheTelemetryConfig_Impl(
                     `$RedisCacheTelemetryConfig_RedisCacheLoggingConfig_ConfigValueMapper`.RedisCacheLoggingConfig_Defaults(),
                     `$RedisCacheTelemetryConfig_RedisCacheTracingConfig_ConfigValueMapper`.RedisCacheTracingConfig_Defaults(),
@@ -124,6 +127,26 @@ class CacheRunner {
                 override fun flushAll() {
                     cache.clear()
                 }
+
+                override fun psetnx(key: ByteArray, value: ByteArray, expireAfterMillis: Long): Boolean {
+                    return cache.putIfAbsent(ByteBuffer.wrap(key), ByteBuffer.wrap(value)) == null
+                }
+
+                override fun delIfEquals(key: ByteArray, expectedValue: ByteArray): Boolean {
+                    return cache.remove(ByteBuffer.wrap(key), ByteBuffer.wrap(expectedValue))
+                }
+
+                override fun getWithTtl(key: ByteArray): RedisCacheClient.ValueWithTtl {
+                    return RedisCacheClient.ValueWithTtl(get(key), -1)
+                }
+
+                override fun publish(channel: ByteArray, message: ByteArray): CompletionStage<Long> {
+                    return CompletableFuture.completedFuture(0L)
+                }
+
+                override fun subscribe(channel: ByteArray, listener: Consumer<ByteArray>): RedisCacheClient.Subscription {
+                    return RedisCacheClient.Subscription { }
+                }
             }
         }
     }
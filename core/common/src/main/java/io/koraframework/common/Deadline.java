@@ -0,0 +1,69 @@
+package io.koraframework.common;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Point in time by which the current operation must complete, bound by timeouts so that nested clients can fit their own timeouts into the remaining budget.
+ *
+ * @param deadlineNanos deadline in {@link System#nanoTime()} terms
+ */
+public record Deadline(long deadlineNanos) {
+
+    public static final ScopedValue<Deadline> VALUE = ScopedValue.newInstance();
+
+    /**
+     * Clients must not pass zero timeout for already expired deadline, as zero usually means no timeout at all.
+     */
+    private static final Duration MIN_TIMEOUT = Duration.ofMillis(1);
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    @Nullable
+    public static Deadline current() {
+        if (VALUE.isBound()) {
+            return VALUE.get();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * @return deadline that is the earliest of this one and the current one, so nested timeouts can only shorten the budget
+     */
+    public Deadline nearest() {
+        var current = current();
+        if (current != null && current.deadlineNanos - this.deadlineNanos < 0) {
+            return current;
+        }
+        return this;
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(this.deadlineNanos - System.nanoTime(), 0));
+    }
+
+    public boolean isExpired() {
+        return this.deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @param timeout timeout configured for the client call, null if not configured
+     * @return the smallest of timeout and time remaining until current deadline, at least 1 millisecond, or null if neither is present
+     */
+    @Nullable
+    public static Duration timeout(@Nullable Duration timeout) {
+        var current = current();
+        if (current == null) {
+            return timeout;
+        }
+        var remaining = current.remaining();
+        if (timeout != null && timeout.compareTo(remaining) <= 0) {
+            return timeout;
+        }
+        return remaining.compareTo(MIN_TIMEOUT) < 0 ? MIN_TIMEOUT : remaining;
+    }
+}
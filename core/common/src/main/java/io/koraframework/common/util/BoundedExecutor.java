@@ -0,0 +1,80 @@
+package io.koraframework.common.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free executor that runs at most {@code maxConcurrency} tasks on the delegate at once and queues the rest in FIFO order.
+ * Holds no threads on its own, so it is cheap enough to be created per connection.
+ * Used by HTTP and gRPC servers to bound dispatch to virtual threads.
+ */
+public final class BoundedExecutor implements Executor {
+
+    private final Executor delegate;
+    private final int maxConcurrency;
+    private final AtomicInteger queued;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * @param maxConcurrency maximum number of tasks running at once, 0 or less means unlimited
+     * @param queued         counter of waiting tasks, may be shared by several executors to report one total
+     */
+    public BoundedExecutor(Executor delegate, int maxConcurrency, AtomicInteger queued) {
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency <= 0 ? Integer.MAX_VALUE : maxConcurrency;
+        this.queued = queued;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.queued.incrementAndGet();
+        this.queue.offer(command);
+        this.drain();
+    }
+
+    /**
+     * @return number of tasks currently submitted to the delegate
+     */
+    public int inFlight() {
+        return this.inFlight.get();
+    }
+
+    private void drain() {
+        while (true) {
+            var current = this.inFlight.get();
+            if (current >= this.maxConcurrency) {
+                return;
+            }
+            if (!this.inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            var task = this.queue.poll();
+            if (task == null) {
+                this.inFlight.decrementAndGet();
+                // task could be offered after poll but before decrement while its producer observed no free slot
+                if (this.queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            this.queued.decrementAndGet();
+            try {
+                this.delegate.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        this.inFlight.decrementAndGet();
+                        this.drain();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                this.inFlight.decrementAndGet();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.koraframework.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedExecutorTest {
+
+    @Test
+    void runsAtMostMaxConcurrencyTasksAtOnce() throws InterruptedException {
+        try (var delegate = Executors.newVirtualThreadPerTaskExecutor()) {
+            var queued = new AtomicInteger();
+            var executor = new BoundedExecutor(delegate, 3, queued);
+            var running = new AtomicInteger();
+            var maxRunning = new AtomicInteger();
+            var done = new CountDownLatch(100);
+            for (int i = 0; i < 100; i++) {
+                executor.execute(() -> {
+                    var current = running.incrementAndGet();
+                    maxRunning.accumulateAndGet(current, Math::max);
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        running.decrementAndGet();
+                        done.countDown();
+                    }
+                });
+            }
+
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(maxRunning.get()).isLessThanOrEqualTo(3).isGreaterThan(1);
+            assertThat(queued.get()).isZero();
+            assertThat(executor.inFlight()).isZero();
+        }
+    }
+
+    @Test
+    void connectionLimitOfOneKeepsTaskOrder() throws InterruptedException {
+        try (var delegate = Executors.newVirtualThreadPerTaskExecutor()) {
+            var queued = new AtomicInteger();
+            var server = new BoundedExecutor(delegate, 4, queued);
+            var connections = new ArrayList<BoundedExecutor>();
+            var results = new ArrayList<List<Integer>>();
+            for (int c = 0; c < 4; c++) {
+                connections.add(new BoundedExecutor(server, 1, queued));
+                results.add(Collections.synchronizedList(new ArrayList<>()));
+            }
+            var done = new CountDownLatch(4 * 200);
+            for (int i = 0; i < 200; i++) {
+                for (int c = 0; c < 4; c++) {
+                    var value = i;
+                    var result = results.get(c);
+                    connections.get(c).execute(() -> {
+                        result.add(value);
+                        done.countDown();
+                    });
+                }
+            }
+
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            for (var result : results) {
+                assertThat(result).hasSize(200).isSorted();
+            }
+            assertThat(queued.get()).isZero();
+        }
+    }
+}
@@ -144,7 +144,7 @@ public class DbUtils {
     public static List<DbUtils.Mapper> parseParameterMappers(List<QueryParameter> parameters, QueryWithParameters query, Predicate<TypeName> nativeTypePredicate, ClassName parameterColumnMapper) {
         var mappers = new ArrayList<Mapper>();
         for (var parameter : parameters) {
-            if (parameter instanceof QueryParameter.ConnectionParameter) {
+            if (parameter instanceof QueryParameter.ConnectionParameter || parameter instanceof QueryParameter.RowConsumerParameter) {
                 continue;
             }
             if (parameter instanceof QueryParameter.BatchParameter bp) {
@@ -94,7 +94,8 @@ public record QueryWithParameters(String rawQuery, List<QueryParameter> paramete
         for (int i = 0; i < parameters.size(); i++) {
             var parameter = parameters.get(i);
             var parameterName = parameter.name();
-            if (parameter instanceof io.koraframework.database.annotation.processor.model.QueryParameter.ConnectionParameter) {
+            if (parameter instanceof io.koraframework.database.annotation.processor.model.QueryParameter.ConnectionParameter
+                || parameter instanceof io.koraframework.database.annotation.processor.model.QueryParameter.RowConsumerParameter) {
                 continue;
             }
             var size = params.size();
@@ -170,7 +171,8 @@ public record QueryWithParameters(String rawQuery, List<QueryParameter> paramete
         var availableParameters = new LinkedHashMap<String, io.koraframework.database.annotation.processor.model.QueryParameter>();
         var availableEntityFields = new LinkedHashMap<String, List<String>>();
         for (var parameter : parameters) {
-            if (parameter instanceof io.koraframework.database.annotation.processor.model.QueryParameter.ConnectionParameter) {
+            if (parameter instanceof io.koraframework.database.annotation.processor.model.QueryParameter.ConnectionParameter
+                || parameter instanceof io.koraframework.database.annotation.processor.model.QueryParameter.RowConsumerParameter) {
                 continue;
             }
             if (parameter instanceof io.koraframework.database.annotation.processor.model.QueryParameter.BatchParameter batchParameter) {
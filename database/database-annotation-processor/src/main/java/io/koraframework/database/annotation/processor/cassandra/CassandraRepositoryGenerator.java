@@ -4,6 +4,7 @@ import com.palantir.javapoet.*;
 import io.koraframework.annotation.processor.common.AnnotationUtils;
 import io.koraframework.annotation.processor.common.CommonUtils;
 import io.koraframework.annotation.processor.common.FieldFactory;
+import io.koraframework.annotation.processor.common.ProcessingErrorException;
 import io.koraframework.annotation.processor.common.Visitors;
 import io.koraframework.database.annotation.processor.DbUtils;
 import io.koraframework.database.annotation.processor.QueryWithParameters;
@@ -56,6 +57,11 @@ public class CassandraRepositoryGenerator implements RepositoryGenerator {
         for (var method : queryMethods) {
             var methodType = (ExecutableType) this.types.asMemberOf(repositoryType, method);
             var parameters = QueryParameterParser.parse(this.types, CassandraTypes.CONNECTION, CassandraTypes.PARAMETER_COLUMN_MAPPER, method, methodType);
+            for (var parameter : parameters) {
+                if (parameter instanceof QueryParameter.RowConsumerParameter) {
+                    throw new ProcessingErrorException("Row consumer parameters are supported only by JDBC repositories, return a List or use a paging query instead", parameter.variable());
+                }
+            }
             var queryAnnotation = AnnotationUtils.findAnnotation(method, DbUtils.QUERY_ANNOTATION);
             var queryString = AnnotationUtils.<String>parseAnnotationValueWithoutDefault(queryAnnotation, "value");
             var query = QueryWithParameters.parse(filer, types, queryString, parameters, repositoryType, method);
@@ -23,12 +23,18 @@ import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import java.sql.Statement;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 public final class JdbcRepositoryGenerator implements RepositoryGenerator {
+    private static final ClassName STREAM = ClassName.get(Stream.class);
+    private static final ClassName ITERATOR = ClassName.get(Iterator.class);
+    private static final CodeBlock JDBC_DEFAULT_FETCH_SIZE = CodeBlock.of("$T.DEFAULT_FETCH_SIZE", JdbcTypes.RESULT_CURSOR);
+
     private final Types types;
     private final Elements elements;
     private final Filer filer;
@@ -73,6 +79,19 @@ public final class JdbcRepositoryGenerator implements RepositoryGenerator {
 
     private Optional<Mapper> parseResultMapper(ExecutableElement method, ExecutableType methodType, List<QueryParameter> parameters) {
         var returnType = methodType.getReturnType();
+        var streamedRowType = streamedRowType(method, methodType, parameters);
+        if (streamedRowType != null) {
+            var mappings = CommonUtils.parseMapping(method);
+            var mapperType = ParameterizedTypeName.get(JdbcTypes.ROW_MAPPER, TypeName.get(streamedRowType).box());
+            if (mappings.getMapping(JdbcTypes.RESULT_SET_MAPPER) != null) {
+                throw new ProcessingErrorException(streamedMappingError(method), method);
+            }
+            var rowMapper = mappings.getMapping(JdbcTypes.ROW_MAPPER);
+            if (rowMapper != null) {
+                return Optional.of(new Mapper(rowMapper.mapperClass(), mapperType, mappings.tag()));
+            }
+            return Optional.of(new Mapper(mapperType, mappings.tag()));
+        }
         if (CommonUtils.isVoid(returnType)) {
             return Optional.empty();
         }
@@ -112,6 +131,41 @@ public final class JdbcRepositoryGenerator implements RepositoryGenerator {
         return Optional.of(new Mapper(mapperType, mappings.tag()));
     }
 
+    /**
+     * @return row type for methods that stream rows instead of collecting them: Stream and JdbcResultCursor results or a row Consumer parameter
+     */
+    @Nullable
+    private static TypeMirror streamedRowType(ExecutableElement method, ExecutableType methodType, List<QueryParameter> parameters) {
+        var consumers = parameters.stream().filter(QueryParameter.RowConsumerParameter.class::isInstance).map(QueryParameter.RowConsumerParameter.class::cast).toList();
+        var returnType = methodType.getReturnType();
+        TypeMirror rowType = null;
+        if (returnType instanceof DeclaredType dt && dt.getTypeArguments().size() == 1) {
+            var rawType = TypeName.get(returnType) instanceof ParameterizedTypeName ptn ? ptn.rawType() : null;
+            if (ITERATOR.equals(rawType)) {
+                throw new ProcessingErrorException(streamedMethodError(method, "`Iterator<T>` can't be closed, so connection and result set leak when the caller stops reading early; return `JdbcResultCursor<T>` instead"), method);
+            }
+            if (STREAM.equals(rawType) || JdbcTypes.RESULT_CURSOR.equals(rawType)) {
+                rowType = dt.getTypeArguments().getFirst();
+            }
+        }
+        if (consumers.size() > 1 || (!consumers.isEmpty() && (rowType != null || !CommonUtils.isVoid(returnType)))) {
+            throw new ProcessingErrorException(streamedMethodError(method, "row Consumer parameter requires void return type and can be declared only once"), method);
+        }
+        if (!consumers.isEmpty()) {
+            rowType = consumers.getFirst().rowType();
+        }
+        if (rowType == null) {
+            return null;
+        }
+        if (parameters.stream().anyMatch(QueryParameter.BatchParameter.class::isInstance)) {
+            throw new ProcessingErrorException(streamedMethodError(method, "@Batch methods can't stream result rows"), method);
+        }
+        if (AnnotationUtils.isAnnotationPresent(method, DbUtils.ID_ANNOTATION)) {
+            throw new ProcessingErrorException(streamedMethodError(method, "@Id methods can't stream generated keys"), method);
+        }
+        return rowType;
+    }
+
     @Override
     public ClassName repositoryInterface() {
         return JdbcTypes.JDBC_REPOSITORY;
@@ -150,27 +204,43 @@ public final class JdbcRepositoryGenerator implements RepositoryGenerator {
                         )""", DbUtils.QUERY_CONTEXT, query.rawQuery(), sql, DbUtils.operationName(method))
                 .build());
         mb.addStatement("var _query = $L", queryContextFieldName);
-        mb.addStatement("var _observation = this._jdbcExecutor.telemetry().observe(_query)");
+        var readOnly = AnnotationUtils.isAnnotationPresent(method, JdbcTypes.READ_ONLY);
+        if (readOnly) {
+            mb.addCode(acquireReadOnlyConnection(connection));
+            mb.addStatement("var _observation = _telemetry.observe(_query)");
+        } else {
+            mb.addStatement("var _observation = this._jdbcExecutor.telemetry().observe(_query)");
+        }
+        var fetchSizeAnnotation = AnnotationUtils.findAnnotation(method, JdbcTypes.FETCH_SIZE);
+        var fetchSize = fetchSizeAnnotation == null
+            ? null
+            : AnnotationUtils.<Integer>parseAnnotationValueWithoutDefault(fetchSizeAnnotation, "value");
+        var bulkInsert = isBulkInsert(method, methodType, batchParam);
+        var streamedRowType = streamedRowType(method, methodType, parameters);
+        if (streamedRowType != null) {
+            Objects.requireNonNull(resultMapperName, () -> "Illegal State occurred when expected to get row mapper, but got null in " + method.getEnclosingElement().getSimpleName() + "#" + method.getSimpleName());
+            this.generateStreamed(mb, method, methodType, query, parameters, parameterMappers, connection, readOnly, streamedRowType, resultMapperName, fetchSize == null ? JDBC_DEFAULT_FETCH_SIZE : CodeBlock.of("$L", fetchSize));
+            return mb.build();
+        }
         if (methodType.getReturnType().getKind() != TypeKind.VOID) {
             mb.addCode("return ");
         }
         CommonUtils.observe(mb, "_observation", methodType.getReturnType().getKind() == TypeKind.VOID ? "run" : "call", b -> {
-            b.add("""
-                var _conToUse = $L;
-                $T _conToClose;
-                if (_conToUse == null) {
-                    _conToUse = this._jdbcExecutor.acquireConnection();
-                    _conToClose = _conToUse;
-                } else {
-                    _conToClose = null;
-                }
-                """, connection, JdbcTypes.CONNECTION);
+            if (!readOnly) {
+                b.add(acquireConnection(connection));
+            }
             var generatedKeys = AnnotationUtils.isAnnotationPresent(method, DbUtils.ID_ANNOTATION);
             if (generatedKeys) {
                 b.beginControlFlow("try (_conToClose; var _stmt = _conToUse.prepareStatement(_query.sql(), $T.RETURN_GENERATED_KEYS))", Statement.class);
+            } else if (bulkInsert) {
+                b.beginControlFlow("try (_conToClose; var _stmt = $T.prepareStatement(_conToUse, _query.sql()))", JdbcTypes.JDBC_BULK_INSERT);
             } else {
                 b.beginControlFlow("try (_conToClose; var _stmt = _conToUse.prepareStatement(_query.sql()))");
             }
+            b.addStatement("$T.applyDeadline(_stmt)", JdbcTypes.CONNECTION_FACTORY);
+            if (fetchSize != null) {
+                b.addStatement("_stmt.setFetchSize($L)", fetchSize);
+            }
             b.add(StatementSetterGenerator.generate(method, query, parameters, batchParam, parameterMappers));
             if (MethodUtils.isVoid(method)) {
                 if (batchParam != null) {
@@ -242,6 +312,43 @@ public final class JdbcRepositoryGenerator implements RepositoryGenerator {
         return mb.build();
     }
 
+    /**
+     * Rows are read lazily, so statement and connection are handed over to the cursor that releases them and ends the observation when closed
+     */
+    private void generateStreamed(MethodSpec.Builder mb, ExecutableElement method, ExecutableType methodType, QueryWithParameters query, List<QueryParameter> parameters, FieldFactory parameterMappers, CodeBlock connection, boolean readOnly, TypeMirror rowType, String rowMapperName, CodeBlock fetchSize) {
+        var returnType = methodType.getReturnType();
+        var isVoid = returnType.getKind() == TypeKind.VOID;
+        if (!isVoid) {
+            mb.addCode("return ");
+        }
+        CommonUtils.observe(mb, "_observation", isVoid ? "run" : "call", b -> {
+            if (!readOnly) {
+                b.add(acquireConnection(connection));
+            }
+            b.addStatement("var _cursor = new $T<$T>(_conToUse, _conToClose, _observation, $L)", JdbcTypes.RESULT_CURSOR, TypeName.get(rowType).box(), rowMapperName);
+            b.beginControlFlow("try");
+            b.addStatement("var _stmt = _cursor.prepareStatement(_query.sql(), $L)", fetchSize);
+            b.add(StatementSetterGenerator.generate(method, query, parameters, null, parameterMappers));
+            b.addStatement("_cursor.execute()");
+            b.nextControlFlow("catch (java.sql.SQLException e)")
+                .addStatement("_cursor.fail(e)")
+                .addStatement("throw new io.koraframework.database.jdbc.exception.UncheckedSqlException(e)");
+            b.nextControlFlow("catch (Exception e)")
+                .addStatement("_cursor.fail(e)")
+                .addStatement("throw e");
+            b.endControlFlow();
+            if (isVoid) {
+                var consumer = parameters.stream().filter(QueryParameter.RowConsumerParameter.class::isInstance).findFirst().orElseThrow();
+                b.addStatement("_cursor.forEachRemaining($L)", consumer.variable());
+            } else if (STREAM.equals(((ParameterizedTypeName) TypeName.get(returnType)).rawType())) {
+                b.addStatement("return _cursor.stream()");
+            } else {
+                b.addStatement("return _cursor");
+            }
+        });
+        mb.addCode(";\n");
+    }
+
     public void enrichWithExecutor(TypeElement repositoryElement, TypeSpec.Builder builder, MethodSpec.Builder constructorBuilder) {
         builder.addField(JdbcTypes.CONNECTION_FACTORY, "_jdbcExecutor", Modifier.PRIVATE, Modifier.FINAL);
         builder.addSuperinterface(JdbcTypes.JDBC_REPOSITORY);
@@ -261,6 +368,94 @@ public final class JdbcRepositoryGenerator implements RepositoryGenerator {
         constructorBuilder.addStatement("this._jdbcExecutor = _jdbcExecutor");
     }
 
+    private static CodeBlock acquireConnection(CodeBlock connection) {
+        return CodeBlock.of("""
+            var _conToUse = $L;
+            $T _conToClose;
+            if (_conToUse == null) {
+                _conToUse = this._jdbcExecutor.acquireConnection();
+                _conToClose = _conToUse;
+            } else {
+                _conToClose = null;
+            }
+            """, connection, JdbcTypes.CONNECTION);
+    }
+
+    /**
+     * Read-only methods take a fresh connection from a replica when routing executor is used, a connection of the current context is reused as is.
+     * Connection is acquired before the observation starts, so the query is observed with telemetry of the pool that serves it
+     */
+    private static CodeBlock acquireReadOnlyConnection(CodeBlock connection) {
+        return CodeBlock.of("""
+            var _currentConnection = $L;
+            final $T _conToUse;
+            final $T _conToClose;
+            final $T _telemetry;
+            if (_currentConnection == null) {
+                var _routed = this._jdbcExecutor.acquireRoutedReadOnlyConnection();
+                _conToUse = _routed.connection();
+                _conToClose = _conToUse;
+                _telemetry = _routed.telemetry();
+            } else {
+                _conToUse = _currentConnection;
+                _conToClose = null;
+                _telemetry = this._jdbcExecutor.telemetry();
+            }
+            """, connection, JdbcTypes.CONNECTION, JdbcTypes.CONNECTION, JdbcTypes.DATABASE_TELEMETRY);
+    }
+
+    /**
+     * Bulk insert statement reports row count per executed statement instead of per row, so only total count results are allowed
+     */
+    private static boolean isBulkInsert(ExecutableElement method, ExecutableType methodType, @Nullable QueryParameter batchParam) {
+        if (!AnnotationUtils.isAnnotationPresent(method, JdbcTypes.BULK_INSERT)) {
+            return false;
+        }
+        if (batchParam == null) {
+            throw new ProcessingErrorException(bulkInsertMethodError(method, "method has no @Batch parameter"), method);
+        }
+        if (AnnotationUtils.isAnnotationPresent(method, DbUtils.ID_ANNOTATION)) {
+            throw new ProcessingErrorException(bulkInsertMethodError(method, "@Id methods can't return generated keys"), method);
+        }
+        var returnType = methodType.getReturnType();
+        if (returnType.getKind() != TypeKind.VOID && !returnType.toString().equals(DbUtils.UPDATE_COUNT.canonicalName())) {
+            throw new ProcessingErrorException(bulkInsertMethodError(method, "return type `%s` is not supported".formatted(returnType)), method);
+        }
+        return true;
+    }
+
+    private static String bulkInsertMethodError(ExecutableElement method, String problem) {
+        return """
+            Invalid JDBC bulk insert repository method: `%s#%s`.
+
+            Problem: %s.
+            @BulkInsert methods accept a single @Batch parameter and return `void` or `UpdateCount`.
+
+            Fix: change the method signature, or remove @BulkInsert to execute a regular JDBC batch.
+            """.formatted(method.getEnclosingElement().getSimpleName(), method.getSimpleName(), problem);
+    }
+
+    private static String streamedMethodError(ExecutableElement method, String problem) {
+        return """
+            Invalid JDBC streaming repository method: `%s#%s`.
+
+            Problem: %s.
+            Rows are streamed for methods returning `Stream<T>` or `JdbcResultCursor<T>`, or for `void` methods with a single `Consumer<T>` parameter.
+
+            Fix: return `List<T>` to read all rows at once, or remove the conflicting declaration.
+            """.formatted(method.getEnclosingElement().getSimpleName(), method.getSimpleName(), problem);
+    }
+
+    private static String streamedMappingError(ExecutableElement method) {
+        return """
+            Invalid JDBC streaming repository method mapping: `%s#%s`.
+
+            Streamed rows are mapped one by one, so `JdbcResultSetMapper` can't be used for `Stream`, `JdbcResultCursor` or `Consumer` results.
+
+            Fix: provide `JdbcRowMapper` with `@Mapping` instead.
+            """.formatted(method.getEnclosingElement().getSimpleName(), method.getSimpleName());
+    }
+
     private static String batchReturnTypeError(ExecutableElement method, TypeMirror returnType) {
         return """
             Invalid JDBC `@Batch` repository method return type: `%s`.
@@ -6,6 +6,12 @@ public class JdbcTypes {
     public static final ClassName CONNECTION = ClassName.get("java.sql", "Connection");
     public static final ClassName CONNECTION_FACTORY = ClassName.get("io.koraframework.database.jdbc", "JdbcExecutor");
     public static final ClassName JDBC_REPOSITORY = ClassName.get("io.koraframework.database.jdbc", "JdbcRepository");
+    public static final ClassName RESULT_CURSOR = ClassName.get("io.koraframework.database.jdbc", "JdbcResultCursor");
+    public static final ClassName FETCH_SIZE = ClassName.get("io.koraframework.database.jdbc.annotation", "FetchSize");
+    public static final ClassName BULK_INSERT = ClassName.get("io.koraframework.database.jdbc.annotation", "BulkInsert");
+    public static final ClassName READ_ONLY = ClassName.get("io.koraframework.database.jdbc.annotation", "ReadOnly");
+    public static final ClassName DATABASE_TELEMETRY = ClassName.get("io.koraframework.database.common.telemetry", "DatabaseTelemetry");
+    public static final ClassName JDBC_BULK_INSERT = ClassName.get("io.koraframework.database.jdbc", "JdbcBulkInsert");
 
     public static final String RESULT_PACKAGE = "io.koraframework.database.jdbc.mapper.result";
     public static final ClassName JDBC_DATABASE = ClassName.get("io.koraframework.database.jdbc", "JdbcDataSource");
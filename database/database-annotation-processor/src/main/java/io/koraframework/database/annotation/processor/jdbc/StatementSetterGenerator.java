@@ -24,7 +24,7 @@ public class StatementSetterGenerator {
         }
         for (int i = 0; i < parameters.size(); i++) {
             var parameter = parameters.get(i);
-            if (parameter instanceof QueryParameter.ConnectionParameter) {
+            if (parameter instanceof QueryParameter.ConnectionParameter || parameter instanceof QueryParameter.RowConsumerParameter) {
                 continue;
             }
             var _i = i;
@@ -14,6 +14,11 @@ public sealed interface QueryParameter {
 
     record ConnectionParameter(String name, TypeMirror type, VariableElement variable) implements QueryParameter {}
 
+    /**
+     * Callback receiving result rows one by one instead of returning them
+     */
+    record RowConsumerParameter(String name, TypeMirror type, VariableElement variable, TypeMirror rowType) implements QueryParameter {}
+
     record SimpleParameter(String name, TypeMirror type, VariableElement variable) implements QueryParameter {}
 
     record EntityParameter(String name, DbEntity entity, VariableElement variable) implements QueryParameter {
@@ -42,6 +42,9 @@ public final class QueryParameterParser {
             }
         }
         var mapping = CommonUtils.parseMapping(parameter).getMapping(parameterMapper);
+        if (mapping == null && typeName instanceof ParameterizedTypeName ptn && ptn.rawType().canonicalName().equals("java.util.function.Consumer")) {
+            return new QueryParameter.RowConsumerParameter(name, type, parameter, ((DeclaredType) type).getTypeArguments().getFirst());
+        }
         var batch = AnnotationUtils.findAnnotation(parameter, DbUtils.BATCH_ANNOTATION);
         if (batch != null) {
             if (!(typeName instanceof ParameterizedTypeName ptn && (ptn.rawType().canonicalName().equals("java.util.List")))) {
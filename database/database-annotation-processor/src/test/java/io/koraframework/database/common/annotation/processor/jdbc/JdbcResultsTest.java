@@ -2,6 +2,10 @@ package io.koraframework.database.common.annotation.processor.jdbc;
 
 import io.koraframework.common.annotation.Tag;
 import io.koraframework.database.common.UpdateCount;
+import io.koraframework.database.common.telemetry.DatabaseTelemetry;
+import io.koraframework.database.common.telemetry.impl.NoopDatabaseObservation;
+import io.koraframework.database.jdbc.JdbcExecutor;
+import io.koraframework.database.jdbc.JdbcResultCursor;
 import io.koraframework.database.jdbc.mapper.result.JdbcResultSetMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -207,6 +212,105 @@ public class JdbcResultsTest extends AbstractJdbcRepositoryTest {
         assertThat(result).containsExactly(1, 2, 3);
     }
 
+    @Test
+    public void readOnlyMethodAcquiresReadOnlyConnection() throws SQLException {
+        var mapper = Mockito.mock(JdbcResultSetMapper.class);
+        var readOnlyExecutor = Mockito.spy(executor);
+        Mockito.doReturn(null).when(readOnlyExecutor).currentContext();
+        var repository = compile(readOnlyExecutor, List.of(mapper), """
+            import io.koraframework.database.jdbc.annotation.ReadOnly;
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @ReadOnly
+                @Query("SELECT count(*) FROM test")
+                int count();
+
+                @Query("DELETE FROM test")
+                void delete();
+            }
+            """);
+        when(mapper.apply(any())).thenReturn(42);
+
+        assertThat(repository.<Integer>invoke("count")).isEqualTo(42);
+        verify(readOnlyExecutor).acquireReadOnlyConnection();
+        verify(readOnlyExecutor, Mockito.times(1)).acquireConnection();
+
+        repository.invoke("delete");
+        verify(readOnlyExecutor, Mockito.times(1)).acquireReadOnlyConnection();
+        verify(readOnlyExecutor, Mockito.times(2)).acquireConnection();
+    }
+
+    @Test
+    public void readOnlyMethodObservedWithRoutedPoolTelemetry() throws SQLException {
+        var mapper = Mockito.mock(JdbcResultSetMapper.class);
+        var replicaTelemetry = Mockito.mock(DatabaseTelemetry.class);
+        when(replicaTelemetry.observe(any())).thenReturn(NoopDatabaseObservation.INSTANCE);
+        var readOnlyExecutor = Mockito.spy(executor);
+        Mockito.doReturn(null).when(readOnlyExecutor).currentContext();
+        Mockito.doReturn(new JdbcExecutor.RoutedConnection(executor.mockConnection, replicaTelemetry)).when(readOnlyExecutor).acquireRoutedReadOnlyConnection();
+        var repository = compile(readOnlyExecutor, List.of(mapper), """
+            import io.koraframework.database.jdbc.annotation.ReadOnly;
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @ReadOnly
+                @Query("SELECT count(*) FROM test")
+                int count();
+            }
+            """);
+        when(mapper.apply(any())).thenReturn(42);
+
+        assertThat(repository.<Integer>invoke("count")).isEqualTo(42);
+        var order = Mockito.inOrder(readOnlyExecutor, replicaTelemetry);
+        order.verify(readOnlyExecutor).acquireRoutedReadOnlyConnection();
+        order.verify(replicaTelemetry).observe(any());
+        verify(readOnlyExecutor, never()).telemetry();
+        verify(executor.mockConnection).close();
+    }
+
+    @Test
+    public void returnBulkInsertUpdateCount() throws SQLException {
+        var repository = compileJdbc(List.of(), """
+            import io.koraframework.database.common.UpdateCount;
+            import io.koraframework.database.jdbc.annotation.BulkInsert;
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @BulkInsert
+                @Query("INSERT INTO test(value) VALUES (:value)")
+                UpdateCount test(@Batch java.util.List<String> value);
+            }
+            """);
+        when(executor.preparedStatement.executeLargeUpdate()).thenReturn(3L);
+
+        var result = repository.<UpdateCount>invoke("test", List.of("test1", "test2", "test3"));
+
+        assertThat(result.value()).isEqualTo(3);
+        verify(executor.mockConnection).prepareStatement("INSERT INTO test(value) VALUES (?), (?), (?)");
+        verify(executor.preparedStatement).setString(1, "test1");
+        verify(executor.preparedStatement).setString(2, "test2");
+        verify(executor.preparedStatement).setString(3, "test3");
+        verify(executor.preparedStatement).executeLargeUpdate();
+        verify(executor.preparedStatement, never()).executeLargeBatch();
+    }
+
+    @Test
+    public void returnBulkInsertWithoutBatchFails() {
+        Exception exception = Assertions.assertThrows(Exception.class, () -> {
+            compileJdbc(List.of(), """
+                import io.koraframework.database.jdbc.annotation.BulkInsert;
+                @Repository
+                public interface TestRepository extends JdbcRepository {
+                    @BulkInsert
+                    @Query("INSERT INTO test(value) VALUES (:value)")
+                    void test(String value);
+                }
+                """);
+        });
+
+        assertThat(exception.getMessage())
+            .contains("Invalid JDBC bulk insert repository method")
+            .contains("method has no @Batch parameter");
+    }
+
     @Test
     public void returnBatchGeneratedIds() throws SQLException {
         var repository = compileJdbc(List.of(JdbcResultSetMapper.listResultSetMapper(rs -> rs.getLong(1))), """
@@ -536,4 +640,101 @@ public class JdbcResultsTest extends AbstractJdbcRepositoryTest {
         assertThat(tag.value()).isEqualTo(compileResult.loadClass("TestRepository"));
     }
 
+    @Test
+    public void testReturnStream() throws SQLException {
+        var repository = compileJdbc(List.of(newGeneratedObject("TestRowMapper")), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Mapping(TestRowMapper.class)
+                @io.koraframework.database.jdbc.annotation.FetchSize(500)
+                @Query("SELECT value FROM test")
+                java.util.stream.Stream<Integer> test();
+            }
+            """, """
+            public class TestRowMapper implements JdbcRowMapper<Integer> {
+                public Integer apply(ResultSet rs) throws SQLException {
+                  return rs.getInt(1);
+                }
+            }
+            """);
+
+        when(executor.mockConnection.getAutoCommit()).thenReturn(true);
+        when(executor.resultSet.next()).thenReturn(true, true, false);
+        when(executor.resultSet.getInt(1)).thenReturn(1, 2);
+        try (var stream = repository.<java.util.stream.Stream<Integer>>invoke("test")) {
+            verify(executor.resultSet, never()).next();
+            assertThat(stream.toList()).containsExactly(1, 2);
+        }
+
+        verify(executor.mockConnection).prepareStatement("SELECT value FROM test", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        verify(executor.preparedStatement).setFetchSize(500);
+        verify(executor.mockConnection).setAutoCommit(false);
+        verify(executor.mockConnection).commit();
+        verify(executor.mockConnection).setAutoCommit(true);
+        verify(executor.resultSet).close();
+        verify(executor.preparedStatement).close();
+    }
+
+    @Test
+    public void testReturnIteratorFails() {
+        assertThatThrownBy(() -> compileJdbc(List.of(newGeneratedObject("TestRowMapper")), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Mapping(TestRowMapper.class)
+                @Query("SELECT value FROM test")
+                java.util.Iterator<Integer> test();
+            }
+            """, """
+            public class TestRowMapper implements JdbcRowMapper<Integer> {
+                public Integer apply(ResultSet rs) {
+                  return 42;
+                }
+            }
+            """)).hasMessageContaining("JdbcResultCursor<T>");
+    }
+
+    @Test
+    public void testRowConsumer() throws SQLException {
+        var repository = compileJdbc(List.of(newGeneratedObject("TestRowMapper")), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Mapping(TestRowMapper.class)
+                @Query("SELECT value FROM test WHERE id > :id")
+                void test(long id, java.util.function.Consumer<Integer> consumer);
+            }
+            """, """
+            public class TestRowMapper implements JdbcRowMapper<Integer> {
+                public Integer apply(ResultSet rs) throws SQLException {
+                  return rs.getInt(1);
+                }
+            }
+            """);
+
+        when(executor.resultSet.next()).thenReturn(true, true, false);
+        when(executor.resultSet.getInt(1)).thenReturn(1, 2);
+        var rows = new java.util.ArrayList<Integer>();
+        repository.invoke("test", 10L, (java.util.function.Consumer<Integer>) rows::add);
+
+        assertThat(rows).containsExactly(1, 2);
+        verify(executor.preparedStatement).setLong(1, 10L);
+        verify(executor.preparedStatement).close();
+    }
+
+    @Test
+    public void testStreamWithResultSetMapperFails() {
+        assertThatThrownBy(() -> compileJdbc(List.of(), """
+            @Repository
+            public interface TestRepository extends JdbcRepository {
+                @Mapping(TestMapper.class)
+                @Query("SELECT value FROM test")
+                java.util.stream.Stream<Integer> test();
+            }
+            """, """
+            public class TestMapper implements JdbcResultSetMapper<java.util.stream.Stream<Integer>> {
+                public java.util.stream.Stream<Integer> apply(ResultSet rs) {
+                  return java.util.stream.Stream.empty();
+                }
+            }
+            """));
+    }
 }
@@ -9,6 +9,7 @@ import org.mockito.Mockito;
 
 import java.sql.*;
 
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
@@ -24,6 +25,7 @@ public class MockJdbcExecutor implements JdbcExecutor {
         try {
             when(mockConnection.prepareCall(anyString())).thenReturn(callableStatement);
             when(mockConnection.prepareStatement(anyString())).thenReturn(preparedStatement);
+            when(mockConnection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(preparedStatement);
             when(preparedStatement.executeQuery()).thenReturn(resultSet);
             when(preparedStatement.getResultSet()).thenReturn(resultSet);
         } catch (SQLException e) {
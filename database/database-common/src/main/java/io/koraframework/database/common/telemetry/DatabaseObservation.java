@@ -7,4 +7,11 @@ public interface DatabaseObservation extends Observation {
     void observeConnection();
 
     void observeStatement();
+
+    /**
+     * Records number of rows written by a bulk operation, so write throughput can be derived from metrics
+     *
+     * @param rows number of written rows
+     */
+    default void observeRows(long rows) {}
 }
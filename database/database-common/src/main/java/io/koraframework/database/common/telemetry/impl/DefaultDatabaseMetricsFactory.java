@@ -1,6 +1,7 @@
 package io.koraframework.database.common.telemetry.impl;
 
 import io.koraframework.database.common.QueryContext;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -36,6 +37,7 @@ public class DefaultDatabaseMetricsFactory {
         }
 
         protected final ConcurrentMap<DurationKey, Timer> operationDurationCache = new ConcurrentHashMap<>();
+        protected final ConcurrentMap<DurationKey, DistributionSummary> operationRowsCache = new ConcurrentHashMap<>();
 
         protected final DefaultDatabaseTelemetry.TelemetryContext context;
 
@@ -49,6 +51,12 @@ public class DefaultDatabaseMetricsFactory {
             meter.record(processingTimeNanos, TimeUnit.NANOSECONDS);
         }
 
+        public void recordRows(QueryContext query, @Nullable Throwable error, long rows) {
+            var key = createMetricDurationKey(query, error);
+            var meter = this.operationRowsCache.computeIfAbsent(key, _ -> createMetricOperationRows(key).register(context.meterRegistry()));
+            meter.record(rows);
+        }
+
         protected DurationKey createMetricDurationKey(QueryContext query, @Nullable Throwable error) {
             if (error instanceof CompletionException ce && ce.getCause() != null) {
                 error = ce.getCause();
@@ -59,6 +67,19 @@ public class DefaultDatabaseMetricsFactory {
 
         // DO NOT ADD DYNAMIC TAGS IN BUILDER, use metric key instead of metric collision will happen
         protected Timer.Builder createMetricOperationDuration(DurationKey metricKey) {
+            return Timer.builder("db.client.operation.duration")
+                .serviceLevelObjectives(this.context.config().metrics().slo())
+                .tags(createMetricTags(metricKey));
+        }
+
+        // rate of the summary total is the write throughput in rows per second
+        protected DistributionSummary.Builder createMetricOperationRows(DurationKey metricKey) {
+            return DistributionSummary.builder("db.client.operation.rows")
+                .baseUnit("{row}")
+                .tags(createMetricTags(metricKey));
+        }
+
+        protected Tags createMetricTags(DurationKey metricKey) {
             var extraTags = 0;
             if (metricKey.extraTags != null) {
                 for (Tag _ : metricKey.extraTags) {
@@ -80,10 +101,7 @@ public class DefaultDatabaseMetricsFactory {
                     tags.add(extraTag);
                 }
             }
-
-            return Timer.builder("db.client.operation.duration")
-                .serviceLevelObjectives(this.context.config().metrics().slo())
-                .tags(Tags.of(tags));
+            return Tags.of(tags);
         }
     }
 }
@@ -5,6 +5,7 @@ import io.koraframework.database.common.telemetry.DatabaseObservation;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.StatusCode;
 import io.opentelemetry.semconv.ErrorAttributes;
+import io.opentelemetry.semconv.incubating.DbIncubatingAttributes;
 
 public class DefaultDatabaseObservation implements DatabaseObservation {
 
@@ -16,6 +17,7 @@ public class DefaultDatabaseObservation implements DatabaseObservation {
     protected final long started = System.nanoTime();
     protected long statementStarted = started;
     protected Throwable error;
+    protected long rows = -1;
 
     public DefaultDatabaseObservation(QueryContext query,
                                       DefaultDatabaseTelemetry.TelemetryContext context,
@@ -41,6 +43,12 @@ public class DefaultDatabaseObservation implements DatabaseObservation {
         this.logger.logQueryBegin(query);
     }
 
+    @Override
+    public void observeRows(long rows) {
+        this.rows = rows;
+        this.span.setAttribute(DbIncubatingAttributes.DB_OPERATION_BATCH_SIZE, rows);
+    }
+
     @Override
     public Span span() {
         return this.span;
@@ -58,6 +66,9 @@ public class DefaultDatabaseObservation implements DatabaseObservation {
         var processingTimeNanos = System.nanoTime() - this.statementStarted;
         this.span.addEvent("result");
         this.metrics.record(query, error, processingTimeNanos);
+        if (this.rows >= 0) {
+            this.metrics.recordRows(query, error, this.rows);
+        }
         this.logger.logQueryEnd(query, error, processingTimeNanos);
         if (error == null) {
             this.span.setStatus(StatusCode.OK);
@@ -0,0 +1,73 @@
+package io.koraframework.database.jdbc;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares named query build paths:
+ * {@code parseOnEveryBuild} parses SQL on each call like the builder did before parsed SQL was cached,
+ * {@code cachedNamed} looks the layout up by SQL text and {@code reusedTemplate} binds values into a layout parsed once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JdbcQueryBenchmark {
+
+    private static final String SQL = """
+        SELECT u.id, u.name, u.email, u.created_at
+        FROM users u
+        WHERE u.status = :status
+          AND u.created_at > :createdAfter
+          AND u.id IN (:ids)
+        ORDER BY u.created_at DESC
+        LIMIT :limit
+        """;
+    private static final JdbcQuery.NamedQueryTemplate TEMPLATE = JdbcQuery.namedTemplate(SQL);
+    private static final List<Long> IDS = List.of(1L, 2L, 3L, 4L, 5L);
+
+    @Benchmark
+    public JdbcQuery parseOnEveryBuild() {
+        return JdbcQuery.namedTemplate(SQL).query()
+            .bind("status", "active")
+            .bind("createdAfter", 1_700_000_000L)
+            .bindIn("ids", IDS)
+            .bind("limit", 100)
+            .build();
+    }
+
+    @Benchmark
+    public JdbcQuery cachedNamed() {
+        return JdbcQuery.named()
+            .sql(SQL)
+            .bind("status", "active")
+            .bind("createdAfter", 1_700_000_000L)
+            .bindIn("ids", IDS)
+            .bind("limit", 100)
+            .build();
+    }
+
+    @Benchmark
+    public JdbcQuery reusedTemplate() {
+        return TEMPLATE.query()
+            .bind("status", "active")
+            .bind("createdAfter", 1_700_000_000L)
+            .bindIn("ids", IDS)
+            .bind("limit", 100)
+            .build();
+    }
+
+    @Benchmark
+    public JdbcQuery reusedTemplateWithoutExpansion() {
+        return TEMPLATE.query()
+            .bind("status", "active")
+            .bind("createdAfter", 1_700_000_000L)
+            .bind("ids", 1L)
+            .bind("limit", 100)
+            .build();
+    }
+}
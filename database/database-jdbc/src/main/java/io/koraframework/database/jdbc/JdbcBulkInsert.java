@@ -0,0 +1,600 @@
+package io.koraframework.database.jdbc;
+
+import io.koraframework.common.telemetry.Observation;
+import io.koraframework.database.common.telemetry.DatabaseObservation;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * <b>Русский</b>: Пакетная вставка строк, которая быстрее {@link PreparedStatement#executeBatch()} для больших объемов.
+ * Для PostgreSQL строки передаются через {@code COPY ... FROM STDIN}, для остальных баз {@code INSERT} переписывается в многострочный {@code VALUES (...), (...)}.
+ * Размер запроса ограничен лимитом параметров базы, например 2100 для SQL Server.
+ * Запросы, которые нельзя переписать, и базы без многострочного {@code VALUES}, например Oracle до 23, выполняются обычным JDBC batch.
+ * Строки отправляются уже в {@link PreparedStatement#addBatch()}, как только заполнен буфер {@code COPY} или многострочный запрос,
+ * поэтому память не растет с размером пачки, а {@link PreparedStatement#clearBatch()} отменяет только еще не отправленные строки.
+ * <hr>
+ * <b>English</b>: Bulk rows insert that is faster than {@link PreparedStatement#executeBatch()} for large volumes.
+ * PostgreSQL rows are streamed with {@code COPY ... FROM STDIN}, for other databases {@code INSERT} is rewritten into multi-row {@code VALUES (...), (...)}.
+ * Statement size is limited by bind parameters limit of the database, e.g. 2100 for SQL Server.
+ * Queries that can't be rewritten and databases without multi-row {@code VALUES}, e.g. Oracle before 23, are executed as a regular JDBC batch.
+ * Rows are sent already in {@link PreparedStatement#addBatch()} once {@code COPY} buffer or multi-row statement is full,
+ * so memory doesn't grow with batch size and {@link PreparedStatement#clearBatch()} discards only rows that are not sent yet.
+ * <br>
+ * <br>
+ * Пример / Example:
+ * <pre>
+ * {@code
+ * @Repository
+ * public interface MyRepository extends JdbcRepository {
+ *
+ *     @BulkInsert
+ *     @Query("INSERT INTO users(id, name) VALUES (:user.id, :user.name)")
+ *     UpdateCount insert(@Batch List<User> user);
+ * }
+ * }
+ * </pre>
+ *
+ * @see io.koraframework.database.jdbc.annotation.BulkInsert
+ * @see JdbcExecutor#executeBulkInsert(JdbcQuery.JdbcQueryBatch)
+ */
+public final class JdbcBulkInsert {
+
+    static final int DEFAULT_MAX_PARAMETERS_PER_STATEMENT = 32767;
+    static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final Pattern INSERT_PREFIX = Pattern.compile("^\\s*insert\\s+into\\s+([^\\s(]+)\\s*\\(([^)]*)\\)\\s*values\\s*(?=\\()", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PLAIN_VALUES = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final boolean POSTGRES_DRIVER_PRESENT = isPostgresDriverPresent();
+
+    private JdbcBulkInsert() {}
+
+    /**
+     * <b>Русский</b>: Создает запрос, который накапливает строки через {@link PreparedStatement#addBatch()} и вставляет их при {@link PreparedStatement#executeBatch()}.
+     * Результат выполнения содержит количество строк для каждого выполненного запроса, а не для каждой строки.
+     * <hr>
+     * <b>English</b>: Creates a statement that collects rows with {@link PreparedStatement#addBatch()} and inserts them on {@link PreparedStatement#executeBatch()}.
+     * Execution result contains row count of every executed statement rather than of every row.
+     *
+     * @param connection соединение / connection
+     * @param sql        {@code INSERT} запрос / {@code INSERT} query
+     */
+    public static PreparedStatement prepareStatement(Connection connection, String sql) {
+        var handler = new BulkStatement(connection, sql, InsertSql.parse(sql));
+        return (PreparedStatement) Proxy.newProxyInstance(JdbcBulkInsert.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, handler);
+    }
+
+    /**
+     * Bind parameters limit of a single statement for the connected database or 0 if it doesn't support multi-row {@code VALUES}
+     */
+    static int maxParametersPerStatement(Connection connection) throws SQLException {
+        var metaData = connection.getMetaData();
+        var product = metaData.getDatabaseProductName();
+        if (product == null) {
+            return DEFAULT_MAX_PARAMETERS_PER_STATEMENT;
+        }
+        product = product.toLowerCase(Locale.ROOT);
+        if (product.contains("sql server")) {
+            return 2100;
+        }
+        if (product.contains("oracle")) {
+            return metaData.getDatabaseMajorVersion() >= 23 ? 65535 : 0;
+        }
+        if (product.contains("mysql") || product.contains("mariadb")) {
+            return 65535;
+        }
+        return DEFAULT_MAX_PARAMETERS_PER_STATEMENT;
+    }
+
+    record InsertSql(String head, String values, String tail, String table, String columns, int parametersPerRow, boolean plainValues) {
+
+        @Nullable
+        static InsertSql parse(String sql) {
+            var matcher = INSERT_PREFIX.matcher(sql);
+            if (!matcher.find()) {
+                return null;
+            }
+            var valuesStart = matcher.end();
+            var valuesEnd = closingParenthesis(sql, valuesStart);
+            if (valuesEnd < 0) {
+                return null;
+            }
+            var values = sql.substring(valuesStart, valuesEnd + 1);
+            var tail = sql.substring(valuesEnd + 1).strip();
+            if (tail.endsWith(";")) {
+                tail = tail.substring(0, tail.length() - 1).strip();
+            }
+            if (tail.toLowerCase(Locale.ROOT).startsWith("returning") || tail.startsWith(",")) {
+                return null;
+            }
+            var parametersPerRow = countParameters(values);
+            var plainValues = tail.isEmpty()
+                && PLAIN_VALUES.matcher(values).matches()
+                && parametersPerRow == matcher.group(2).split(",").length;
+            return new InsertSql(sql.substring(0, valuesStart), values, tail, matcher.group(1), matcher.group(2).strip(), parametersPerRow, plainValues);
+        }
+
+        String multiRowSql(int rows) {
+            var sb = new StringBuilder(this.head.length() + (this.values.length() + 2) * rows + this.tail.length() + 1).append(this.head);
+            for (int i = 0; i < rows; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(this.values);
+            }
+            if (!this.tail.isEmpty()) {
+                sb.append(' ').append(this.tail);
+            }
+            return sb.toString();
+        }
+
+        String copySql() {
+            return "COPY " + this.table + " (" + this.columns + ") FROM STDIN";
+        }
+
+        private static int closingParenthesis(String sql, int start) {
+            var depth = 0;
+            for (int i = start; i < sql.length(); i++) {
+                var c = sql.charAt(i);
+                if (c == '\'' || c == '"') {
+                    i = sql.indexOf(c, i + 1);
+                    if (i < 0) {
+                        return -1;
+                    }
+                } else if (c == '(') {
+                    depth++;
+                } else if (c == ')' && --depth == 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static int countParameters(String sql) {
+            var count = 0;
+            for (int i = 0; i < sql.length(); i++) {
+                var c = sql.charAt(i);
+                if (c == '\'' || c == '"') {
+                    i = sql.indexOf(c, i + 1);
+                } else if (c == '?') {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Captured {@code PreparedStatement.setXxx(index, value, ...)} call that is replayed on the real statement or encoded for COPY
+     */
+    record Binding(Method method, Object[] args) {
+
+        @Nullable
+        Object value() {
+            return this.method.getName().startsWith("setNull") ? null : this.args[1];
+        }
+
+        void bind(PreparedStatement statement, int index) throws SQLException {
+            var args = this.args.clone();
+            args[0] = index;
+            try {
+                this.method.invoke(statement, args);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        boolean isCopySupported() {
+            var name = this.method.getName();
+            if (name.startsWith("setNull")) {
+                return true;
+            }
+            if (!name.equals("setObject") && this.args.length > 2) {
+                // calendar and length variants change value representation
+                return false;
+            }
+            return switch (name) {
+                case "setString", "setNString", "setBoolean", "setByte", "setShort", "setInt", "setLong", "setFloat", "setDouble",
+                     "setBigDecimal", "setBytes", "setDate", "setTime", "setTimestamp" -> true;
+                case "setObject" -> isCopySupported(this.args[1]);
+                default -> false;
+            };
+        }
+
+        private static boolean isCopySupported(@Nullable Object value) {
+            return value == null
+                || value instanceof CharSequence || value instanceof Character || value instanceof Boolean
+                || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof Double || value instanceof Float || value instanceof BigDecimal || value instanceof BigInteger
+                || value instanceof UUID || value instanceof byte[] || value instanceof Enum<?>
+                || value instanceof LocalDate || value instanceof LocalTime
+                || value instanceof OffsetDateTime || value instanceof OffsetTime || value instanceof Instant
+                || value instanceof java.sql.Date || value instanceof java.sql.Time || value instanceof java.sql.Timestamp;
+        }
+
+        /**
+         * Writes value in PostgreSQL COPY text format
+         */
+        void writeCopyText(StringBuilder out) {
+            var value = this.value();
+            switch (value) {
+                case null -> out.append("\\N");
+                case byte[] bytes -> out.append("\\\\x").append(HexFormat.of().formatHex(bytes));
+                case BigDecimal decimal -> out.append(decimal.toPlainString());
+                case Boolean bool -> out.append(bool ? 't' : 'f');
+                case Enum<?> e -> escape(out, e.name());
+                // offset is explicit, so timestamptz doesn't depend on session time zone, same as setTimestamp of the driver
+                case java.sql.Timestamp timestamp -> out.append(timestamp.toLocalDateTime().atZone(ZoneId.systemDefault()).toOffsetDateTime());
+                default -> escape(out, value.toString());
+            }
+        }
+
+        private static void escape(StringBuilder out, String value) {
+            for (int i = 0; i < value.length(); i++) {
+                var c = value.charAt(i);
+                switch (c) {
+                    case '\\' -> out.append("\\\\");
+                    case '\t' -> out.append("\\t");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    default -> out.append(c);
+                }
+            }
+        }
+    }
+
+    private static final class BulkStatement implements InvocationHandler {
+
+        private final Connection connection;
+        private final String sql;
+        @Nullable
+        private final InsertSql insert;
+        private final List<Binding[]> chunk = new ArrayList<>();
+        private final List<Long> counts = new ArrayList<>();
+        private Binding[] row = new Binding[0];
+        @Nullable
+        private PostgresCopy copy;
+        private boolean copyChecked;
+        @Nullable
+        private PreparedStatement chunkStatement;
+        @Nullable
+        private PreparedStatement batchStatement;
+        private int queryTimeout;
+        private int maxParameters = -1;
+        private boolean closed;
+
+        private BulkStatement(Connection connection, String sql, @Nullable InsertSql insert) {
+            this.connection = connection;
+            this.sql = sql;
+            this.insert = insert;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (name) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> "JdbcBulkInsert[" + this.sql + "]";
+                };
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && method.getParameterTypes()[0] == int.class && method.getDeclaringClass() == PreparedStatement.class) {
+                this.bind((Integer) args[0], new Binding(method, args));
+                return null;
+            }
+            return switch (name) {
+                case "addBatch" -> {
+                    if (args != null && args.length > 0) {
+                        throw new SQLFeatureNotSupportedException("Bulk insert statement doesn't support addBatch(String)");
+                    }
+                    if (this.closed) {
+                        throw new SQLException("Statement is closed");
+                    }
+                    this.addRow(this.row);
+                    this.row = new Binding[this.row.length];
+                    yield null;
+                }
+                case "clearParameters" -> {
+                    this.row = new Binding[this.row.length];
+                    yield null;
+                }
+                case "clearBatch" -> {
+                    this.reset();
+                    yield null;
+                }
+                case "executeBatch" -> Arrays.stream(this.execute()).mapToInt(Math::toIntExact).toArray();
+                case "executeLargeBatch" -> this.execute();
+                case "setQueryTimeout" -> {
+                    this.queryTimeout = (Integer) args[0];
+                    yield null;
+                }
+                case "getQueryTimeout" -> this.queryTimeout;
+                case "getConnection" -> this.connection;
+                case "close" -> {
+                    if (!this.closed) {
+                        this.closed = true;
+                        this.reset();
+                    }
+                    yield null;
+                }
+                case "isClosed" -> this.closed;
+                case "isWrapperFor" -> false;
+                default -> throw new SQLFeatureNotSupportedException("Bulk insert statement doesn't support " + name);
+            };
+        }
+
+        private void bind(int index, Binding binding) {
+            if (index > this.row.length) {
+                this.row = Arrays.copyOf(this.row, index);
+            }
+            this.row[index - 1] = binding;
+        }
+
+        /**
+         * Rows are sent as soon as COPY buffer or multi-row statement is full, so memory doesn't grow with batch size
+         */
+        private void addRow(Binding[] row) throws SQLException {
+            for (int i = 0; i < row.length; i++) {
+                if (row[i] == null) {
+                    throw new SQLException("Bulk insert parameter " + (i + 1) + " is not set");
+                }
+            }
+            var copySupported = isCopySupported(row);
+            if (this.copy != null) {
+                if (copySupported) {
+                    this.copy.write(row);
+                    return;
+                }
+                // rows already copied stay in the same transaction, the rest is inserted with regular statements
+                var copy = this.copy;
+                this.copy = null;
+                this.counts.add(copy.end());
+            } else if (!this.copyChecked) {
+                this.copyChecked = true;
+                if (copySupported && this.insert != null && this.insert.plainValues() && POSTGRES_DRIVER_PRESENT && PostgresCopy.isPostgres(this.connection)) {
+                    this.copy = PostgresCopy.start(this.connection, this.insert.copySql());
+                    this.copy.write(row);
+                    return;
+                }
+            }
+            if (this.insert != null && this.insert.parametersPerRow() > 0 && this.maxParameters() > 0) {
+                var parametersPerRow = this.insert.parametersPerRow();
+                if (row.length != parametersPerRow) {
+                    throw new SQLException("Bulk insert row has " + row.length + " parameters, expected " + parametersPerRow);
+                }
+                this.chunk.add(row);
+                var rowsPerStatement = Math.max(1, Math.min(MAX_ROWS_PER_STATEMENT, this.maxParameters() / parametersPerRow));
+                if (this.chunk.size() == rowsPerStatement) {
+                    if (this.chunkStatement == null) {
+                        this.chunkStatement = this.prepare(this.insert.multiRowSql(rowsPerStatement));
+                    }
+                    this.counts.add(this.executeChunk(this.chunkStatement, parametersPerRow));
+                }
+            } else {
+                if (this.batchStatement == null) {
+                    this.batchStatement = this.prepare(this.sql);
+                }
+                bindRow(this.batchStatement, row, 0);
+                this.batchStatement.addBatch();
+            }
+        }
+
+        private long[] execute() throws SQLException {
+            if (this.closed) {
+                throw new SQLException("Statement is closed");
+            }
+            try {
+                if (this.copy != null) {
+                    var copy = this.copy;
+                    this.copy = null;
+                    this.counts.add(copy.end());
+                }
+                if (!this.chunk.isEmpty()) {
+                    var insert = Objects.requireNonNull(this.insert);
+                    try (var statement = this.prepare(insert.multiRowSql(this.chunk.size()))) {
+                        this.counts.add(this.executeChunk(statement, insert.parametersPerRow()));
+                    }
+                }
+                if (this.batchStatement != null) {
+                    for (var count : this.batchStatement.executeLargeBatch()) {
+                        this.counts.add(count);
+                    }
+                }
+                var result = new long[this.counts.size()];
+                var total = 0L;
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = this.counts.get(i);
+                    total += Math.max(result[i], 0);
+                }
+                if (Observation.VALUE.isBound() && Observation.VALUE.get() instanceof DatabaseObservation observation) {
+                    observation.observeRows(total);
+                }
+                return result;
+            } finally {
+                this.reset();
+            }
+        }
+
+        /**
+         * Drops rows that are not sent yet and releases statements of the current batch
+         */
+        private void reset() throws SQLException {
+            SQLException error = null;
+            if (this.copy != null) {
+                try {
+                    this.copy.cancel();
+                } catch (SQLException e) {
+                    error = e;
+                }
+                this.copy = null;
+            }
+            for (var statement : new PreparedStatement[]{this.chunkStatement, this.batchStatement}) {
+                if (statement != null) {
+                    try {
+                        statement.close();
+                    } catch (SQLException e) {
+                        if (error == null) {
+                            error = e;
+                        } else {
+                            error.addSuppressed(e);
+                        }
+                    }
+                }
+            }
+            this.chunkStatement = null;
+            this.batchStatement = null;
+            this.chunk.clear();
+            this.counts.clear();
+            this.copyChecked = false;
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        private int maxParameters() throws SQLException {
+            if (this.maxParameters < 0) {
+                this.maxParameters = maxParametersPerStatement(this.connection);
+            }
+            return this.maxParameters;
+        }
+
+        private static boolean isCopySupported(Binding[] row) {
+            for (var binding : row) {
+                if (!binding.isCopySupported()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long executeChunk(PreparedStatement statement, int parametersPerRow) throws SQLException {
+            for (int r = 0; r < this.chunk.size(); r++) {
+                bindRow(statement, this.chunk.get(r), r * parametersPerRow);
+            }
+            this.chunk.clear();
+            return statement.executeLargeUpdate();
+        }
+
+        private PreparedStatement prepare(String sql) throws SQLException {
+            var statement = this.connection.prepareStatement(sql);
+            try {
+                if (this.queryTimeout > 0) {
+                    statement.setQueryTimeout(this.queryTimeout);
+                }
+                return statement;
+            } catch (SQLException e) {
+                statement.close();
+                throw e;
+            }
+        }
+
+        private static void bindRow(PreparedStatement statement, Binding[] row, int offset) throws SQLException {
+            for (int i = 0; i < row.length; i++) {
+                row[i].bind(statement, offset + i + 1);
+            }
+        }
+    }
+
+    /**
+     * Loaded only when PostgreSQL driver is on the classpath
+     */
+    private static final class PostgresCopy {
+
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private final org.postgresql.copy.CopyIn copyIn;
+        private final StringBuilder text = new StringBuilder(BUFFER_SIZE + 1024);
+
+        private PostgresCopy(org.postgresql.copy.CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        static boolean isPostgres(Connection connection) throws SQLException {
+            return connection.isWrapperFor(org.postgresql.PGConnection.class);
+        }
+
+        static PostgresCopy start(Connection connection, String copySql) throws SQLException {
+            return new PostgresCopy(connection.unwrap(org.postgresql.PGConnection.class).getCopyAPI().copyIn(copySql));
+        }
+
+        void write(Binding[] row) throws SQLException {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    this.text.append('\t');
+                }
+                row[i].writeCopyText(this.text);
+            }
+            this.text.append('\n');
+            if (this.text.length() >= BUFFER_SIZE) {
+                this.flush();
+            }
+        }
+
+        long end() throws SQLException {
+            try {
+                this.flush();
+                return this.copyIn.endCopy();
+            } catch (SQLException | RuntimeException e) {
+                try {
+                    this.cancel();
+                } catch (SQLException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+
+        void cancel() throws SQLException {
+            this.text.setLength(0);
+            if (this.copyIn.isActive()) {
+                this.copyIn.cancelCopy();
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (this.text.isEmpty()) {
+                return;
+            }
+            var bytes = this.text.toString().getBytes(StandardCharsets.UTF_8);
+            this.text.setLength(0);
+            this.copyIn.writeToCopy(bytes, 0, bytes.length);
+        }
+    }
+
+    private static boolean isPostgresDriverPresent() {
+        try {
+            Class.forName("org.postgresql.PGConnection", false, JdbcBulkInsert.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
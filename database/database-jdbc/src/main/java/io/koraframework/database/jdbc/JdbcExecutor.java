@@ -1,5 +1,6 @@
 package io.koraframework.database.jdbc;
 
+import io.koraframework.common.Deadline;
 import io.koraframework.common.telemetry.Observation;
 import io.koraframework.common.telemetry.OpentelemetryContext;
 import io.koraframework.database.common.QueryContext;
@@ -55,6 +56,39 @@ public interface JdbcExecutor {
 
     Connection acquireConnection();
 
+    /**
+     * <b>Русский</b>: Получает новое соединение для запросов только на чтение.
+     * Маршрутизирующие реализации могут выдать соединение к реплике, по умолчанию используется {@link #acquireConnection()}.
+     * <hr>
+     * <b>English</b>: Acquires a new connection for read-only queries.
+     * Routing implementations may return a replica connection, {@link #acquireConnection()} is used by default.
+     *
+     * @see JdbcRoutingDataSource
+     */
+    default Connection acquireReadOnlyConnection() {
+        return this.acquireConnection();
+    }
+
+    /**
+     * <b>Русский</b>: Получает новое соединение для запросов только на чтение вместе с телеметрией пула, который его выдал.
+     * Используется методами репозиториев с {@link io.koraframework.database.jdbc.annotation.ReadOnly}, чтобы запрос учитывался в пуле реплики.
+     * <hr>
+     * <b>English</b>: Acquires a new connection for read-only queries together with telemetry of the pool it was acquired from.
+     * Used by repository methods with {@link io.koraframework.database.jdbc.annotation.ReadOnly}, so the query is reported under replica pool.
+     *
+     * @see #acquireReadOnlyConnection()
+     */
+    default RoutedConnection acquireRoutedReadOnlyConnection() {
+        return new RoutedConnection(this.acquireReadOnlyConnection(), this.telemetry());
+    }
+
+    /**
+     * <b>Русский</b>: Соединение и телеметрия пула, который его выдал.
+     * <hr>
+     * <b>English</b>: Connection and telemetry of the pool it was acquired from.
+     */
+    record RoutedConnection(Connection connection, DatabaseTelemetry telemetry) {}
+
     @Nullable
     default Connection currentConnection() {
         var ctx = currentContext();
@@ -66,6 +100,26 @@ public interface JdbcExecutor {
 
     DatabaseTelemetry telemetry();
 
+    /**
+     * <b>Русский</b>: Ограничивает таймаут запроса оставшимся временем текущего {@link Deadline}, если он задан.
+     * <hr>
+     * <b>English</b>: Limits statement query timeout by the remaining time of the current {@link Deadline}, if one is bound.
+     *
+     * @param statement JDBC запрос / JDBC statement
+     */
+    static void applyDeadline(Statement statement) throws SQLException {
+        var deadline = Deadline.current();
+        if (deadline == null) {
+            return;
+        }
+        var remainingMillis = deadline.remaining().toMillis();
+        var seconds = (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.ceilDiv(remainingMillis, 1000L)));
+        var current = statement.getQueryTimeout();
+        if (current <= 0 || seconds < current) {
+            statement.setQueryTimeout(seconds);
+        }
+    }
+
     /**
      * <b>Русский</b>: Выполняет SQL из {@link QueryContext}, создает {@link PreparedStatement} и оборачивает выполнение в телеметрию.
      * <hr>
@@ -81,6 +135,7 @@ public interface JdbcExecutor {
             .where(OpentelemetryContext.VALUE, Context.current().with(observation.span()))
             .call(() -> withConnection(connection -> {
                 try (PreparedStatement ps = connection.prepareStatement(queryContext.sql())) {
+                    applyDeadline(ps);
                     return callback.apply(ps);
                 } catch (Exception e) {
                     observation.observeError(e);
@@ -274,6 +329,89 @@ public interface JdbcExecutor {
             }));
     }
 
+    /**
+     * <b>Русский</b>: Вставляет строки готового JDBC batch через {@link JdbcBulkInsert}: {@code COPY} для PostgreSQL и многострочный {@code INSERT} для остальных баз.
+     * Если JDBC возвращает {@link Statement#SUCCESS_NO_INFO}, метод возвращает {@code UpdateCount(-1)}.
+     * <hr>
+     * <b>English</b>: Inserts rows of a built JDBC batch with {@link JdbcBulkInsert}: {@code COPY} for PostgreSQL and multi-row {@code INSERT} for other databases.
+     * Returns {@code UpdateCount(-1)} when JDBC reports {@link Statement#SUCCESS_NO_INFO}.
+     *
+     * @param batch готовый JDBC batch / built JDBC batch
+     * @return суммарное количество вставленных строк / total inserted rows count
+     * @see JdbcBulkInsert
+     */
+    default UpdateCount executeBulkInsert(JdbcQuery.JdbcQueryBatch batch) {
+        if (batch.size() == 0) {
+            throw new IllegalArgumentException("JDBC batch query cannot be executed because batch is empty; handle empty input before calling the repository method");
+        }
+        var queryContext = new QueryContext(batch.sourceSql(), batch.sql());
+        var observation = this.telemetry().observe(queryContext);
+        return ScopedValue.where(Observation.VALUE, observation)
+            .where(OpentelemetryContext.VALUE, Context.current().with(observation.span()))
+            .call(() -> withConnection(connection -> {
+                try (PreparedStatement ps = JdbcBulkInsert.prepareStatement(connection, batch.sql())) {
+                    var queryTimeoutSeconds = batch.options().queryTimeoutSeconds();
+                    if (queryTimeoutSeconds != null) {
+                        ps.setQueryTimeout(queryTimeoutSeconds);
+                    }
+                    applyDeadline(ps);
+                    for (int i = 0; i < batch.size(); i++) {
+                        var parameters = batch.parameters(i);
+                        for (int j = 0; j < parameters.size(); j++) {
+                            parameters.get(j).binder().set(ps, j + 1);
+                        }
+                        ps.addBatch();
+                    }
+                    long total = 0;
+                    for (var count : ps.executeLargeBatch()) {
+                        if (count == Statement.SUCCESS_NO_INFO) {
+                            return new UpdateCount(-1);
+                        }
+                        if (count == Statement.EXECUTE_FAILED) {
+                            throw new SQLException("Batch execution failed");
+                        }
+                        total += count;
+                    }
+                    return new UpdateCount(total);
+                } catch (Exception e) {
+                    observation.observeError(e);
+                    throw e;
+                } finally {
+                    observation.end();
+                }
+            }));
+    }
+
+    /**
+     * <b>Русский</b>: Выполняет callback с текущим контекстом соединения или новым контекстом только для чтения.
+     * Если контекст уже открыт, например в пишущей транзакции, используется он.
+     * <hr>
+     * <b>English</b>: Executes a callback with the current connection context or a new read-only one.
+     * If a context is already open, for example in a write transaction, it is used instead.
+     *
+     * @param callback callback с контекстом соединения / callback with connection context
+     * @return результат callback / callback result
+     * @see #acquireReadOnlyConnection()
+     */
+    default <T> T withReadOnlyContext(SqlFunction<ConnectionContext, T> callback) throws UncheckedSqlException {
+        return this.withContext(callback);
+    }
+
+    /**
+     * <b>Русский</b>: Выполняет callback в транзакции только для чтения.
+     * Если транзакция уже открыта, используется текущая транзакция.
+     * <hr>
+     * <b>English</b>: Executes a callback in a read-only transaction.
+     * If a transaction is already open, the current transaction is used.
+     *
+     * @param callback callback с контекстом соединения / callback with connection context
+     * @return результат callback / callback result
+     * @see #withReadOnlyContext(SqlFunction)
+     */
+    default <T> T inReadOnlyTx(SqlFunction<ConnectionContext, T> callback) throws UncheckedSqlException {
+        return this.withReadOnlyContext(_ -> this.inTx(callback));
+    }
+
     default <T> T withConnection(SqlSupplier<T> callback) throws UncheckedSqlException {
         return this.withConnection(_ -> {
             return callback.apply();
@@ -47,6 +47,29 @@ public interface JdbcQuery {
         return JdbcQueryImpl.named();
     }
 
+    /**
+     * Creates a reusable named query whose {@code :name} placeholder layout is parsed once.
+     * <p>
+     * {@link #named()} caches parsed layouts of recently used SQL strings, but still has to assemble SQL and look it up
+     * on every build. Declare a template for SQL that is executed often, so each call only binds parameter values.
+     * <pre>{@code
+     * private static final JdbcQuery.NamedQueryTemplate FIND_BY_STATUS = JdbcQuery.namedTemplate(
+     *     "SELECT id, name FROM users WHERE status = :status AND id IN (:ids)"
+     * );
+     *
+     * var query = FIND_BY_STATUS.query()
+     *     .bind("status", status)
+     *     .bindIn("ids", ids)
+     *     .build();
+     * }</pre>
+     *
+     * @param sql SQL with {@code :name} placeholders
+     * @return reusable named query template
+     */
+    static NamedQueryTemplate namedTemplate(String sql) {
+        return JdbcQueryImpl.namedTemplate(sql);
+    }
+
     /**
      * Creates a builder for SQL with positional JDBC placeholders.
      * <p>
@@ -572,6 +595,29 @@ public interface JdbcQuery {
         JdbcQueryOptions build();
     }
 
+    /**
+     * Named SQL with placeholder layout parsed once, see {@link #namedTemplate(String)}.
+     */
+    interface NamedQueryTemplate {
+
+        /**
+         * @return original SQL with {@code :name} placeholders
+         */
+        String sourceSql();
+
+        /**
+         * @return new builder for this SQL; appending SQL to it falls back to parsing on build
+         */
+        NamedQueryBuilder query();
+
+        /**
+         * @return new batch builder for this SQL
+         */
+        default NamedBatchBuilder batch() {
+            return this.query().batch();
+        }
+    }
+
     /**
      * Batch builder for named SQL.
      */
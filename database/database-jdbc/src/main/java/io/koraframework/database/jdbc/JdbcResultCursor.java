@@ -0,0 +1,238 @@
+package io.koraframework.database.jdbc;
+
+import io.koraframework.common.telemetry.Observation;
+import io.koraframework.database.jdbc.exception.UncheckedSqlException;
+import io.koraframework.database.jdbc.mapper.result.JdbcRowMapper;
+import org.jspecify.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <b>Русский</b>: Курсор по результату SQL запроса, который читает строки по мере обхода и держит соединение до закрытия.
+ * Курсор закрывается сам после чтения последней строки или ошибки, в остальных случаях его нужно закрыть явно.
+ * <br>
+ * PostgreSQL учитывает {@code fetchSize} только вне режима autocommit, поэтому на время чтения autocommit соединения выключается и восстанавливается при закрытии.
+ * <hr>
+ * <b>English</b>: Cursor over SQL query result that reads rows while being iterated and holds the connection until closed.
+ * Cursor closes itself after the last row is read or on error, otherwise it must be closed explicitly.
+ * <br>
+ * PostgreSQL respects {@code fetchSize} only when autocommit is off, so connection autocommit is disabled while reading and restored on close.
+ * <br>
+ * <br>
+ * Пример / Example:
+ * <pre>
+ * {@code
+ * @Repository
+ * public interface MyRepository extends JdbcRepository {
+ *
+ *     @FetchSize(500)
+ *     @Query("SELECT u.name, u.surname FROM users u")
+ *     Stream<User> findAll();
+ * }
+ *
+ * try (var users = repository.findAll()) {
+ *     users.forEach(this::export);
+ * }
+ * }
+ * </pre>
+ *
+ * @see io.koraframework.database.jdbc.annotation.FetchSize
+ */
+public final class JdbcResultCursor<T> implements Iterator<T>, AutoCloseable {
+
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final Connection connection;
+    @Nullable
+    private final Connection connectionToClose;
+    private final Observation observation;
+    private final JdbcRowMapper<T> rowMapper;
+
+    @Nullable
+    private PreparedStatement statement;
+    @Nullable
+    private ResultSet resultSet;
+    private boolean autoCommitChanged;
+    private boolean hasNext;
+    private boolean fetched;
+    private boolean failed;
+    private boolean closed;
+
+    public JdbcResultCursor(Connection connection, @Nullable Connection connectionToClose, Observation observation, JdbcRowMapper<T> rowMapper) {
+        this.connection = connection;
+        this.connectionToClose = connectionToClose;
+        this.observation = observation;
+        this.rowMapper = rowMapper;
+    }
+
+    /**
+     * <b>Русский</b>: Создает запрос, который будет закрыт вместе с курсором.
+     * <hr>
+     * <b>English</b>: Creates a statement that is closed together with the cursor.
+     *
+     * @param sql       SQL запрос / SQL query
+     * @param fetchSize количество строк, загружаемых за одно обращение к базе / number of rows fetched from database at once
+     */
+    public PreparedStatement prepareStatement(String sql, int fetchSize) throws SQLException {
+        if (fetchSize > 0 && this.connection.getAutoCommit()) {
+            this.connection.setAutoCommit(false);
+            this.autoCommitChanged = true;
+        }
+        var statement = this.connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        this.statement = statement;
+        statement.setFetchSize(Math.max(fetchSize, 0));
+        JdbcExecutor.applyDeadline(statement);
+        return statement;
+    }
+
+    public void execute() throws SQLException {
+        if (this.statement == null) {
+            throw new IllegalStateException("Statement is not prepared");
+        }
+        this.resultSet = this.statement.executeQuery();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.closed) {
+            return false;
+        }
+        if (!this.fetched) {
+            var rs = this.resultSet;
+            if (rs == null) {
+                throw new IllegalStateException("Query is not executed");
+            }
+            try {
+                this.hasNext = rs.next();
+            } catch (SQLException e) {
+                this.fail(e);
+                throw new UncheckedSqlException(e);
+            }
+            this.fetched = true;
+            if (!this.hasNext) {
+                this.close();
+            }
+        }
+        return this.hasNext;
+    }
+
+    @Override
+    @Nullable
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.fetched = false;
+        try {
+            return this.rowMapper.apply(this.resultSet);
+        } catch (SQLException e) {
+            this.fail(e);
+            throw new UncheckedSqlException(e);
+        } catch (RuntimeException | Error e) {
+            this.fail(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        try {
+            Iterator.super.forEachRemaining(action);
+        } catch (Throwable e) {
+            this.fail(e);
+            throw e;
+        } finally {
+            this.close();
+        }
+    }
+
+    /**
+     * @return поток строк, который закрывает курсор при закрытии / stream of rows that closes the cursor when closed
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+            .onClose(this::close);
+    }
+
+    /**
+     * <b>Русский</b>: Регистрирует ошибку в телеметрии, откатывает чтение и освобождает ресурсы.
+     * <hr>
+     * <b>English</b>: Records error in telemetry, rolls the read back and releases resources.
+     */
+    public void fail(Throwable error) {
+        if (this.closed || this.failed) {
+            return;
+        }
+        this.failed = true;
+        this.observation.observeError(error);
+        this.close();
+    }
+
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.hasNext = false;
+        SQLException error = null;
+        try {
+            if (this.resultSet != null) {
+                this.resultSet.close();
+            }
+        } catch (SQLException e) {
+            error = e;
+        }
+        try {
+            if (this.statement != null) {
+                this.statement.close();
+            }
+        } catch (SQLException e) {
+            error = suppress(error, e);
+        }
+        if (this.autoCommitChanged) {
+            try {
+                if (this.failed) {
+                    this.connection.rollback();
+                } else {
+                    this.connection.commit();
+                }
+                this.connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                error = suppress(error, e);
+            }
+        }
+        try {
+            if (this.connectionToClose != null) {
+                this.connectionToClose.close();
+            }
+        } catch (SQLException e) {
+            error = suppress(error, e);
+        }
+        if (error != null && !this.failed) {
+            this.observation.observeError(error);
+        }
+        this.observation.end();
+        if (error != null && !this.failed) {
+            throw new UncheckedSqlException(error);
+        }
+    }
+
+    private static SQLException suppress(@Nullable SQLException error, SQLException e) {
+        if (error == null) {
+            return e;
+        }
+        error.addSuppressed(e);
+        return error;
+    }
+}
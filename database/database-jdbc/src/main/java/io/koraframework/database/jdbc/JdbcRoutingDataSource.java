@@ -0,0 +1,347 @@
+package io.koraframework.database.jdbc;
+
+import com.zaxxer.hikari.HikariConfig;
+import io.koraframework.application.graph.Lifecycle;
+import io.koraframework.common.Configurer;
+import io.koraframework.common.readiness.ReadinessProbe;
+import io.koraframework.common.readiness.ReadinessProbeFailure;
+import io.koraframework.common.util.TimeUtils;
+import io.koraframework.database.common.telemetry.DatabaseTelemetry;
+import io.koraframework.database.common.telemetry.DatabaseTelemetryFactory;
+import io.koraframework.database.jdbc.exception.UncheckedSqlException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+import io.opentelemetry.semconv.incubating.DbIncubatingAttributes;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <b>Русский</b>: Источник соединений с основной базой данных и репликами.
+ * Запросы только на чтение ({@link #withReadOnlyContext(SqlFunction)}, {@link #inReadOnlyTx(SqlFunction)} и методы репозиториев с {@link io.koraframework.database.jdbc.annotation.ReadOnly})
+ * распределяются по доступным репликам по кругу, остальные запросы выполняются на основной базе.
+ * Уже открытый контекст соединения, например пишущая транзакция, используется и для запросов на чтение.
+ * Реплика исключается из распределения, если проверка соединения не прошла или отставание репликации превышает {@link JdbcRoutingDatabaseConfig#maxReplicationLag()},
+ * при отсутствии доступных реплик запросы на чтение выполняются на основной базе.
+ * <hr>
+ * <b>English</b>: Connection source for a primary database and its replicas.
+ * Read-only queries ({@link #withReadOnlyContext(SqlFunction)}, {@link #inReadOnlyTx(SqlFunction)} and repository methods with {@link io.koraframework.database.jdbc.annotation.ReadOnly})
+ * are distributed across available replicas in round-robin order, other queries are executed on the primary.
+ * An already open connection context, for example a write transaction, is used for read queries as well.
+ * A replica is excluded from routing when its connection check fails or its replication lag exceeds {@link JdbcRoutingDatabaseConfig#maxReplicationLag()},
+ * read-only queries fall back to the primary when no replica is available.
+ *
+ * @see JdbcRoutingDatabaseModule
+ */
+public class JdbcRoutingDataSource implements Lifecycle, JdbcExecutor, ReadinessProbe {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcRoutingDataSource.class);
+
+    private final JdbcRoutingDatabaseConfig config;
+    private final Pool primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final ScopedValue<Route> route = ScopedValue.newInstance();
+
+    @Nullable
+    private volatile Thread healthCheckThread;
+
+    public JdbcRoutingDataSource(JdbcRoutingDatabaseConfig config, DatabaseTelemetryFactory telemetryFactory, @Nullable Configurer<HikariConfig> configurer) {
+        this.config = Objects.requireNonNull(config);
+        this.primary = new Pool(new JdbcDataSource(config.primary(), telemetryFactory, configurer), config.primary());
+        var replicas = new ArrayList<Replica>(config.replicas().size());
+        for (var replicaConfig : config.replicas()) {
+            replicas.add(new Replica(new JdbcDataSource(replicaConfig, telemetryFactory, configurer), replicaConfig));
+        }
+        this.replicas = List.copyOf(replicas);
+    }
+
+    @Override
+    public void init() throws SQLException {
+        this.primary.dataSource.init();
+        for (var replica : this.replicas) {
+            try {
+                replica.dataSource.init();
+            } catch (RuntimeException e) {
+                replica.available = false;
+                logger.warn("JdbcRoutingDataSource replica pool '{}' failed to start, read-only queries are routed to other pools", replica.config.poolName(), e);
+            }
+            replica.check();
+        }
+        if (!this.replicas.isEmpty() && this.started.compareAndSet(false, true)) {
+            this.healthCheckThread = Thread.ofVirtual()
+                .name("jdbc-replica-health-" + this.config.primary().poolName())
+                .start(this::healthCheckJob);
+        }
+    }
+
+    @Override
+    public void release() {
+        if (this.started.compareAndSet(true, false)) {
+            var thread = this.healthCheckThread;
+            if (thread != null) {
+                thread.interrupt();
+            }
+            this.healthCheckThread = null;
+        }
+        for (var replica : this.replicas) {
+            replica.close();
+        }
+        this.primary.close();
+    }
+
+    /**
+     * @return основная база данных / primary database
+     */
+    public JdbcDataSource primary() {
+        return this.primary.dataSource;
+    }
+
+    /**
+     * @return реплики в порядке конфигурации / replicas in configuration order
+     */
+    public List<JdbcDataSource> replicas() {
+        return this.replicas.stream().map(r -> r.dataSource).toList();
+    }
+
+    @Override
+    public Connection acquireConnection() {
+        return this.primary.acquire(false);
+    }
+
+    @Override
+    public Connection acquireReadOnlyConnection() {
+        return this.acquireReadOnly().connection;
+    }
+
+    @Override
+    public RoutedConnection acquireRoutedReadOnlyConnection() {
+        var acquired = this.acquireReadOnly();
+        return new RoutedConnection(acquired.connection, acquired.pool.dataSource.telemetry());
+    }
+
+    /**
+     * Telemetry of the pool that serves the current context, so replica queries are reported under replica pool name
+     */
+    @Override
+    public DatabaseTelemetry telemetry() {
+        if (this.route.isBound()) {
+            return this.route.get().pool.dataSource.telemetry();
+        }
+        return this.primary.dataSource.telemetry();
+    }
+
+    @Nullable
+    @Override
+    public ConnectionContext currentContext() {
+        if (this.route.isBound()) {
+            return this.route.get().context;
+        }
+        return null;
+    }
+
+    @Override
+    public <T> T withContext(SqlFunction<ConnectionContext, T> callback) throws UncheckedSqlException {
+        if (this.route.isBound()) {
+            return this.apply(this.route.get().context, callback);
+        }
+        return this.withNewContext(this.primary, this.primary.acquire(false), callback);
+    }
+
+    @Override
+    public <T> T withReadOnlyContext(SqlFunction<ConnectionContext, T> callback) throws UncheckedSqlException {
+        if (this.route.isBound()) {
+            return this.apply(this.route.get().context, callback);
+        }
+        var acquired = this.acquireReadOnly();
+        return this.withNewContext(acquired.pool, acquired.connection, callback);
+    }
+
+    @Override
+    public ReadinessProbeFailure probe() throws Exception {
+        return this.primary.dataSource.probe();
+    }
+
+    private <T> T withNewContext(Pool pool, Connection connection, SqlFunction<ConnectionContext, T> callback) {
+        try (connection) {
+            var context = new ConnectionContext(connection);
+            return ScopedValue.where(this.route, new Route(pool, context))
+                .call(() -> callback.apply(context));
+        } catch (SQLException e) {
+            throw new UncheckedSqlException(e);
+        }
+    }
+
+    private <T> T apply(ConnectionContext context, SqlFunction<ConnectionContext, T> callback) {
+        try {
+            return callback.apply(context);
+        } catch (SQLException e) {
+            throw new UncheckedSqlException(e);
+        }
+    }
+
+    private Acquired acquireReadOnly() {
+        var size = this.replicas.size();
+        if (size > 0) {
+            var start = Math.floorMod(this.roundRobin.getAndIncrement(), size);
+            for (int i = 0; i < size; i++) {
+                var replica = this.replicas.get((start + i) % size);
+                if (!replica.available) {
+                    continue;
+                }
+                try {
+                    return new Acquired(replica, replica.acquire(true));
+                } catch (UncheckedSqlException e) {
+                    replica.available = false;
+                    logger.warn("JdbcRoutingDataSource replica pool '{}' failed to provide connection, read-only queries are routed to other pools", replica.config.poolName(), e);
+                }
+            }
+        }
+        return new Acquired(this.primary, this.primary.acquire(true));
+    }
+
+    private void healthCheckJob() {
+        var interval = this.config.healthCheckInterval();
+        while (this.started.get()) {
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                return;
+            }
+            for (var replica : this.replicas) {
+                if (!this.started.get()) {
+                    return;
+                }
+                replica.check();
+            }
+        }
+    }
+
+    private record Route(Pool pool, ConnectionContext context) {}
+
+    private record Acquired(Pool pool, Connection connection) {}
+
+    private static class Pool {
+
+        protected final JdbcDataSource dataSource;
+        protected final JdbcDatabaseConfig config;
+        protected final List<Meter> meters = new ArrayList<>();
+        @Nullable
+        private final Counter readOnlyRouted;
+
+        private Pool(JdbcDataSource dataSource, JdbcDatabaseConfig config) {
+            this.dataSource = dataSource;
+            this.config = config;
+            if (config.telemetry().metrics().enabled()) {
+                this.readOnlyRouted = Counter.builder("db.client.connection.read_only.routed")
+                    .tags(this.tags())
+                    .register(dataSource.telemetry().meterRegistry());
+                this.meters.add(this.readOnlyRouted);
+            } else {
+                this.readOnlyRouted = null;
+            }
+        }
+
+        protected Tags tags() {
+            return Tags.of(DbIncubatingAttributes.DB_CLIENT_CONNECTION_POOL_NAME.getKey(), this.config.poolName());
+        }
+
+        Connection acquire(boolean readOnly) {
+            var connection = this.dataSource.acquireConnection();
+            if (!readOnly) {
+                return connection;
+            }
+            try {
+                connection.setReadOnly(true);
+            } catch (SQLException e) {
+                try {
+                    connection.close();
+                } catch (SQLException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw new UncheckedSqlException(e);
+            }
+            if (this.readOnlyRouted != null) {
+                this.readOnlyRouted.increment();
+            }
+            return connection;
+        }
+
+        void close() {
+            var meterRegistry = this.dataSource.telemetry().meterRegistry();
+            for (var meter : this.meters) {
+                meterRegistry.remove(meter);
+            }
+            this.dataSource.release();
+        }
+    }
+
+    private final class Replica extends Pool {
+
+        private volatile boolean available = true;
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(JdbcDataSource dataSource, JdbcDatabaseConfig config) {
+            super(dataSource, config);
+            if (config.telemetry().metrics().enabled()) {
+                var meterRegistry = dataSource.telemetry().meterRegistry();
+                this.meters.add(Gauge.builder("db.client.replica.available", this, r -> r.available ? 1 : 0)
+                    .tags(this.tags())
+                    .strongReference(true)
+                    .register(meterRegistry));
+                this.meters.add(Gauge.builder("db.client.replica.lag", this, r -> r.lagSeconds)
+                    .tags(this.tags())
+                    .baseUnit("s")
+                    .strongReference(true)
+                    .register(meterRegistry));
+            }
+        }
+
+        void check() {
+            var started = System.nanoTime();
+            var lagQuery = JdbcRoutingDataSource.this.config.replicationLagQuery();
+            var maxLag = JdbcRoutingDataSource.this.config.maxReplicationLag().toMillis() / 1000.0;
+            boolean available;
+            String reason = null;
+            try (var connection = this.dataSource.acquireConnection()) {
+                available = connection.isValid((int) Math.max(1, this.config.validationTimeout().toSeconds()));
+                if (!available) {
+                    reason = "connection is not valid";
+                } else if (lagQuery != null) {
+                    try (var stmt = connection.createStatement()) {
+                        stmt.setQueryTimeout((int) Math.max(1, this.config.validationTimeout().toSeconds()));
+                        try (var rs = stmt.executeQuery(lagQuery)) {
+                            this.lagSeconds = rs.next() ? rs.getDouble(1) : Double.NaN;
+                        }
+                    }
+                    if (this.lagSeconds > maxLag) {
+                        available = false;
+                        reason = "replication lag %.3fs exceeds %.3fs".formatted(this.lagSeconds, maxLag);
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                available = false;
+                reason = e.getMessage();
+            }
+            if (available != this.available) {
+                if (available) {
+                    logger.info("JdbcRoutingDataSource replica pool '{}' is available again, checked in {}", this.config.poolName(), TimeUtils.tookForLogging(started));
+                } else {
+                    logger.warn("JdbcRoutingDataSource replica pool '{}' is unavailable: {}", this.config.poolName(), reason);
+                }
+            }
+            this.available = available;
+        }
+    }
+}
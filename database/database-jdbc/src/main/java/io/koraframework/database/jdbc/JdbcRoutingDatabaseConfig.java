@@ -0,0 +1,52 @@
+package io.koraframework.database.jdbc;
+
+import io.koraframework.config.common.annotation.ConfigMapper;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * <b>Русский</b>: Конфигурация основной базы данных и ее реплик для {@link JdbcRoutingDataSource}.
+ * <hr>
+ * <b>English</b>: Configuration of the primary database and its replicas for {@link JdbcRoutingDataSource}.
+ *
+ * @see JdbcRoutingDataSource
+ */
+@ConfigMapper
+public interface JdbcRoutingDatabaseConfig {
+
+    /**
+     * @return Primary database that serves writes and read-write transactions.
+     */
+    JdbcDatabaseConfig primary();
+
+    /**
+     * @return Replica databases that serve read-only queries, each with its own connection pool.
+     */
+    default List<JdbcDatabaseConfig> replicas() {
+        return List.of();
+    }
+
+    /**
+     * @return Interval between replica health checks.
+     */
+    default Duration healthCheckInterval() {
+        return Duration.ofSeconds(5);
+    }
+
+    /**
+     * @return Maximum replication lag after which a replica stops receiving read-only queries.
+     */
+    default Duration maxReplicationLag() {
+        return Duration.ofSeconds(10);
+    }
+
+    /**
+     * @return Query returning replica replication lag in seconds as the first column of a single row,
+     * for example {@code SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)} for PostgreSQL.
+     * When not specified, only replica connection validity is checked.
+     */
+    @Nullable
+    String replicationLagQuery();
+}
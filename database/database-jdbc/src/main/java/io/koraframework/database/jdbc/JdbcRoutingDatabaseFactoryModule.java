@@ -0,0 +1,30 @@
+package io.koraframework.database.jdbc;
+
+import com.zaxxer.hikari.HikariConfig;
+import io.koraframework.common.Configurer;
+import io.koraframework.common.annotation.Tag;
+import io.koraframework.config.common.Config;
+import io.koraframework.config.common.mapper.ConfigValueMapper;
+import io.koraframework.database.common.telemetry.DatabaseTelemetryFactory;
+import org.jspecify.annotations.Nullable;
+
+public class JdbcRoutingDatabaseFactoryModule {
+
+    private final String configPath;
+
+    public JdbcRoutingDatabaseFactoryModule(String configPath) {
+        this.configPath = configPath;
+    }
+
+    @Tag(Tag.Factory.class)
+    public JdbcRoutingDatabaseConfig jdbcRoutingDatabaseConfig(Config config, ConfigValueMapper<JdbcRoutingDatabaseConfig> mapper) {
+        return mapper.mapOrThrow(config.get(this.configPath));
+    }
+
+    @Tag(Tag.Factory.class)
+    public JdbcRoutingDataSource jdbcRoutingDataSource(@Tag(Tag.Factory.class) JdbcRoutingDatabaseConfig config,
+                                                       DatabaseTelemetryFactory telemetryFactory,
+                                                       @Tag(Tag.Factory.class) @Nullable Configurer<HikariConfig> configurer) {
+        return new JdbcRoutingDataSource(config, telemetryFactory, configurer);
+    }
+}
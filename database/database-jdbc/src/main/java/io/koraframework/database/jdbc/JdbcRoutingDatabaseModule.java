@@ -0,0 +1,11 @@
+package io.koraframework.database.jdbc;
+
+import io.koraframework.common.annotation.FactoryModule;
+
+public interface JdbcRoutingDatabaseModule extends JdbcMapperModule {
+
+    @FactoryModule
+    default JdbcRoutingDatabaseFactoryModule jdbcRoutingDatabase() {
+        return new JdbcRoutingDatabaseFactoryModule("jdbc");
+    }
+}
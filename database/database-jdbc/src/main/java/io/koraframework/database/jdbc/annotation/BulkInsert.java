@@ -0,0 +1,22 @@
+package io.koraframework.database.jdbc.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <b>Русский</b>: Выполняет {@code INSERT} метода с {@link io.koraframework.database.common.annotation.Batch} параметром через {@link io.koraframework.database.jdbc.JdbcBulkInsert}:
+ * {@code COPY} для PostgreSQL и многострочный {@code INSERT} для остальных баз.
+ * Метод должен возвращать {@code void} или {@link io.koraframework.database.common.UpdateCount}.
+ * <hr>
+ * <b>English</b>: Executes {@code INSERT} of a method with {@link io.koraframework.database.common.annotation.Batch} parameter with {@link io.koraframework.database.jdbc.JdbcBulkInsert}:
+ * {@code COPY} for PostgreSQL and multi-row {@code INSERT} for other databases.
+ * Method must return {@code void} or {@link io.koraframework.database.common.UpdateCount}.
+ *
+ * @see io.koraframework.database.jdbc.JdbcBulkInsert
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.CLASS)
+public @interface BulkInsert {
+}
@@ -0,0 +1,24 @@
+package io.koraframework.database.jdbc.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <b>Русский</b>: Количество строк, которое JDBC драйвер загружает за одно обращение к базе.
+ * Для методов, возвращающих {@link java.util.stream.Stream} или {@link io.koraframework.database.jdbc.JdbcResultCursor},
+ * а также принимающих {@link java.util.function.Consumer} строк, по умолчанию используется {@link io.koraframework.database.jdbc.JdbcResultCursor#DEFAULT_FETCH_SIZE}.
+ * <hr>
+ * <b>English</b>: Number of rows JDBC driver fetches from database at once.
+ * Methods returning {@link java.util.stream.Stream} or {@link io.koraframework.database.jdbc.JdbcResultCursor},
+ * or accepting a row {@link java.util.function.Consumer}, use {@link io.koraframework.database.jdbc.JdbcResultCursor#DEFAULT_FETCH_SIZE} by default.
+ *
+ * @see java.sql.Statement#setFetchSize(int)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.CLASS)
+public @interface FetchSize {
+
+    int value();
+}
@@ -0,0 +1,20 @@
+package io.koraframework.database.jdbc.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <b>Русский</b>: Выполняет запрос метода репозитория на соединении только для чтения, которое {@link io.koraframework.database.jdbc.JdbcRoutingDataSource} берет из реплики.
+ * Если метод вызван в уже открытом контексте соединения, например в транзакции, используется текущее соединение.
+ * <hr>
+ * <b>English</b>: Executes repository method query on a read-only connection that {@link io.koraframework.database.jdbc.JdbcRoutingDataSource} takes from a replica.
+ * When the method is called within an already open connection context, for example a transaction, the current connection is used.
+ *
+ * @see io.koraframework.database.jdbc.JdbcExecutor#acquireReadOnlyConnection()
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.CLASS)
+public @interface ReadOnly {
+}
@@ -8,10 +8,18 @@ import org.jspecify.annotations.Nullable;
 
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 
 public final class JdbcQueryImpl implements JdbcQuery {
 
+    /**
+     * Named SQL is usually a handful of constant strings, so the cache stops growing instead of evicting when SQL is generated per call
+     */
+    private static final int PARSED_SQL_CACHE_SIZE = 1024;
+    private static final ConcurrentMap<String, ParsedSql> PARSED_SQL_CACHE = new ConcurrentHashMap<>();
+
     private final String sourceSql;
     private final String sql;
     private final List<Parameter> parameters;
@@ -28,6 +36,10 @@ public final class JdbcQueryImpl implements JdbcQuery {
         return new NamedQueryBuilderImpl();
     }
 
+    public static NamedQueryTemplate namedTemplate(String sql) {
+        return new NamedQueryTemplateImpl(ParsedSql.parse(Objects.requireNonNull(sql)));
+    }
+
     public static TemplateBuilder template() {
         return new TemplateQueryBuilderImpl();
     }
@@ -100,6 +112,7 @@ public final class JdbcQueryImpl implements JdbcQuery {
         if (options.queryTimeoutSeconds() != null) {
             statement.setQueryTimeout(options.queryTimeoutSeconds());
         }
+        JdbcExecutor.applyDeadline(statement);
         return statement;
     }
 
@@ -208,15 +221,45 @@ public final class JdbcQueryImpl implements JdbcQuery {
         }
     }
 
+    private record NamedQueryTemplateImpl(ParsedSql parsedSql) implements NamedQueryTemplate {
+
+        @Override
+        public String sourceSql() {
+            return this.parsedSql.sourceSql();
+        }
+
+        @Override
+        public NamedQueryBuilder query() {
+            return new NamedQueryBuilderImpl(this.parsedSql);
+        }
+
+        @Override
+        public String toString() {
+            return this.parsedSql.sourceSql();
+        }
+    }
+
     private static final class NamedQueryBuilderImpl implements NamedQueryBuilder {
 
         private final StringBuilder sql = new StringBuilder();
         private final Map<String, ParameterValue> params = new LinkedHashMap<>();
         private JdbcQueryOptions options = JdbcQueryOptions.DEFAULT;
+        @Nullable
+        private ParsedSql parsedSql;
+
+        private NamedQueryBuilderImpl() {}
+
+        private NamedQueryBuilderImpl(ParsedSql parsedSql) {
+            this.sql.append(parsedSql.sourceSql());
+            this.parsedSql = parsedSql;
+        }
 
         @Override
         public NamedQueryBuilder sql(String sql) {
             this.sql.append(Objects.requireNonNull(sql));
+            if (!sql.isEmpty()) {
+                this.parsedSql = null;
+            }
             return this;
         }
 
@@ -314,14 +357,23 @@ public final class JdbcQueryImpl implements JdbcQuery {
 
         @Override
         public JdbcQuery build() {
-            var sourceSql = this.sql.toString();
-            var parsed = parse(sourceSql, this.params);
-            return new JdbcQueryImpl(sourceSql, parsed.sql(), parsed.parameters(), this.options);
+            var parsedSql = this.parsedSql();
+            var query = parsedSql.bind(this.params);
+            return new JdbcQueryImpl(parsedSql.sourceSql(), query.sql(), query.parameters(), this.options);
         }
 
         @Override
         public NamedBatchBuilder batch() {
-            return new NamedBatchBuilderImpl(this.sql.toString(), this.options);
+            return new NamedBatchBuilderImpl(this.parsedSql(), this.options);
+        }
+
+        private ParsedSql parsedSql() {
+            var parsedSql = this.parsedSql;
+            if (parsedSql == null) {
+                parsedSql = parsedSql(this.sql.toString());
+                this.parsedSql = parsedSql;
+            }
+            return parsedSql;
         }
     }
 
@@ -388,19 +440,18 @@ public final class JdbcQueryImpl implements JdbcQuery {
     }
 
     private static final class NamedBatchBuilderImpl implements NamedBatchBuilder {
-        private final String sourceSql;
+        private final ParsedSql parsedSql;
         private final JdbcQueryOptions options;
         private final List<JdbcQuery> rows = new ArrayList<>();
 
-        private NamedBatchBuilderImpl(String sourceSql, JdbcQueryOptions options) {
-            this.sourceSql = sourceSql;
+        private NamedBatchBuilderImpl(ParsedSql parsedSql, JdbcQueryOptions options) {
+            this.parsedSql = parsedSql;
             this.options = options;
         }
 
         @Override
         public NamedBatchBuilder bind(Map<String, ?> values) {
-            var query = JdbcQuery.named()
-                .sql(this.sourceSql)
+            var query = new NamedQueryBuilderImpl(this.parsedSql)
                 .opts(this.options)
                 .bindAll(values)
                 .build();
@@ -410,7 +461,7 @@ public final class JdbcQueryImpl implements JdbcQuery {
 
         @Override
         public NamedBatchBuilder bind(Consumer<NamedRowBinder> binder) {
-            var row = new NamedRowBinderImpl(this.sourceSql, this.options);
+            var row = new NamedRowBinderImpl(this.parsedSql, this.options);
             binder.accept(row);
             this.rows.add(row.build());
             return this;
@@ -419,7 +470,7 @@ public final class JdbcQueryImpl implements JdbcQuery {
         @Override
         public <T> NamedBatchBuilder bindAll(Iterable<T> values, JdbcNamedBatchBinder<T> binder) {
             for (var value : values) {
-                var row = new NamedRowBinderImpl(this.sourceSql, this.options);
+                var row = new NamedRowBinderImpl(this.parsedSql, this.options);
                 try {
                     binder.bind(row, value);
                 } catch (SQLException e) {
@@ -432,7 +483,8 @@ public final class JdbcQueryImpl implements JdbcQuery {
 
         @Override
         public JdbcQueryBatch build() {
-            return new BatchImpl(this.sourceSql, this.rows.isEmpty() ? this.sourceSql : this.rows.get(0).sql(), this.options, this.rows);
+            var sourceSql = this.parsedSql.sourceSql();
+            return new BatchImpl(sourceSql, this.rows.isEmpty() ? sourceSql : this.rows.get(0).sql(), this.options, this.rows);
         }
     }
 
@@ -487,8 +539,8 @@ public final class JdbcQueryImpl implements JdbcQuery {
     private static final class NamedRowBinderImpl implements NamedRowBinder {
         private final NamedQueryBuilder builder;
 
-        private NamedRowBinderImpl(String sourceSql, JdbcQueryOptions options) {
-            this.builder = JdbcQuery.named().sql(sourceSql).opts(options);
+        private NamedRowBinderImpl(ParsedSql parsedSql, JdbcQueryOptions options) {
+            this.builder = new NamedQueryBuilderImpl(parsedSql).opts(options);
         }
 
         @Override
@@ -592,66 +644,117 @@ public final class JdbcQueryImpl implements JdbcQuery {
         }
     }
 
-    private static ParsedQuery parse(String sourceSql, Map<String, ParameterValue> params) {
-        var sql = new StringBuilder(sourceSql.length());
-        var parameters = new ArrayList<Parameter>();
-        var usedParams = new ArrayList<String>();
-        boolean singleQuoted = false;
-        boolean doubleQuoted = false;
+    private static ParsedSql parsedSql(String sourceSql) {
+        var parsedSql = PARSED_SQL_CACHE.get(sourceSql);
+        if (parsedSql != null) {
+            return parsedSql;
+        }
+        parsedSql = ParsedSql.parse(sourceSql);
+        if (PARSED_SQL_CACHE.size() < PARSED_SQL_CACHE_SIZE) {
+            PARSED_SQL_CACHE.putIfAbsent(sourceSql, parsedSql);
+        }
+        return parsedSql;
+    }
+
+    /**
+     * Named SQL split around {@code :name} placeholders: {@code fragments[i]} precedes {@code names[i]} and the last fragment ends the query
+     */
+    private record ParsedSql(String sourceSql, String[] fragments, String[] names, Set<String> distinctNames, String sql) {
+
+        static ParsedSql parse(String sourceSql) {
+            var fragments = new ArrayList<String>();
+            var names = new ArrayList<String>();
+            var fragment = new StringBuilder(sourceSql.length());
+            boolean singleQuoted = false;
+            boolean doubleQuoted = false;
+
+            for (int i = 0; i < sourceSql.length(); i++) {
+                char c = sourceSql.charAt(i);
+                if (c == '\'' && !doubleQuoted) {
+                    singleQuoted = !singleQuoted;
+                    fragment.append(c);
+                    continue;
+                }
+                if (c == '"' && !singleQuoted) {
+                    doubleQuoted = !doubleQuoted;
+                    fragment.append(c);
+                    continue;
+                }
+                if (c != ':' || singleQuoted || doubleQuoted) {
+                    fragment.append(c);
+                    continue;
+                }
+                if (i + 1 < sourceSql.length() && sourceSql.charAt(i + 1) == ':') {
+                    fragment.append("::");
+                    i++;
+                    continue;
+                }
+                if (i > 0 && sourceSql.charAt(i - 1) == ':') {
+                    fragment.append(c);
+                    continue;
+                }
 
-        for (int i = 0; i < sourceSql.length(); i++) {
-            char c = sourceSql.charAt(i);
-            if (c == '\'' && !doubleQuoted) {
-                singleQuoted = !singleQuoted;
-                sql.append(c);
-                continue;
-            }
-            if (c == '"' && !singleQuoted) {
-                doubleQuoted = !doubleQuoted;
-                sql.append(c);
-                continue;
-            }
-            if (c != ':' || singleQuoted || doubleQuoted) {
-                sql.append(c);
-                continue;
-            }
-            if (i + 1 < sourceSql.length() && sourceSql.charAt(i + 1) == ':') {
-                sql.append("::");
-                i++;
-                continue;
-            }
-            if (i > 0 && sourceSql.charAt(i - 1) == ':') {
-                sql.append(c);
-                continue;
-            }
+                int nameStart = i + 1;
+                if (nameStart >= sourceSql.length() || !isNameStart(sourceSql.charAt(nameStart))) {
+                    fragment.append(c);
+                    continue;
+                }
+
+                int nameEnd = nameStart + 1;
+                while (nameEnd < sourceSql.length() && isNamePart(sourceSql.charAt(nameEnd))) {
+                    nameEnd++;
+                }
 
-            int nameStart = i + 1;
-            if (nameStart >= sourceSql.length() || !isNameStart(sourceSql.charAt(nameStart))) {
-                sql.append(c);
-                continue;
+                fragments.add(fragment.toString());
+                names.add(sourceSql.substring(nameStart, nameEnd));
+                fragment.setLength(0);
+                i = nameEnd - 1;
             }
+            fragments.add(fragment.toString());
+
+            return new ParsedSql(
+                sourceSql,
+                fragments.toArray(String[]::new),
+                names.toArray(String[]::new),
+                Set.copyOf(names),
+                String.join("?", fragments)
+            );
+        }
 
-            int nameEnd = nameStart + 1;
-            while (nameEnd < sourceSql.length() && isNamePart(sourceSql.charAt(nameEnd))) {
-                nameEnd++;
+        ParsedQuery bind(Map<String, ParameterValue> params) {
+            var expandable = false;
+            for (var name : this.names) {
+                var value = params.get(name);
+                if (value == null) {
+                    throw new IllegalArgumentException("SQL query parameter ':%s' is not provided; fix the SQL placeholder or repository method parameter".formatted(name));
+                }
+                expandable |= value.expandable();
+            }
+            if (params.size() != this.distinctNames.size()) {
+                for (var param : params.keySet()) {
+                    if (!this.distinctNames.contains(param)) {
+                        throw new IllegalArgumentException("SQL query parameter ':%s' is provided but not used; add :%s to SQL or remove this parameter from the repository method/query builder".formatted(param, param));
+                    }
+                }
             }
 
-            var name = sourceSql.substring(nameStart, nameEnd);
-            if (!params.containsKey(name)) {
-                throw new IllegalArgumentException("SQL query parameter ':%s' is not provided; fix the SQL placeholder or repository method parameter".formatted(name));
+            var parameters = new ArrayList<Parameter>(this.names.length);
+            if (!expandable) {
+                for (var name : this.names) {
+                    var value = params.get(name);
+                    var parameterValue = value.values().get(0);
+                    parameters.add(new Parameter(name, parameterValue, value.binder(parameterValue)));
+                }
+                return new ParsedQuery(this.sql, parameters);
             }
-            usedParams.add(name);
-            appendParameter(sql, parameters, name, params.get(name));
-            i = nameEnd - 1;
-        }
 
-        for (var param : params.keySet()) {
-            if (!usedParams.contains(param)) {
-                throw new IllegalArgumentException("SQL query parameter ':%s' is provided but not used; add :%s to SQL or remove this parameter from the repository method/query builder".formatted(param, param));
+            var sql = new StringBuilder(this.sql.length() + 16).append(this.fragments[0]);
+            for (int i = 0; i < this.names.length; i++) {
+                appendParameter(sql, parameters, this.names[i], params.get(this.names[i]));
+                sql.append(this.fragments[i + 1]);
             }
+            return new ParsedQuery(sql.toString(), parameters);
         }
-
-        return new ParsedQuery(sql.toString(), parameters);
     }
 
     private static void appendParameter(StringBuilder sql, List<Parameter> parameters, String name, ParameterValue value) {
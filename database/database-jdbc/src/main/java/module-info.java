@@ -7,6 +7,7 @@ module kora.database.jdbc {
     requires transitive kora.database.common;
     requires transitive kora.config.common;
     requires transitive com.zaxxer.hikari;
+    requires static org.postgresql.jdbc;
 
     exports io.koraframework.database.jdbc;
     exports io.koraframework.database.jdbc.annotation;
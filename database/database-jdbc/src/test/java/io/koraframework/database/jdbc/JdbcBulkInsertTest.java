@@ -0,0 +1,144 @@
+package io.koraframework.database.jdbc;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class JdbcBulkInsertTest {
+
+    @Test
+    void testSqlServerStatementFitsParametersLimit() throws SQLException {
+        var statements = new ArrayList<String>();
+        var connection = connection("Microsoft SQL Server", 16, statements);
+
+        try (var ps = JdbcBulkInsert.prepareStatement(connection, "INSERT INTO users(id, name, status) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < 1000; i++) {
+                ps.setLong(1, i);
+                ps.setString(2, "name" + i);
+                ps.setString(3, "new");
+                ps.addBatch();
+            }
+            Assertions.assertThat(ps.executeLargeBatch()).containsExactly(700L, 300L);
+        }
+
+        Assertions.assertThat(statements).hasSize(2);
+        Assertions.assertThat(statements.get(0).chars().filter(c -> c == '?').count()).isEqualTo(2100);
+        Assertions.assertThat(statements.get(1).chars().filter(c -> c == '?').count()).isEqualTo(900);
+    }
+
+    @Test
+    void testFullStatementIsExecutedOnAddBatch() throws SQLException {
+        var statements = new ArrayList<String>();
+        var connection = connection("Microsoft SQL Server", 16, statements);
+
+        try (var ps = JdbcBulkInsert.prepareStatement(connection, "INSERT INTO users(id, name, status) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < 701; i++) {
+                ps.setLong(1, i);
+                ps.setString(2, "name" + i);
+                ps.setString(3, "new");
+                ps.addBatch();
+            }
+            Assertions.assertThat(statements).hasSize(1);
+            Assertions.assertThat(ps.executeLargeBatch()).containsExactly(700L, 1L);
+        }
+    }
+
+    @Test
+    void testTimestampCopyTextHasOffset() throws NoSuchMethodException {
+        var timestamp = Timestamp.valueOf(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        var binding = new JdbcBulkInsert.Binding(PreparedStatement.class.getMethod("setTimestamp", int.class, Timestamp.class), new Object[]{1, timestamp});
+        var text = new StringBuilder();
+
+        binding.writeCopyText(text);
+
+        var expected = timestamp.toLocalDateTime().atZone(ZoneId.systemDefault()).toOffsetDateTime();
+        Assertions.assertThat(OffsetDateTime.parse(text)).isEqualTo(expected);
+        Assertions.assertThat(new JdbcBulkInsert.Binding(PreparedStatement.class.getMethod("setObject", int.class, Object.class), new Object[]{1, LocalDateTime.now()}).isCopySupported()).isFalse();
+    }
+
+    @Test
+    void testOracleWithoutMultiRowValuesUsesBatch() throws SQLException {
+        var statements = new ArrayList<String>();
+        var connection = connection("Oracle", 19, statements);
+
+        try (var ps = JdbcBulkInsert.prepareStatement(connection, "INSERT INTO users(id, name) VALUES (?, ?)")) {
+            for (int i = 0; i < 3; i++) {
+                ps.setLong(1, i);
+                ps.setString(2, "name" + i);
+                ps.addBatch();
+            }
+            Assertions.assertThat(ps.executeLargeBatch()).containsExactly(Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO);
+        }
+
+        Assertions.assertThat(statements).containsExactly("INSERT INTO users(id, name) VALUES (?, ?)");
+    }
+
+    @Test
+    void testParametersLimitByDatabase() throws SQLException {
+        Assertions.assertThat(JdbcBulkInsert.maxParametersPerStatement(connection("Microsoft SQL Server", 16, List.of()))).isEqualTo(2100);
+        Assertions.assertThat(JdbcBulkInsert.maxParametersPerStatement(connection("Oracle", 19, List.of()))).isZero();
+        Assertions.assertThat(JdbcBulkInsert.maxParametersPerStatement(connection("Oracle", 23, List.of()))).isEqualTo(65535);
+        Assertions.assertThat(JdbcBulkInsert.maxParametersPerStatement(connection("MySQL", 8, List.of()))).isEqualTo(65535);
+        Assertions.assertThat(JdbcBulkInsert.maxParametersPerStatement(connection("H2", 2, List.of()))).isEqualTo(JdbcBulkInsert.DEFAULT_MAX_PARAMETERS_PER_STATEMENT);
+    }
+
+    private static Connection connection(String product, int majorVersion, List<String> statements) {
+        var metaData = (DatabaseMetaData) Proxy.newProxyInstance(
+            DatabaseMetaData.class.getClassLoader(),
+            new Class<?>[] {DatabaseMetaData.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getDatabaseProductName" -> product;
+                case "getDatabaseMajorVersion" -> majorVersion;
+                default -> null;
+            }
+        );
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getMetaData" -> metaData;
+                case "isWrapperFor" -> false;
+                case "prepareStatement" -> {
+                    var sql = (String) args[0];
+                    statements.add(sql);
+                    yield statement(sql);
+                }
+                default -> null;
+            }
+        );
+    }
+
+    private static PreparedStatement statement(String sql) {
+        var batchSize = new int[1];
+        return (PreparedStatement) Proxy.newProxyInstance(
+            PreparedStatement.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "addBatch" -> {
+                    batchSize[0]++;
+                    yield null;
+                }
+                case "executeLargeBatch" -> {
+                    var result = new long[batchSize[0]];
+                    Arrays.fill(result, Statement.SUCCESS_NO_INFO);
+                    yield result;
+                }
+                case "executeLargeUpdate" -> (long) sql.split("\\(\\?", -1).length - 1;
+                default -> null;
+            }
+        );
+    }
+}
@@ -158,4 +158,39 @@ class JdbcQueryExecutorTest {
             Assertions.assertThat(db.executeUpdateBatch(templateBatch)).isEqualTo(new UpdateCount(2));
         });
     }
+
+    @Test
+    void testBulkInsert(PostgresParams params) throws SQLException {
+        var tableName = PostgresTestContainer.randomName("test_table");
+        params.execute("CREATE TABLE %s(id BIGINT, value VARCHAR, data BYTEA, status VARCHAR DEFAULT 'new');".formatted(tableName));
+
+        withDb(params, db -> {
+            var copyBatch = JdbcQuery.named()
+                .sql("INSERT INTO %s(id, value, data) VALUES (:id, :value, :data)".formatted(tableName))
+                .batch()
+                .bind(row -> row.bind("id", 1L).bind("value", "tab\tand\\slash").bind("data", new byte[]{1, 2}))
+                .bind(row -> row.bind("id", 2L).bind("value", null, JDBCType.VARCHAR).bind("data", new byte[0]))
+                .build();
+            Assertions.assertThat(db.executeBulkInsert(copyBatch)).isEqualTo(new UpdateCount(2));
+
+            var multiRowBatch = JdbcQuery.named()
+                .sql("INSERT INTO %s(id, value, status) VALUES (:id, :value, 'bulk')".formatted(tableName))
+                .batch()
+                .bind(row -> row.bind("id", 3L).bind("value", "test3"))
+                .bind(row -> row.bind("id", 4L).bind("value", "test4"))
+                .build();
+            Assertions.assertThat(db.executeBulkInsert(multiRowBatch)).isEqualTo(new UpdateCount(2));
+
+            var result = db.queryList(
+                JdbcQuery.template("SELECT id, value, data, status FROM %s ORDER BY id".formatted(tableName)),
+                rs -> rs.getLong("id") + ":" + rs.getString("value") + ":" + Arrays.toString(rs.getBytes("data")) + ":" + rs.getString("status")
+            );
+            Assertions.assertThat(result).containsExactly(
+                "1:tab\tand\\slash:[1, 2]:new",
+                "2:null:[]:new",
+                "3:test3:null:bulk",
+                "4:test4:null:bulk"
+            );
+        });
+    }
 }
@@ -199,4 +199,46 @@ class JdbcQueryTest {
         Assertions.assertThat(templateBatch.parameters(0).stream().map(JdbcQuery.Parameter::value)).containsExactly("test1", "active");
         Assertions.assertThat(templateBatch.parameters(1).stream().map(JdbcQuery.Parameter::value)).containsExactly("test2", "archived");
     }
+
+    @Test
+    void testJdbcNamedTemplate() {
+        var template = JdbcQuery.namedTemplate("SELECT * FROM users WHERE status = :status AND id IN (:ids) AND data::text <> ':skip' AND parent = :status");
+
+        var first = template.query()
+            .bind("status", "active")
+            .bindIn("ids", List.of(1L, 2L))
+            .build();
+        var second = template.query()
+            .bind("status", "archived")
+            .bindIn("ids", List.of(3L))
+            .build();
+
+        Assertions.assertThat(first.sourceSql()).isEqualTo(template.sourceSql());
+        Assertions.assertThat(first.sql()).isEqualTo("SELECT * FROM users WHERE status = ? AND id IN (?, ?) AND data::text <> ':skip' AND parent = ?");
+        Assertions.assertThat(first.parameters().stream().map(JdbcQuery.Parameter::value).toList())
+            .containsExactly("active", 1L, 2L, "active");
+        Assertions.assertThat(second.sql()).isEqualTo("SELECT * FROM users WHERE status = ? AND id IN (?) AND data::text <> ':skip' AND parent = ?");
+        Assertions.assertThat(second.parameters().stream().map(JdbcQuery.Parameter::value).toList())
+            .containsExactly("archived", 3L, "archived");
+
+        var extended = template.query()
+            .sql(" AND name = :name")
+            .bind("status", "active")
+            .bindIn("ids", List.of(1L))
+            .bind("name", "test")
+            .build();
+        Assertions.assertThat(extended.sql()).endsWith("AND parent = ? AND name = ?");
+
+        Assertions.assertThatThrownBy(() -> template.query().bind("status", "active").build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("':ids' is not provided");
+        Assertions.assertThatThrownBy(() -> template.query().bind("status", "active").bindIn("ids", List.of(1L)).bind("other", 1).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("':other' is provided but not used");
+
+        var batch = template.batch()
+            .bind(row -> row.bind("status", "active").bind("ids", 1L))
+            .build();
+        Assertions.assertThat(batch.sql()).isEqualTo("SELECT * FROM users WHERE status = ? AND id IN (?) AND data::text <> ':skip' AND parent = ?");
+    }
 }
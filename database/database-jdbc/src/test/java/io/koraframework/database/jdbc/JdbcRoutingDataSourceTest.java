@@ -0,0 +1,112 @@
+package io.koraframework.database.jdbc;
+
+import io.koraframework.database.common.telemetry.$DatabaseTelemetryConfig_ConfigValueMapper;
+import io.koraframework.database.common.telemetry.$DatabaseTelemetryConfig_DatabaseLoggingConfig_ConfigValueMapper;
+import io.koraframework.database.common.telemetry.$DatabaseTelemetryConfig_DatabaseMetricsConfig_ConfigValueMapper;
+import io.koraframework.database.common.telemetry.$DatabaseTelemetryConfig_DatabaseTracingConfig_ConfigValueMapper;
+import io.koraframework.database.common.telemetry.impl.DefaultDatabaseTelemetryFactory;
+import io.koraframework.database.common.telemetry.impl.NoopDatabaseLoggerFactory;
+import io.koraframework.database.common.telemetry.impl.NoopDatabaseMetricsFactory;
+import io.koraframework.micrometer.common.NoopMeterRegistry;
+import io.koraframework.test.postgres.PostgresParams;
+import io.koraframework.test.postgres.PostgresTestContainer;
+import io.opentelemetry.api.trace.TracerProvider;
+import org.assertj.core.api.Assertions;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+@ExtendWith({PostgresTestContainer.class})
+class JdbcRoutingDataSourceTest {
+
+    private static JdbcDatabaseConfig databaseConfig(PostgresParams params, String poolName) {
+        return new $JdbcDatabaseConfig_ConfigValueMapper.JdbcDatabaseConfig_Impl(
+            params.user(),
+            params.password(),
+            params.jdbcUrl(),
+            poolName,
+            null,
+            Duration.ofMillis(1000L),
+            Duration.ofMillis(1000L),
+            Duration.ofMillis(1000L),
+            Duration.ofMillis(1000L),
+            Duration.ofMillis(1000L),
+            2,
+            0,
+            Duration.ofMillis(1000L),
+            false,
+            new Properties(),
+            new $DatabaseTelemetryConfig_ConfigValueMapper.DatabaseTelemetryConfig_Impl(
+                new $DatabaseTelemetryConfig_DatabaseLoggingConfig_ConfigValueMapper.DatabaseLoggingConfig_Impl(true),
+                new $DatabaseTelemetryConfig_DatabaseMetricsConfig_ConfigValueMapper.DatabaseMetricsConfig_Impl(true, true, new Duration[0], Map.of()),
+                new $DatabaseTelemetryConfig_DatabaseTracingConfig_ConfigValueMapper.DatabaseTracingConfig_Impl(true, Map.of())
+            )
+        );
+    }
+
+    private static void withDb(PostgresParams params, @Nullable String replicationLagQuery, Consumer<JdbcRoutingDataSource> consumer) throws SQLException {
+        var config = new $JdbcRoutingDatabaseConfig_ConfigValueMapper.JdbcRoutingDatabaseConfig_Impl(
+            databaseConfig(params, "primaryPool"),
+            List.of(databaseConfig(params, "replicaPool")),
+            Duration.ofMinutes(1),
+            Duration.ofSeconds(10),
+            replicationLagQuery
+        );
+        var db = new JdbcRoutingDataSource(config, new DefaultDatabaseTelemetryFactory(TracerProvider.noop().get(""), NoopMeterRegistry.INSTANCE, NoopDatabaseLoggerFactory.INSTANCE, NoopDatabaseMetricsFactory.INSTANCE), null);
+        db.init();
+        try {
+            consumer.accept(db);
+        } finally {
+            db.release();
+        }
+    }
+
+    @Test
+    void testReadOnlyRoutedToReplica(PostgresParams params) throws SQLException {
+        withDb(params, "SELECT 0", db -> {
+            var replica = db.replicas().getFirst();
+
+            db.withReadOnlyContext(ctx -> {
+                Assertions.assertThat(ctx.connection().isReadOnly()).isTrue();
+                Assertions.assertThat(db.telemetry()).isSameAs(replica.telemetry());
+                return null;
+            });
+            db.withContext(ctx -> {
+                Assertions.assertThat(ctx.connection().isReadOnly()).isFalse();
+                Assertions.assertThat(db.telemetry()).isSameAs(db.primary().telemetry());
+                return null;
+            });
+        });
+    }
+
+    @Test
+    void testReadOnlyInsideWriteTransactionStaysOnPrimary(PostgresParams params) throws SQLException {
+        withDb(params, null, db -> db.inTx(ctx -> {
+            db.withReadOnlyContext(readOnlyCtx -> {
+                Assertions.assertThat(readOnlyCtx).isSameAs(ctx);
+                Assertions.assertThat(db.telemetry()).isSameAs(db.primary().telemetry());
+                return null;
+            });
+            return null;
+        }));
+    }
+
+    @Test
+    void testLaggingReplicaFallsBackToPrimary(PostgresParams params) throws SQLException {
+        withDb(params, "SELECT 100", db -> {
+            db.inReadOnlyTx(ctx -> {
+                Assertions.assertThat(ctx.connection().isReadOnly()).isTrue();
+                Assertions.assertThat(ctx.connection().getAutoCommit()).isFalse();
+                Assertions.assertThat(db.telemetry()).isSameAs(db.primary().telemetry());
+                return null;
+            });
+        });
+    }
+}
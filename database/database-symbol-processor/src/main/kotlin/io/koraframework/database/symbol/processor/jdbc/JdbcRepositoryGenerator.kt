@@ -130,6 +130,7 @@ class JdbcRepositoryGenerator(private val resolver: Resolver) : RepositoryGenera
                     else
                         beginControlFlow("_conToUse!!.prepareStatement(_query.sql()).use { _stmt ->")
 
+                    addStatement("%T.applyDeadline(_stmt)", JdbcTypes.connectionFactory)
                     setStatementParams(query, parameters, batchParam, parameterMappers)
                     if (methodType.returnType!! == resolver.builtIns.unitType) {
                         if (batchParam != null) {
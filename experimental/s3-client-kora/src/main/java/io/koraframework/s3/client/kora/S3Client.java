@@ -8,6 +8,8 @@ import org.jspecify.annotations.Nullable;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -305,6 +307,31 @@ public interface S3Client {
         return this.completeMultipartUpload(credentials, bucket, key, uploadId, parts, null);
     }
 
+    /**
+     * Creates URL that allows anyone who has it to perform the request without credentials until it expires, no request is sent to S3.
+     *
+     * @param method    HTTP method of the allowed request
+     * @param bucket    The bucket name containing the object.
+     * @param key       Key of the object.
+     * @param expiresIn Time to live of URL, from 1 second to 7 days.
+     * @see <a href="https://docs.aws.amazon.com/AmazonS3/latest/API/sigv4-query-string-auth.html">Query string authentication</a>
+     */
+    URI presignUrl(S3Credentials credentials, String method, String bucket, String key, Duration expiresIn);
+
+    /**
+     * @see #presignUrl
+     */
+    default URI presignGetObject(S3Credentials credentials, String bucket, String key, Duration expiresIn) {
+        return this.presignUrl(credentials, "GET", bucket, key, expiresIn);
+    }
+
+    /**
+     * @see #presignUrl
+     */
+    default URI presignPutObject(S3Credentials credentials, String bucket, String key, Duration expiresIn) {
+        return this.presignUrl(credentials, "PUT", bucket, key, expiresIn);
+    }
+
     interface ContentWriter extends Closeable {
 
         void write(OutputStream os) throws IOException;
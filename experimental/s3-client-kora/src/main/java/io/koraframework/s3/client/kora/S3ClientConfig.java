@@ -30,6 +30,8 @@ public interface S3ClientConfig {
 
     UploadConfig upload();
 
+    DownloadConfig download();
+
     S3ClientTelemetryConfig telemetry();
 
     @ConfigMapper
@@ -55,5 +57,53 @@ public interface S3ClientConfig {
         default Size singlePartUploadLimit() {
             return Size.of(100, Size.Type.MiB);
         }
+
+        /**
+         * Maximum number of parts uploaded concurrently by {@link io.koraframework.s3.client.kora.transfer.S3TransferManager},
+         * when uploading a stream it also limits the number of part buffers held in memory.
+         */
+        default int maxConcurrentParts() {
+            return 4;
+        }
+
+        /**
+         * How PutObject and UploadPart payloads are signed.
+         */
+        default PayloadSigning payloadSigning() {
+            return PayloadSigning.SIGNED;
+        }
+    }
+
+    enum PayloadSigning {
+        /**
+         * Byte array payload is hashed with SHA-256 before request is sent, streamed payload is signed chunk by chunk with SHA-256 checksum trailer.
+         */
+        SIGNED,
+        /**
+         * Byte array payload is sent the same way as streamed payload, signed chunk by chunk while it is written instead of being hashed before request is sent.
+         */
+        STREAMING,
+        /**
+         * Payload is sent as UNSIGNED-PAYLOAD without any hashing, integrity of content is guaranteed only by TLS, so endpoint must be HTTPS.
+         */
+        UNSIGNED
+    }
+
+    @ConfigMapper
+    interface DownloadConfig {
+
+        /**
+         * Size of a range downloaded with one request by {@link io.koraframework.s3.client.kora.transfer.S3TransferManager}, smaller objects are downloaded with a single request.
+         */
+        default Size partSize() {
+            return Size.of(8, Size.Type.MiB);
+        }
+
+        /**
+         * Maximum number of ranges downloaded concurrently, when downloading into a stream it also limits the number of range buffers held in memory.
+         */
+        default int maxConcurrentParts() {
+            return 4;
+        }
     }
 }
@@ -5,6 +5,8 @@ import io.koraframework.common.annotation.Tag;
 import io.koraframework.http.client.common.HttpClient;
 import io.koraframework.s3.client.kora.impl.KoraS3Client;
 import io.koraframework.s3.client.kora.telemetry.S3ClientTelemetryFactory;
+import io.koraframework.s3.client.kora.transfer.S3TransferManager;
+import io.koraframework.s3.client.kora.transfer.S3TransferManagerFactory;
 
 public class S3FactoryModule {
 
@@ -38,4 +40,21 @@ public class S3FactoryModule {
             }
         };
     }
+
+    @Tag(Tag.Factory.class)
+    @DefaultComponent
+    public S3TransferManagerFactory defaultKoraS3TransferManagerFactory(S3ClientTelemetryFactory telemetryFactory) {
+        return new S3TransferManagerFactory() {
+            @Override
+            public S3TransferManager create(S3Client client, S3ClientConfig config) {
+                return create(configPath, client, config);
+            }
+
+            @Override
+            public S3TransferManager create(String configPath, S3Client client, S3ClientConfig config) {
+                var telemetry = telemetryFactory.get(configPath, S3TransferManager.class, config.telemetry());
+                return new S3TransferManager(client, config, telemetry);
+            }
+        };
+    }
 }
@@ -0,0 +1,38 @@
+package io.koraframework.s3.client.kora.impl;
+
+import io.koraframework.http.common.body.HttpBodyOutput;
+import io.koraframework.s3.client.kora.S3Client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+final class ContentWriterHttpBody implements HttpBodyOutput {
+
+    private final String contentType;
+    private final S3Client.ContentWriter contentWriter;
+
+    ContentWriterHttpBody(String contentType, S3Client.ContentWriter contentWriter) {
+        this.contentType = contentType;
+        this.contentWriter = contentWriter;
+    }
+
+    @Override
+    public long contentLength() {
+        return this.contentWriter.length();
+    }
+
+    @Override
+    public String contentType() {
+        return this.contentType;
+    }
+
+    @Override
+    public void write(OutputStream os) throws IOException {
+        this.contentWriter.write(os);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.contentWriter.close();
+    }
+}
@@ -56,17 +56,25 @@ public final class DigestUtils {
         return sha256(bytes, 0, bytes.length);
     }
 
-    public static byte[] sumHmac(byte[] key, byte[] data) {
+    /**
+     * @return HmacSHA256 initialized with key, meant to be reused with {@link #sumHmac(Mac, byte[])}
+     */
+    public static Mac hmac(byte[] key) {
         try {
             var mac = Mac.getInstance("HmacSHA256");
             mac.init(new SecretKeySpec(key, "HmacSHA256"));
-            mac.update(data);
-            return mac.doFinal();
+            return mac;
         } catch (NoSuchAlgorithmException | InvalidKeyException e) {
             throw new IllegalStateException(e); // never gonna happen
         }
     }
 
+    public static byte[] sumHmac(byte[] key, byte[] data) {
+        var mac = hmac(key);
+        mac.update(data);
+        return mac.doFinal();
+    }
+
     public static byte[] sumHmac(Mac key, byte[] data) {
         try {
             var mac = (Mac) key.clone();
@@ -6,6 +6,7 @@ import io.koraframework.http.client.common.request.HttpClientRequest;
 import io.koraframework.http.client.common.response.HttpClientResponse;
 import io.koraframework.http.common.body.HttpBody;
 import io.koraframework.http.common.body.HttpBodyInput;
+import io.koraframework.http.common.body.HttpBodyOutput;
 import io.koraframework.http.common.header.HttpHeaders;
 import io.koraframework.s3.client.kora.S3Client;
 import io.koraframework.s3.client.kora.S3ClientConfig;
@@ -23,9 +24,12 @@ import org.jspecify.annotations.Nullable;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
+import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -36,12 +40,14 @@ public class KoraS3Client implements S3Client {
     private final HttpClient httpClient;
     private final S3ClientConfig config;
     private final UriHelper uriHelper;
+    private final S3ClientConfig.PayloadSigning payloadSigning;
 
     public KoraS3Client(HttpClient httpClient, S3ClientConfig config, S3ClientTelemetry telemetry) {
         this.httpClient = httpClient;
         this.config = config;
         this.telemetry = telemetry;
         this.uriHelper = new UriHelper(config);
+        this.payloadSigning = config.upload().payloadSigning();
     }
 
     @Nullable
@@ -273,18 +279,22 @@ public class KoraS3Client implements S3Client {
 
     @Override
     public String putObject(S3Credentials credentials, String bucket, String key, @Nullable PutObjectArgs args, byte[] data, int off, int len) throws S3ClientException {
+        if (this.payloadSigning == S3ClientConfig.PayloadSigning.STREAMING) {
+            return this.putObject(credentials, bucket, key, args, new ByteArrayContentWriter(data, off, len));
+        }
         var observation = this.telemetry.observe("PutObject", bucket);
         observation.observeKey(key);
         return Observation.scoped(observation)
             .call(() -> {
-                var sha256 = DigestUtils.sha256(data, 0, len);
-                var sha256Hex = sha256.hex();
-                var sha256Base64 = sha256.base64();
-                var md5 = DigestUtils.md5(data, 0, len).base64();
                 var headersMap = new HashMap<String, String>();
                 headersMap.put("content-length", Integer.toString(len));
-                headersMap.put("content-md5", md5);
-                headersMap.put("x-amz-checksum-sha256", sha256Base64);
+                var payloadChecksum = this.payloadSigning == S3ClientConfig.PayloadSigning.UNSIGNED
+                    ? null
+                    : PayloadChecksum.of(data, off, len);
+                if (payloadChecksum != null) {
+                    headersMap.put("content-md5", payloadChecksum.md5Base64());
+                    headersMap.put("x-amz-checksum-sha256", payloadChecksum.sha256Base64());
+                }
                 var headers = HttpHeaders.of();
                 if (args != null) {
                     args.writeHeadersMap(headersMap);
@@ -295,14 +305,19 @@ public class KoraS3Client implements S3Client {
                 var signer = credentials instanceof S3RequestSigner s
                     ? s
                     : new S3RequestSigner(credentials.accessKey(), credentials.secretKey());
-                var signature = signer.processRequest(this.config.region(), "s3", "PUT", uri, S3RequestSigner.EMPTY_QUERY, headersMap, sha256Hex);
+                var payloadSha256Hex = payloadChecksum == null
+                    ? S3RequestSigner.UNSIGNED_PAYLOAD
+                    : payloadChecksum.sha256Hex();
+                var signature = signer.processRequest(this.config.region(), "s3", "PUT", uri, S3RequestSigner.EMPTY_QUERY, headersMap, payloadSha256Hex);
 
                 headers.set("x-amz-date", signature.amzDate());
                 headers.set("authorization", signature.authorization());
                 headers.set("host", uri.getAuthority());
-                headers.set("x-amz-content-sha256", sha256Hex);
-                headers.set("content-md5", md5);
-                headers.set("x-amz-checksum-sha256", sha256Base64);
+                headers.set("x-amz-content-sha256", payloadSha256Hex);
+                if (payloadChecksum != null) {
+                    headers.set("content-md5", payloadChecksum.md5Base64());
+                    headers.set("x-amz-checksum-sha256", payloadChecksum.sha256Base64());
+                }
 
                 var request = HttpClientRequest.of("PUT", uri, "/{bucket}/{key}", headers, httpBody, this.config.requestTimeout());
                 try (var rs = this.httpClient.execute(request);
@@ -332,18 +347,22 @@ public class KoraS3Client implements S3Client {
         return Observation.scoped(observation)
             .call(() -> {
                 var length = contentWriter.length();
-                var payloadSha256Hex = "STREAMING-AWS4-HMAC-SHA256-PAYLOAD-TRAILER";
-                var headersMap = Map.of(
-                    "x-amz-trailer", "x-amz-checksum-sha256",
-                    "x-amz-decoded-content-length", Long.toString(length),
-                    "expect", "100-continue",
-                    "content-encoding", "aws-chunked"
-                );
+                var unsigned = this.payloadSigning == S3ClientConfig.PayloadSigning.UNSIGNED;
+                var payloadSha256Hex = unsigned
+                    ? S3RequestSigner.UNSIGNED_PAYLOAD
+                    : S3RequestSigner.STREAMING_PAYLOAD_TRAILER;
+                var headersMap = new HashMap<String, String>();
                 var headers = HttpHeaders.of();
-                headers.set("x-amz-trailer", "x-amz-checksum-sha256");
-                headers.set("x-amz-decoded-content-length", Long.toString(length));
+                headersMap.put("expect", "100-continue");
                 headers.set("expect", "100-continue");
-                headers.set("content-encoding", "aws-chunked");
+                if (!unsigned) {
+                    headersMap.put("x-amz-trailer", "x-amz-checksum-sha256");
+                    headersMap.put("x-amz-decoded-content-length", Long.toString(length));
+                    headersMap.put("content-encoding", "aws-chunked");
+                    headers.set("x-amz-trailer", "x-amz-checksum-sha256");
+                    headers.set("x-amz-decoded-content-length", Long.toString(length));
+                    headers.set("content-encoding", "aws-chunked");
+                }
                 if (args != null) {
                     args.writeHeadersMap(headersMap);
                     args.writeHeaders(headers);
@@ -360,15 +379,20 @@ public class KoraS3Client implements S3Client {
                 headers.set("host", uri.getAuthority());
                 headers.set("x-amz-content-sha256", payloadSha256Hex);
 
-                var httpBody = new KnownSizeAwsChunkedHttpBody(
-                    signer,
-                    this.config.region(),
-                    (int) this.config.upload().chunkSize().toBytes(),
-                    "application/octet-stream",
-                    signature.signature(),
-                    contentWriter,
-                    null
-                );
+                final HttpBodyOutput httpBody;
+                if (unsigned) {
+                    httpBody = new ContentWriterHttpBody("application/octet-stream", contentWriter);
+                } else {
+                    httpBody = new KnownSizeAwsChunkedHttpBody(
+                        signer,
+                        this.config.region(),
+                        (int) this.config.upload().chunkSize().toBytes(),
+                        "application/octet-stream",
+                        signature.signature(),
+                        contentWriter,
+                        null
+                    );
+                }
                 var request = HttpClientRequest.of("PUT", uri, "/{bucket}/{key}", headers, httpBody, this.config.requestTimeout());
                 try (var rs = this.httpClient.execute(request);
                      var body = rs.body()) {
@@ -746,18 +770,22 @@ public class KoraS3Client implements S3Client {
 
     @Override
     public UploadedPart uploadPart(S3Credentials credentials, String bucket, String key, String uploadId, int partNumber, UploadPartArgs args, byte[] data, int off, int len) throws S3ClientException {
+        if (this.payloadSigning == S3ClientConfig.PayloadSigning.STREAMING) {
+            return this.uploadPart(credentials, bucket, key, uploadId, partNumber, args, new ByteArrayContentWriter(data, off, len));
+        }
         var observation = this.telemetry.observe("UploadPart", bucket);
         observation.observeKey(key);
         return Observation.scoped(observation)
             .call(() -> {
-                var sha256 = DigestUtils.sha256(data, 0, len);
-                var sha256Hex = sha256.hex();
-                var sha256Base64 = sha256.base64();
-                var md5 = DigestUtils.md5(data, 0, len).base64();
                 var headersMap = new HashMap<String, String>();
                 headersMap.put("content-length", Integer.toString(len));
-                headersMap.put("content-md5", md5);
-                headersMap.put("x-amz-checksum-sha256", sha256Base64);
+                var payloadChecksum = this.payloadSigning == S3ClientConfig.PayloadSigning.UNSIGNED
+                    ? null
+                    : PayloadChecksum.of(data, off, len);
+                if (payloadChecksum != null) {
+                    headersMap.put("content-md5", payloadChecksum.md5Base64());
+                    headersMap.put("x-amz-checksum-sha256", payloadChecksum.sha256Base64());
+                }
                 var headers = HttpHeaders.of();
                 if (args != null) {
                     args.writeHeadersMap(headersMap);
@@ -771,14 +799,19 @@ public class KoraS3Client implements S3Client {
                 var signer = credentials instanceof S3RequestSigner s
                     ? s
                     : new S3RequestSigner(credentials.accessKey(), credentials.secretKey());
-                var signature = signer.processRequest(this.config.region(), "s3", "PUT", uri, queryParams, headersMap, sha256Hex);
+                var payloadSha256Hex = payloadChecksum == null
+                    ? S3RequestSigner.UNSIGNED_PAYLOAD
+                    : payloadChecksum.sha256Hex();
+                var signature = signer.processRequest(this.config.region(), "s3", "PUT", uri, queryParams, headersMap, payloadSha256Hex);
 
                 headers.set("x-amz-date", signature.amzDate());
                 headers.set("authorization", signature.authorization());
                 headers.set("host", uri.getAuthority());
-                headers.set("x-amz-content-sha256", sha256Hex);
-                headers.set("content-md5", md5);
-                headers.set("x-amz-checksum-sha256", sha256Base64);
+                headers.set("x-amz-content-sha256", payloadSha256Hex);
+                if (payloadChecksum != null) {
+                    headers.set("content-md5", payloadChecksum.md5Base64());
+                    headers.set("x-amz-checksum-sha256", payloadChecksum.sha256Base64());
+                }
 
                 var request = HttpClientRequest.of("PUT", uri, "/{bucket}/{key}?partNumber={partNumber}&uploadId={uploadId}", headers, httpBody, this.config.requestTimeout());
                 try (var rs = this.httpClient.execute(request);
@@ -788,7 +821,7 @@ public class KoraS3Client implements S3Client {
                     if (rs.code() == HttpURLConnection.HTTP_OK) {
                         var etag = rs.headers().getFirst("ETag");
                         return new UploadedPart(
-                            null, null, null, null, sha256Base64, etag, partNumber, len
+                            null, null, null, null, payloadChecksum == null ? null : payloadChecksum.sha256Base64(), etag, partNumber, len
                         );
                     }
                     throw KoraS3Client.parseS3Exception(rs, body);
@@ -811,17 +844,22 @@ public class KoraS3Client implements S3Client {
         return Observation.scoped(observation)
             .call(() -> {
                 var len = contentWriter.length();
-                var payloadSha256Hex = "STREAMING-AWS4-HMAC-SHA256-PAYLOAD-TRAILER";
+                var unsigned = this.payloadSigning == S3ClientConfig.PayloadSigning.UNSIGNED;
+                var payloadSha256Hex = unsigned
+                    ? S3RequestSigner.UNSIGNED_PAYLOAD
+                    : S3RequestSigner.STREAMING_PAYLOAD_TRAILER;
                 var headersMap = new HashMap<String, String>();
-                headersMap.put("x-amz-trailer", "x-amz-checksum-sha256");
-                headersMap.put("x-amz-decoded-content-length", Long.toString(len));
-                headersMap.put("expect", "100-continue");
-                headersMap.put("content-encoding", "aws-chunked");
                 var headers = HttpHeaders.of();
-                headers.set("x-amz-trailer", "x-amz-checksum-sha256");
-                headers.set("x-amz-decoded-content-length", Long.toString(len));
+                headersMap.put("expect", "100-continue");
                 headers.set("expect", "100-continue");
-                headers.set("content-encoding", "aws-chunked");
+                if (!unsigned) {
+                    headersMap.put("x-amz-trailer", "x-amz-checksum-sha256");
+                    headersMap.put("x-amz-decoded-content-length", Long.toString(len));
+                    headersMap.put("content-encoding", "aws-chunked");
+                    headers.set("x-amz-trailer", "x-amz-checksum-sha256");
+                    headers.set("x-amz-decoded-content-length", Long.toString(len));
+                    headers.set("content-encoding", "aws-chunked");
+                }
                 if (args != null) {
                     args.writeHeadersMap(headersMap);
                     args.writeHeaders(headers);
@@ -841,15 +879,20 @@ public class KoraS3Client implements S3Client {
                 headers.set("host", uri.getAuthority());
                 headers.set("x-amz-content-sha256", payloadSha256Hex);
 
-                var httpBody = new KnownSizeAwsChunkedHttpBody(
-                    signer,
-                    this.config.region(),
-                    (int) this.config.upload().chunkSize().toBytes(),
-                    "application/octet-stream",
-                    signature.signature(),
-                    contentWriter,
-                    null
-                );
+                final HttpBodyOutput httpBody;
+                if (unsigned) {
+                    httpBody = new ContentWriterHttpBody("application/octet-stream", contentWriter);
+                } else {
+                    httpBody = new KnownSizeAwsChunkedHttpBody(
+                        signer,
+                        this.config.region(),
+                        (int) this.config.upload().chunkSize().toBytes(),
+                        "application/octet-stream",
+                        signature.signature(),
+                        contentWriter,
+                        null
+                    );
+                }
                 var request = HttpClientRequest.of("PUT", uri, "/{bucket}/{key}?partNumber={partNumber}&uploadId={uploadId}", headers, httpBody, this.config.requestTimeout());
                 try (var rs = this.httpClient.execute(request);
                      var body = rs.body()) {
@@ -858,7 +901,7 @@ public class KoraS3Client implements S3Client {
                     if (rs.code() == HttpURLConnection.HTTP_OK) {
                         var etag = rs.headers().getFirst("ETag");
                         return new UploadedPart(
-                            null, null, null, null, httpBody.sha256(), etag, partNumber, len
+                            null, null, null, null, httpBody instanceof KnownSizeAwsChunkedHttpBody chunked ? chunked.sha256() : null, etag, partNumber, len
                         );
                     }
                     throw KoraS3Client.parseS3Exception(rs, body);
@@ -944,6 +987,36 @@ public class KoraS3Client implements S3Client {
             });
     }
 
+    @Override
+    public URI presignUrl(S3Credentials credentials, String method, String bucket, String key, Duration expiresIn) {
+        var uri = this.uriHelper.uri(bucket, key, null);
+        var signer = credentials instanceof S3RequestSigner s
+            ? s
+            : new S3RequestSigner(credentials.accessKey(), credentials.secretKey());
+        return signer.presign(this.config.region(), method, uri, expiresIn);
+    }
+
+    private record PayloadChecksum(String sha256Hex, String sha256Base64, String md5Base64) {
+
+        static PayloadChecksum of(byte[] data, int off, int len) {
+            var sha256 = DigestUtils.sha256(data, off, len);
+            return new PayloadChecksum(sha256.hex(), sha256.base64(), DigestUtils.md5(data, off, len).base64());
+        }
+    }
+
+    private record ByteArrayContentWriter(byte[] data, int off, int len) implements ContentWriter {
+
+        @Override
+        public void write(OutputStream os) throws IOException {
+            os.write(this.data, this.off, this.len);
+        }
+
+        @Override
+        public long length() {
+            return this.len;
+        }
+    }
+
     static S3ClientException parseS3Exception(HttpClientResponse rs, HttpBodyInput body) {
         try (var is = body.asInputStream()) {
             var bytes = is.readAllBytes();
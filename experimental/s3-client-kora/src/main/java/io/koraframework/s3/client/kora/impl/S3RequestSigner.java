@@ -1,13 +1,16 @@
 package io.koraframework.s3.client.kora.impl;
 
 import io.koraframework.s3.client.kora.S3Credentials;
+import org.jspecify.annotations.Nullable;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.net.URI;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -20,10 +23,24 @@ public final class S3RequestSigner implements S3Credentials {
     public static final DateTimeFormatter SIGNER_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd", Locale.US).withZone(UTC);
     public static final DateTimeFormatter AMZ_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'", Locale.US).withZone(UTC);
     public static final byte[] CLRF_BYTES = "\r\n".getBytes(StandardCharsets.US_ASCII);
+    public static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+    public static final String STREAMING_PAYLOAD_TRAILER = "STREAMING-AWS4-HMAC-SHA256-PAYLOAD-TRAILER";
+    /**
+     * @see <a href="https://docs.aws.amazon.com/AmazonS3/latest/API/sigv4-query-string-auth.html">Query string authentication</a>
+     */
+    public static final long MAX_PRESIGN_EXPIRES_SECONDS = 7 * 24 * 60 * 60;
 
     private final String accessKey;
     private final String secretKey;
     private final Mac secretKeyMac;
+    /**
+     * Signing key depends only on date and region, so it is derived once a day instead of with four HMACs on every signature.
+     * Mac instances are not thread safe, every signature uses a clone of the cached one.
+     */
+    @Nullable
+    private volatile SigningKey signingKey;
+
+    private record SigningKey(String signerDate, String region, Mac mac) {}
 
     public S3RequestSigner(String accessKey, String secretKey) {
         this.accessKey = accessKey;
@@ -142,12 +159,63 @@ public final class S3RequestSigner implements S3Credentials {
         return builder.toString();
     }
 
+    /**
+     * Creates URL that can be requested without credentials until it expires, payload of presigned request is not signed.
+     *
+     * @param uri     request URI without query
+     * @param expires time to live of URL, at most 7 days
+     */
+    public URI presign(String region, String method, URI uri, Duration expires) {
+        var expiresSeconds = expires.toSeconds();
+        if (expiresSeconds < 1 || expiresSeconds > MAX_PRESIGN_EXPIRES_SECONDS) {
+            throw new IllegalArgumentException("Presigned URL expiration must be from 1 second to 7 days, got " + expires);
+        }
+        var date = ZonedDateTime.now(UTC);
+        var amzDate = date.format(AMZ_DATE_FORMAT);
+        var signerDate = date.format(SIGNER_DATE_FORMAT);
+        var scope = signerDate + "/" + region + "/s3/aws4_request";
+
+        var queryParameters = new TreeMap<String, String>();
+        queryParameters.put("X-Amz-Algorithm", "AWS4-HMAC-SHA256");
+        queryParameters.put("X-Amz-Credential", URLEncoder.encode(this.accessKey + "/" + scope, StandardCharsets.UTF_8));
+        queryParameters.put("X-Amz-Date", amzDate);
+        queryParameters.put("X-Amz-Expires", Long.toString(expiresSeconds));
+        queryParameters.put("X-Amz-SignedHeaders", "host");
+        var canonicalQueryStr = getCanonicalizedQueryString(queryParameters);
+
+        var canonicalRequest = method + "\n"
+                               + uri.getPath() + "\n"
+                               + canonicalQueryStr + "\n"
+                               + "host:" + uri.getAuthority() + "\n"
+                               + "\n"
+                               + "host" + "\n"
+                               + UNSIGNED_PAYLOAD;
+        var stringToSign = "AWS4-HMAC-SHA256" + "\n"
+                           + amzDate + "\n"
+                           + scope + "\n"
+                           + DigestUtils.sha256(canonicalRequest).hex();
+        var signature = this.awsSign(region, signerDate, stringToSign);
+
+        return URI.create(uri + "?" + canonicalQueryStr + "&X-Amz-Signature=" + signature);
+    }
+
     public String awsSign(String region, String signerDate, String stringToSign) {
+        var digest = DigestUtils.sumHmac(this.signingKey(region, signerDate), stringToSign.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest);
+    }
+
+    private Mac signingKey(String region, String signerDate) {
+        var cached = this.signingKey;
+        if (cached != null && cached.signerDate.equals(signerDate) && cached.region.equals(region)) {
+            return cached.mac;
+        }
+        // concurrent derivations produce equal keys, so the race only costs a few extra HMACs at midnight
         var dateKey = DigestUtils.sumHmac(secretKeyMac, signerDate.getBytes(StandardCharsets.US_ASCII));
         var dateRegionKey = DigestUtils.sumHmac(dateKey, region.getBytes(StandardCharsets.US_ASCII));
         var dateRegionServiceKey = DigestUtils.sumHmac(dateRegionKey, "s3".getBytes(StandardCharsets.US_ASCII));
         var signingKey = DigestUtils.sumHmac(dateRegionServiceKey, "aws4_request".getBytes(StandardCharsets.US_ASCII));
-        var digest = DigestUtils.sumHmac(signingKey, stringToSign.getBytes(StandardCharsets.UTF_8));
-        return HexFormat.of().formatHex(digest);
+        var mac = DigestUtils.hmac(signingKey);
+        this.signingKey = new SigningKey(signerDate, region, mac);
+        return mac;
     }
 }
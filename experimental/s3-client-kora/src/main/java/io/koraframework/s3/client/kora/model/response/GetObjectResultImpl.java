@@ -65,7 +65,7 @@ public class GetObjectResultImpl implements GetObjectResult {
         }
         final long lastPosition;
         try {
-            lastPosition = Long.parseLong(contentRange.substring(j, i).trim());
+            lastPosition = Long.parseLong(contentRange.substring(j + 1, i).trim());
         } catch (NumberFormatException ignore) {
             throw new IllegalArgumentException("Invalid range header value: " + contentRange);
         }
@@ -0,0 +1,130 @@
+package io.koraframework.s3.client.kora.transfer;
+
+import io.koraframework.s3.client.kora.S3Credentials;
+import io.koraframework.s3.client.kora.exception.S3ClientException;
+import io.koraframework.s3.client.kora.exception.S3ClientUnknownException;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reads object in order while up to {@code window} next ranges are downloaded ahead on virtual threads.
+ */
+final class RangedDownloadInputStream extends InputStream {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final S3TransferManager manager;
+    private final S3Credentials credentials;
+    private final String bucket;
+    private final String key;
+    @Nullable
+    private final String etag;
+    private final long size;
+    private final int partSize;
+    private final int window;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ArrayDeque<Future<byte[]>> pending = new ArrayDeque<>();
+
+    private long nextPosition;
+    private byte[] current = EMPTY;
+    private int currentPosition;
+    private boolean closed;
+
+    RangedDownloadInputStream(S3TransferManager manager, S3Credentials credentials, String bucket, String key, @Nullable String etag, long size, int partSize, int window) {
+        this.manager = manager;
+        this.credentials = credentials;
+        this.bucket = bucket;
+        this.key = key;
+        this.etag = etag;
+        this.size = size;
+        this.partSize = partSize;
+        this.window = window;
+        this.fill();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!this.ensureCurrent()) {
+            return -1;
+        }
+        return this.current[this.currentPosition++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!this.ensureCurrent()) {
+            return -1;
+        }
+        var read = Math.min(len, this.current.length - this.currentPosition);
+        System.arraycopy(this.current, this.currentPosition, b, off, read);
+        this.currentPosition += read;
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return this.current.length - this.currentPosition;
+    }
+
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        for (var future : this.pending) {
+            future.cancel(true);
+        }
+        this.pending.clear();
+        this.executor.shutdownNow();
+        this.current = EMPTY;
+    }
+
+    private boolean ensureCurrent() throws IOException {
+        if (this.closed) {
+            throw new IOException("Stream closed");
+        }
+        if (this.currentPosition < this.current.length) {
+            return true;
+        }
+        var next = this.pending.poll();
+        if (next == null) {
+            return false;
+        }
+        try {
+            this.current = next.get();
+            this.currentPosition = 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.close();
+            throw new S3ClientUnknownException(e);
+        } catch (ExecutionException e) {
+            this.close();
+            if (e.getCause() instanceof S3ClientException s3) {
+                throw s3;
+            }
+            throw new IOException(e.getCause());
+        }
+        this.fill();
+        return this.current.length > 0 || this.ensureCurrent();
+    }
+
+    private void fill() {
+        while (this.pending.size() < this.window && this.nextPosition < this.size) {
+            var position = this.nextPosition;
+            var length = (int) Math.min(this.partSize, this.size - position);
+            this.nextPosition += length;
+            this.pending.add(this.executor.submit(() -> this.manager.downloadRange(this.credentials, this.bucket, this.key, this.etag, position, length)));
+        }
+    }
+}
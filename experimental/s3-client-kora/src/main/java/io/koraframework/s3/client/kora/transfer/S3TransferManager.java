@@ -0,0 +1,349 @@
+package io.koraframework.s3.client.kora.transfer;
+
+import io.koraframework.common.telemetry.Observation;
+import io.koraframework.s3.client.kora.S3Client;
+import io.koraframework.s3.client.kora.S3ClientConfig;
+import io.koraframework.s3.client.kora.S3Credentials;
+import io.koraframework.s3.client.kora.exception.S3ClientException;
+import io.koraframework.s3.client.kora.exception.S3ClientUnknownException;
+import io.koraframework.s3.client.kora.model.Range;
+import io.koraframework.s3.client.kora.model.request.GetObjectArgs;
+import io.koraframework.s3.client.kora.model.response.UploadedPart;
+import io.koraframework.s3.client.kora.telemetry.S3ClientTelemetry;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Transfers large objects with {@link S3Client} using concurrent part requests on virtual threads.
+ * <p>
+ * Uploads split content into parts of {@link S3ClientConfig.UploadConfig#partSize()} and upload up to {@link S3ClientConfig.UploadConfig#maxConcurrentParts()} of them at once,
+ * a stream upload holds at most that many part buffers in memory and a file upload streams parts straight from the file.
+ * Failed multipart upload is aborted, so no orphan parts are left behind.
+ * <p>
+ * Downloads fetch ranges of {@link S3ClientConfig.DownloadConfig#partSize()} concurrently, every range is requested with ETag of the object
+ * so an object replaced during download fails the transfer instead of mixing content of two versions.
+ * <p>
+ * Every transfer is observed with {@link S3ClientTelemetry} as {@code Upload} or {@code Download} operation, requests of its parts are observed by the client itself.
+ */
+public final class S3TransferManager {
+
+    private static final int MAX_PARTS = 10_000;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final S3Client client;
+    private final int uploadPartSize;
+    private final int uploadMaxConcurrentParts;
+    private final long singlePartUploadLimit;
+    private final int downloadPartSize;
+    private final int downloadMaxConcurrentParts;
+    private final S3ClientTelemetry telemetry;
+
+    public S3TransferManager(S3Client client, S3ClientConfig config, S3ClientTelemetry telemetry) {
+        this.client = client;
+        this.uploadPartSize = Math.toIntExact(config.upload().partSize().toBytes());
+        this.uploadMaxConcurrentParts = Math.max(config.upload().maxConcurrentParts(), 1);
+        this.singlePartUploadLimit = config.upload().singlePartUploadLimit().toBytes();
+        this.downloadPartSize = Math.toIntExact(config.download().partSize().toBytes());
+        this.downloadMaxConcurrentParts = Math.max(config.download().maxConcurrentParts(), 1);
+        this.telemetry = telemetry;
+    }
+
+    /**
+     * Uploads stream of unknown length, content that fits into one part is uploaded with a single PutObject request.
+     *
+     * @return the ETag of the uploaded object
+     */
+    public String upload(S3Credentials credentials, String bucket, String key, InputStream content) throws S3ClientException {
+        var observation = this.telemetry.observe("Upload", bucket);
+        observation.observeKey(key);
+        return Observation.scoped(observation).call(() -> {
+            try {
+                var first = new byte[this.uploadPartSize];
+                var firstLength = content.readNBytes(first, 0, first.length);
+                if (firstLength < first.length) {
+                    return this.client.putObject(credentials, bucket, key, first, 0, firstLength);
+                }
+
+                var buffers = new ConcurrentLinkedQueue<byte[]>();
+                buffers.add(first);
+                return this.uploadParts(credentials, bucket, key, this.uploadMaxConcurrentParts, (uploadId, partNumber) -> {
+                    var buffer = buffers.poll();
+                    if (buffer == null) {
+                        buffer = new byte[this.uploadPartSize];
+                    }
+                    var length = partNumber == 1 ? firstLength : content.readNBytes(buffer, 0, buffer.length);
+                    if (length == 0) {
+                        buffers.offer(buffer);
+                        return null;
+                    }
+                    if (partNumber > MAX_PARTS) {
+                        throw new S3ClientUnknownException("Stream is larger than " + MAX_PARTS + " parts of " + this.uploadPartSize + " bytes");
+                    }
+                    var data = buffer;
+                    return () -> {
+                        try {
+                            return this.client.uploadPart(credentials, bucket, key, uploadId, partNumber, data, 0, length);
+                        } finally {
+                            buffers.offer(data);
+                        }
+                    };
+                });
+            } catch (IOException e) {
+                observation.observeError(e);
+                throw new S3ClientUnknownException(e);
+            } catch (Throwable e) {
+                observation.observeError(e);
+                throw e;
+            } finally {
+                observation.end();
+            }
+        });
+    }
+
+    /**
+     * Uploads file, files up to {@link S3ClientConfig.UploadConfig#singlePartUploadLimit()} are uploaded with a single PutObject request.
+     *
+     * @return the ETag of the uploaded object
+     */
+    public String upload(S3Credentials credentials, String bucket, String key, Path file) throws S3ClientException {
+        var observation = this.telemetry.observe("Upload", bucket);
+        observation.observeKey(key);
+        return Observation.scoped(observation).call(() -> {
+            try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                var fileSize = channel.size();
+                if (fileSize <= this.singlePartUploadLimit) {
+                    return this.client.putObject(credentials, bucket, key, new FileRegionContentWriter(channel, 0, fileSize));
+                }
+
+                var partSize = Math.max(this.uploadPartSize, Math.ceilDiv(fileSize, MAX_PARTS));
+                return this.uploadParts(credentials, bucket, key, this.uploadMaxConcurrentParts, (uploadId, partNumber) -> {
+                    var position = (partNumber - 1) * partSize;
+                    if (position >= fileSize) {
+                        return null;
+                    }
+                    var writer = new FileRegionContentWriter(channel, position, Math.min(partSize, fileSize - position));
+                    return () -> this.client.uploadPart(credentials, bucket, key, uploadId, partNumber, writer);
+                });
+            } catch (IOException e) {
+                observation.observeError(e);
+                throw new S3ClientUnknownException(e);
+            } catch (Throwable e) {
+                observation.observeError(e);
+                throw e;
+            } finally {
+                observation.end();
+            }
+        });
+    }
+
+    /**
+     * Downloads object into the channel starting at position 0, ranges are written concurrently with positional writes.
+     *
+     * @return size of the object
+     */
+    public long download(S3Credentials credentials, String bucket, String key, FileChannel target) throws S3ClientException {
+        var observation = this.telemetry.observe("Download", bucket);
+        observation.observeKey(key);
+        return Observation.scoped(observation).call(() -> {
+            try {
+                var head = this.client.headObject(credentials, bucket, key);
+                var objectSize = head.size();
+                var etag = head.etag();
+                var partCount = Math.toIntExact(Math.max(Math.ceilDiv(objectSize, this.downloadPartSize), 1));
+                var nextPart = new AtomicInteger();
+                var failure = new AtomicReference<@Nullable Throwable>();
+                try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    for (int i = 0; i < Math.min(partCount, this.downloadMaxConcurrentParts); i++) {
+                        executor.execute(() -> {
+                            int part;
+                            while (failure.get() == null && (part = nextPart.getAndIncrement()) < partCount) {
+                                var position = (long) part * this.downloadPartSize;
+                                try {
+                                    this.downloadRange(credentials, bucket, key, etag, position, Math.min(this.downloadPartSize, objectSize - position), target);
+                                } catch (Throwable e) {
+                                    if (!failure.compareAndSet(null, e)) {
+                                        failure.get().addSuppressed(e);
+                                    }
+                                }
+                            }
+                        });
+                    }
+                }
+                var e = failure.get();
+                if (e != null) {
+                    throw e instanceof S3ClientException s3 ? s3 : new S3ClientUnknownException(e);
+                }
+                return objectSize;
+            } catch (Throwable e) {
+                observation.observeError(e);
+                throw e;
+            } finally {
+                observation.end();
+            }
+        });
+    }
+
+    /**
+     * Downloads object into the file, the file is created or truncated.
+     *
+     * @return size of the object
+     */
+    public long download(S3Credentials credentials, String bucket, String key, Path file) throws S3ClientException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return this.download(credentials, bucket, key, channel);
+        } catch (IOException e) {
+            throw new S3ClientUnknownException(e);
+        }
+    }
+
+    /**
+     * Opens stream of object content, ranges ahead of the reader are downloaded concurrently into memory.
+     * Stream must be closed to cancel ranges that were not read.
+     */
+    public InputStream downloadStream(S3Credentials credentials, String bucket, String key) throws S3ClientException {
+        var head = this.client.headObject(credentials, bucket, key);
+        return new RangedDownloadInputStream(this, credentials, bucket, key, head.etag(), head.size(), this.downloadPartSize, this.downloadMaxConcurrentParts);
+    }
+
+    byte[] downloadRange(S3Credentials credentials, String bucket, String key, @Nullable String etag, long position, int length) throws IOException {
+        var args = new GetObjectArgs()
+            .setRange(Range.fromTo(position, position + length - 1))
+            .setIfMatch(etag);
+        try (var rs = this.client.getObject(credentials, bucket, key, args);
+             var body = rs.body();
+             var is = body.asInputStream()) {
+            var data = is.readNBytes(length);
+            if (data.length != length) {
+                throw new S3ClientUnknownException("Expected " + length + " bytes at position " + position + " of " + bucket + "/" + key + ", but got " + data.length);
+            }
+            return data;
+        }
+    }
+
+    private void downloadRange(S3Credentials credentials, String bucket, String key, @Nullable String etag, long position, long length, FileChannel target) throws IOException {
+        var args = new GetObjectArgs().setIfMatch(etag);
+        if (length > 0) {
+            args.setRange(Range.fromTo(position, position + length - 1));
+        }
+        try (var rs = this.client.getObject(credentials, bucket, key, args);
+             var body = rs.body();
+             var is = body.asInputStream()) {
+            var buffer = new byte[(int) Math.min(COPY_BUFFER_SIZE, Math.max(length, 1))];
+            var written = 0L;
+            int read;
+            while ((read = is.read(buffer)) > 0) {
+                var bb = ByteBuffer.wrap(buffer, 0, read);
+                while (bb.hasRemaining()) {
+                    target.write(bb, position + written + bb.position());
+                }
+                written += read;
+            }
+            if (written != length) {
+                throw new S3ClientUnknownException("Expected " + length + " bytes at position " + position + " of " + bucket + "/" + key + ", but got " + written);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface PartProducer {
+        /**
+         * @return task uploading the part or null when there are no more parts
+         */
+        @Nullable
+        Callable<UploadedPart> next(String uploadId, int partNumber) throws IOException;
+    }
+
+    private String uploadParts(S3Credentials credentials, String bucket, String key, int maxConcurrentParts, PartProducer producer) throws IOException {
+        var uploadId = this.client.createMultipartUpload(credentials, bucket, key);
+        var permits = new Semaphore(maxConcurrentParts);
+        var failure = new AtomicReference<@Nullable Throwable>();
+        var parts = new ArrayList<Future<UploadedPart>>();
+        var executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (int partNumber = 1; ; partNumber++) {
+                permits.acquire();
+                if (failure.get() != null) {
+                    permits.release();
+                    break;
+                }
+                var task = producer.next(uploadId, partNumber);
+                if (task == null) {
+                    permits.release();
+                    break;
+                }
+                parts.add(executor.submit(() -> {
+                    try {
+                        return task.call();
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                        throw e;
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            executor.close();
+
+            var e = failure.get();
+            if (e != null) {
+                throw e instanceof S3ClientException s3 ? s3 : new S3ClientUnknownException(e);
+            }
+            var uploaded = new ArrayList<UploadedPart>(parts.size());
+            for (var part : parts) {
+                uploaded.add(part.resultNow());
+            }
+            return this.client.completeMultipartUpload(credentials, bucket, key, uploadId, uploaded);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.abort(credentials, bucket, key, uploadId, executor, e);
+            throw new S3ClientUnknownException(e);
+        } catch (Throwable e) {
+            this.abort(credentials, bucket, key, uploadId, executor, e);
+            throw e;
+        }
+    }
+
+    private void abort(S3Credentials credentials, String bucket, String key, String uploadId, ExecutorService executor, Throwable cause) {
+        executor.shutdownNow();
+        executor.close();
+        try {
+            this.client.abortMultipartUpload(credentials, bucket, key, uploadId);
+        } catch (Throwable e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private record FileRegionContentWriter(FileChannel channel, long position, long length) implements S3Client.ContentWriter {
+
+        @Override
+        public void write(OutputStream os) throws IOException {
+            var buffer = ByteBuffer.allocate((int) Math.min(COPY_BUFFER_SIZE, Math.max(this.length, 1)));
+            var written = 0L;
+            while (written < this.length) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), this.length - written));
+                var read = this.channel.read(buffer, this.position + written);
+                if (read < 0) {
+                    throw new IOException("File ended at " + (this.position + written) + ", expected " + (this.position + this.length));
+                }
+                os.write(buffer.array(), 0, read);
+                written += read;
+            }
+        }
+    }
+}
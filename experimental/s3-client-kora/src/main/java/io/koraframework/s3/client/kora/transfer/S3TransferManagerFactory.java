@@ -0,0 +1,13 @@
+package io.koraframework.s3.client.kora.transfer;
+
+import io.koraframework.s3.client.kora.S3Client;
+import io.koraframework.s3.client.kora.S3ClientConfig;
+
+public interface S3TransferManagerFactory {
+
+    S3TransferManager create(S3Client client, S3ClientConfig config);
+
+    default S3TransferManager create(String configPath, S3Client client, S3ClientConfig config) {
+        return this.create(client, config);
+    }
+}
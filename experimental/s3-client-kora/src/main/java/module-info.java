@@ -19,4 +19,5 @@ module kora.sthree.client.kora {
     exports io.koraframework.s3.client.kora.model.response;
     exports io.koraframework.s3.client.kora.telemetry;
     exports io.koraframework.s3.client.kora.telemetry.impl;
+    exports io.koraframework.s3.client.kora.transfer;
 }
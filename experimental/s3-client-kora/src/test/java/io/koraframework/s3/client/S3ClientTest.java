@@ -25,11 +25,14 @@ import io.koraframework.s3.client.kora.model.Range;
 import io.koraframework.s3.client.kora.model.request.ListObjectsArgs;
 import io.koraframework.s3.client.kora.model.response.ListBucketResult;
 import io.koraframework.s3.client.kora.telemetry.impl.NoopS3ClientTelemetry;
+import io.koraframework.s3.client.kora.transfer.S3TransferManager;
+import io.koraframework.common.util.Size;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
@@ -85,6 +88,11 @@ class S3ClientTest {
         when(config.upload().singlePartUploadLimit()).thenCallRealMethod();
         when(config.upload().chunkSize()).thenCallRealMethod();
         when(config.upload().partSize()).thenCallRealMethod();
+        when(config.upload().maxConcurrentParts()).thenCallRealMethod();
+        when(config.upload().payloadSigning()).thenCallRealMethod();
+        when(config.download()).thenReturn(Mockito.mock());
+        when(config.download().partSize()).thenCallRealMethod();
+        when(config.download().maxConcurrentParts()).thenCallRealMethod();
     }
 
     S3Client s3Client() {
@@ -441,6 +449,43 @@ class S3ClientTest {
 
     @Nested
     class PutObject {
+        @Test
+        void testPutObjectWithEveryPayloadSigning() throws Exception {
+            for (var payloadSigning : S3ClientConfig.PayloadSigning.values()) {
+                when(config.upload().payloadSigning()).thenReturn(payloadSigning);
+                var key = UUID.randomUUID().toString();
+                var content = randomBytes(1024 * 1024 + 42);
+                var writer = new S3Client.ContentWriter() {
+                    @Override
+                    public void write(OutputStream os) throws IOException {
+                        os.write(content);
+                    }
+
+                    @Override
+                    public long length() {
+                        return content.length;
+                    }
+                };
+                try {
+                    s3Client().putObject(credentials, "test", key, content, 0, content.length);
+                    try (var object = s3Client().getObject(credentials, "test", key);
+                         var body = object.body();
+                         var is = body.asInputStream()) {
+                        assertThat(is.readAllBytes()).as(payloadSigning.name()).isEqualTo(content);
+                    }
+
+                    s3Client().putObject(credentials, "test", key, writer);
+                    try (var object = s3Client().getObject(credentials, "test", key);
+                         var body = object.body();
+                         var is = body.asInputStream()) {
+                        assertThat(is.readAllBytes()).as(payloadSigning.name()).isEqualTo(content);
+                    }
+                } finally {
+                    s3Client().deleteObject(credentials, "test", key);
+                }
+            }
+        }
+
         @Test
         void testPutObject() throws Exception {
             var key = UUID.randomUUID().toString();
@@ -609,6 +654,113 @@ class S3ClientTest {
         }
     }
 
+    @Nested
+    class Presign {
+
+        @Test
+        void testPresignedGetAndPut() throws Exception {
+            var key = UUID.randomUUID().toString();
+            var content = randomBytes(1024);
+            try {
+                var putUrl = s3Client().presignPutObject(credentials, "test", key, Duration.ofMinutes(5));
+                try (var rs = ok.newCall(new okhttp3.Request.Builder().url(putUrl.toURL()).put(okhttp3.RequestBody.create(content)).build()).execute()) {
+                    assertThat(rs.code()).isEqualTo(200);
+                }
+
+                var getUrl = s3Client().presignGetObject(credentials, "test", key, Duration.ofMinutes(5));
+                try (var rs = ok.newCall(new okhttp3.Request.Builder().url(getUrl.toURL()).build()).execute()) {
+                    assertThat(rs.code()).isEqualTo(200);
+                    assertThat(rs.body().bytes()).isEqualTo(content);
+                }
+            } finally {
+                s3Client().deleteObject(credentials, "test", key);
+            }
+        }
+
+        @Test
+        void testPresignedUrlWithInvalidSecretIsRejected() throws Exception {
+            var url = s3Client().presignGetObject(S3Credentials.of("minioadmin", "test"), "test", UUID.randomUUID().toString(), Duration.ofMinutes(5));
+            try (var rs = ok.newCall(new okhttp3.Request.Builder().url(url.toURL()).build()).execute()) {
+                assertThat(rs.code()).isEqualTo(403);
+            }
+        }
+
+        @Test
+        void testPresignExpirationIsLimited() {
+            assertThatThrownBy(() -> s3Client().presignGetObject(credentials, "test", "key", Duration.ofDays(8)))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class Transfer {
+
+        @Test
+        void testUploadStreamAndDownloadRanges() throws Exception {
+            when(config.download().partSize()).thenReturn(Size.of(1, Size.Type.MiB));
+            var key = UUID.randomUUID().toString();
+            var content = randomBytes(1024 * 1024 * 12 + 42);
+            var transferManager = new S3TransferManager(s3Client(), config, NoopS3ClientTelemetry.INSTANCE);
+
+            transferManager.upload(credentials, "test", key, new ByteArrayInputStream(content));
+            try {
+                assertThat(s3Client().headObject(credentials, "test", key).size()).isEqualTo(content.length);
+
+                var file = Files.createTempFile("s3-transfer", ".bin");
+                try {
+                    assertThat(transferManager.download(credentials, "test", key, file)).isEqualTo(content.length);
+                    assertThat(Files.readAllBytes(file)).isEqualTo(content);
+                } finally {
+                    Files.deleteIfExists(file);
+                }
+
+                try (var is = transferManager.downloadStream(credentials, "test", key)) {
+                    assertThat(is.readAllBytes()).isEqualTo(content);
+                }
+            } finally {
+                s3Client().deleteObject(credentials, "test", key);
+            }
+        }
+
+        @Test
+        void testUploadSmallStreamWithSingleRequest() throws Exception {
+            var key = UUID.randomUUID().toString();
+            var content = randomBytes(1024);
+            var transferManager = new S3TransferManager(s3Client(), config, NoopS3ClientTelemetry.INSTANCE);
+
+            transferManager.upload(credentials, "test", key, new ByteArrayInputStream(content));
+            try (var is = transferManager.downloadStream(credentials, "test", key)) {
+                assertThat(is.readAllBytes()).isEqualTo(content);
+            } finally {
+                s3Client().deleteObject(credentials, "test", key);
+            }
+        }
+
+        @Test
+        void testUploadFileInParts() throws Exception {
+            when(config.upload().singlePartUploadLimit()).thenReturn(Size.of(1, Size.Type.MiB));
+            var key = UUID.randomUUID().toString();
+            var content = randomBytes(1024 * 1024 * 11);
+            var file = Files.createTempFile("s3-transfer", ".bin");
+            try {
+                Files.write(file, content);
+                var transferManager = new S3TransferManager(s3Client(), config, NoopS3ClientTelemetry.INSTANCE);
+
+                transferManager.upload(credentials, "test", key, file);
+                try (var object = s3Client().getObject(credentials, "test", key);
+                     var body = object.body();
+                     var is = body.asInputStream()) {
+                    assertThat(is.readAllBytes()).isEqualTo(content);
+                } finally {
+                    s3Client().deleteObject(credentials, "test", key);
+                }
+                assertThat(s3Client().listMultipartUploads(credentials, "test", null).uploads()).isEmpty();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
     @Nested
     class ListMeta {
 
@@ -1,6 +1,7 @@
 package io.koraframework.grpc.client.interceptor;
 
 import io.grpc.*;
+import io.koraframework.common.Deadline;
 import io.koraframework.grpc.client.GrpcClientConfig;
 
 import java.util.concurrent.TimeUnit;
@@ -14,8 +15,17 @@ public final class GrpcClientConfigInterceptor implements ClientInterceptor {
 
     @Override
     public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
-        if (callOptions.getDeadline() == null && this.config.timeout() != null) {
-            callOptions = callOptions.withDeadlineAfter(this.config.timeout().toMillis(), TimeUnit.MILLISECONDS); // todo per method??
+        if (callOptions.getDeadline() == null) {
+            var timeout = Deadline.timeout(this.config.timeout());
+            if (timeout != null) {
+                callOptions = callOptions.withDeadlineAfter(timeout.toNanos(), TimeUnit.NANOSECONDS); // todo per method??
+            }
+        } else {
+            var deadline = Deadline.current();
+            if (deadline != null) {
+                var remaining = io.grpc.Deadline.after(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+                callOptions = callOptions.withDeadline(callOptions.getDeadline().minimum(remaining));
+            }
         }
         return next.newCall(method, callOptions);
     }
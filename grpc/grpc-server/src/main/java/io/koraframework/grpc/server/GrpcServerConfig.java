@@ -38,6 +38,11 @@ public interface GrpcServerConfig {
         return Duration.ofSeconds(30);
     }
 
+    /**
+     * @return Configuration of how calls are handed over from transport threads to virtual threads.
+     */
+    ExecutionConfig execution();
+
     /**
      * @return Telemetry configuration for logging, metrics and tracing of server calls.
      */
@@ -66,4 +71,34 @@ public interface GrpcServerConfig {
      */
     @Nullable
     Duration keepAliveTimeout();
+
+    @ConfigMapper
+    interface ExecutionConfig {
+
+        /**
+         * @return Execution mode: CONNECTION runs all calls of a connection on one virtual thread, CALL runs each call on its own virtual thread with concurrency limits.
+         */
+        default ExecutionMode mode() {
+            return ExecutionMode.CONNECTION;
+        }
+
+        /**
+         * @return Maximum number of calls processed concurrently by the server in CALL mode, excess calls are queued, 0 means unlimited.
+         */
+        default int maxConcurrentCalls() {
+            return 0;
+        }
+
+        /**
+         * @return Maximum number of calls processed concurrently per connection in CALL mode, excess calls are queued, 0 means unlimited.
+         */
+        default int maxConcurrentCallsPerConnection() {
+            return 0;
+        }
+    }
+
+    enum ExecutionMode {
+        CONNECTION,
+        CALL
+    }
 }
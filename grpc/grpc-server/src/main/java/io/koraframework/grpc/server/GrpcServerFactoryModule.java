@@ -13,10 +13,12 @@ import io.koraframework.common.annotation.Tag;
 import io.koraframework.config.common.Config;
 import io.koraframework.config.common.mapper.ConfigValueMapper;
 import io.koraframework.grpc.server.handler.DynamicBindableService;
+import io.koraframework.grpc.server.handler.VirtualThreadCallExecutorTransportFilter;
 import io.koraframework.grpc.server.handler.VirtualThreadExecutorTransportFilter;
 import io.koraframework.grpc.server.interceptor.DynamicServerInterceptor;
 import io.koraframework.grpc.server.interceptor.TelemetryInterceptor;
 import io.koraframework.grpc.server.telemetry.GrpcServerTelemetryFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
@@ -45,6 +47,18 @@ public class GrpcServerFactoryModule {
         return new GrpcServer(serverBuilder, config);
     }
 
+    /**
+     * Executor of {@link GrpcServerConfig.ExecutionMode#CALL} mode, is a component of its own so the graph releases it after the server is stopped
+     */
+    @Tag(Tag.Factory.class)
+    public VirtualThreadCallExecutorTransportFilter grpcServerCallExecutor(@Tag(Tag.Factory.class) GrpcServerConfig config,
+                                                                           @Nullable MeterRegistry meterRegistry) {
+        var execution = config.execution();
+        // gauges of unused executor would only report zeros
+        var registry = execution.mode() == GrpcServerConfig.ExecutionMode.CALL ? meterRegistry : null;
+        return new VirtualThreadCallExecutorTransportFilter(this.name, execution.maxConcurrentCalls(), execution.maxConcurrentCallsPerConnection(), registry);
+    }
+
     @DefaultComponent
     @Tag(Tag.Factory.class)
     public ForwardingServerBuilder<?> grpcServerBuilder(@Tag(Tag.Factory.class) ValueOf<GrpcServerConfig> config,
@@ -52,17 +66,26 @@ public class GrpcServerFactoryModule {
                                                         @Tag(Tag.Factory.class) List<DynamicServerInterceptor> interceptors,
                                                         @Tag(Tag.Factory.class) @Nullable ServerCredentials serverCredentials,
                                                         @Tag(Tag.Factory.class) @Nullable Configurer<ForwardingServerBuilder<?>> configurer,
-                                                        @Tag(Tag.Factory.class) GrpcServerTelemetryFactory telemetryFactory) {
+                                                        @Tag(Tag.Factory.class) GrpcServerTelemetryFactory telemetryFactory,
+                                                        @Tag(Tag.Factory.class) VirtualThreadCallExecutorTransportFilter callExecutor) {
         if (serverCredentials == null) {
             serverCredentials = InsecureServerCredentials.create();
         }
         GrpcServerConfig grpcServerConfig = config.get();
         var builder = OkHttpServerBuilder.forPort(grpcServerConfig.port(), serverCredentials)
             .directExecutor()
-            .addTransportFilter(VirtualThreadExecutorTransportFilter.INSTANCE)
-            .callExecutor(VirtualThreadExecutorTransportFilter.INSTANCE)
             .maxInboundMessageSize(((int) grpcServerConfig.maxMessageSize().toBytes()));
 
+        var execution = grpcServerConfig.execution();
+        switch (execution.mode()) {
+            case CONNECTION -> builder
+                .addTransportFilter(VirtualThreadExecutorTransportFilter.INSTANCE)
+                .callExecutor(VirtualThreadExecutorTransportFilter.INSTANCE);
+            case CALL -> builder
+                .addTransportFilter(callExecutor)
+                .callExecutor(callExecutor);
+        }
+
         if (grpcServerConfig.maxConnectionAge() != null) {
             builder.maxConnectionAge(grpcServerConfig.maxConnectionAge().toMillis(), TimeUnit.MILLISECONDS);
         }
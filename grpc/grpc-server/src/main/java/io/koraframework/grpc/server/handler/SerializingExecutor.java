@@ -0,0 +1,56 @@
+package io.koraframework.grpc.server.handler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs tasks one at a time in submission order on the delegate, tasks submitted while one is running are drained by the same delegate task.
+ * Holds no threads between tasks, so it is cheap enough to be created per call.
+ */
+final class SerializingExecutor implements Executor, Runnable {
+
+    private final Executor delegate;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    SerializingExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.queue.offer(command);
+        this.schedule();
+    }
+
+    @Override
+    public void run() {
+        try {
+            Runnable task;
+            while ((task = this.queue.poll()) != null) {
+                task.run();
+            }
+        } finally {
+            this.scheduled.set(false);
+            // task could be offered after last poll while its producer observed drain still scheduled
+            if (!this.queue.isEmpty()) {
+                this.schedule();
+            }
+        }
+    }
+
+    private void schedule() {
+        if (!this.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            this.delegate.execute(this);
+        } catch (RejectedExecutionException e) {
+            this.scheduled.set(false);
+            throw e;
+        }
+    }
+}
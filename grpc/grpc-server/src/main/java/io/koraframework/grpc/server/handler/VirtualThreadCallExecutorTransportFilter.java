@@ -0,0 +1,97 @@
+package io.koraframework.grpc.server.handler;
+
+import io.grpc.*;
+import io.koraframework.application.graph.Lifecycle;
+import io.koraframework.common.telemetry.OpentelemetryContext;
+import io.koraframework.common.util.BoundedExecutor;
+import io.koraframework.logging.common.MDC;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.context.Context;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs every call on its own virtual thread from one server wide executor, so a slow call does not block other calls multiplexed on the same connection.
+ * Listener callbacks of a call are still delivered one at a time in order.
+ * Concurrency is bounded per server and per connection, calls above the limits wait in lock-free queues instead of holding a thread.
+ * Limits and gauges count dispatch tasks, a task delivers pending callbacks of one call, so a call holds at most one slot at a time.
+ * Gauges are removed and the executor is shut down on release.
+ */
+public final class VirtualThreadCallExecutorTransportFilter extends ServerTransportFilter implements ServerCallExecutorSupplier, Lifecycle {
+
+    private static final Attributes.Key<Executor> EXECUTOR_KEY = Attributes.Key.create("virtual-thread-call-executor");
+
+    private final int maxConcurrentCallsPerConnection;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ExecutorService virtualExecutor;
+    private final BoundedExecutor serverExecutor;
+    @Nullable
+    private final MeterRegistry meterRegistry;
+    private final List<Meter> meters = new ArrayList<>();
+
+    public VirtualThreadCallExecutorTransportFilter(String name,
+                                                    int maxConcurrentCalls,
+                                                    int maxConcurrentCallsPerConnection,
+                                                    @Nullable MeterRegistry meterRegistry) {
+        this.maxConcurrentCallsPerConnection = maxConcurrentCallsPerConnection;
+        this.virtualExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+        this.serverExecutor = new BoundedExecutor(this.virtualExecutor, maxConcurrentCalls, this.queued);
+        this.meterRegistry = meterRegistry;
+
+        if (meterRegistry != null) {
+            this.meters.add(Gauge.builder("rpc.server.dispatch.queued_tasks", this.queued, AtomicInteger::get)
+                .tag("server.name", name)
+                .strongReference(true)
+                .register(meterRegistry));
+            this.meters.add(Gauge.builder("rpc.server.dispatch.running_tasks", this.serverExecutor, BoundedExecutor::inFlight)
+                .tag("server.name", name)
+                .strongReference(true)
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void init() {}
+
+    @Override
+    public void release() {
+        if (this.meterRegistry != null) {
+            for (var meter : this.meters) {
+                this.meterRegistry.remove(meter);
+            }
+            this.meters.clear();
+        }
+        // server is released before its call executor, so only calls that outlived graceful shutdown are still running here
+        this.virtualExecutor.shutdown();
+    }
+
+    @Override
+    public Attributes transportReady(Attributes transportAttrs) {
+        if (this.maxConcurrentCallsPerConnection <= 0) {
+            return transportAttrs;
+        }
+        // connection executor holds no threads, so it is simply dropped together with the transport
+        return transportAttrs.toBuilder()
+            .set(EXECUTOR_KEY, new BoundedExecutor(this.serverExecutor, this.maxConcurrentCallsPerConnection, this.queued))
+            .build();
+    }
+
+    @Override
+    public <ReqT, RespT> Executor getExecutor(ServerCall<ReqT, RespT> call, Metadata metadata) {
+        var connectionExecutor = call.getAttributes().get(EXECUTOR_KEY);
+        var callExecutor = new SerializingExecutor(connectionExecutor == null ? this.serverExecutor : connectionExecutor);
+        var mdc = new MDC();
+        var context = Context.root();
+        return command -> callExecutor.execute(() -> ScopedValue.where(MDC.VALUE, mdc)
+            .where(OpentelemetryContext.VALUE, context)
+            .run(command));
+    }
+}
@@ -0,0 +1,105 @@
+package io.koraframework.grpc.server.handler;
+
+import io.grpc.Attributes;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VirtualThreadCallExecutorTransportFilterTest {
+
+    @Test
+    void callsOfOneConnectionRunConcurrently() throws InterruptedException {
+        var filter = new VirtualThreadCallExecutorTransportFilter("test", 0, 0, null);
+        var attributes = filter.transportReady(Attributes.EMPTY);
+        var slowCall = filter.getExecutor(call(attributes), new Metadata());
+        var fastCall = filter.getExecutor(call(attributes), new Metadata());
+        var release = new CountDownLatch(1);
+        var fastDone = new CountDownLatch(1);
+
+        slowCall.execute(() -> await(release));
+        fastCall.execute(fastDone::countDown);
+
+        assertThat(fastDone.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    void connectionLimitQueuesCalls() throws InterruptedException {
+        var filter = new VirtualThreadCallExecutorTransportFilter("test", 0, 1, null);
+        var attributes = filter.transportReady(Attributes.EMPTY);
+        var slowCall = filter.getExecutor(call(attributes), new Metadata());
+        var queuedCall = filter.getExecutor(call(attributes), new Metadata());
+        var otherConnectionCall = filter.getExecutor(call(filter.transportReady(Attributes.EMPTY)), new Metadata());
+        var release = new CountDownLatch(1);
+        var queuedDone = new CountDownLatch(1);
+        var otherDone = new CountDownLatch(1);
+
+        slowCall.execute(() -> await(release));
+        queuedCall.execute(queuedDone::countDown);
+        otherConnectionCall.execute(otherDone::countDown);
+
+        assertThat(otherDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queuedDone.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        release.countDown();
+        assertThat(queuedDone.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void callTasksRunInOrder() throws InterruptedException {
+        var filter = new VirtualThreadCallExecutorTransportFilter("test", 0, 0, null);
+        var executor = filter.getExecutor(call(filter.transportReady(Attributes.EMPTY)), new Metadata());
+        var result = new CopyOnWriteArrayList<Integer>();
+        var done = new CountDownLatch(100);
+
+        for (int i = 0; i < 100; i++) {
+            var index = i;
+            executor.execute(() -> {
+                result.add(index);
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(result).isEqualTo(IntStream.range(0, 100).boxed().toList());
+    }
+
+    @Test
+    void releaseRemovesGaugesAndStopsExecutor() {
+        var registry = new SimpleMeterRegistry();
+        var filter = new VirtualThreadCallExecutorTransportFilter("test", 0, 0, registry);
+        assertThat(registry.find("rpc.server.dispatch.queued_tasks").gauge()).isNotNull();
+        assertThat(registry.find("rpc.server.dispatch.running_tasks").gauge()).isNotNull();
+        var executor = filter.getExecutor(call(filter.transportReady(Attributes.EMPTY)), new Metadata());
+
+        filter.release();
+
+        assertThat(registry.getMeters()).isEmpty();
+        assertThatThrownBy(() -> executor.execute(() -> {}))
+            .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static ServerCall<?, ?> call(Attributes attributes) {
+        var call = Mockito.mock(ServerCall.class);
+        Mockito.when(call.getAttributes()).thenReturn(attributes);
+        return call;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
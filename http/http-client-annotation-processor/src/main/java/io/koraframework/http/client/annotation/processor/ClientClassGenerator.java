@@ -45,6 +45,22 @@ public class ClientClassGenerator {
 
         builder.addMethod(this.buildConstructor(builder, element, methods));
         builder.addField(String.class, "rootUrl", Modifier.PRIVATE, Modifier.FINAL);
+        builder.addField(httpClient, "httpClient", Modifier.PRIVATE, Modifier.FINAL);
+        builder.addField(boolean.class, "ownsHttpClient", Modifier.PRIVATE, Modifier.FINAL);
+        // balancing is configured at runtime, so the client is always Lifecycle, but closes only the balancer it created
+        builder.addSuperinterface(CommonClassNames.lifecycle);
+        builder.addMethod(MethodSpec.methodBuilder("init")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .build());
+        builder.addMethod(MethodSpec.methodBuilder("release")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addException(Exception.class)
+            .beginControlFlow("if (this.ownsHttpClient && this.httpClient instanceof $T closeable)", AutoCloseable.class)
+            .addStatement("closeable.close()")
+            .endControlFlow()
+            .build());
 
         if (AnnotationUtils.findAnnotation(element, CommonClassNames.root) != null) {
             builder.addAnnotation(CommonClassNames.root);
@@ -350,7 +366,45 @@ public class ClientClassGenerator {
 
         b.addCode("\n");
         b.addStatement("var _request = $T.of($S, _uri, _uriTemplate, _headers, _body, _requestTimeout)", httpClientRequest, httpMethod);
-        if (CommonUtils.isMono(method.getReturnType()) || CommonUtils.isCompletionStage(method.getReturnType())) {
+        if (CommonUtils.isCompletionStage(method.getReturnType())) {
+            var resultType = ((DeclaredType) method.getReturnType()).getTypeArguments().getFirst();
+            if (methodData.responseMapper != null && isFutureMapper(methodData.responseMapper.mapperClass()) && methodData.codeMappers().isEmpty()) {
+                // mapper written for blocking execution of CompletionStage methods returns the stage itself
+                var responseMapperName = method.getSimpleName() + "ResponseMapper";
+                var ref = findMapperField(builder, responseMapperName).modifiers().contains(Modifier.STATIC)
+                    ? CodeBlock.of("$T", implClassName(methodData.element))
+                    : CodeBlock.of("this");
+                b.add("return _client.executeAsync(_request).<$T>thenCompose(_response -> {$>\n", TypeName.get(resultType));
+                b.beginControlFlow("try");
+                b.addStatement("return $T.closeWhenComplete($L.$N.apply(_response), _response)", httpClientAsyncUtils, ref, responseMapperName);
+                b.nextControlFlow("catch ($T _e)", Exception.class);
+                b.beginControlFlow("try");
+                b.addStatement("_response.close()");
+                b.nextControlFlow("catch ($T _closeError)", Exception.class);
+                b.addStatement("_e.addSuppressed(_closeError)");
+                b.endControlFlow();
+                b.addStatement("throw new $T(_e)", httpClientDecoderException);
+                b.endControlFlow();
+                b.add("$<});\n");
+                return b.build();
+            }
+            for (var codeMapper : methodData.codeMappers()) {
+                if (isFutureMapper(codeMapper.mapper())) {
+                    throw new ProcessingErrorException(futureCodeMapperError(codeMapper.mapper(), resultType), method);
+                }
+            }
+            b.add("return _client.executeAsync(_request).<$T>thenApply(_response -> {$>\n", TypeName.get(resultType));
+            b.beginControlFlow("try (_response)");
+            b.add(mapBlockingResponse(builder, methodData, resultType));
+            b.nextControlFlow("catch (RuntimeException e)")
+                .addStatement("throw e");
+            b.nextControlFlow("catch (Exception e)")
+                .addStatement("throw new $T(e)", httpClientUnknownException);
+            b.endControlFlow();// try response
+            b.add("$<});\n");
+            return b.build();
+        }
+        if (CommonUtils.isMono(method.getReturnType())) {
             this.processingEnv.getMessager().printWarning("Method has async signature, this might not work correctly", method);
         }
         b.beginControlFlow("try (var _response = _client.execute(_request))");
@@ -456,6 +510,19 @@ public class ClientClassGenerator {
     }
 
 
+    private static String futureCodeMapperError(TypeMirror mapper, TypeMirror resultType) {
+        return """
+            Response code mapper returns CompletionStage:
+              %s
+
+            Problem:
+              CompletionStage methods are executed with async HTTP client API, so response code mappers receive the response once it is available and must return the stage value.
+
+            Fix:
+              Implement HttpClientResponseMapper<%s> instead.
+            """.formatted(mapper, resultType);
+    }
+
     private CodeBlock mapBlockingResponse(TypeSpec.Builder builder, MethodData methodData, TypeMirror resultType) {
         var b = CodeBlock.builder();
         if (methodData.responseMapper != null && methodData.responseMapper.mapperClass() != null && methodData.codeMappers().isEmpty()) {
@@ -513,7 +580,7 @@ public class ClientClassGenerator {
                     var ref = findMapperField(builder, responseMapperName).modifiers().contains(Modifier.STATIC)
                         ? CodeBlock.of("$T", implClassName(methodData.element))
                         : CodeBlock.of("this");
-                    if (isMapperAssignable(methodData.element.getReturnType(), codeMapper.type, codeMapper.mapper)) {
+                    if (isMapperAssignable(resultType, codeMapper.type, codeMapper.mapper)) {
                         addResponseMapperCase(b, "case " + codeMapper.code(), CodeBlock.of("$L.$L.apply(_response)", ref, responseMapperName), isVoid);
                     } else {
                         b.add("  case $L -> throw $L.$L.apply(_response);\n", codeMapper.code(), ref, responseMapperName);
@@ -529,7 +596,7 @@ public class ClientClassGenerator {
                 var ref = findMapperField(builder, responseMapperName).modifiers().contains(Modifier.STATIC)
                     ? CodeBlock.of("$T", implClassName(methodData.element))
                     : CodeBlock.of("this");
-                if (isMapperAssignable(methodData.element.getReturnType(), defaultMapper.type, defaultMapper.mapper)) {
+                if (isMapperAssignable(resultType, defaultMapper.type, defaultMapper.mapper)) {
                     addResponseMapperCase(b, "default", CodeBlock.of("$L.$L.apply(_response)", ref, responseMapperName), isVoid);
                 } else {
                     b.add("  default -> throw $L.$L.apply(_response);\n", ref, responseMapperName);
@@ -604,6 +671,10 @@ public class ClientClassGenerator {
             builder.addStatement("this.$1L = $1L", readerName);
         }
         builder.addStatement("this.rootUrl = $T.requireNonNull(config.url())", Objects.class);
+        // balancer is shared by all operations of the client
+        builder.addStatement("this.httpClient = config.balance(httpClient)");
+        // root client is a graph component released by the graph itself
+        builder.addStatement("this.ownsHttpClient = this.httpClient != httpClient");
 
         for (var classInterceptor : classInterceptors) {
             if (addedInterceptorsMap.containsKey(classInterceptor)) {
@@ -654,7 +725,7 @@ public class ClientClassGenerator {
                     var responseMapperTypeElement = (TypeElement) ((DeclaredType) methodData.responseMapper.mapperClass()).asElement();
                     var mapperClassName = ClassName.get(responseMapperTypeElement);
                     var b = !responseMapperTypeElement.getTypeParameters().isEmpty()
-                        ? FieldSpec.builder(ParameterizedTypeName.get(mapperClassName, TypeName.get(method.getReturnType())), responseMapperName)
+                        ? FieldSpec.builder(ParameterizedTypeName.get(mapperClassName, TypeName.get(mappedResultType(method.getReturnType()))), responseMapperName)
                         .initializer(CodeBlock.of("new $T<>()", mapperClassName))
                         : FieldSpec.builder(mapperClassName, responseMapperName)
                         .initializer(CodeBlock.of("new $T()", mapperClassName));
@@ -669,7 +740,12 @@ public class ClientClassGenerator {
                         final TypeName responseMapperType;
                         if (methodData.responseMapper() != null && methodData.responseMapper().mapperClass() != null) {
                             responseMapperType = TypeName.get(methodData.responseMapper().mapperClass());
-                        } else if (CommonUtils.isMono(methodData.element.getReturnType()) || CommonUtils.isCompletionStage(methodData.element.getReturnType())) {
+                        } else if (CommonUtils.isCompletionStage(methodData.element.getReturnType())) {
+                            responseMapperType = ParameterizedTypeName.get(
+                                httpClientResponseMapper,
+                                ((ParameterizedTypeName) methodData.returnType()).typeArguments().get(0)
+                            );
+                        } else if (CommonUtils.isMono(methodData.element.getReturnType())) {
                             responseMapperType = ParameterizedTypeName.get(
                                 httpClientResponseMapper,
                                 ParameterizedTypeName.get(
@@ -705,15 +781,15 @@ public class ClientClassGenerator {
                         var b = mapperTypeElement.getTypeParameters().isEmpty()
                             ? FieldSpec.builder(mapperTypeName, responseMapperName)
                             .initializer(CodeBlock.of("new $T()", mapperTypeName))
-                            : FieldSpec.builder(ParameterizedTypeName.get(mapperTypeName, TypeName.get(method.getReturnType())), responseMapperName)
+                            : FieldSpec.builder(ParameterizedTypeName.get(mapperTypeName, TypeName.get(mappedResultType(method.getReturnType()))), responseMapperName)
                             .initializer(CodeBlock.of("new $T<>()", mapperTypeName));
                         var responseMapperField = b.addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL).build();
                         tb.addField(responseMapperField);
                     } else {
                         var returnType = method.getReturnType();
-                        var responseMapperType = CommonUtils.isMono(returnType) || CommonUtils.isCompletionStage(returnType)
+                        var responseMapperType = CommonUtils.isMono(returnType)
                             ? codeMapper.futureResponseMapperType(((DeclaredType) returnType).getTypeArguments().get(0))
-                            : codeMapper.responseMapperType(returnType);
+                            : codeMapper.responseMapperType(mappedResultType(returnType));
                         var responseMapperParameter = ParameterSpec.builder(responseMapperType, responseMapperName);
                         var responseMapperTags = methodData.responseMapper() != null
                             ? methodData.responseMapper().toTagAnnotation()
@@ -730,7 +806,7 @@ public class ClientClassGenerator {
             var name = method.getSimpleName();
             var httpRoute = AnnotationUtils.findAnnotation(method, HttpClientClassNames.httpRoute);
             var httpPath = AnnotationUtils.parseAnnotationValueWithoutDefault(httpRoute, "path");
-            builder.addCode("var $L = config.apply(httpClient, $S, $T.class, $S, config.$L(), telemetryFactory, $S);\n", name, configPath, element, name, name, httpPath);
+            builder.addCode("var $L = config.apply(this.httpClient, $S, $T.class, $S, config.$L(), telemetryFactory, $S);\n", name, configPath, element, name, name, httpPath);
             builder.addCode("this.$LUriTemplate = $L.url();\n", name, name);
             var hasUriParameters = methodData.parameters().stream().anyMatch(p -> p instanceof Parameter.QueryParameter || p instanceof Parameter.PathParameter);
             if (!hasUriParameters) {
@@ -787,6 +863,27 @@ public class ClientClassGenerator {
         return typeArg.getKind() == TypeKind.TYPEVAR || types.isAssignable(resultType, typeArg);
     }
 
+    /**
+     * Mappers of CompletionStage methods used to return the stage themselves, before these methods were executed with async client api
+     */
+    private boolean isFutureMapper(@Nullable TypeMirror mapperClass) {
+        if (!(mapperClass instanceof DeclaredType mapperType)) {
+            return false;
+        }
+        var responseMapperType = TypeUtils.findSupertype(processingEnv, mapperType, httpClientResponseMapper);
+        return responseMapperType != null && CommonUtils.isCompletionStage(responseMapperType.getTypeArguments().get(0));
+    }
+
+    /**
+     * CompletionStage methods are executed with async client api, so their response is mapped to the stage value type
+     */
+    private static TypeMirror mappedResultType(TypeMirror returnType) {
+        if (CommonUtils.isCompletionStage(returnType) && returnType instanceof DeclaredType dt) {
+            return dt.getTypeArguments().getFirst();
+        }
+        return returnType;
+    }
+
     private boolean isEitherResponse(TypeMirror resultType) {
         if ((CommonUtils.isCompletionStage(resultType) || CommonUtils.isMono(resultType)) && resultType instanceof DeclaredType dt) {
             resultType = dt.getTypeArguments().getFirst();
@@ -15,6 +15,7 @@ import org.mockito.Mockito;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static org.mockito.Mockito.mock;
@@ -39,6 +40,14 @@ public abstract class AbstractHttpClientTest extends AbstractAnnotationProcessor
             });
     }
 
+    protected void onAsyncRequest(String method, String path, Function<TestHttpClientResponse, TestHttpClientResponse> responseConsumer) {
+        when(httpClient.executeAsync(Mockito.argThat(argument -> argument.method().equalsIgnoreCase(method) && argument.uri().toString().equalsIgnoreCase(path))))
+            .thenAnswer(invocation -> {
+                invocation.getArgument(0, HttpClientRequest.class).body().close();
+                return CompletableFuture.completedFuture(responseConsumer.apply(TestHttpClientResponse.response(200)));
+            });
+    }
+
     @Override
     protected String commonImports() {
         return super.commonImports() + """
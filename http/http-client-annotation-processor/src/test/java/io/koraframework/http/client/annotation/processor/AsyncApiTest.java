@@ -0,0 +1,135 @@
+package io.koraframework.http.client.annotation.processor;
+
+import io.koraframework.http.client.common.exception.HttpClientResponseException;
+import io.koraframework.http.client.common.response.HttpClientResponseMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class AsyncApiTest extends AbstractHttpClientTest {
+
+    @Test
+    public void testAsyncVoid() {
+        var client = compileClient(List.of(), """
+            @HttpClient
+            public interface TestClient {
+              @HttpRoute(method = "POST", path = "/test")
+              CompletionStage<Void> request();
+            }
+            """);
+
+        onAsyncRequest("POST", "http://test-url:8080/test", rs -> rs.withCode(200));
+        assertThat(client.<CompletionStage<Void>>invoke("request").toCompletableFuture().join()).isNull();
+        verify(httpClient, never()).execute(any());
+
+        reset(httpClient);
+        onAsyncRequest("POST", "http://test-url:8080/test", rs -> rs.withCode(500));
+        assertThatThrownBy(() -> client.<CompletionStage<Void>>invoke("request").toCompletableFuture().join())
+            .hasCauseInstanceOf(HttpClientResponseException.class);
+    }
+
+    @Test
+    public void testAsyncNonVoid() throws IOException {
+        var mapper = mock(HttpClientResponseMapper.class);
+        var client = compileClient(List.of(mapper), """
+            @HttpClient
+            public interface TestClient {
+              @HttpRoute(method = "POST", path = "/test")
+              CompletionStage<String> request();
+            }
+            """);
+
+        when(mapper.apply(any())).thenReturn("test");
+        onAsyncRequest("POST", "http://test-url:8080/test", rs -> rs.withCode(200));
+        assertThat(client.<CompletionStage<String>>invoke("request").toCompletableFuture().join()).isEqualTo("test");
+        verify(httpClient, never()).execute(any());
+    }
+
+    @Test
+    public void testAsyncResponseCodeMapper() {
+        var client = compileClient(List.of(newGeneratedObject("TestMapper")), """
+            @HttpClient
+            public interface TestClient {
+              @ResponseCodeMapper(code = 201, mapper = TestMapper.class)
+              @ResponseCodeMapper(code = 404, mapper = NullMapper.class)
+              @HttpRoute(method = "GET", path = "/test")
+              CompletionStage<String> test();
+            }
+            """, """
+            public class TestMapper implements HttpClientResponseMapper<String> {
+              public String apply(HttpClientResponse rs) {
+                  return "test-string-from-mapper";
+              }
+            }
+            """, """
+            public final class NullMapper <T> implements HttpClientResponseMapper<T> {
+              public T apply(HttpClientResponse rs) {
+                  return null;
+              }
+            }
+            """);
+
+        onAsyncRequest("GET", "http://test-url:8080/test", rs -> rs.withCode(201));
+        assertThat(client.<CompletionStage<String>>invoke("test").toCompletableFuture().join())
+            .isEqualTo("test-string-from-mapper");
+
+        reset(httpClient);
+        onAsyncRequest("GET", "http://test-url:8080/test", rs -> rs.withCode(404));
+        assertThat(client.<CompletionStage<String>>invoke("test").toCompletableFuture().join())
+            .isNull();
+
+        reset(httpClient);
+        onAsyncRequest("GET", "http://test-url:8080/test", rs -> rs.withCode(500));
+        assertThatThrownBy(() -> client.<CompletionStage<String>>invoke("test").toCompletableFuture().join())
+            .hasCauseInstanceOf(HttpClientResponseException.class);
+    }
+
+    @Test
+    public void testAsyncFutureMapper() {
+        var client = compileClient(List.of(), """
+            @HttpClient
+            public interface TestClient {
+              @Mapping(TestMapper.class)
+              @HttpRoute(method = "GET", path = "/test")
+              CompletionStage<String> request();
+            }
+            """, """
+            public final class TestMapper implements HttpClientResponseMapper<CompletionStage<String>> {
+              public CompletionStage<String> apply(HttpClientResponse rs) {
+                  return CompletableFuture.completedFuture("test-string-from-mapper");
+              }
+            }
+            """);
+
+        onAsyncRequest("GET", "http://test-url:8080/test", rs -> rs.withCode(200));
+        assertThat(client.<CompletionStage<String>>invoke("request").toCompletableFuture().join())
+            .isEqualTo("test-string-from-mapper");
+        verify(httpClient, never()).execute(any());
+    }
+
+    @Test
+    public void testAsyncFutureResponseCodeMapperIsRejected() {
+        assertThatThrownBy(() -> compileClient(List.of(), """
+            @HttpClient
+            public interface TestClient {
+              @ResponseCodeMapper(code = 200, mapper = TestMapper.class)
+              @HttpRoute(method = "GET", path = "/test")
+              CompletionStage<String> request();
+            }
+            """, """
+            public final class TestMapper implements HttpClientResponseMapper<CompletionStage<String>> {
+              public CompletionStage<String> apply(HttpClientResponse rs) {
+                  return CompletableFuture.completedFuture("test-string-from-mapper");
+              }
+            }
+            """))
+            .hasMessageContaining("Response code mapper returns CompletionStage");
+    }
+}
@@ -1,5 +1,6 @@
 package io.koraframework.http.client.apache;
 
+import io.koraframework.common.Deadline;
 import io.koraframework.http.client.common.HttpClient;
 import io.koraframework.http.client.common.exception.HttpClientConnectionException;
 import io.koraframework.http.client.common.exception.HttpClientException;
@@ -43,9 +44,10 @@ public class ApacheHttpClient implements HttpClient {
 
     ClassicHttpRequest convertToApacheRequest(HttpClientRequest request) {
         var apacheRequest = new HttpUriRequestBase(request.method(), request.uri());
-        if (request.requestTimeout() != null) {
+        var requestTimeout = Deadline.timeout(request.requestTimeout());
+        if (requestTimeout != null) {
             apacheRequest.setConfig(RequestConfig.custom()
-                .setResponseTimeout(request.requestTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .setResponseTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
                 .build());
         }
 
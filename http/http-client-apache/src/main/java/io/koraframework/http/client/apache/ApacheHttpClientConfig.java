@@ -1,6 +1,7 @@
 package io.koraframework.http.client.apache;
 
 import io.koraframework.config.common.annotation.ConfigMapper;
+import org.jspecify.annotations.Nullable;
 
 @ConfigMapper
 public interface ApacheHttpClientConfig {
@@ -13,7 +14,11 @@ public interface ApacheHttpClientConfig {
         return 3;
     }
 
-    default int maxConnections() {
-        return Runtime.getRuntime().availableProcessors() * 250;
-    }
+    /**
+     * @return Maximum number of connections, overrides {@link io.koraframework.http.client.common.HttpClientConfig.HttpClientPoolConfig#maxConnections()} if set.
+     * @deprecated use pool.maxConnections of the base HTTP client config
+     */
+    @Deprecated
+    @Nullable
+    Integer maxConnections();
 }
@@ -7,6 +7,7 @@ import io.koraframework.config.common.Config;
 import io.koraframework.config.common.mapper.ConfigValueMapper;
 import io.koraframework.http.client.common.HttpClientConfig;
 import io.koraframework.http.client.common.HttpClientFactoryModule;
+import io.koraframework.http.client.common.telemetry.HttpClientTelemetryFactory;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.jspecify.annotations.Nullable;
@@ -39,7 +40,8 @@ public class ApacheHttpClientFactoryModule extends HttpClientFactoryModule {
     public ApacheHttpClientWrapper apacheHttpClientWrapper(@Tag(Tag.Factory.class) HttpClientConfig baseConfig,
                                                            @Tag(Tag.Factory.class) ApacheHttpClientConfig apacheConfig,
                                                            @Tag(Tag.Factory.class) @Nullable Configurer<RequestConfig.Builder> requestConfigurer,
-                                                           @Tag(Tag.Factory.class) @Nullable Configurer<HttpClientBuilder> clientConfigurer) {
-        return new ApacheHttpClientWrapper(baseConfig, apacheConfig, requestConfigurer, clientConfigurer);
+                                                           @Tag(Tag.Factory.class) @Nullable Configurer<HttpClientBuilder> clientConfigurer,
+                                                           @Nullable HttpClientTelemetryFactory telemetryFactory) {
+        return new ApacheHttpClientWrapper(baseConfig, apacheConfig, requestConfigurer, clientConfigurer, this.baseConfigPath, telemetryFactory);
     }
 }
@@ -5,6 +5,9 @@ import io.koraframework.application.graph.Wrapped;
 import io.koraframework.common.Configurer;
 import io.koraframework.common.util.TimeUtils;
 import io.koraframework.http.client.common.HttpClientConfig;
+import io.koraframework.http.client.common.telemetry.HttpClientPoolTelemetry;
+import io.koraframework.http.client.common.telemetry.HttpClientTelemetryFactory;
+import io.koraframework.http.client.common.telemetry.impl.NoopHttpClientPoolTelemetry;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.config.ConnectionConfig;
@@ -13,6 +16,7 @@ import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
@@ -33,17 +37,32 @@ public class ApacheHttpClientWrapper implements Lifecycle, Wrapped<org.apache.hc
     private final Configurer<RequestConfig.Builder> requestConfigurer;
     @Nullable
     private final Configurer<HttpClientBuilder> clientConfigurer;
+    private final String configPath;
+    @Nullable
+    private final HttpClientTelemetryFactory telemetryFactory;
 
     private volatile CloseableHttpClient httpClient;
+    private volatile HttpClientPoolTelemetry poolTelemetry = NoopHttpClientPoolTelemetry.INSTANCE;
 
     public ApacheHttpClientWrapper(HttpClientConfig baseConfig,
                                    ApacheHttpClientConfig apacheConfig,
                                    @Nullable Configurer<RequestConfig.Builder> requestConfigurer,
                                    @Nullable Configurer<HttpClientBuilder> clientConfigurer) {
+        this(baseConfig, apacheConfig, requestConfigurer, clientConfigurer, "httpClient", null);
+    }
+
+    public ApacheHttpClientWrapper(HttpClientConfig baseConfig,
+                                   ApacheHttpClientConfig apacheConfig,
+                                   @Nullable Configurer<RequestConfig.Builder> requestConfigurer,
+                                   @Nullable Configurer<HttpClientBuilder> clientConfigurer,
+                                   String configPath,
+                                   @Nullable HttpClientTelemetryFactory telemetryFactory) {
         this.baseConfig = baseConfig;
         this.apacheConfig = apacheConfig;
         this.requestConfigurer = requestConfigurer;
         this.clientConfigurer = clientConfigurer;
+        this.configPath = configPath;
+        this.telemetryFactory = telemetryFactory;
     }
 
     private CloseableHttpClient createApacheHttpClient() {
@@ -66,16 +85,32 @@ public class ApacheHttpClientWrapper implements Lifecycle, Wrapped<org.apache.hc
             .setRedirectsEnabled(apacheConfig.followRedirects())
             .setMaxRedirects(apacheConfig.maxRedirects());
 
+        var poolConfig = baseConfig.pool();
+        @SuppressWarnings("deprecation")
+        var apacheMaxConnections = apacheConfig.maxConnections();
+        var maxConnections = apacheMaxConnections != null ? apacheMaxConnections : poolConfig.maxConnections();
+        var maxConnectionsPerRoute = poolConfig.maxConnectionsPerRoute() != null
+            ? Math.min(poolConfig.maxConnectionsPerRoute(), maxConnections)
+            : maxConnections;
+        var acquireTimeout = poolConfig.acquireTimeout();
+        if (acquireTimeout != null) {
+            requestConfigBuilder.setConnectionRequestTimeout(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
         // Connection manager for pooling
         var connectionPoolBuilder = PoolingHttpClientConnectionManagerBuilder.create()
             .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.OFFLOCK)
-            .setMaxConnTotal(apacheConfig.maxConnections())
-            .setMaxConnPerRoute(apacheConfig.maxConnections())
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
             .setDefaultConnectionConfig(ConnectionConfig.custom()
                 .setConnectTimeout(baseConfig.connectTimeout().toMillis(), TimeUnit.MILLISECONDS)
-                .setIdleTimeout(30, TimeUnit.SECONDS)
-                .setValidateAfterInactivity(30, TimeUnit.SECONDS)
+                .setIdleTimeout(poolConfig.idleTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .setValidateAfterInactivity(poolConfig.idleTimeout().toMillis(), TimeUnit.MILLISECONDS)
                 .build());
+        var connectionManager = connectionPoolBuilder.build();
+        this.poolTelemetry = this.telemetryFactory == null
+            ? NoopHttpClientPoolTelemetry.INSTANCE
+            : this.telemetryFactory.pool(this.configPath, new ApachePoolState(connectionManager));
 
         // Build the client
         if (requestConfigurer != null) {
@@ -84,9 +119,9 @@ public class ApacheHttpClientWrapper implements Lifecycle, Wrapped<org.apache.hc
 
         var clientBuilder = HttpClients.custom()
             .setDefaultRequestConfig(requestConfigBuilder.build())
-            .setConnectionManager(connectionPoolBuilder.build())
+            .setConnectionManager(connectionManager)
             .evictExpiredConnections()
-            .evictIdleConnections(TimeValue.ofSeconds(30))
+            .evictIdleConnections(TimeValue.ofMilliseconds(poolConfig.idleTimeout().toMillis()))
             .disableDefaultUserAgent()
             .disableAuthCaching()
             .disableConnectionState()
@@ -134,6 +169,8 @@ public class ApacheHttpClientWrapper implements Lifecycle, Wrapped<org.apache.hc
             this.httpClient.close(CloseMode.GRACEFUL);
         }
         this.httpClient = null;
+        this.poolTelemetry.close();
+        this.poolTelemetry = NoopHttpClientPoolTelemetry.INSTANCE;
 
         logger.info("ApacheHttpClient stopped in {}", TimeUtils.tookForLogging(started));
     }
@@ -142,4 +179,27 @@ public class ApacheHttpClientWrapper implements Lifecycle, Wrapped<org.apache.hc
     public org.apache.hc.client5.http.classic.HttpClient value() {
         return this.httpClient;
     }
+
+    private record ApachePoolState(PoolingHttpClientConnectionManager connectionManager) implements HttpClientPoolTelemetry.PoolState {
+
+        @Override
+        public int leased() {
+            return this.connectionManager.getTotalStats().getLeased();
+        }
+
+        @Override
+        public int idle() {
+            return this.connectionManager.getTotalStats().getAvailable();
+        }
+
+        @Override
+        public int pending() {
+            return this.connectionManager.getTotalStats().getPending();
+        }
+
+        @Override
+        public int max() {
+            return this.connectionManager.getTotalStats().getMax();
+        }
+    }
 }
@@ -31,6 +31,11 @@ public class ApacheHttpClientTest extends HttpClientTest {
             public HttpClientProxyConfig proxy() {
                 return null;
             }
+
+            @Override
+            public HttpClientPoolConfig pool() {
+                return HttpClientTest.pool();
+            }
         })).convertToApacheRequest(request);
 
         assertThat(apacheRequest.containsHeader("Content-Length")).isFalse();
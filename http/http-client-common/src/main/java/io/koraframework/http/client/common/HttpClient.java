@@ -5,6 +5,10 @@ import io.koraframework.http.client.common.exception.HttpClientUnknownException;
 import io.koraframework.http.client.common.interceptor.HttpClientInterceptor;
 import io.koraframework.http.client.common.request.HttpClientRequest;
 import io.koraframework.http.client.common.response.HttpClientResponse;
+import io.koraframework.http.client.common.util.AsyncUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * <b>Русский</b>: Базовый интерфейс HTTP клиента для всех реализаций
@@ -15,14 +19,40 @@ public interface HttpClient {
 
     HttpClientResponse execute(HttpClientRequest request) throws HttpClientException;
 
+    /**
+     * <b>Русский</b>: Выполняет запрос без блокировки вызывающего потока, реализация по умолчанию выполняет {@link #execute(HttpClientRequest)} в виртуальном потоке
+     * <hr>
+     * <b>English</b>: Executes request without blocking the calling thread, default implementation runs {@link #execute(HttpClientRequest)} on a virtual thread
+     *
+     * @return stage completed with response or {@link HttpClientException}
+     */
+    default CompletionStage<HttpClientResponse> executeAsync(HttpClientRequest request) {
+        return AsyncUtils.executeOnVirtualThread(this::execute, request);
+    }
+
     default HttpClient with(HttpClientInterceptor interceptor) {
-        return request -> {
-            try {
-                return interceptor.processRequest(this::execute, request);
-            } catch (HttpClientException e) {
-                throw e;
-            } catch (Exception e) {
-                throw new HttpClientUnknownException(e);
+        var client = this;
+        return new HttpClient() {
+            @Override
+            public HttpClientResponse execute(HttpClientRequest request) throws HttpClientException {
+                try {
+                    return interceptor.processRequest(client::execute, request);
+                } catch (HttpClientException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new HttpClientUnknownException(e);
+                }
+            }
+
+            @Override
+            public CompletionStage<HttpClientResponse> executeAsync(HttpClientRequest request) {
+                try {
+                    return interceptor.processRequestAsync(client::executeAsync, request);
+                } catch (HttpClientException e) {
+                    return CompletableFuture.failedFuture(e);
+                } catch (Exception e) {
+                    return CompletableFuture.failedFuture(new HttpClientUnknownException(e));
+                }
             }
         };
     }
@@ -37,6 +37,48 @@ public interface HttpClientConfig {
         return false;
     }
 
+    /**
+     * @return Connection pool settings.
+     */
+    HttpClientPoolConfig pool();
+
+    @ConfigMapper
+    interface HttpClientPoolConfig {
+
+        /**
+         * @return Maximum number of connections leased at the same time across all routes.
+         */
+        default int maxConnections() {
+            return Runtime.getRuntime().availableProcessors() * 250;
+        }
+
+        /**
+         * @return Maximum number of connections leased at the same time to a single route (scheme, host and port), same as {@link #maxConnections()} if not set.
+         */
+        @Nullable
+        Integer maxConnectionsPerRoute();
+
+        /**
+         * @return Maximum number of idle connections kept in the pool, used only by clients that limit idle connections separately (OkHttp).
+         */
+        default int maxIdleConnections() {
+            return 5;
+        }
+
+        /**
+         * @return Time after which an idle connection is evicted from the pool.
+         */
+        default Duration idleTimeout() {
+            return Duration.ofSeconds(30);
+        }
+
+        /**
+         * @return Maximum time to wait for a connection from the pool, if not set the request waits until its timeout.
+         */
+        @Nullable
+        Duration acquireTimeout();
+    }
+
     @ConfigMapper
     interface HttpClientProxyConfig {
 
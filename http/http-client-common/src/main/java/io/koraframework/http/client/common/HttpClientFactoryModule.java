@@ -6,14 +6,14 @@ import io.koraframework.config.common.mapper.ConfigValueMapper;
 
 public class HttpClientFactoryModule {
 
-    private final String configPath;
+    protected final String baseConfigPath;
 
     public HttpClientFactoryModule(String configPath) {
-        this.configPath = configPath;
+        this.baseConfigPath = configPath;
     }
 
     @Tag(Tag.Factory.class)
     public HttpClientConfig httpClientConfig(Config config, ConfigValueMapper<HttpClientConfig> mapper) {
-        return mapper.mapOrThrow(config.get(this.configPath));
+        return mapper.mapOrThrow(config.get(this.baseConfigPath));
     }
 }
@@ -0,0 +1,32 @@
+package io.koraframework.http.client.common.balancing;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class Endpoint {
+
+    final String url;
+    final AtomicInteger outstanding = new AtomicInteger();
+    final AtomicInteger consecutiveFailures = new AtomicInteger();
+    volatile long ejectedUntilNanos;
+    volatile boolean ejected;
+
+    Endpoint(String url) {
+        this.url = url;
+    }
+
+    boolean isAvailable(long now) {
+        if (!this.ejected) {
+            return true;
+        }
+        if (this.ejectedUntilNanos - now <= 0) {
+            this.ejected = false;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return this.url;
+    }
+}
@@ -0,0 +1,49 @@
+package io.koraframework.http.client.common.balancing;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Percentile of the most recent response times, recalculated by the recording thread every {@link #RECALCULATE_EVERY} samples
+ * so reading it on every request costs a single volatile read.
+ */
+final class LatencyTracker {
+
+    private static final int SAMPLES = 1024;
+    private static final int RECALCULATE_EVERY = 64;
+
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+    private final AtomicLong recorded = new AtomicLong();
+    private final double percentile;
+    private volatile long percentileNanos = -1;
+
+    LatencyTracker(double percentile) {
+        this.percentile = percentile;
+    }
+
+    void record(long nanos) {
+        var index = this.recorded.getAndIncrement();
+        this.samples.lazySet((int) (index & (SAMPLES - 1)), nanos);
+        if ((index + 1) % RECALCULATE_EVERY == 0) {
+            this.recalculate(Math.min(index + 1, SAMPLES));
+        }
+    }
+
+    /**
+     * @return percentile of recent response times or -1 until enough responses are observed
+     */
+    long percentileNanos() {
+        return this.percentileNanos;
+    }
+
+    private void recalculate(long count) {
+        var copy = new long[(int) count];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = this.samples.get(i);
+        }
+        Arrays.sort(copy);
+        var rank = (int) Math.ceil(this.percentile * copy.length) - 1;
+        this.percentileNanos = copy[Math.clamp(rank, 0, copy.length - 1)];
+    }
+}
@@ -0,0 +1,349 @@
+package io.koraframework.http.client.common.balancing;
+
+import io.koraframework.common.telemetry.Observation;
+import io.koraframework.http.client.common.HttpClient;
+import io.koraframework.http.client.common.declarative.DeclarativeHttpClientConfig.BalancingConfig;
+import io.koraframework.http.client.common.declarative.DeclarativeHttpClientConfig.HedgingConfig;
+import io.koraframework.http.client.common.exception.HttpClientException;
+import io.koraframework.http.client.common.exception.HttpClientUnknownException;
+import io.koraframework.http.client.common.request.HttpClientRequest;
+import io.koraframework.http.client.common.response.HttpClientResponse;
+import io.koraframework.http.client.common.telemetry.HttpClientObservation;
+import io.koraframework.http.client.common.util.AsyncUtils;
+import io.koraframework.http.common.HttpMethod;
+import io.koraframework.http.common.body.EmptyHttpBody;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <b>Русский</b>: HTTP клиент, распределяющий запросы между несколькими базовыми URL и отправляющий дублирующие запросы для идемпотентных методов.
+ * <hr>
+ * <b>English</b>: HTTP client that balances requests between several base URLs and sends hedged requests for idempotent methods.
+ * <p>
+ * Only requests whose URI starts with the primary base URL are balanced, the prefix is replaced with the chosen base URL.
+ * Base URL is ejected for {@link BalancingConfig#ejectionDuration()} after {@link BalancingConfig#ejectionConsecutiveFailures()} connection errors or 5xx responses in a row.
+ * Hedged request is sent to another base URL when the response is not received within {@link HedgingConfig#delayPercentile()} of recent response times,
+ * the first response that is not 5xx wins and other attempts are cancelled.
+ */
+public final class LoadBalancingHttpClient implements HttpClient, AutoCloseable {
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.TRACE, HttpMethod.PUT, HttpMethod.DELETE);
+    private static final long BUDGET_HEDGE_COST = 100;
+    private static final long BUDGET_MAX = BUDGET_HEDGE_COST * 10;
+
+    private final HttpClient delegate;
+    private final String primaryUrl;
+    private final Endpoint[] endpoints;
+    private final BalancingConfig balancing;
+    private final HedgingConfig hedging;
+    private final LatencyTracker latency;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final AtomicLong hedgeBudget = new AtomicLong();
+    private final ExecutorService executor;
+
+    public LoadBalancingHttpClient(HttpClient delegate, String url, List<String> additionalUrls, BalancingConfig balancing, HedgingConfig hedging) {
+        if (balancing.ejectionConsecutiveFailures() < 1) {
+            throw new IllegalArgumentException("Balancing 'ejectionConsecutiveFailures' must be greater than 0, but was: " + balancing.ejectionConsecutiveFailures());
+        }
+        if (hedging.enabled()) {
+            if (hedging.delayPercentile() <= 0 || hedging.delayPercentile() > 1) {
+                throw new IllegalArgumentException("Hedging 'delayPercentile' must be in range (0, 1], but was: " + hedging.delayPercentile());
+            }
+            if (hedging.maxAttempts() < 1) {
+                throw new IllegalArgumentException("Hedging 'maxAttempts' must be greater than 0, but was: " + hedging.maxAttempts());
+            }
+        }
+
+        var urls = new LinkedHashSet<String>();
+        urls.add(trimSlash(url));
+        for (var additionalUrl : additionalUrls) {
+            urls.add(trimSlash(additionalUrl));
+        }
+        this.delegate = delegate;
+        this.primaryUrl = trimSlash(url);
+        this.endpoints = urls.stream().map(Endpoint::new).toArray(Endpoint[]::new);
+        this.balancing = balancing;
+        this.hedging = hedging;
+        this.latency = new LatencyTracker(hedging.delayPercentile());
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-client-hedge-", 0).factory());
+    }
+
+    @Override
+    public HttpClientResponse execute(HttpClientRequest request) throws HttpClientException {
+        if (!request.uri().toString().startsWith(this.primaryUrl)) {
+            return this.delegate.execute(request);
+        }
+        if (this.hedging.enabled() && this.hedging.maxAttempts() > 1 && isHedgeable(request)) {
+            this.hedgeBudget.getAndUpdate(b -> Math.min(b + this.hedging.budgetPercent(), BUDGET_MAX));
+            var delay = this.latency.percentileNanos();
+            if (delay >= 0) {
+                return this.executeHedged(request, Math.max(delay, this.hedging.minDelay().toNanos()));
+            }
+        }
+        return this.executeAttempt(request, this.choose(List.of()));
+    }
+
+    private HttpClientResponse executeAttempt(HttpClientRequest request, Endpoint endpoint) {
+        var attemptRequest = endpoint.url.equals(this.primaryUrl)
+            ? request
+            : HttpClientRequest.of(request.method(), URI.create(endpoint.url + request.uri().toString().substring(this.primaryUrl.length())), request.uriTemplate(), request.headers(), request.body(), request.requestTimeout());
+
+        endpoint.outstanding.incrementAndGet();
+        var started = System.nanoTime();
+        try {
+            var response = this.delegate.execute(attemptRequest);
+            if (response.code() >= 500) {
+                this.onFailure(endpoint);
+            } else {
+                this.onSuccess(endpoint, System.nanoTime() - started);
+            }
+            return response;
+        } catch (RuntimeException | Error e) {
+            this.onFailure(endpoint);
+            throw e;
+        } finally {
+            endpoint.outstanding.decrementAndGet();
+        }
+    }
+
+    private HttpClientResponse executeHedged(HttpClientRequest request, long delayNanos) {
+        var observation = Observation.VALUE.isBound() && Observation.VALUE.get() instanceof HttpClientObservation o ? o : null;
+        var maxAttempts = this.hedging.maxAttempts();
+        var results = new LinkedBlockingQueue<Attempt>();
+        var done = new AtomicBoolean();
+        var futures = new ArrayList<Future<?>>(maxAttempts);
+        var used = new ArrayList<Endpoint>(maxAttempts);
+        var carrier = AsyncUtils.contextCarrier();
+        HttpClientResponse failedResponse = null;
+        RuntimeException failure = null;
+        var canHedge = true;
+        var finished = 0;
+        try {
+            futures.add(this.startAttempt(carrier, request, this.choose(used), used, results, done));
+            while (true) {
+                Attempt attempt;
+                if (canHedge && futures.size() < maxAttempts) {
+                    attempt = results.poll(delayNanos, TimeUnit.NANOSECONDS);
+                    if (attempt == null) {
+                        if (this.tryAcquireHedge()) {
+                            var endpoint = this.choose(used);
+                            var future = this.startAttempt(carrier, request, endpoint, used, results, done);
+                            futures.add(future);
+                            if (observation != null) {
+                                observation.observeHedge(request, futures.size());
+                            }
+                        } else {
+                            canHedge = false;
+                        }
+                        continue;
+                    }
+                } else {
+                    attempt = results.take();
+                }
+
+                finished++;
+                var response = attempt.response;
+                if (response != null && response.code() < 500) {
+                    closeQuietly(failedResponse);
+                    return response;
+                }
+                if (response != null) {
+                    closeQuietly(failedResponse);
+                    failedResponse = response;
+                } else if (failure == null) {
+                    failure = attempt.error;
+                } else {
+                    failure.addSuppressed(attempt.error);
+                }
+                if (finished == futures.size()) {
+                    if (failedResponse != null) {
+                        return failedResponse;
+                    }
+                    throw Objects.requireNonNull(failure);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closeQuietly(failedResponse);
+            throw new HttpClientUnknownException(e);
+        } finally {
+            done.set(true);
+            for (var future : futures) {
+                future.cancel(true);
+            }
+            Attempt late;
+            while ((late = results.poll()) != null) {
+                closeQuietly(late.response);
+            }
+        }
+    }
+
+    private Future<?> startAttempt(ScopedValue.Carrier carrier, HttpClientRequest request, Endpoint endpoint, List<Endpoint> used, BlockingQueue<Attempt> results, AtomicBoolean done) {
+        used.add(endpoint);
+        return this.executor.submit(() -> carrier.run(() -> {
+            Attempt attempt;
+            try {
+                attempt = new Attempt(this.executeAttempt(request, endpoint), null);
+            } catch (RuntimeException e) {
+                attempt = new Attempt(null, e);
+            } catch (Error e) {
+                attempt = new Attempt(null, new HttpClientUnknownException(e));
+            }
+            results.offer(attempt);
+            // the caller stops reading results once it has a winner, the late response is closed by whoever takes it out of the queue
+            if (done.get() && results.remove(attempt)) {
+                closeQuietly(attempt.response);
+            }
+        }));
+    }
+
+    private Endpoint choose(List<Endpoint> exclude) {
+        var now = System.nanoTime();
+        var endpoints = this.endpoints;
+        if (endpoints.length == 1) {
+            return endpoints[0];
+        }
+        switch (this.balancing.strategy()) {
+            case ROUND_ROBIN -> {
+                for (int i = 0; i < endpoints.length; i++) {
+                    var endpoint = endpoints[Math.floorMod(this.roundRobin.getAndIncrement(), endpoints.length)];
+                    if (endpoint.isAvailable(now) && !exclude.contains(endpoint)) {
+                        return endpoint;
+                    }
+                }
+            }
+            case POWER_OF_TWO_CHOICES -> {
+                var random = ThreadLocalRandom.current();
+                var first = endpoints[random.nextInt(endpoints.length)];
+                var second = endpoints[random.nextInt(endpoints.length - 1)];
+                if (second == first) {
+                    second = endpoints[endpoints.length - 1];
+                }
+                var firstAvailable = first.isAvailable(now) && !exclude.contains(first);
+                var secondAvailable = second.isAvailable(now) && !exclude.contains(second);
+                if (firstAvailable && secondAvailable) {
+                    return first.outstanding.get() <= second.outstanding.get() ? first : second;
+                }
+                if (firstAvailable) {
+                    return first;
+                }
+                if (secondAvailable) {
+                    return second;
+                }
+                var leastOutstanding = leastOutstanding(endpoints, now, exclude);
+                if (leastOutstanding != null) {
+                    return leastOutstanding;
+                }
+            }
+            case LEAST_OUTSTANDING -> {
+                var leastOutstanding = leastOutstanding(endpoints, now, exclude);
+                if (leastOutstanding != null) {
+                    return leastOutstanding;
+                }
+            }
+        }
+        // every base URL is ejected or already used by this call: requests must go somewhere
+        for (var endpoint : endpoints) {
+            if (!exclude.contains(endpoint)) {
+                return endpoint;
+            }
+        }
+        return endpoints[Math.floorMod(this.roundRobin.getAndIncrement(), endpoints.length)];
+    }
+
+    @Nullable
+    private static Endpoint leastOutstanding(Endpoint[] endpoints, long now, List<Endpoint> exclude) {
+        Endpoint result = null;
+        var min = Integer.MAX_VALUE;
+        for (var endpoint : endpoints) {
+            var outstanding = endpoint.outstanding.get();
+            if (outstanding < min && endpoint.isAvailable(now) && !exclude.contains(endpoint)) {
+                result = endpoint;
+                min = outstanding;
+            }
+        }
+        return result;
+    }
+
+    private void onSuccess(Endpoint endpoint, long tookNanos) {
+        if (endpoint.consecutiveFailures.get() != 0) {
+            endpoint.consecutiveFailures.set(0);
+        }
+        if (this.hedging.enabled()) {
+            this.latency.record(tookNanos);
+        }
+    }
+
+    private void onFailure(Endpoint endpoint) {
+        if (this.endpoints.length == 1 || endpoint.consecutiveFailures.incrementAndGet() < this.balancing.ejectionConsecutiveFailures()) {
+            return;
+        }
+        var now = System.nanoTime();
+        var ejected = 0;
+        for (var e : this.endpoints) {
+            if (!e.isAvailable(now)) {
+                ejected++;
+            }
+        }
+        if ((ejected + 1) * 100L <= (long) this.balancing.maxEjectionPercent() * this.endpoints.length) {
+            endpoint.ejectedUntilNanos = now + this.balancing.ejectionDuration().toNanos();
+            endpoint.ejected = true;
+            endpoint.consecutiveFailures.set(0);
+        }
+    }
+
+    /**
+     * Cancels hedged attempts that are still running
+     */
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    private boolean tryAcquireHedge() {
+        while (true) {
+            var budget = this.hedgeBudget.get();
+            if (budget < BUDGET_HEDGE_COST) {
+                return false;
+            }
+            if (this.hedgeBudget.compareAndSet(budget, budget - BUDGET_HEDGE_COST)) {
+                return true;
+            }
+        }
+    }
+
+    private static boolean isHedgeable(HttpClientRequest request) {
+        if (!IDEMPOTENT_METHODS.contains(request.method())) {
+            return false;
+        }
+        // streamed body can be written only once
+        var body = request.body();
+        return body == EmptyHttpBody.INSTANCE || body.contentLength() == 0;
+    }
+
+    private static void closeQuietly(@Nullable HttpClientResponse response) {
+        if (response != null) {
+            try {
+                response.close();
+            } catch (IOException _) {
+            }
+        }
+    }
+
+    private static String trimSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private record Attempt(@Nullable HttpClientResponse response, @Nullable RuntimeException error) {}
+}
@@ -0,0 +1,65 @@
+package io.koraframework.http.client.common.cache;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Directives of Cache-Control header that are relevant for a client cache, durations are in seconds and -1 when absent
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc9111#section-5.2">RFC 9111 Cache-Control</a>
+ */
+record CacheControl(boolean noStore,
+                    boolean noCache,
+                    boolean isPrivate,
+                    boolean isPublic,
+                    boolean mustRevalidate,
+                    long maxAge,
+                    long sMaxAge,
+                    long staleWhileRevalidate) {
+
+    static final CacheControl EMPTY = new CacheControl(false, false, false, false, false, -1, -1, -1);
+
+    static CacheControl parse(@Nullable List<String> headerValues) {
+        if (headerValues == null || headerValues.isEmpty()) {
+            return EMPTY;
+        }
+        boolean noStore = false, noCache = false, isPrivate = false, isPublic = false, mustRevalidate = false;
+        long maxAge = -1, sMaxAge = -1, staleWhileRevalidate = -1;
+        for (var headerValue : headerValues) {
+            for (var directive : headerValue.split(",")) {
+                var eq = directive.indexOf('=');
+                var name = (eq < 0 ? directive : directive.substring(0, eq)).trim().toLowerCase(Locale.ROOT);
+                var value = eq < 0 ? null : directive.substring(eq + 1).trim();
+                switch (name) {
+                    case "no-store" -> noStore = true;
+                    case "no-cache" -> noCache = true;
+                    case "private" -> isPrivate = true;
+                    case "public" -> isPublic = true;
+                    case "must-revalidate", "proxy-revalidate" -> mustRevalidate = true;
+                    case "max-age" -> maxAge = seconds(value);
+                    case "s-maxage" -> sMaxAge = seconds(value);
+                    case "stale-while-revalidate" -> staleWhileRevalidate = seconds(value);
+                    default -> {}
+                }
+            }
+        }
+        return new CacheControl(noStore, noCache, isPrivate, isPublic, mustRevalidate, maxAge, sMaxAge, staleWhileRevalidate);
+    }
+
+    private static long seconds(@Nullable String value) {
+        if (value == null) {
+            return -1;
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Math.max(Long.parseLong(value), 0);
+        } catch (NumberFormatException e) {
+            // invalid delta-seconds makes directive ignored
+            return -1;
+        }
+    }
+}
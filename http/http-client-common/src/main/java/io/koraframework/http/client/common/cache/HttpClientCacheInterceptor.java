@@ -0,0 +1,393 @@
+package io.koraframework.http.client.common.cache;
+
+import io.koraframework.application.graph.Lifecycle;
+import io.koraframework.cache.Cache;
+import io.koraframework.http.client.common.interceptor.HttpClientInterceptor;
+import io.koraframework.http.client.common.request.HttpClientRequest;
+import io.koraframework.http.client.common.response.HttpClientResponse;
+import io.koraframework.http.client.common.response.SimpleHttpClientResponse;
+import io.koraframework.http.client.common.util.AsyncUtils;
+import io.koraframework.http.common.HttpMethod;
+import io.koraframework.http.common.body.StreamingHttpBodyInput;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <b>Русский</b>: Перехватчик, кеширующий ответы на GET запросы по правилам RFC 9111 в {@link Cache}.
+ * <hr>
+ * <b>English</b>: Interceptor that caches responses to GET requests in {@link Cache} following RFC 9111.
+ * <p>
+ * Cache behaves as a shared cache: responses with {@code private} or {@code Vary} are not stored,
+ * responses to requests with {@code Authorization} are stored only if explicitly allowed.
+ * Fresh responses are served from cache, stale responses with {@code stale-while-revalidate} are served while one background request revalidates them,
+ * other stale responses are revalidated with {@code If-None-Match} and {@code If-Modified-Since}.
+ * Concurrent requests for the same URI that miss the cache wait for a single request to the server.
+ * Freshness is not calculated heuristically, responses without explicit expiration time are always revalidated.
+ * Background revalidations are awaited on {@link #release()}.
+ * <br>
+ * <br>
+ * Пример / Example:
+ * <pre>
+ * {@code
+ * @Module
+ * public interface ReferenceClientModule {
+ *
+ *     default ReferenceCacheInterceptor referenceCacheInterceptor(ReferenceCache cache, @Nullable MeterRegistry meterRegistry) {
+ *         return new ReferenceCacheInterceptor(cache, meterRegistry);
+ *     }
+ * }
+ *
+ * public final class ReferenceCacheInterceptor extends HttpClientCacheInterceptor {
+ *     public ReferenceCacheInterceptor(Cache<String, HttpClientCachedResponse> cache, @Nullable MeterRegistry meterRegistry) {
+ *         super("reference", cache, meterRegistry);
+ *     }
+ * }
+ *
+ * @HttpClient(configPath = "reference")
+ * @InterceptWith(ReferenceCacheInterceptor.class)
+ * public interface ReferenceClient { }
+ * }
+ * </pre>
+ */
+public class HttpClientCacheInterceptor implements HttpClientInterceptor, Lifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpClientCacheInterceptor.class);
+
+    public static final long DEFAULT_MAX_BODY_SIZE = 1024 * 1024;
+    private static final long RELEASE_TIMEOUT_MILLIS = 5_000;
+
+    private static final Set<Integer> STORABLE_CODES = Set.of(200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501);
+    private static final Set<String> NOT_STORED_HEADERS = Set.of("connection", "keep-alive", "transfer-encoding", "te", "trailer", "upgrade", "proxy-authenticate", "proxy-authorization", "content-length", "age");
+
+    private final Cache<String, HttpClientCachedResponse> cache;
+    private final long maxBodySize;
+    private final ConcurrentHashMap<String, CompletableFuture<@Nullable HttpClientCachedResponse>> inflight = new ConcurrentHashMap<>();
+    private final ExecutorService revalidationExecutor;
+    private final Counter[] counters;
+
+    public HttpClientCacheInterceptor(String name, Cache<String, HttpClientCachedResponse> cache, @Nullable MeterRegistry meterRegistry) {
+        this(name, cache, meterRegistry, DEFAULT_MAX_BODY_SIZE);
+    }
+
+    public HttpClientCacheInterceptor(String name, Cache<String, HttpClientCachedResponse> cache, @Nullable MeterRegistry meterRegistry, long maxBodySize) {
+        this.cache = cache;
+        this.maxBodySize = maxBodySize;
+        this.revalidationExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-client-cache-" + name + "-", 0).factory());
+        this.counters = new Counter[Result.values().length];
+        if (meterRegistry != null) {
+            for (var result : Result.values()) {
+                this.counters[result.ordinal()] = Counter.builder("http.client.cache.requests")
+                    .tag("cache.name", name)
+                    .tag("type", result.value)
+                    .register(meterRegistry);
+            }
+        }
+    }
+
+    @Override
+    public void init() {}
+
+    @Override
+    public void release() throws InterruptedException {
+        this.revalidationExecutor.shutdown();
+        if (!this.revalidationExecutor.awaitTermination(RELEASE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            logger.warn("Background revalidations of cached responses didn't finish in {} ms and are interrupted", RELEASE_TIMEOUT_MILLIS);
+            this.revalidationExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public HttpClientResponse processRequest(InterceptChain chain, HttpClientRequest request) throws Exception {
+        if (!HttpMethod.GET.equals(request.method())) {
+            var response = chain.process(request);
+            if (!isSafe(request.method()) && response.code() < 400) {
+                // unsafe request changed the resource, RFC 9111 section 4.4
+                this.cache.invalidate(key(request));
+            }
+            return response;
+        }
+
+        var requestCacheControl = CacheControl.parse(request.headers().getAll("cache-control"));
+        if (requestCacheControl.noStore()) {
+            this.record(Result.BYPASS);
+            return chain.process(request);
+        }
+
+        var key = key(request);
+        var cached = this.cache.get(key);
+        if (cached != null && !requestCacheControl.noCache()) {
+            var now = System.currentTimeMillis();
+            if (now < cached.freshUntilMillis()) {
+                this.record(Result.HIT);
+                return cached.toResponse(now);
+            }
+            if (now < cached.staleUntilMillis()) {
+                this.record(Result.STALE);
+                this.revalidateInBackground(chain, request, key, cached);
+                return cached.toResponse(now);
+            }
+        }
+        return this.load(chain, request, key, cached);
+    }
+
+    private HttpClientResponse load(InterceptChain chain, HttpClientRequest request, String key, @Nullable HttpClientCachedResponse cached) throws Exception {
+        var leader = new CompletableFuture<@Nullable HttpClientCachedResponse>();
+        var existing = this.inflight.putIfAbsent(key, leader);
+        if (existing != null) {
+            HttpClientCachedResponse shared;
+            try {
+                shared = existing.get();
+            } catch (ExecutionException e) {
+                shared = null;
+            }
+            if (shared != null) {
+                this.record(Result.HIT);
+                return shared.toResponse(System.currentTimeMillis());
+            }
+            // leader response can not be shared, the request is not coalesced
+            this.record(Result.MISS);
+            return chain.process(request);
+        }
+
+        try {
+            var fetched = this.fetch(chain, request, key, cached);
+            leader.complete(fetched.stored);
+            return fetched.response;
+        } catch (Throwable e) {
+            leader.complete(null);
+            throw e;
+        } finally {
+            this.inflight.remove(key, leader);
+        }
+    }
+
+    private void revalidateInBackground(InterceptChain chain, HttpClientRequest request, String key, HttpClientCachedResponse cached) {
+        var leader = new CompletableFuture<@Nullable HttpClientCachedResponse>();
+        if (this.inflight.putIfAbsent(key, leader) != null) {
+            return;
+        }
+        var carrier = AsyncUtils.contextCarrier();
+        try {
+            this.revalidationExecutor.execute(() -> carrier.run(() -> {
+                try {
+                    var fetched = this.fetch(chain, request, key, cached);
+                    fetched.response.close();
+                    leader.complete(fetched.stored);
+                } catch (Throwable e) {
+                    logger.warn("Background revalidation of cached response failed for {}", key, e);
+                    leader.complete(null);
+                } finally {
+                    this.inflight.remove(key, leader);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            // interceptor is released, stale response is served without revalidation
+            leader.complete(null);
+            this.inflight.remove(key, leader);
+        }
+    }
+
+    private Fetched fetch(InterceptChain chain, HttpClientRequest request, String key, @Nullable HttpClientCachedResponse cached) throws Exception {
+        var conditionalRequest = request;
+        if (cached != null) {
+            var etag = cached.header("etag");
+            var lastModified = cached.header("last-modified");
+            if (etag != null || lastModified != null) {
+                var builder = request.toBuilder();
+                if (etag != null) {
+                    builder.header("if-none-match", etag);
+                }
+                if (lastModified != null) {
+                    builder.header("if-modified-since", lastModified);
+                }
+                conditionalRequest = builder.build();
+            }
+        }
+
+        var requestTime = System.currentTimeMillis();
+        var response = chain.process(conditionalRequest);
+        var responseTime = System.currentTimeMillis();
+
+        if (cached != null && response.code() == 304) {
+            response.close();
+            var headers = new LinkedHashMap<>(cached.headers());
+            for (var header : response.headers()) {
+                var name = header.getKey().toLowerCase(Locale.ROOT);
+                if (!NOT_STORED_HEADERS.contains(name) && !name.startsWith("content-")) {
+                    headers.put(name, List.copyOf(header.getValue()));
+                }
+            }
+            var revalidated = cachedResponse(cached.code(), headers, cached.body(), requestTime, responseTime);
+            this.cache.put(key, revalidated);
+            this.record(Result.REVALIDATED);
+            return new Fetched(revalidated.toResponse(responseTime), revalidated);
+        }
+
+        this.record(Result.MISS);
+        if (!isStorable(request, response)) {
+            return new Fetched(response, null);
+        }
+
+        var body = response.body();
+        var contentLength = body.contentLength();
+        if (contentLength > this.maxBodySize) {
+            return new Fetched(response, null);
+        }
+        byte[] bytes;
+        try {
+            var is = body.asInputStream();
+            bytes = contentLength >= 0 ? is.readAllBytes() : is.readNBytes((int) Math.min(this.maxBodySize + 1, Integer.MAX_VALUE - 8));
+            if (bytes.length > this.maxBodySize) {
+                // body size was unknown and it is too big to be cached, the rest of the body is streamed
+                var stream = new SequenceInputStream(new ByteArrayInputStream(bytes), is);
+                var streamed = new SimpleHttpClientResponse(response.code(), response.headers(), new StreamingHttpBodyInput(body.contentType(), -1, stream), () -> {
+                    try {
+                        response.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                return new Fetched(streamed, null);
+            }
+        } catch (Throwable e) {
+            response.close();
+            throw e;
+        }
+        response.close();
+
+        var headers = new LinkedHashMap<String, List<String>>();
+        for (var header : response.headers()) {
+            var name = header.getKey().toLowerCase(Locale.ROOT);
+            if (!NOT_STORED_HEADERS.contains(name)) {
+                headers.put(name, List.copyOf(header.getValue()));
+            }
+        }
+        var stored = cachedResponse(response.code(), headers, bytes, requestTime, responseTime);
+        this.cache.put(key, stored);
+        return new Fetched(stored.toResponse(responseTime), stored);
+    }
+
+    private static boolean isStorable(HttpClientRequest request, HttpClientResponse response) {
+        if (!STORABLE_CODES.contains(response.code())) {
+            return false;
+        }
+        var headers = response.headers();
+        var cacheControl = CacheControl.parse(headers.getAll("cache-control"));
+        if (cacheControl.noStore() || cacheControl.isPrivate()) {
+            return false;
+        }
+        if (request.headers().has("authorization") && !cacheControl.isPublic() && cacheControl.sMaxAge() < 0 && !cacheControl.mustRevalidate()) {
+            return false;
+        }
+        // responses that vary by request headers are not stored, key contains only URI
+        if (headers.has("vary")) {
+            return false;
+        }
+        // response that is neither fresh nor can be revalidated is useless
+        return cacheControl.maxAge() > 0 || cacheControl.sMaxAge() > 0 || headers.has("expires") || headers.has("etag") || headers.has("last-modified");
+    }
+
+    /**
+     * @see <a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.2">RFC 9111 Freshness</a>
+     */
+    private static HttpClientCachedResponse cachedResponse(int code, Map<String, List<String>> headers, byte[] body, long requestTime, long responseTime) {
+        var cacheControl = CacheControl.parse(headers.get("cache-control"));
+        var date = parseDate(first(headers, "date"));
+        var dateValue = date == null ? responseTime : date;
+        var ageValue = parseSeconds(first(headers, "age"));
+
+        var apparentAge = Math.max(0, responseTime - dateValue);
+        var correctedAgeValue = ageValue * 1000 + (responseTime - requestTime);
+        var originTime = responseTime - Math.max(apparentAge, correctedAgeValue);
+
+        long lifetimeMillis;
+        if (cacheControl.noCache()) {
+            lifetimeMillis = 0;
+        } else if (cacheControl.sMaxAge() >= 0) {
+            lifetimeMillis = cacheControl.sMaxAge() * 1000;
+        } else if (cacheControl.maxAge() >= 0) {
+            lifetimeMillis = cacheControl.maxAge() * 1000;
+        } else {
+            var expires = parseDate(first(headers, "expires"));
+            lifetimeMillis = expires == null ? 0 : Math.max(expires - dateValue, 0);
+        }
+        var freshUntil = originTime + lifetimeMillis;
+        var staleUntil = cacheControl.mustRevalidate() || cacheControl.staleWhileRevalidate() <= 0
+            ? freshUntil
+            : freshUntil + cacheControl.staleWhileRevalidate() * 1000;
+        return new HttpClientCachedResponse(code, Collections.unmodifiableMap(headers), body, originTime, freshUntil, staleUntil);
+    }
+
+    private static boolean isSafe(String method) {
+        return HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method) || HttpMethod.TRACE.equals(method);
+    }
+
+    private static String key(HttpClientRequest request) {
+        return HttpMethod.GET + " " + request.uri();
+    }
+
+    @Nullable
+    private static String first(Map<String, List<String>> headers, String name) {
+        var values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.getFirst();
+    }
+
+    @Nullable
+    private static Long parseDate(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static long parseSeconds(@Nullable String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Math.max(Long.parseLong(value.trim()), 0);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void record(Result result) {
+        var counter = this.counters[result.ordinal()];
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private record Fetched(HttpClientResponse response, @Nullable HttpClientCachedResponse stored) {}
+
+    private enum Result {
+        HIT("hit"),
+        STALE("stale"),
+        REVALIDATED("revalidated"),
+        MISS("miss"),
+        BYPASS("bypass");
+
+        private final String value;
+
+        Result(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.koraframework.http.client.common.cache;
+
+import io.koraframework.http.client.common.response.HttpClientResponse;
+import io.koraframework.http.client.common.response.SimpleHttpClientResponse;
+import io.koraframework.http.common.body.HttpBody;
+import io.koraframework.http.common.header.HttpHeaders;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <b>Русский</b>: Ответ HTTP сервера, сохраненный в кеше {@link HttpClientCacheInterceptor}.
+ * <hr>
+ * <b>English</b>: HTTP response stored in the cache of {@link HttpClientCacheInterceptor}.
+ *
+ * @param code             response status code
+ * @param headers          response headers with lower case names
+ * @param body             response body
+ * @param originTimeMillis epoch millis when response was generated by the origin server, accounts for the Age of the received response
+ * @param freshUntilMillis epoch millis until which response is served without contacting the server
+ * @param staleUntilMillis epoch millis until which stale response is served while it is revalidated in background
+ */
+public record HttpClientCachedResponse(int code,
+                                       Map<String, List<String>> headers,
+                                       byte[] body,
+                                       long originTimeMillis,
+                                       long freshUntilMillis,
+                                       long staleUntilMillis) {
+
+    @Nullable
+    public String header(String name) {
+        var values = this.headers.get(name);
+        return values == null || values.isEmpty() ? null : values.getFirst();
+    }
+
+    HttpClientResponse toResponse(long nowMillis) {
+        var headers = HttpHeaders.of(this.headers);
+        headers.set("age", Long.toString(Math.max(nowMillis - this.originTimeMillis, 0) / 1000));
+        return new SimpleHttpClientResponse(this.code, headers, HttpBody.of(this.header("content-type"), this.body));
+    }
+}
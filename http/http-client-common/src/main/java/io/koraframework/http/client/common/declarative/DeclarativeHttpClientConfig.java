@@ -1,12 +1,15 @@
 package io.koraframework.http.client.common.declarative;
 
+import io.koraframework.config.common.annotation.ConfigMapper;
 import io.koraframework.http.client.common.HttpClient;
+import io.koraframework.http.client.common.balancing.LoadBalancingHttpClient;
 import io.koraframework.http.client.common.interceptor.TelemetryInterceptor;
 import io.koraframework.http.client.common.telemetry.HttpClientTelemetryConfig;
 import io.koraframework.http.client.common.telemetry.HttpClientTelemetryFactory;
 import org.jspecify.annotations.Nullable;
 
 import java.time.Duration;
+import java.util.List;
 
 public interface DeclarativeHttpClientConfig {
 
@@ -26,6 +29,36 @@ public interface DeclarativeHttpClientConfig {
     @Nullable
     Duration requestTimeout();
 
+    /**
+     * @return Base URLs of other replicas of the same service, requests are balanced between {@link #url()} and these URLs.
+     */
+    default List<String> additionalUrls() {
+        return List.of();
+    }
+
+    /**
+     * @return Balancing settings used when {@link #additionalUrls()} are configured.
+     */
+    BalancingConfig balancing();
+
+    /**
+     * @return Hedged requests settings for idempotent requests.
+     */
+    HedgingConfig hedging();
+
+    /**
+     * Called once per client, all operations share the returned client, so balancing state and hedging budget are shared too.
+     *
+     * @return {@link LoadBalancingHttpClient} when {@link #additionalUrls()} or {@link #hedging()} are configured, otherwise the root client.
+     * Returned client should be closed when the declarative client is released only if it is not the root client, which is released by the graph.
+     */
+    default HttpClient balance(HttpClient root) {
+        if (this.additionalUrls().isEmpty() && !this.hedging().enabled()) {
+            return root;
+        }
+        return new LoadBalancingHttpClient(root, this.url(), this.additionalUrls(), this.balancing(), this.hedging());
+    }
+
     default DeclarativeHttpClientOperationData apply(HttpClient root, String clientName, Class<?> clientClass, String operationName, HttpClientOperationConfig operationConfig, HttpClientTelemetryFactory telemetryFactory, String operationPath) {
         var builder = root;
         var url = this.url() + operationPath;
@@ -44,4 +77,84 @@ public interface DeclarativeHttpClientConfig {
         }
         return new DeclarativeHttpClientOperationData(builder, url, requestTimeout);
     }
+
+    @ConfigMapper
+    interface BalancingConfig {
+
+        /**
+         * @return How a base URL is chosen for every request.
+         */
+        default Strategy strategy() {
+            return Strategy.POWER_OF_TWO_CHOICES;
+        }
+
+        /**
+         * @return Number of consecutive failures (connection errors and 5xx responses) after which a base URL is ejected.
+         */
+        default int ejectionConsecutiveFailures() {
+            return 5;
+        }
+
+        /**
+         * @return Time for which an ejected base URL receives no requests.
+         */
+        default Duration ejectionDuration() {
+            return Duration.ofSeconds(30);
+        }
+
+        /**
+         * @return Maximum percent of base URLs that can be ejected at the same time.
+         */
+        default int maxEjectionPercent() {
+            return 50;
+        }
+
+        enum Strategy {
+            ROUND_ROBIN,
+            LEAST_OUTSTANDING,
+            /**
+             * Least outstanding requests of two randomly chosen base URLs
+             */
+            POWER_OF_TWO_CHOICES
+        }
+    }
+
+    @ConfigMapper
+    interface HedgingConfig {
+
+        /**
+         * @return Whether idempotent requests without body are sent again to another base URL when the response is late.
+         */
+        default boolean enabled() {
+            return false;
+        }
+
+        /**
+         * @return Percentile of observed response times after which a hedged request is sent.
+         */
+        default double delayPercentile() {
+            return 0.95;
+        }
+
+        /**
+         * @return Lower bound of hedged request delay.
+         */
+        default Duration minDelay() {
+            return Duration.ofMillis(10);
+        }
+
+        /**
+         * @return Maximum number of requests sent for one call, including the original request.
+         */
+        default int maxAttempts() {
+            return 2;
+        }
+
+        /**
+         * @return Maximum percent of calls that may send hedged requests, so hedging can not overload a slow service.
+         */
+        default int budgetPercent() {
+            return 10;
+        }
+    }
 }
@@ -5,6 +5,7 @@ import io.koraframework.http.client.common.response.HttpClientResponse;
 import io.koraframework.http.common.cookie.Cookie;
 
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 
 public final class ApiKeyHttpClientInterceptor implements HttpClientInterceptor {
 
@@ -24,12 +25,21 @@ public final class ApiKeyHttpClientInterceptor implements HttpClientInterceptor
 
     @Override
     public HttpClientResponse processRequest(InterceptChain chain, HttpClientRequest request) throws Exception {
+        return chain.process(this.authorize(request));
+    }
+
+    @Override
+    public CompletionStage<HttpClientResponse> processRequestAsync(AsyncInterceptChain chain, HttpClientRequest request) {
+        return chain.process(this.authorize(request));
+    }
+
+    private HttpClientRequest authorize(HttpClientRequest request) {
         var modifiedRequest = switch (this.parameterLocation) {
             case HEADER -> request.toBuilder().header(this.parameterName, this.secret);
             case QUERY -> request.toBuilder().queryParam(this.parameterName, this.secret);
             case COOKIE -> request.toBuilder().header("Cookie", Cookie.of(this.parameterName, this.secret).toValue());
         };
 
-        return chain.process(modifiedRequest.build());
+        return modifiedRequest.build();
     }
 }
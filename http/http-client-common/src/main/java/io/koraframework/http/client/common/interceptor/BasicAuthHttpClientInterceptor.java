@@ -5,6 +5,8 @@ import io.koraframework.http.client.common.auth.HttpClientTokenProvider;
 import io.koraframework.http.client.common.request.HttpClientRequest;
 import io.koraframework.http.client.common.response.HttpClientResponse;
 
+import java.util.concurrent.CompletionStage;
+
 public class BasicAuthHttpClientInterceptor implements HttpClientInterceptor {
 
     private final HttpClientTokenProvider tokenProvider;
@@ -19,12 +21,20 @@ public class BasicAuthHttpClientInterceptor implements HttpClientInterceptor {
 
     @Override
     public HttpClientResponse processRequest(InterceptChain chain, HttpClientRequest request) throws Exception {
+        return chain.process(this.authorize(request));
+    }
+
+    @Override
+    public CompletionStage<HttpClientResponse> processRequestAsync(AsyncInterceptChain chain, HttpClientRequest request) {
+        return chain.process(this.authorize(request));
+    }
+
+    private HttpClientRequest authorize(HttpClientRequest request) {
         var token = this.tokenProvider.getToken(request);
         if (token == null) {
-            return chain.process(request);
+            return request;
         } else {
-            var modifiedRequest = request.toBuilder().header("authorization", "Basic " + token).build();
-            return chain.process(modifiedRequest);
+            return request.toBuilder().header("authorization", "Basic " + token).build();
         }
     }
 }
@@ -3,6 +3,9 @@ package io.koraframework.http.client.common.interceptor;
 import io.koraframework.http.client.common.annotation.HttpClient;
 import io.koraframework.http.client.common.request.HttpClientRequest;
 import io.koraframework.http.client.common.response.HttpClientResponse;
+import io.koraframework.http.client.common.util.AsyncUtils;
+
+import java.util.concurrent.CompletionStage;
 
 /**
  * <b>Русский</b>: Аннотация позволяет указывать обработчики HTTP ответов на определенные HTTP статус коды
@@ -37,12 +40,34 @@ public interface HttpClientInterceptor {
 
     HttpClientResponse processRequest(InterceptChain chain, HttpClientRequest request) throws Exception;
 
+    /**
+     * Called for {@link io.koraframework.http.client.common.HttpClient#executeAsync(HttpClientRequest)}, interceptors should override it to avoid blocking.
+     * Default implementation runs {@link #processRequest(InterceptChain, HttpClientRequest)} on a virtual thread that waits for the rest of the chain.
+     */
+    default CompletionStage<HttpClientResponse> processRequestAsync(AsyncInterceptChain chain, HttpClientRequest request) throws Exception {
+        return AsyncUtils.executeOnVirtualThread(rq -> this.processRequest(r -> AsyncUtils.await(chain.process(r)), rq), request);
+    }
+
     interface InterceptChain {
         HttpClientResponse process(HttpClientRequest request) throws Exception;
     }
 
+    interface AsyncInterceptChain {
+        CompletionStage<HttpClientResponse> process(HttpClientRequest request);
+    }
+
 
     static HttpClientInterceptor noop() {
-        return InterceptChain::process;
+        return new HttpClientInterceptor() {
+            @Override
+            public HttpClientResponse processRequest(InterceptChain chain, HttpClientRequest request) throws Exception {
+                return chain.process(request);
+            }
+
+            @Override
+            public CompletionStage<HttpClientResponse> processRequestAsync(AsyncInterceptChain chain, HttpClientRequest request) {
+                return chain.process(request);
+            }
+        };
     }
 }
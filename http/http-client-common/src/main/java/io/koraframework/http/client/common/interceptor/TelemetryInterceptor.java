@@ -5,8 +5,12 @@ import io.koraframework.common.telemetry.OpentelemetryContext;
 import io.koraframework.http.client.common.request.HttpClientRequest;
 import io.koraframework.http.client.common.response.HttpClientResponse;
 import io.koraframework.http.client.common.telemetry.HttpClientTelemetry;
+import io.koraframework.http.client.common.util.AsyncUtils;
 import io.opentelemetry.context.Context;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 public class TelemetryInterceptor implements HttpClientInterceptor {
 
     private final HttpClientTelemetry telemetry;
@@ -33,4 +37,38 @@ public class TelemetryInterceptor implements HttpClientInterceptor {
                 }
             });
     }
+
+    @Override
+    public CompletionStage<HttpClientResponse> processRequestAsync(AsyncInterceptChain chain, HttpClientRequest request) {
+        var observation = this.telemetry.observe(request);
+        var carrier = ScopedValue.where(OpentelemetryContext.VALUE, Context.current().with(observation.span()))
+            .where(Observation.VALUE, observation);
+        final CompletionStage<HttpClientResponse> stage;
+        try {
+            stage = carrier.call(() -> chain.process(observation.observeRequest(request)));
+        } catch (Throwable t) {
+            observation.observeError(t);
+            observation.end();
+            return CompletableFuture.failedFuture(t);
+        }
+
+        var result = new CompletableFuture<HttpClientResponse>();
+        stage.whenComplete((rs, error) -> carrier.run(() -> {
+            try {
+                if (error != null) {
+                    var cause = AsyncUtils.unwrap(error);
+                    observation.observeError(cause);
+                    result.completeExceptionally(cause);
+                } else {
+                    result.complete(observation.observeResponse(rs));
+                }
+            } catch (Throwable t) {
+                observation.observeError(t);
+                result.completeExceptionally(t);
+            } finally {
+                observation.end();
+            }
+        }));
+        return result;
+    }
 }
@@ -0,0 +1,13 @@
+package io.koraframework.http.client.common.pool;
+
+import java.net.http.HttpTimeoutException;
+
+/**
+ * Thrown when no connection became available within {@link io.koraframework.http.client.common.HttpClientConfig.HttpClientPoolConfig#acquireTimeout()} or current deadline
+ */
+public final class ConnectionAcquireTimeoutException extends HttpTimeoutException {
+
+    public ConnectionAcquireTimeoutException() {
+        super("Connection was not acquired in time");
+    }
+}
@@ -0,0 +1,243 @@
+package io.koraframework.http.client.common.pool;
+
+import io.koraframework.common.Deadline;
+import io.koraframework.http.client.common.HttpClientConfig;
+import io.koraframework.http.client.common.telemetry.HttpClientPoolTelemetry;
+import org.jspecify.annotations.Nullable;
+
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Applies {@link HttpClientConfig.HttpClientPoolConfig} limits to clients which connection pool is not bounded by itself.
+ * <p>
+ * Request holds its permit until its response is released, so the number of leased permits matches the number of leased connections.
+ * Requests that can't get a permit wait in a queue and get it from the released permits in order, so waiting does not need a thread.
+ * Route is forgotten once it has neither leased permits nor waiting requests, so requests to many hosts don't grow the limiter.
+ */
+public final class HttpClientConnectionLimiter {
+
+    private final int maxConnections;
+    private final int maxConnectionsPerRoute;
+    @Nullable
+    private final Duration acquireTimeout;
+    private final HttpClientPoolTelemetry telemetry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final HashMap<String, Route> routes = new HashMap<>();
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+    private volatile int leased;
+    private volatile int pending;
+
+    public HttpClientConnectionLimiter(HttpClientConfig.HttpClientPoolConfig config, HttpClientPoolTelemetry telemetry) {
+        this.maxConnections = config.maxConnections();
+        var maxConnectionsPerRoute = config.maxConnectionsPerRoute();
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute == null
+            ? this.maxConnections
+            : Math.min(maxConnectionsPerRoute, this.maxConnections);
+        this.acquireTimeout = config.acquireTimeout();
+        this.telemetry = telemetry;
+    }
+
+    /**
+     * @param uri request uri
+     * @return permit that must be released once the response is closed
+     * @throws ConnectionAcquireTimeoutException if no connection became available within acquire timeout or current deadline
+     * @throws InterruptedIOException            if thread was interrupted while waiting
+     */
+    public Permit acquire(URI uri) throws InterruptedIOException, ConnectionAcquireTimeoutException {
+        var future = this.acquireAsync(uri);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            if (!future.cancel(false)) {
+                // permit was given right before interruption
+                future.join().close();
+            }
+            Thread.currentThread().interrupt();
+            var ex = new InterruptedIOException("interrupted");
+            ex.initCause(e);
+            throw ex;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ConnectionAcquireTimeoutException timeout) {
+                throw timeout;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Cancelling returned future before it is completed removes the request from the queue.
+     *
+     * @param uri request uri
+     * @return future of permit that must be released once the response is closed,
+     * completed with {@link ConnectionAcquireTimeoutException} if no connection became available within acquire timeout or current deadline
+     */
+    public CompletableFuture<Permit> acquireAsync(URI uri) {
+        var started = System.nanoTime();
+        var timeout = Deadline.timeout(this.acquireTimeout);
+        final Waiter waiter;
+        this.lock.lock();
+        try {
+            var route = this.maxConnectionsPerRoute < this.maxConnections
+                ? this.routes.computeIfAbsent(uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort(), Route::new)
+                : null;
+            // requests are not queued while there are free connections for their route, even if requests of other routes are waiting
+            if (this.tryLease(route)) {
+                this.telemetry.recordAcquire(System.nanoTime() - started);
+                return CompletableFuture.completedFuture(new Permit(route));
+            }
+            waiter = new Waiter(new CompletableFuture<>(), route, started);
+            this.waiters.addLast(waiter);
+            if (route != null) {
+                route.waiting++;
+            }
+            this.pending = this.waiters.size();
+        } finally {
+            this.lock.unlock();
+        }
+
+        waiter.future.whenComplete((_, error) -> {
+            if (error != null) {
+                this.removeWaiter(waiter);
+            }
+        });
+        if (timeout != null) {
+            CompletableFuture.delayedExecutor(timeout.toNanos(), TimeUnit.NANOSECONDS)
+                .execute(() -> waiter.future.completeExceptionally(new ConnectionAcquireTimeoutException()));
+        }
+        return waiter.future;
+    }
+
+    private boolean tryLease(@Nullable Route route) {
+        if (this.leased >= this.maxConnections || route != null && route.leased >= this.maxConnectionsPerRoute) {
+            return false;
+        }
+        this.leased++;
+        if (route != null) {
+            route.leased++;
+        }
+        return true;
+    }
+
+    private void removeWaiter(Waiter waiter) {
+        this.lock.lock();
+        try {
+            if (this.waiters.remove(waiter)) {
+                this.pending = this.waiters.size();
+                this.dequeued(waiter.route);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void release(@Nullable Route route) {
+        Waiter next = null;
+        this.lock.lock();
+        try {
+            this.leased--;
+            if (route != null) {
+                route.leased--;
+            }
+            for (var it = this.waiters.iterator(); it.hasNext(); ) {
+                var waiter = it.next();
+                if (waiter.future.isDone()) {
+                    it.remove();
+                    this.dequeued(waiter.route);
+                } else if (this.tryLease(waiter.route)) {
+                    it.remove();
+                    this.dequeued(waiter.route);
+                    next = waiter;
+                    break;
+                }
+            }
+            this.pending = this.waiters.size();
+            this.removeIfUnused(route);
+        } finally {
+            this.lock.unlock();
+        }
+        if (next != null) {
+            // completed outside of lock, so callbacks of waiter don't run under it
+            var permit = new Permit(next.route);
+            if (next.future.complete(permit)) {
+                this.telemetry.recordAcquire(System.nanoTime() - next.started);
+            } else {
+                // waiter timed out or was cancelled concurrently
+                permit.close();
+            }
+        }
+    }
+
+    private void dequeued(@Nullable Route route) {
+        if (route != null) {
+            route.waiting--;
+            this.removeIfUnused(route);
+        }
+    }
+
+    private void removeIfUnused(@Nullable Route route) {
+        if (route != null && route.leased == 0 && route.waiting == 0) {
+            this.routes.remove(route.key, route);
+        }
+    }
+
+    public int leased() {
+        return this.leased;
+    }
+
+    public int pending() {
+        return this.pending;
+    }
+
+    public int max() {
+        return this.maxConnections;
+    }
+
+    int routes() {
+        this.lock.lock();
+        try {
+            return this.routes.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public final class Permit implements AutoCloseable {
+
+        @Nullable
+        private final Route route;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(@Nullable Route route) {
+            this.route = route;
+        }
+
+        @Override
+        public void close() {
+            if (this.released.compareAndSet(false, true)) {
+                release(this.route);
+            }
+        }
+    }
+
+    private static final class Route {
+        private final String key;
+        private int leased;
+        private int waiting;
+
+        private Route(String key) {
+            this.key = key;
+        }
+    }
+
+    private record Waiter(CompletableFuture<Permit> future, @Nullable Route route, long started) {}
+}
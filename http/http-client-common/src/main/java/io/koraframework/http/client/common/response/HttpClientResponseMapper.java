@@ -6,6 +6,12 @@ import org.jspecify.annotations.Nullable;
 
 import java.io.IOException;
 
+/**
+ * Maps response of declarative client method.
+ * <p>
+ * Methods returning {@code CompletionStage<T>} require {@code HttpClientResponseMapper<T>} component, it is applied once the response is received.
+ * Mappers of such methods that return {@code CompletionStage<T>} themselves are supported only when set with {@link Mapping} on the method.
+ */
 public interface HttpClientResponseMapper<T> extends Mapping.MappingFunction {
 
     @Nullable
@@ -9,4 +9,12 @@ public interface HttpClientObservation extends Observation {
     HttpClientRequest observeRequest(HttpClientRequest request);
 
     HttpClientResponse observeResponse(HttpClientResponse response);
+
+    /**
+     * Called when request is sent once more because previous attempts did not respond in time
+     *
+     * @param request request that is hedged
+     * @param attempt attempt number, starting from 2 for the first hedged request
+     */
+    default void observeHedge(HttpClientRequest request, int attempt) {}
 }
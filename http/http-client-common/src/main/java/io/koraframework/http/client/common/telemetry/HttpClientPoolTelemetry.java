@@ -0,0 +1,35 @@
+package io.koraframework.http.client.common.telemetry;
+
+public interface HttpClientPoolTelemetry extends AutoCloseable {
+
+    void recordAcquire(long acquireTimeNanos);
+
+    /**
+     * Stops reporting the pool state, called when the underlying HTTP client is released.
+     */
+    @Override
+    void close();
+
+    interface PoolState {
+
+        /**
+         * @return Number of connections currently leased by requests.
+         */
+        int leased();
+
+        /**
+         * @return Number of idle connections kept in the pool, negative if the client does not expose it.
+         */
+        int idle();
+
+        /**
+         * @return Number of requests waiting for a connection.
+         */
+        int pending();
+
+        /**
+         * @return Maximum number of connections leased at the same time.
+         */
+        int max();
+    }
+}
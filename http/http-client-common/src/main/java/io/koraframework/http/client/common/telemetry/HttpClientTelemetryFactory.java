@@ -1,6 +1,17 @@
 package io.koraframework.http.client.common.telemetry;
 
+import io.koraframework.http.client.common.telemetry.impl.NoopHttpClientPoolTelemetry;
+
 public interface HttpClientTelemetryFactory {
 
     HttpClientTelemetry get(String clientConfigPath, String clientCanonicalName, HttpClientTelemetryConfig config);
+
+    /**
+     * @param clientConfigPath config path of the underlying HTTP client that owns the connection pool
+     * @param state            current state of the connection pool
+     * @return telemetry for the connection pool of the underlying HTTP client
+     */
+    default HttpClientPoolTelemetry pool(String clientConfigPath, HttpClientPoolTelemetry.PoolState state) {
+        return NoopHttpClientPoolTelemetry.INSTANCE;
+    }
 }
@@ -9,9 +9,12 @@ import io.koraframework.http.client.common.telemetry.HttpClientObservation;
 import io.koraframework.http.common.HttpResultCode;
 import io.koraframework.http.common.body.EmptyHttpBody;
 import io.koraframework.http.common.body.HttpBody;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.StatusCode;
 import io.opentelemetry.semconv.HttpAttributes;
+import io.opentelemetry.semconv.UrlAttributes;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +29,7 @@ import java.util.concurrent.TimeUnit;
 public class DefaultHttpClientObservation implements HttpClientObservation {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultHttpClientObservation.class);
+    private static final AttributeKey<Long> HEDGE_ATTEMPT = AttributeKey.longKey("http.request.hedge_attempt");
 
     protected final DefaultHttpClientTelemetry.TelemetryContext context;
     protected final DefaultHttpClientLoggerFactory.DefaultHttpClientLogger logger;
@@ -153,6 +157,14 @@ public class DefaultHttpClientObservation implements HttpClientObservation {
         }
     }
 
+    @Override
+    public void observeHedge(HttpClientRequest request, int attempt) {
+        this.span.addEvent("http.client.hedge", Attributes.of(
+            HEDGE_ATTEMPT, (long) attempt,
+            UrlAttributes.URL_FULL, request.uri().toString()
+        ));
+    }
+
     @Override
     public Span span() {
         return this.span;
@@ -0,0 +1,58 @@
+package io.koraframework.http.client.common.telemetry.impl;
+
+import io.koraframework.http.client.common.telemetry.HttpClientPoolTelemetry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class DefaultHttpClientPoolTelemetry implements HttpClientPoolTelemetry {
+
+    protected final MeterRegistry meterRegistry;
+    protected final List<Meter> meters = new ArrayList<>(5);
+    protected final Timer acquireDuration;
+
+    public DefaultHttpClientPoolTelemetry(String clientConfigPath, MeterRegistry meterRegistry, PoolState state) {
+        this.meterRegistry = meterRegistry;
+        var tags = Tags.of(DefaultHttpClientTelemetry.SYSTEM_CONFIG_PATH, clientConfigPath);
+        this.meters.add(Gauge.builder("http.client.connections", state, PoolState::leased)
+            .tags(tags.and("http.connection.state", "active"))
+            .strongReference(true)
+            .register(meterRegistry));
+        if (state.idle() >= 0) {
+            this.meters.add(Gauge.builder("http.client.connections", state, PoolState::idle)
+                .tags(tags.and("http.connection.state", "idle"))
+                .strongReference(true)
+                .register(meterRegistry));
+        }
+        this.meters.add(Gauge.builder("http.client.connections.pending", state, PoolState::pending)
+            .tags(tags)
+            .strongReference(true)
+            .register(meterRegistry));
+        this.meters.add(Gauge.builder("http.client.connections.max", state, PoolState::max)
+            .tags(tags)
+            .strongReference(true)
+            .register(meterRegistry));
+        this.acquireDuration = Timer.builder("http.client.connection.acquire.duration")
+            .tags(tags)
+            .register(meterRegistry);
+        this.meters.add(this.acquireDuration);
+    }
+
+    @Override
+    public void recordAcquire(long acquireTimeNanos) {
+        this.acquireDuration.record(acquireTimeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void close() {
+        for (var meter : this.meters) {
+            this.meterRegistry.remove(meter);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.koraframework.http.client.common.telemetry.impl;
 
+import io.koraframework.http.client.common.telemetry.HttpClientPoolTelemetry;
 import io.koraframework.http.client.common.telemetry.HttpClientTelemetry;
 import io.koraframework.http.client.common.telemetry.HttpClientTelemetryConfig;
 import io.koraframework.http.client.common.telemetry.HttpClientTelemetryFactory;
@@ -69,6 +70,14 @@ public class DefaultHttpClientTelemetryFactory implements HttpClientTelemetryFac
         return build(clientConfigPath, clientCanonicalName, config, tracer, meterRegistry, enabledMetricsFactory, enabledLoggerFactory, loggerBodyConverter != null ? loggerBodyConverter : new DefaultHttpClientBodyConverter());
     }
 
+    @Override
+    public HttpClientPoolTelemetry pool(String clientConfigPath, HttpClientPoolTelemetry.PoolState state) {
+        if (this.meterRegistry == null) {
+            return NoopHttpClientPoolTelemetry.INSTANCE;
+        }
+        return new DefaultHttpClientPoolTelemetry(clientConfigPath, this.meterRegistry, state);
+    }
+
     protected HttpClientTelemetry build(String clientConfigPath,
                                         String clientCanonicalName,
                                         HttpClientTelemetryConfig config,
@@ -0,0 +1,20 @@
+package io.koraframework.http.client.common.telemetry.impl;
+
+import io.koraframework.http.client.common.telemetry.HttpClientPoolTelemetry;
+
+public final class NoopHttpClientPoolTelemetry implements HttpClientPoolTelemetry {
+
+    public static final NoopHttpClientPoolTelemetry INSTANCE = new NoopHttpClientPoolTelemetry();
+
+    private NoopHttpClientPoolTelemetry() {}
+
+    @Override
+    public void recordAcquire(long acquireTimeNanos) {
+
+    }
+
+    @Override
+    public void close() {
+
+    }
+}
@@ -0,0 +1,98 @@
+package io.koraframework.http.client.common.util;
+
+import io.koraframework.common.Deadline;
+import io.koraframework.common.telemetry.Observation;
+import io.koraframework.common.telemetry.OpentelemetryContext;
+import io.koraframework.http.client.common.exception.HttpClientException;
+import io.koraframework.http.client.common.exception.HttpClientUnknownException;
+import io.koraframework.http.client.common.interceptor.HttpClientInterceptor;
+import io.koraframework.http.client.common.request.HttpClientRequest;
+import io.koraframework.http.client.common.response.HttpClientResponse;
+import io.koraframework.logging.common.MDC;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+public final class AsyncUtils {
+
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = Thread.ofVirtual().name("http-client-async-", 0).factory();
+
+    private AsyncUtils() {}
+
+    /**
+     * Scoped values are not inherited by executor tasks and transport callbacks, so the context is carried to them explicitly
+     *
+     * @return carrier with current MDC, observation, tracing context and deadline
+     */
+    public static ScopedValue.Carrier contextCarrier() {
+        var carrier = ScopedValue.where(MDC.VALUE, MDC.VALUE.isBound() ? MDC.VALUE.get().fork() : new MDC());
+        if (Observation.VALUE.isBound()) {
+            carrier = carrier.where(Observation.VALUE, Observation.VALUE.get());
+        }
+        if (OpentelemetryContext.VALUE.isBound()) {
+            carrier = carrier.where(OpentelemetryContext.VALUE, OpentelemetryContext.VALUE.get());
+        }
+        if (Deadline.VALUE.isBound()) {
+            carrier = carrier.where(Deadline.VALUE, Deadline.VALUE.get());
+        }
+        return carrier;
+    }
+
+    /**
+     * Runs blocking call on a new virtual thread, used where no native async transport is available
+     */
+    public static CompletableFuture<HttpClientResponse> executeOnVirtualThread(HttpClientInterceptor.InterceptChain call, HttpClientRequest request) {
+        var carrier = contextCarrier();
+        var future = new CompletableFuture<HttpClientResponse>();
+        VIRTUAL_THREAD_FACTORY.newThread(() -> carrier.run(() -> {
+            try {
+                future.complete(call.process(request));
+            } catch (HttpClientException | Error e) {
+                future.completeExceptionally(e);
+            } catch (Throwable e) {
+                future.completeExceptionally(new HttpClientUnknownException(e));
+            }
+        })).start();
+        return future;
+    }
+
+    /**
+     * Waits for async call on the current thread, used to run blocking interceptors in async chain
+     */
+    public static HttpClientResponse await(CompletionStage<HttpClientResponse> stage) throws Exception {
+        try {
+            return stage.toCompletableFuture().get();
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof Exception ex) {
+                throw ex;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Closes response once the stage mapped from it is completed, used for response mappers that return the stage themselves
+     */
+    public static <T> CompletionStage<T> closeWhenComplete(CompletionStage<T> stage, HttpClientResponse response) {
+        return stage.whenComplete((_, _) -> {
+            try {
+                response.close();
+            } catch (IOException _) {
+            }
+        });
+    }
+
+    public static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+}
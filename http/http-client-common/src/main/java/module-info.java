@@ -7,13 +7,17 @@ module kora.http.client.common {
     requires transitive kora.telemetry.common;
     requires transitive kora.config.common;
     requires transitive java.net.http;
+    requires static kora.cache.common;
 
     exports io.koraframework.http.client.common;
     exports io.koraframework.http.client.common.annotation;
     exports io.koraframework.http.client.common.auth;
+    exports io.koraframework.http.client.common.balancing;
+    exports io.koraframework.http.client.common.cache;
     exports io.koraframework.http.client.common.declarative;
     exports io.koraframework.http.client.common.exception;
     exports io.koraframework.http.client.common.interceptor;
+    exports io.koraframework.http.client.common.pool;
     exports io.koraframework.http.client.common.request;
     exports io.koraframework.http.client.common.request.form;
     exports io.koraframework.http.client.common.request.mapper;
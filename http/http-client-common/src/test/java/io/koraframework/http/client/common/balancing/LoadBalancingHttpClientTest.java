@@ -0,0 +1,176 @@
+package io.koraframework.http.client.common.balancing;
+
+import io.koraframework.http.client.common.declarative.$DeclarativeHttpClientConfig_BalancingConfig_ConfigValueMapper;
+import io.koraframework.http.client.common.declarative.$DeclarativeHttpClientConfig_HedgingConfig_ConfigValueMapper;
+import io.koraframework.http.client.common.declarative.DeclarativeHttpClientConfig.BalancingConfig;
+import io.koraframework.http.client.common.declarative.DeclarativeHttpClientConfig.HedgingConfig;
+import io.koraframework.http.client.common.exception.HttpClientConnectionException;
+import io.koraframework.http.client.common.request.HttpClientRequest;
+import io.koraframework.http.client.common.response.SimpleHttpClientResponse;
+import io.koraframework.http.common.body.HttpBody;
+import io.koraframework.http.common.header.HttpHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadBalancingHttpClientTest {
+
+    private final Map<String, AtomicInteger> requestsByHost = new ConcurrentHashMap<>();
+
+    @Test
+    void roundRobinRewritesBaseUrl() {
+        var client = new LoadBalancingHttpClient(request -> {
+            count(request);
+            return new SimpleHttpClientResponse(200);
+        }, "http://a:8080/api/", List.of("http://b:8080/api"), balancing(BalancingConfig.Strategy.ROUND_ROBIN), hedging(false));
+
+        for (int i = 0; i < 10; i++) {
+            client.execute(get("http://a:8080/api/test?q=1"));
+        }
+
+        assertEquals(5, requestsByHost.get("a").get());
+        assertEquals(5, requestsByHost.get("b").get());
+    }
+
+    @Test
+    void requestsToOtherUrlsAreNotBalanced() {
+        var client = new LoadBalancingHttpClient(request -> {
+            count(request);
+            return new SimpleHttpClientResponse(200);
+        }, "http://a:8080", List.of("http://b:8080"), balancing(BalancingConfig.Strategy.ROUND_ROBIN), hedging(false));
+
+        for (int i = 0; i < 4; i++) {
+            client.execute(get("http://c:8080/test"));
+        }
+
+        assertEquals(4, requestsByHost.get("c").get());
+        assertNull(requestsByHost.get("a"));
+    }
+
+    @Test
+    void failingBaseUrlIsEjected() {
+        var client = new LoadBalancingHttpClient(request -> {
+            count(request);
+            if (request.uri().getHost().equals("a")) {
+                throw new HttpClientConnectionException(new IOException("test"));
+            }
+            return new SimpleHttpClientResponse(200);
+        }, "http://a:8080", List.of("http://b:8080"), balancing(BalancingConfig.Strategy.ROUND_ROBIN), hedging(false));
+
+        for (int i = 0; i < 20; i++) {
+            try {
+                client.execute(get("http://a:8080/test"));
+            } catch (HttpClientConnectionException _) {
+            }
+        }
+
+        assertEquals(2, requestsByHost.get("a").get());
+        assertEquals(18, requestsByHost.get("b").get());
+    }
+
+    @Test
+    void slowRequestIsHedgedToAnotherBaseUrl() {
+        var slow = new AtomicBoolean();
+        var client = new LoadBalancingHttpClient(request -> {
+            count(request);
+            if (slow.get() && request.uri().getHost().equals("a")) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    throw new HttpClientConnectionException(new IOException(e));
+                }
+            }
+            return new SimpleHttpClientResponse(200);
+        }, "http://a:8080", List.of("http://b:8080"), balancing(BalancingConfig.Strategy.ROUND_ROBIN), hedging(true));
+
+        for (int i = 0; i < 64; i++) {
+            client.execute(get("http://a:8080/test"));
+        }
+        slow.set(true);
+
+        var started = System.nanoTime();
+        for (int i = 0; i < 2; i++) {
+            assertEquals(200, client.execute(get("http://a:8080/test")).code());
+        }
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(5)) < 0);
+    }
+
+    @Test
+    void closeInterruptsRunningAttempts() throws InterruptedException {
+        var slow = new AtomicBoolean();
+        var started = new CountDownLatch(2);
+        var client = new LoadBalancingHttpClient(request -> {
+            if (slow.get()) {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    throw new HttpClientConnectionException(new IOException(e));
+                }
+            }
+            return new SimpleHttpClientResponse(200);
+        }, "http://a:8080", List.of("http://b:8080"), balancing(BalancingConfig.Strategy.ROUND_ROBIN), hedging(true));
+
+        for (int i = 0; i < 64; i++) {
+            client.execute(get("http://a:8080/test"));
+        }
+        slow.set(true);
+
+        var error = new CompletableFuture<Throwable>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                client.execute(get("http://a:8080/test"));
+                error.complete(null);
+            } catch (Throwable e) {
+                error.complete(e);
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        client.close();
+
+        assertInstanceOf(HttpClientConnectionException.class, error.orTimeout(5, TimeUnit.SECONDS).join());
+    }
+
+    @Test
+    void requestsWithBodyAreNotHedged() {
+        var client = new LoadBalancingHttpClient(request -> {
+            count(request);
+            return new SimpleHttpClientResponse(200);
+        }, "http://a:8080", List.of(), balancing(BalancingConfig.Strategy.ROUND_ROBIN), hedging(true));
+
+        for (int i = 0; i < 100; i++) {
+            var request = HttpClientRequest.of("POST", URI.create("http://a:8080/test"), "/test", HttpHeaders.empty(), HttpBody.plaintext("body"), null);
+            client.execute(request);
+        }
+
+        assertEquals(100, requestsByHost.get("a").get());
+    }
+
+    private void count(HttpClientRequest request) {
+        requestsByHost.computeIfAbsent(request.uri().getHost(), _ -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private static HttpClientRequest get(String uri) {
+        return HttpClientRequest.of("GET", URI.create(uri), "/test", HttpHeaders.empty(), HttpBody.empty(), null);
+    }
+
+    private static BalancingConfig balancing(BalancingConfig.Strategy strategy) {
+        return new $DeclarativeHttpClientConfig_BalancingConfig_ConfigValueMapper.BalancingConfig_Impl(strategy, 2, Duration.ofMinutes(1), 50);
+    }
+
+    private static HedgingConfig hedging(boolean enabled) {
+        return new $DeclarativeHttpClientConfig_HedgingConfig_ConfigValueMapper.HedgingConfig_Impl(enabled, 0.95, Duration.ofMillis(10), 2, 10);
+    }
+}
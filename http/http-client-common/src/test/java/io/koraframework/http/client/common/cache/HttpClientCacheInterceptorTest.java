@@ -0,0 +1,242 @@
+package io.koraframework.http.client.common.cache;
+
+import io.koraframework.cache.Cache;
+import io.koraframework.http.client.common.interceptor.HttpClientInterceptor.InterceptChain;
+import io.koraframework.http.client.common.request.HttpClientRequest;
+import io.koraframework.http.client.common.response.HttpClientResponse;
+import io.koraframework.http.client.common.response.SimpleHttpClientResponse;
+import io.koraframework.http.common.body.HttpBody;
+import io.koraframework.http.common.header.HttpHeaders;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpClientCacheInterceptorTest {
+
+    private final MapCache cache = new MapCache();
+    private final HttpClientCacheInterceptor interceptor = new HttpClientCacheInterceptor("test", cache, null);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void freshResponseIsServedFromCache() throws Exception {
+        InterceptChain chain = request -> {
+            calls.incrementAndGet();
+            return response(200, "value", "cache-control", "max-age=60");
+        };
+
+        assertEquals("value", body(interceptor.processRequest(chain, get())));
+        var cached = interceptor.processRequest(chain, get());
+
+        assertEquals("value", body(cached));
+        assertEquals("0", cached.headers().getFirst("age"));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void notStorableResponsesAreNotCached() throws Exception {
+        InterceptChain chain = request -> {
+            calls.incrementAndGet();
+            return switch (calls.get()) {
+                case 1 -> response(200, "value", "cache-control", "no-store");
+                case 2 -> response(200, "value", "cache-control", "private, max-age=60");
+                case 3 -> response(500, "value", "cache-control", "max-age=60");
+                default -> response(200, "value");
+            };
+        };
+
+        for (int i = 0; i < 4; i++) {
+            interceptor.processRequest(chain, get()).close();
+        }
+
+        assertEquals(4, calls.get());
+        assertTrue(cache.map.isEmpty());
+    }
+
+    @Test
+    void staleResponseIsRevalidatedWithEtag() throws Exception {
+        var conditionalHeaders = new ArrayList<@Nullable String>();
+        InterceptChain chain = request -> {
+            calls.incrementAndGet();
+            conditionalHeaders.add(request.headers().getFirst("if-none-match"));
+            if (request.headers().has("if-none-match")) {
+                return new SimpleHttpClientResponse(304, HttpHeaders.of("etag", "\"v1\"", "cache-control", "max-age=60"));
+            }
+            return response(200, "value", "etag", "\"v1\"", "cache-control", "max-age=0");
+        };
+
+        assertEquals("value", body(interceptor.processRequest(chain, get())));
+        assertEquals("value", body(interceptor.processRequest(chain, get())));
+        assertEquals("value", body(interceptor.processRequest(chain, get())));
+
+        assertEquals(2, calls.get());
+        assertEquals(Arrays.asList(null, "\"v1\""), conditionalHeaders);
+    }
+
+    @Test
+    void staleWhileRevalidateServesStaleAndRefreshesInBackground() throws Exception {
+        var refreshed = new CountDownLatch(1);
+        InterceptChain chain = request -> {
+            if (calls.incrementAndGet() == 1) {
+                return response(200, "old", "etag", "\"v1\"", "cache-control", "max-age=0, stale-while-revalidate=60");
+            }
+            refreshed.countDown();
+            return response(200, "new", "cache-control", "max-age=60");
+        };
+
+        assertEquals("old", body(interceptor.processRequest(chain, get())));
+        assertEquals("old", body(interceptor.processRequest(chain, get())));
+        refreshed.await();
+        while (Objects.requireNonNull(cache.get("GET http://test/ref")).freshUntilMillis() <= System.currentTimeMillis()) {
+            Thread.onSpinWait();
+        }
+
+        assertEquals("new", body(interceptor.processRequest(chain, get())));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void releasedInterceptorServesStaleWithoutRevalidation() throws Exception {
+        InterceptChain chain = request -> {
+            calls.incrementAndGet();
+            return response(200, "old", "etag", "\"v1\"", "cache-control", "max-age=0, stale-while-revalidate=60");
+        };
+
+        assertEquals("old", body(interceptor.processRequest(chain, get())));
+        interceptor.release();
+
+        assertEquals("old", body(interceptor.processRequest(chain, get())));
+        assertEquals("old", body(interceptor.processRequest(chain, get())));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void concurrentMissesAreCoalesced() throws Exception {
+        var release = new CountDownLatch(1);
+        InterceptChain chain = request -> {
+            calls.incrementAndGet();
+            release.await();
+            return response(200, "value", "cache-control", "max-age=60");
+        };
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = new ArrayList<Future<String>>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(executor.submit(() -> body(interceptor.processRequest(chain, get()))));
+            }
+            while (calls.get() == 0) {
+                Thread.onSpinWait();
+            }
+            Thread.sleep(50);
+            release.countDown();
+            for (var future : futures) {
+                assertEquals("value", future.get());
+            }
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void unsafeRequestInvalidatesCachedResponse() throws Exception {
+        InterceptChain chain = request -> {
+            calls.incrementAndGet();
+            return response(200, "value", "cache-control", "max-age=60");
+        };
+
+        interceptor.processRequest(chain, get()).close();
+        interceptor.processRequest(chain, HttpClientRequest.of("POST", URI.create("http://test/ref"), "/ref", HttpHeaders.empty(), HttpBody.empty(), null)).close();
+        interceptor.processRequest(chain, get()).close();
+
+        assertEquals(3, calls.get());
+    }
+
+    private static HttpClientRequest get() {
+        return HttpClientRequest.of("GET", URI.create("http://test/ref"), "/ref", HttpHeaders.empty(), HttpBody.empty(), null);
+    }
+
+    private static HttpClientResponse response(int code, String body, String... headers) {
+        var httpHeaders = HttpHeaders.of();
+        for (int i = 0; i < headers.length; i += 2) {
+            httpHeaders.set(headers[i], headers[i + 1]);
+        }
+        return new SimpleHttpClientResponse(code, httpHeaders, HttpBody.plaintext(body));
+    }
+
+    private static String body(HttpClientResponse response) throws Exception {
+        try (response; var is = response.body().asInputStream()) {
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class MapCache implements Cache<String, HttpClientCachedResponse> {
+
+        private final Map<String, HttpClientCachedResponse> map = new ConcurrentHashMap<>();
+
+        @Override
+        @Nullable
+        public HttpClientCachedResponse get(String key) {
+            return map.get(key);
+        }
+
+        @Override
+        public Map<String, HttpClientCachedResponse> get(Collection<String> keys) {
+            var result = new HashMap<String, HttpClientCachedResponse>();
+            for (var key : keys) {
+                var value = map.get(key);
+                if (value != null) {
+                    result.put(key, value);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public HttpClientCachedResponse put(String key, HttpClientCachedResponse value) {
+            map.put(key, value);
+            return value;
+        }
+
+        @Override
+        public Map<String, HttpClientCachedResponse> put(Map<String, HttpClientCachedResponse> keyAndValues) {
+            map.putAll(keyAndValues);
+            return keyAndValues;
+        }
+
+        @Override
+        @Nullable
+        public HttpClientCachedResponse computeIfAbsent(String key, Function<String, @Nullable HttpClientCachedResponse> mappingFunction) {
+            return map.computeIfAbsent(key, mappingFunction);
+        }
+
+        @Override
+        public Map<String, HttpClientCachedResponse> computeIfAbsent(Collection<String> keys, Function<Set<String>, Map<String, HttpClientCachedResponse>> mappingFunction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void invalidate(String key) {
+            map.remove(key);
+        }
+
+        @Override
+        public void invalidate(Collection<String> keys) {
+            keys.forEach(map::remove);
+        }
+
+        @Override
+        public void invalidateAll() {
+            map.clear();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.koraframework.http.client.common.pool;
+
+import io.koraframework.http.client.common.$HttpClientConfig_HttpClientPoolConfig_ConfigValueMapper;
+import io.koraframework.http.client.common.telemetry.impl.NoopHttpClientPoolTelemetry;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpClientConnectionLimiterTest {
+
+    private static final URI A = URI.create("http://a:8080/test");
+    private static final URI B = URI.create("http://b:8080/test");
+
+    @Test
+    void routeLimitDoesNotBlockOtherRoutes() throws Exception {
+        var limiter = limiter(3, 1, Duration.ofMillis(50));
+
+        var permit = limiter.acquire(A);
+        assertThrows(ConnectionAcquireTimeoutException.class, () -> limiter.acquire(A));
+        limiter.acquire(B).close();
+
+        assertEquals(1, limiter.leased());
+        permit.close();
+        assertEquals(0, limiter.leased());
+        limiter.acquire(A).close();
+    }
+
+    @Test
+    void unusedRoutesAreRemoved() throws Exception {
+        var limiter = limiter(3, 1, Duration.ofMillis(50));
+
+        var permit = limiter.acquire(A);
+        assertThrows(ConnectionAcquireTimeoutException.class, () -> limiter.acquire(A));
+        limiter.acquire(B).close();
+        assertEquals(1, limiter.routes());
+
+        permit.close();
+        assertEquals(0, limiter.routes());
+    }
+
+    @Test
+    void totalLimitIsAppliedAcrossRoutes() throws Exception {
+        var limiter = limiter(1, null, Duration.ofMillis(50));
+
+        try (var _ = limiter.acquire(A)) {
+            assertThrows(ConnectionAcquireTimeoutException.class, () -> limiter.acquire(B));
+            assertEquals(0, limiter.pending());
+        }
+
+        limiter.acquire(B).close();
+    }
+
+    @Test
+    void waitingRequestIsCountedAsPendingAndProceedsAfterRelease() throws Exception {
+        var limiter = limiter(1, null, null);
+        var permit = limiter.acquire(A);
+
+        var waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire(A);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (limiter.pending() == 0) {
+            Thread.onSpinWait();
+        }
+        permit.close();
+        permit.close();
+
+        waiting.get().close();
+        assertEquals(0, limiter.pending());
+        assertEquals(0, limiter.leased());
+    }
+
+    @Test
+    void asyncWaiterGetsReleasedPermitWithoutBlocking() throws Exception {
+        var limiter = limiter(1, null, null);
+        var permit = limiter.acquire(A);
+
+        var waiting = limiter.acquireAsync(B);
+        assertFalse(waiting.isDone());
+        assertEquals(1, limiter.pending());
+
+        permit.close();
+
+        assertTrue(waiting.isDone());
+        assertEquals(0, limiter.pending());
+        assertEquals(1, limiter.leased());
+        waiting.join().close();
+        assertEquals(0, limiter.leased());
+    }
+
+    @Test
+    void asyncWaiterOfBusyRouteDoesNotTakePermitOfOtherRoute() throws Exception {
+        var limiter = limiter(2, 1, null);
+        var permitA = limiter.acquire(A);
+        var permitB = limiter.acquire(B);
+
+        var waitingA = limiter.acquireAsync(A);
+        var waitingB = limiter.acquireAsync(B);
+        permitB.close();
+
+        assertFalse(waitingA.isDone());
+        assertTrue(waitingB.isDone());
+        permitA.close();
+        assertTrue(waitingA.isDone());
+        waitingA.join().close();
+        waitingB.join().close();
+        assertEquals(0, limiter.leased());
+    }
+
+    @Test
+    void asyncWaiterTimesOut() {
+        var limiter = limiter(1, null, Duration.ofMillis(50));
+        var permit = limiter.acquireAsync(A).join();
+
+        var e = assertThrows(CompletionException.class, () -> limiter.acquireAsync(A).join());
+        assertInstanceOf(ConnectionAcquireTimeoutException.class, e.getCause());
+        assertEquals(0, limiter.pending());
+
+        permit.close();
+        assertEquals(0, limiter.leased());
+    }
+
+    @Test
+    void cancelledAsyncWaiterIsRemovedFromQueue() {
+        var limiter = limiter(1, null, null);
+        var permit = limiter.acquireAsync(A).join();
+
+        var waiting = limiter.acquireAsync(A);
+        waiting.cancel(false);
+        assertEquals(0, limiter.pending());
+
+        permit.close();
+        assertEquals(0, limiter.leased());
+    }
+
+    private static HttpClientConnectionLimiter limiter(int maxConnections, @Nullable Integer maxConnectionsPerRoute, @Nullable Duration acquireTimeout) {
+        var config = new $HttpClientConfig_HttpClientPoolConfig_ConfigValueMapper.HttpClientPoolConfig_Impl(maxConnections, maxConnectionsPerRoute, 5, Duration.ofSeconds(30), acquireTimeout);
+        return new HttpClientConnectionLimiter(config, NoopHttpClientPoolTelemetry.INSTANCE);
+    }
+}
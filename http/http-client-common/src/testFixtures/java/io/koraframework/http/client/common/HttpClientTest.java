@@ -4,6 +4,10 @@ import ch.qos.logback.classic.Level;
 import io.koraframework.http.client.common.exception.HttpClientConnectionException;
 import io.koraframework.http.client.common.exception.HttpClientEncoderException;
 import io.koraframework.http.client.common.exception.HttpClientTimeoutException;
+import io.koraframework.http.client.common.interceptor.TelemetryInterceptor;
+import io.koraframework.http.client.common.telemetry.HttpClientObservation;
+import io.koraframework.http.client.common.telemetry.HttpClientTelemetry;
+import io.opentelemetry.api.trace.Span;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.MethodOrderer;
@@ -13,17 +17,31 @@ import org.mockserver.matchers.Times;
 import org.mockserver.model.Header;
 import io.koraframework.application.graph.Lifecycle;
 import io.koraframework.http.client.common.request.HttpClientRequest;
+import io.koraframework.http.client.common.response.HttpClientResponse;
 import io.koraframework.http.common.body.HttpBody;
 import io.koraframework.http.common.body.HttpBodyOutput;
 
+import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.*;
 import static org.mockserver.model.HttpError.error;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
@@ -178,7 +196,7 @@ public abstract class HttpClientTest extends HttpClientTestBase {
             .body(HttpBody.plaintext("test-request"))
             .build();
 
-        var client = this.createClient(new $HttpClientConfig_ConfigValueMapper.HttpClientConfig_Impl(Duration.ofMillis(100), Duration.ofMillis(100), null, false));
+        var client = this.createClient(new $HttpClientConfig_ConfigValueMapper.HttpClientConfig_Impl(Duration.ofMillis(100), Duration.ofMillis(100), null, false, pool()));
 
 
         try {
@@ -245,4 +263,312 @@ public abstract class HttpClientTest extends HttpClientTestBase {
             .isEmpty()
         ).isInstanceOf(HttpClientEncoderException.class);
     }
+
+    @Test
+    protected void testHappyPathAsync() {
+        ctx.getLogger("io.koraframework.http.client").setLevel(Level.OFF);
+        var expectedRequest = request("/")
+            .withMethod(POST)
+            .withHeader("Content-Type", "text/plain;charset=UTF-8")
+            .withBody("test-request", StandardCharsets.UTF_8);
+        server.when(expectedRequest).respond(response()
+            .withBody("test-response", StandardCharsets.UTF_8)
+            .withHeaders(Header.header("Content-type", "text/plain;charset=UTF-8"))
+        );
+
+        var request = HttpClientRequest.post("/")
+            .body(HttpBody.plaintext("test-request"))
+            .build();
+
+        callAsync(request)
+            .assertCode(200)
+            .assertHeader("Content-type", "text/plain;charset=UTF-8")
+            .assertBody()
+            .asString(StandardCharsets.UTF_8)
+            .isEqualTo("test-response");
+
+        server.verify(expectedRequest);
+    }
+
+    @Test
+    protected void requestsAsync() throws IOException {
+        ctx.getLogger("io.koraframework.http.client").setLevel(Level.OFF);
+        server.when(request("/").withMethod(POST)).respond(response()
+            .withBody("test-response", StandardCharsets.UTF_8)
+            .withHeaders(Header.header("Content-type", "text/plain;charset=UTF-8"))
+        );
+
+        var stages = new ArrayList<CompletableFuture<HttpClientResponse>>();
+        for (int i = 0; i < 100; i++) {
+            var request = HttpClientRequest.post("/")
+                .body(HttpBody.plaintext("test-request"))
+                .build();
+            stages.add(client().executeAsync(request).toCompletableFuture());
+        }
+
+        for (var stage : stages) {
+            try (var response = stage.join();
+                 var body = response.body();
+                 var is = body.asInputStream()) {
+                new ResponseWithBody(response, is.readAllBytes())
+                    .assertCode(200)
+                    .assertBody()
+                    .asString(StandardCharsets.UTF_8)
+                    .isEqualTo("test-response");
+            }
+        }
+    }
+
+    @Test
+    protected void testInvalidResponseAsync() {
+        ctx.getLogger("io.koraframework.http.client").setLevel(Level.OFF);
+        var expectedRequest = request("/");
+        server.when(expectedRequest).error(error().withDropConnection(true).withResponseBytes("test respons\r\n".getBytes(StandardCharsets.UTF_8)));
+
+        var request = HttpClientRequest.post("/")
+            .body(HttpBody.plaintext("test-request"))
+            .build();
+
+        assertThatThrownBy(() -> callAsync(request))
+            .isInstanceOf(HttpClientConnectionException.class);
+    }
+
+    @Test
+    protected void testTimeoutAsync() {
+        ctx.getLogger("io.koraframework.http.client").setLevel(Level.OFF);
+        var expectedRequest = request("/");
+        server.when(expectedRequest).respond(response()
+            .withDelay(TimeUnit.SECONDS, 2)
+            .withBody("test", StandardCharsets.ISO_8859_1)
+            .withHeaders(Header.header("Content-type", "text/plain;charset=ISO_8859_1"))
+        );
+
+        var request = HttpClientRequest.post("/")
+            .body(HttpBody.plaintext("test-request"))
+            .requestTimeout(1000)
+            .build();
+
+        assertThatThrownBy(() -> callAsync(request))
+            .isInstanceOf(HttpClientTimeoutException.class);
+    }
+
+    @Test
+    protected void testRequestTimeoutAsync() {
+        ctx.getLogger("io.koraframework.http.client").setLevel(Level.OFF);
+        var expectedRequest = request("/");
+        server.when(expectedRequest).respond(response()
+            .withDelay(TimeUnit.MILLISECONDS, 300)
+            .withBody("test", StandardCharsets.ISO_8859_1)
+            .withHeaders(Header.header("Content-type", "text/plain;charset=ISO_8859_1"))
+        );
+
+        var request = HttpClientRequest.post("/")
+            .body(HttpBody.plaintext("test-request"))
+            .requestTimeout(200)
+            .build();
+
+        assertThatThrownBy(() -> callAsync(request))
+            .isInstanceOf(HttpClientTimeoutException.class);
+    }
+
+    @Test
+    protected void testConnectionErrorAsync() throws Exception {
+        ctx.getLogger("io.koraframework.http.client").setLevel(Level.OFF);
+
+        var request = HttpClientRequest.post("http://google.com:1488/foo/{bar}/baz")
+            .pathParam("bar", "rab")
+            .body(HttpBody.plaintext("test-request"))
+            .build();
+
+        var client = this.createClient(new $HttpClientConfig_ConfigValueMapper.HttpClientConfig_Impl(Duration.ofMillis(100), Duration.ofMillis(100), null, false, pool()));
+
+        try {
+            if (client instanceof Lifecycle lifecycle) {
+                lifecycle.init();
+            }
+            assertThatThrownBy(() -> callAsync(client, request))
+                .isInstanceOf(HttpClientConnectionException.class);
+        } finally {
+            if (client instanceof Lifecycle lifecycle) {
+                lifecycle.release();
+            }
+        }
+    }
+
+    @Test
+    protected void testRequestBodyPublisherErrorAsync() {
+        ctx.getLogger("io.koraframework.http.client").setLevel(Level.OFF);
+        var request = HttpClientRequest.post("/")
+            .body(new HttpBodyOutput() {
+                @Override
+                public long contentLength() {
+                    return -1;
+                }
+
+                @Override
+                @Nullable
+                public String contentType() {
+                    return null;
+                }
+
+                @Override
+                public void write(OutputStream os) throws IOException {
+                    throw new RuntimeException();
+                }
+
+                @Override
+                public void close() throws IOException {
+
+                }
+            })
+            .build();
+
+        assertThatThrownBy(() -> callAsync(request))
+            .isInstanceOf(HttpClientEncoderException.class);
+    }
+
+    @Test
+    protected void testCancelAsync() {
+        ctx.getLogger("io.koraframework.http.client").setLevel(Level.OFF);
+        server.when(request("/slow")).respond(response()
+            .withDelay(TimeUnit.SECONDS, 2)
+            .withBody("test", StandardCharsets.ISO_8859_1)
+        );
+        server.when(request("/")).respond(response()
+            .withBody("test", StandardCharsets.ISO_8859_1)
+        );
+
+        var started = System.nanoTime();
+        var stage = client().executeAsync(HttpClientRequest.get("/slow").build()).toCompletableFuture();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+        assertThat(stage).isNotDone();
+
+        assertThat(stage.cancel(true)).isTrue();
+        assertThat(stage).isCancelled();
+
+        // cancelled exchange does not break the client
+        callAsync(HttpClientRequest.get("/").build())
+            .assertCode(200)
+            .assertBody()
+            .asString(StandardCharsets.ISO_8859_1)
+            .isEqualTo("test");
+    }
+
+    @Test
+    protected void testTelemetryAsync() {
+        ctx.getLogger("io.koraframework.http.client").setLevel(Level.OFF);
+        server.when(request("/")).respond(response()
+            .withBody("test", StandardCharsets.ISO_8859_1)
+        );
+        var observation = mock(HttpClientObservation.class);
+        when(observation.span()).thenReturn(Span.getInvalid());
+        when(observation.observeRequest(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(observation.observeResponse(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        HttpClientTelemetry telemetry = _ -> observation;
+        var client = client().with(new TelemetryInterceptor(telemetry));
+
+        callAsync(client, HttpClientRequest.get("/").build())
+            .assertCode(200);
+
+        verify(observation).observeRequest(any());
+        verify(observation).observeResponse(any());
+        verify(observation, never()).observeError(any());
+        verify(observation).end();
+    }
+
+    @Test
+    protected void testTelemetryErrorAsync() {
+        ctx.getLogger("io.koraframework.http.client").setLevel(Level.OFF);
+        server.when(request("/")).error(error().withDropConnection(true));
+        var observation = mock(HttpClientObservation.class);
+        when(observation.span()).thenReturn(Span.getInvalid());
+        when(observation.observeRequest(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        HttpClientTelemetry telemetry = _ -> observation;
+        var client = client().with(new TelemetryInterceptor(telemetry));
+
+        assertThatThrownBy(() -> callAsync(client, HttpClientRequest.get("/").build()))
+            .isInstanceOf(HttpClientConnectionException.class);
+
+        verify(observation).observeError(isA(HttpClientConnectionException.class));
+        verify(observation, never()).observeResponse(any());
+        verify(observation).end();
+    }
+
+    @Test
+    protected void testStalePooledConnectionRetriedAsync() throws Exception {
+        ctx.getLogger("io.koraframework.http.client").setLevel(Level.OFF);
+        var responses = new AtomicInteger();
+        var stale = new AtomicBoolean();
+        try (var serverSocket = new ServerSocket(0)) {
+            Thread.ofVirtual().start(() -> {
+                while (true) {
+                    final Socket socket;
+                    try {
+                        socket = serverSocket.accept();
+                    } catch (IOException _) {
+                        return;
+                    }
+                    Thread.ofVirtual().start(() -> serve(socket, responses, stale));
+                }
+            });
+            var client = this.createClient(new $HttpClientConfig_ConfigValueMapper.HttpClientConfig_Impl(Duration.ofMillis(1000), Duration.ofMillis(5000), null, false, pool()));
+            try {
+                if (client instanceof Lifecycle lifecycle) {
+                    lifecycle.init();
+                }
+                var uri = "http://localhost:" + serverSocket.getLocalPort() + "/";
+
+                callAsync(client, HttpClientRequest.get(uri).build())
+                    .assertCode(200)
+                    .assertBody()
+                    .asString(StandardCharsets.ISO_8859_1)
+                    .isEqualTo("first");
+                callAsync(client, HttpClientRequest.get(uri).build())
+                    .assertCode(200)
+                    .assertBody()
+                    .asString(StandardCharsets.ISO_8859_1)
+                    .isEqualTo("second");
+                assertThat(stale).isTrue();
+            } finally {
+                if (client instanceof Lifecycle lifecycle) {
+                    lifecycle.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Second request on the first reused connection is dropped without response, as if server closed the idle connection in the meantime
+     */
+    private static void serve(Socket socket, AtomicInteger responses, AtomicBoolean stale) {
+        try (socket) {
+            var in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+            var served = 0;
+            while (true) {
+                readRequestHead(in);
+                if (served > 0 && stale.compareAndSet(false, true)) {
+                    return;
+                }
+                writeResponse(socket, responses.incrementAndGet() == 1 ? "first" : "second");
+                served++;
+            }
+        } catch (IOException _) {
+        }
+    }
+
+    private static void readRequestHead(BufferedReader in) throws IOException {
+        String line;
+        do {
+            line = in.readLine();
+            if (line == null) {
+                throw new EOFException();
+            }
+        } while (!line.isEmpty());
+    }
+
+    private static void writeResponse(Socket socket, String body) throws IOException {
+        var response = "HTTP/1.1 200 OK\r\nContent-Type: text/plain\r\nContent-Length: " + body.length() + "\r\n\r\n" + body;
+        socket.getOutputStream().write(response.getBytes(StandardCharsets.ISO_8859_1));
+        socket.getOutputStream().flush();
+    }
 }
@@ -5,6 +5,7 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.LoggerContext;
 import io.koraframework.application.graph.Lifecycle;
 import io.koraframework.http.client.common.request.HttpClientRequest;
+import io.koraframework.http.client.common.response.HttpClientResponse;
 import io.koraframework.logging.common.MDC;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +22,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.concurrent.CompletionException;
 
 import static java.time.Duration.ofMillis;
 
@@ -64,7 +66,7 @@ public abstract class HttpClientTestBase {
 
     protected final ClientAndServer server = ClientAndServer.startClientAndServer(0);
 
-    private final HttpClient baseClient = this.createClient(new $HttpClientConfig_ConfigValueMapper.HttpClientConfig_Impl(ofMillis(100), ofMillis(500000), null, false));
+    private final HttpClient baseClient = this.createClient(new $HttpClientConfig_ConfigValueMapper.HttpClientConfig_Impl(ofMillis(100), ofMillis(500000), null, false, pool()));
     private final HttpClient client = this.baseClient
         .with((chain, request) -> chain.process(HttpClientRequest.of(
             request.method(),
@@ -77,6 +79,10 @@ public abstract class HttpClientTestBase {
 
     protected abstract HttpClient createClient(HttpClientConfig config);
 
+    protected static HttpClientConfig.HttpClientPoolConfig pool() {
+        return new $HttpClientConfig_HttpClientPoolConfig_ConfigValueMapper.HttpClientPoolConfig_Impl(64, null, 5, ofMillis(30000), null);
+    }
+
     @BeforeEach
     void setUp() throws Exception {
         ctx.getLogger("ROOT").setLevel(Level.OFF);
@@ -94,6 +100,13 @@ public abstract class HttpClientTestBase {
         server.stop();
     }
 
+    /**
+     * Client that sends relative requests to the mock server
+     */
+    protected HttpClient client() {
+        return this.client;
+    }
+
     protected ResponseWithBody call(HttpClient client, HttpClientRequest request) {
         try (var response = client.execute(request);
              var body = response.body();
@@ -113,4 +126,27 @@ public abstract class HttpClientTestBase {
             throw new RuntimeException(e);
         }
     }
+
+    protected ResponseWithBody callAsync(HttpClient client, HttpClientRequest request) {
+        final HttpClientResponse response;
+        try {
+            response = client.executeAsync(request).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        try (response;
+             var body = response.body();
+             var is = body.asInputStream()) {
+            return new ResponseWithBody(response, is.readAllBytes());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    protected ResponseWithBody callAsync(HttpClientRequest request) {
+        return this.callAsync(this.client, request);
+    }
 }
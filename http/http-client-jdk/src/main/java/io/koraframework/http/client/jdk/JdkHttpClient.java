@@ -1,20 +1,28 @@
 package io.koraframework.http.client.jdk;
 
+import io.koraframework.common.Deadline;
 import io.koraframework.http.client.common.*;
 import io.koraframework.http.client.common.exception.*;
 import io.koraframework.http.client.common.request.HttpClientRequest;
 import io.koraframework.http.client.common.response.HttpClientResponse;
+import io.koraframework.http.client.common.util.AsyncUtils;
 import io.koraframework.http.common.body.HttpBodyOutput;
 
 import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.ProtocolException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.ByteBuffer;
 import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Flow;
+import java.util.function.Function;
 
 public class JdkHttpClient implements HttpClient {
     private final java.net.http.HttpClient httpClient;
@@ -25,22 +33,7 @@ public class JdkHttpClient implements HttpClient {
 
     @Override
     public HttpClientResponse execute(HttpClientRequest request) {
-        var httpClientRequest = HttpRequest.newBuilder()
-            .uri(request.uri());
-        if (request.requestTimeout() != null) {
-            httpClientRequest.timeout(request.requestTimeout());
-        }
-        for (var header : request.headers()) {
-            if (isRestrictedHeader(header.getKey())) {
-                continue;
-            }
-            if (header.getKey().equalsIgnoreCase("content-type") && request.body().contentType() != null) {
-                continue;
-            }
-            for (var value : header.getValue()) {
-                httpClientRequest.header(header.getKey(), value);
-            }
-        }
+        var httpClientRequest = this.toRequestBuilder(request);
         try (var body = request.body()) {
             if (body.contentType() != null) {
                 httpClientRequest.header("content-type", body.contentType());
@@ -54,6 +47,9 @@ public class JdkHttpClient implements HttpClient {
                 throw new HttpClientConnectionException(e);
             } catch (java.net.http.HttpTimeoutException e) {
                 throw new HttpClientTimeoutException(e);
+            } catch (InterruptedIOException e) {
+                // interrupted while waiting for connection pool limit
+                throw new HttpClientConnectionException(e);
             } catch (InterruptedException e) {
                 throw new HttpClientUnknownException(e);
             } catch (IOException e) {
@@ -79,6 +75,104 @@ public class JdkHttpClient implements HttpClient {
         }
     }
 
+    @Override
+    public CompletionStage<HttpClientResponse> executeAsync(HttpClientRequest request) {
+        var httpClientRequest = this.toRequestBuilder(request);
+        var body = request.body();
+        final HttpRequest.BodyPublisher bodyPublisher;
+        try {
+            if (body.contentType() != null) {
+                httpClientRequest.header("content-type", body.contentType());
+            }
+            bodyPublisher = this.toBodyPublisher(body);
+        } catch (IOException e) {
+            closeQuietly(body);
+            return CompletableFuture.failedFuture(new HttpClientUnknownException(e));
+        }
+        httpClientRequest.method(request.method(), bodyPublisher);
+
+        var result = new CompletableFuture<HttpClientResponse>();
+        this.sendAsync(httpClientRequest.build(), bodyPublisher, true, result).whenComplete((rs, error) -> {
+            closeQuietly(body);
+            if (error != null) {
+                result.completeExceptionally(toHttpClientException(AsyncUtils.unwrap(error)));
+            } else if (!result.complete(new JdkHttpClientResponse(rs))) {
+                // result was cancelled while response was received
+                closeQuietly(rs.body());
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<HttpResponse<InputStream>> sendAsync(HttpRequest request, HttpRequest.BodyPublisher bodyPublisher, boolean retry, CompletableFuture<HttpClientResponse> result) {
+        var future = this.httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+        // cancelled result cancels exchange in flight, including the retried one
+        result.whenComplete((_, error) -> {
+            if (error instanceof CancellationException) {
+                future.cancel(true);
+            }
+        });
+        if (!retry) {
+            return future;
+        }
+        // same as blocking execute: request is sent once more if pooled connection turned out to be closed
+        return future.handle((rs, error) -> {
+            if (error == null) {
+                return CompletableFuture.completedFuture(rs);
+            }
+            var cause = AsyncUtils.unwrap(error);
+            var retryable = cause instanceof IOException
+                && !(cause instanceof ProtocolException)
+                && !(cause instanceof java.net.http.HttpTimeoutException)
+                && !(cause instanceof InterruptedIOException)
+                && !(cause.getCause() instanceof HttpClientException)
+                && !(bodyPublisher instanceof RequestBodyPublisher r && r.subscribed);
+            return retryable
+                ? this.sendAsync(request, bodyPublisher, false, result)
+                : CompletableFuture.<HttpResponse<InputStream>>failedFuture(cause);
+        }).thenCompose(Function.identity());
+    }
+
+    private static HttpClientException toHttpClientException(Throwable error) {
+        return switch (error) {
+            case HttpClientException e -> e;
+            case ProtocolException e -> new HttpClientConnectionException(e);
+            case java.net.http.HttpConnectTimeoutException e -> new HttpClientConnectionException(e);
+            case java.net.http.HttpTimeoutException e -> new HttpClientTimeoutException(e);
+            case IOException e when e.getCause() instanceof HttpClientException h -> h;
+            case IOException e -> new HttpClientConnectionException(e);
+            default -> new HttpClientUnknownException(error);
+        };
+    }
+
+    private HttpRequest.Builder toRequestBuilder(HttpClientRequest request) {
+        var httpClientRequest = HttpRequest.newBuilder()
+            .uri(request.uri());
+        var requestTimeout = Deadline.timeout(request.requestTimeout());
+        if (requestTimeout != null) {
+            httpClientRequest.timeout(requestTimeout);
+        }
+        for (var header : request.headers()) {
+            if (isRestrictedHeader(header.getKey())) {
+                continue;
+            }
+            if (header.getKey().equalsIgnoreCase("content-type") && request.body().contentType() != null) {
+                continue;
+            }
+            for (var value : header.getValue()) {
+                httpClientRequest.header(header.getKey(), value);
+            }
+        }
+        return httpClientRequest;
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception _) {
+        }
+    }
+
     static boolean isRestrictedHeader(String name) {
         return switch (name.toLowerCase(Locale.ROOT)) {
             case "connection", "content-length", "expect", "host", "upgrade" -> true;
@@ -7,6 +7,7 @@ import io.koraframework.config.common.Config;
 import io.koraframework.config.common.mapper.ConfigValueMapper;
 import io.koraframework.http.client.common.HttpClientConfig;
 import io.koraframework.http.client.common.HttpClientFactoryModule;
+import io.koraframework.http.client.common.telemetry.HttpClientTelemetryFactory;
 import org.jspecify.annotations.Nullable;
 
 import java.net.http.HttpClient;
@@ -38,7 +39,8 @@ public class JdkHttpClientFactoryModule extends HttpClientFactoryModule {
     @Tag(Tag.Factory.class)
     public JdkHttpClientWrapper jdkHttpClientWrapper(@Tag(Tag.Factory.class) JdkHttpClientConfig config,
                                                      @Tag(Tag.Factory.class) HttpClientConfig baseConfig,
-                                                     @Tag(Tag.Factory.class) @Nullable Configurer<HttpClient.Builder> clientConfigurer) {
-        return new JdkHttpClientWrapper(config, baseConfig, clientConfigurer);
+                                                     @Tag(Tag.Factory.class) @Nullable Configurer<HttpClient.Builder> clientConfigurer,
+                                                     @Nullable HttpClientTelemetryFactory telemetryFactory) {
+        return new JdkHttpClientWrapper(config, baseConfig, clientConfigurer, this.baseConfigPath, telemetryFactory);
     }
 }
@@ -5,6 +5,10 @@ import io.koraframework.application.graph.Wrapped;
 import io.koraframework.common.Configurer;
 import io.koraframework.common.util.TimeUtils;
 import io.koraframework.http.client.common.HttpClientConfig;
+import io.koraframework.http.client.common.pool.HttpClientConnectionLimiter;
+import io.koraframework.http.client.common.telemetry.HttpClientPoolTelemetry;
+import io.koraframework.http.client.common.telemetry.HttpClientTelemetryFactory;
+import io.koraframework.http.client.common.telemetry.impl.NoopHttpClientPoolTelemetry;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,15 +30,29 @@ public final class JdkHttpClientWrapper implements Lifecycle, Wrapped<HttpClient
     private final HttpClientConfig baseConfig;
     @Nullable
     private final Configurer<HttpClient.Builder> clientConfigurer;
+    private final String configPath;
+    @Nullable
+    private final HttpClientTelemetryFactory telemetryFactory;
 
     private volatile HttpClient client;
+    private volatile HttpClientPoolTelemetry poolTelemetry = NoopHttpClientPoolTelemetry.INSTANCE;
 
     public JdkHttpClientWrapper(JdkHttpClientConfig config,
                                 HttpClientConfig baseConfig,
                                 @Nullable Configurer<HttpClient.Builder> clientConfigurer) {
+        this(config, baseConfig, clientConfigurer, "httpClient", null);
+    }
+
+    public JdkHttpClientWrapper(JdkHttpClientConfig config,
+                                HttpClientConfig baseConfig,
+                                @Nullable Configurer<HttpClient.Builder> clientConfigurer,
+                                String configPath,
+                                @Nullable HttpClientTelemetryFactory telemetryFactory) {
         this.config = config;
         this.baseConfig = baseConfig;
         this.clientConfigurer = clientConfigurer;
+        this.configPath = configPath;
+        this.telemetryFactory = telemetryFactory;
     }
 
     @Override
@@ -74,7 +92,16 @@ public final class JdkHttpClientWrapper implements Lifecycle, Wrapped<HttpClient
             builder = this.clientConfigurer.configure(builder);
         }
 
-        this.client = builder.build();
+        // JDK client keeps idle connections by jdk.httpclient.keepalive.timeout system property only, so only leased connections are limited
+        var poolConfig = this.baseConfig.pool();
+        var poolState = new JdkPoolState(poolConfig.maxConnections());
+        this.poolTelemetry = this.telemetryFactory == null
+            ? NoopHttpClientPoolTelemetry.INSTANCE
+            : this.telemetryFactory.pool(this.configPath, poolState);
+        var limiter = new HttpClientConnectionLimiter(poolConfig, this.poolTelemetry);
+        poolState.limiter = limiter;
+
+        this.client = new LimitedJdkHttpClient(builder.build(), limiter);
         logger.info("JdkHttpClient started in {}", TimeUtils.tookForLogging(started));
     }
 
@@ -84,6 +111,8 @@ public final class JdkHttpClientWrapper implements Lifecycle, Wrapped<HttpClient
         var started = System.nanoTime();
 
         this.client = null;
+        this.poolTelemetry.close();
+        this.poolTelemetry = NoopHttpClientPoolTelemetry.INSTANCE;
 
         logger.info("JdkHttpClient stopped in {}", TimeUtils.tookForLogging(started));
     }
@@ -100,4 +129,37 @@ public final class JdkHttpClientWrapper implements Lifecycle, Wrapped<HttpClient
             thread.start();
         };
     }
+
+    private static final class JdkPoolState implements HttpClientPoolTelemetry.PoolState {
+
+        private final int maxConnections;
+        @Nullable
+        private volatile HttpClientConnectionLimiter limiter;
+
+        private JdkPoolState(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        @Override
+        public int leased() {
+            var limiter = this.limiter;
+            return limiter == null ? 0 : limiter.leased();
+        }
+
+        @Override
+        public int idle() {
+            return -1;
+        }
+
+        @Override
+        public int pending() {
+            var limiter = this.limiter;
+            return limiter == null ? 0 : limiter.pending();
+        }
+
+        @Override
+        public int max() {
+            return this.maxConnections;
+        }
+    }
 }
@@ -0,0 +1,231 @@
+package io.koraframework.http.client.jdk;
+
+import io.koraframework.http.client.common.pool.HttpClientConnectionLimiter;
+import io.koraframework.http.client.common.util.AsyncUtils;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * JDK HTTP client has no connection pool limits, so the number of connections in use is limited by holding a permit until response body is received or cancelled.
+ */
+final class LimitedJdkHttpClient extends HttpClient {
+
+    private final HttpClient delegate;
+    private final HttpClientConnectionLimiter limiter;
+
+    LimitedJdkHttpClient(HttpClient delegate, HttpClientConnectionLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler) throws IOException, InterruptedException {
+        var permit = this.limiter.acquire(request.uri());
+        try {
+            return this.delegate.send(request, new PermitBodyHandler<>(responseBodyHandler, permit));
+        } catch (Throwable e) {
+            permit.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler) {
+        return this.sendAsync(request, responseBodyHandler, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler, HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+        var result = new CompletableFuture<HttpResponse<T>>();
+        var acquire = this.limiter.acquireAsync(request.uri());
+        acquire.whenComplete((permit, acquireError) -> {
+            if (acquireError != null) {
+                result.completeExceptionally(AsyncUtils.unwrap(acquireError));
+                return;
+            }
+            final CompletableFuture<HttpResponse<T>> future;
+            try {
+                future = this.delegate.sendAsync(request, new PermitBodyHandler<>(responseBodyHandler, permit), pushPromiseHandler);
+            } catch (Throwable e) {
+                permit.close();
+                result.completeExceptionally(e);
+                return;
+            }
+            future.whenComplete((rs, error) -> {
+                if (error != null) {
+                    permit.close();
+                    result.completeExceptionally(AsyncUtils.unwrap(error));
+                } else if (!result.complete(rs)) {
+                    // result was cancelled while response was received, its body is not going to be read
+                    closeBody(rs);
+                }
+            });
+            result.whenComplete((_, error) -> {
+                if (error instanceof CancellationException) {
+                    future.cancel(true);
+                }
+            });
+        });
+        result.whenComplete((_, error) -> {
+            if (error instanceof CancellationException) {
+                // removes request from the queue if it is still waiting for connection
+                acquire.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    private static void closeBody(HttpResponse<?> response) {
+        if (response.body() instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception _) {
+            }
+        }
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+        return this.delegate.cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+        return this.delegate.connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+        return this.delegate.followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+        return this.delegate.proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+        return this.delegate.sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+        return this.delegate.sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+        return this.delegate.authenticator();
+    }
+
+    @Override
+    public Version version() {
+        return this.delegate.version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+        return this.delegate.executor();
+    }
+
+    @Override
+    public WebSocket.Builder newWebSocketBuilder() {
+        return this.delegate.newWebSocketBuilder();
+    }
+
+    @Override
+    public void shutdown() {
+        this.delegate.shutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(Duration duration) throws InterruptedException {
+        return this.delegate.awaitTermination(duration);
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.delegate.isTerminated();
+    }
+
+    @Override
+    public void shutdownNow() {
+        this.delegate.shutdownNow();
+    }
+
+    @Override
+    public void close() {
+        this.delegate.close();
+    }
+
+    private record PermitBodyHandler<T>(HttpResponse.BodyHandler<T> delegate, HttpClientConnectionLimiter.Permit permit) implements HttpResponse.BodyHandler<T> {
+
+        @Override
+        public HttpResponse.BodySubscriber<T> apply(HttpResponse.ResponseInfo responseInfo) {
+            return new PermitBodySubscriber<>(this.delegate.apply(responseInfo), this.permit);
+        }
+    }
+
+    private record PermitBodySubscriber<T>(HttpResponse.BodySubscriber<T> delegate, HttpClientConnectionLimiter.Permit permit) implements HttpResponse.BodySubscriber<T> {
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return this.delegate.getBody();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.delegate.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    try {
+                        subscription.cancel();
+                    } finally {
+                        permit.close();
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            this.delegate.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.permit.close();
+            this.delegate.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            this.permit.close();
+            this.delegate.onComplete();
+        }
+    }
+}
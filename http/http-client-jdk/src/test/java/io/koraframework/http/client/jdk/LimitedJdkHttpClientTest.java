@@ -0,0 +1,99 @@
+package io.koraframework.http.client.jdk;
+
+import io.koraframework.http.client.common.$HttpClientConfig_HttpClientPoolConfig_ConfigValueMapper;
+import io.koraframework.http.client.common.pool.ConnectionAcquireTimeoutException;
+import io.koraframework.http.client.common.pool.HttpClientConnectionLimiter;
+import io.koraframework.http.client.common.telemetry.impl.NoopHttpClientPoolTelemetry;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class LimitedJdkHttpClientTest {
+
+    private static final HttpRequest REQUEST = HttpRequest.newBuilder(URI.create("http://localhost:8080/test")).build();
+
+    private final HttpClient delegate = mock(HttpClient.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendAsyncWaitsForConnectionWithoutBlockingCaller() {
+        var limiter = limiter(null);
+        var client = new LimitedJdkHttpClient(this.delegate, limiter);
+        var response = (HttpResponse<String>) mock(HttpResponse.class);
+        when(this.delegate.sendAsync(eq(REQUEST), any(HttpResponse.BodyHandler.class), any())).thenReturn(CompletableFuture.completedFuture(response));
+        var permit = limiter.acquireAsync(REQUEST.uri()).join();
+
+        var result = client.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+
+        assertThat(result).isNotDone();
+        assertThat(limiter.pending()).isEqualTo(1);
+        verify(this.delegate, never()).sendAsync(any(), any(), any());
+
+        permit.close();
+
+        assertThat(result).isCompletedWithValue(response);
+        verify(this.delegate).sendAsync(eq(REQUEST), any(HttpResponse.BodyHandler.class), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedSendAsyncReleasesConnection() {
+        var limiter = limiter(null);
+        var client = new LimitedJdkHttpClient(this.delegate, limiter);
+        when(this.delegate.sendAsync(eq(REQUEST), any(HttpResponse.BodyHandler.class), any())).thenReturn(CompletableFuture.failedFuture(new IOException("test")));
+
+        var result = client.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IOException.class);
+        assertThat(limiter.leased()).isZero();
+    }
+
+    @Test
+    void sendAsyncFailsWithTimeoutWhenConnectionIsNotAcquired() {
+        var limiter = limiter(Duration.ofMillis(50));
+        var client = new LimitedJdkHttpClient(this.delegate, limiter);
+        var permit = limiter.acquireAsync(REQUEST.uri()).join();
+
+        var result = client.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+
+        assertThatThrownBy(result::join).hasCauseInstanceOf(ConnectionAcquireTimeoutException.class);
+        assertThat(limiter.pending()).isZero();
+        verify(this.delegate, never()).sendAsync(any(), any(), any());
+        permit.close();
+        assertThat(limiter.leased()).isZero();
+    }
+
+    @Test
+    void cancelledSendAsyncLeavesQueue() {
+        var limiter = limiter(null);
+        var client = new LimitedJdkHttpClient(this.delegate, limiter);
+        var permit = limiter.acquireAsync(REQUEST.uri()).join();
+
+        var result = client.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        result.cancel(true);
+
+        assertThat(limiter.pending()).isZero();
+        permit.close();
+        assertThat(limiter.leased()).isZero();
+        verify(this.delegate, never()).sendAsync(any(), any(), any());
+    }
+
+    private static HttpClientConnectionLimiter limiter(@Nullable Duration acquireTimeout) {
+        var config = new $HttpClientConfig_HttpClientPoolConfig_ConfigValueMapper.HttpClientPoolConfig_Impl(1, null, 5, Duration.ofSeconds(30), acquireTimeout);
+        return new HttpClientConnectionLimiter(config, NoopHttpClientPoolTelemetry.INSTANCE);
+    }
+}
@@ -1,17 +1,25 @@
 package io.koraframework.http.client.ok;
 
+import io.koraframework.common.Deadline;
 import io.koraframework.http.client.common.HttpClient;
 import io.koraframework.http.client.common.exception.HttpClientConnectionException;
 import io.koraframework.http.client.common.exception.HttpClientException;
 import io.koraframework.http.client.common.exception.HttpClientTimeoutException;
 import io.koraframework.http.client.common.exception.HttpClientUnknownException;
+import io.koraframework.http.client.common.pool.ConnectionAcquireTimeoutException;
 import io.koraframework.http.client.common.request.HttpClientRequest;
 import io.koraframework.http.client.common.response.HttpClientResponse;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import okhttp3.Response;
 import org.jspecify.annotations.Nullable;
 
 import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 public class OkHttpClient implements HttpClient {
 
@@ -24,35 +32,78 @@ public class OkHttpClient implements HttpClient {
     @Override
     public HttpClientResponse execute(HttpClientRequest request) {
         try {
-            var b = new Request.Builder();
-            b.method(request.method(), toRequestBody(request))
-                .url(request.uri().toURL());
-            for (var header : request.headers()) {
-                for (var headerValue : header.getValue()) {
-                    b.addHeader(header.getKey(), headerValue);
+            var call = this.newCall(request);
+            var rs = call.execute();
+            return new OkHttpResponse(rs);
+        } catch (Throwable t) {
+            throw toHttpClientException(t);
+        }
+    }
+
+    @Override
+    public CompletionStage<HttpClientResponse> executeAsync(HttpClientRequest request) {
+        final Call call;
+        try {
+            call = this.newCall(request);
+        } catch (Throwable t) {
+            return CompletableFuture.failedFuture(toHttpClientException(t));
+        }
+        var result = new CompletableFuture<HttpClientResponse>();
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                if (!result.complete(new OkHttpResponse(response))) {
+                    response.close();
                 }
             }
-            var okHttpRequest = b.build();
-            var okHttpClient = this.client;
-            if (request.requestTimeout() != null) {
-                okHttpClient = okHttpClient.newBuilder().callTimeout(request.requestTimeout()).build();
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                // okhttp reports unchecked exceptions of async call, such as request body encoding error, as suppressed by "canceled" exception
+                for (var suppressed : e.getSuppressed()) {
+                    if (suppressed instanceof HttpClientException httpClientException) {
+                        result.completeExceptionally(httpClientException);
+                        return;
+                    }
+                }
+                result.completeExceptionally(toHttpClientException(e));
             }
-            var call = okHttpClient.newCall(okHttpRequest);
-            var rs = call.execute();
-            return new OkHttpResponse(rs);
-        } catch (HttpClientException e) {
-            throw e;
-        } catch (java.io.InterruptedIOException t) {
-            if ("timeout".equals(t.getMessage())) {
-                throw new HttpClientTimeoutException(t);
-            } else {
-                throw new HttpClientConnectionException(t);
+        });
+        result.whenComplete((_, error) -> {
+            if (error instanceof CancellationException) {
+                call.cancel();
             }
-        } catch (IOException t) {
-            throw new HttpClientConnectionException(t);
-        } catch (Throwable t) {
-            throw new HttpClientUnknownException(t);
+        });
+        return result;
+    }
+
+    private Call newCall(HttpClientRequest request) throws IOException {
+        var b = new Request.Builder();
+        b.method(request.method(), toRequestBody(request))
+            .url(request.uri().toURL());
+        for (var header : request.headers()) {
+            for (var headerValue : header.getValue()) {
+                b.addHeader(header.getKey(), headerValue);
+            }
+        }
+        var okHttpRequest = b.build();
+        var okHttpClient = this.client;
+        var requestTimeout = Deadline.timeout(request.requestTimeout());
+        if (requestTimeout != null) {
+            okHttpClient = okHttpClient.newBuilder().callTimeout(requestTimeout).build();
         }
+        return okHttpClient.newCall(okHttpRequest);
+    }
+
+    private static HttpClientException toHttpClientException(Throwable t) {
+        return switch (t) {
+            case HttpClientException e -> e;
+            case ConnectionAcquireTimeoutException e -> new HttpClientTimeoutException(e);
+            // okhttp reports call timeout only with this message
+            case java.io.InterruptedIOException e when "timeout".equals(e.getMessage()) -> new HttpClientTimeoutException(e);
+            case IOException e -> new HttpClientConnectionException(e);
+            default -> new HttpClientUnknownException(t);
+        };
     }
 
     @Nullable
@@ -7,6 +7,7 @@ import io.koraframework.config.common.Config;
 import io.koraframework.config.common.mapper.ConfigValueMapper;
 import io.koraframework.http.client.common.HttpClientConfig;
 import io.koraframework.http.client.common.HttpClientFactoryModule;
+import io.koraframework.http.client.common.telemetry.HttpClientTelemetryFactory;
 import org.jspecify.annotations.Nullable;
 
 public class OkHttpClientFactoryModule extends HttpClientFactoryModule {
@@ -36,7 +37,8 @@ public class OkHttpClientFactoryModule extends HttpClientFactoryModule {
     @Tag(Tag.Factory.class)
     public OkHttpClientWrapper okHttpClientWrapper(@Tag(Tag.Factory.class) OkHttpClientConfig config,
                                                    @Tag(Tag.Factory.class) HttpClientConfig baseConfig,
-                                                   @Tag(Tag.Factory.class) @Nullable Configurer<okhttp3.OkHttpClient.Builder> configurer) {
-        return new OkHttpClientWrapper(config, baseConfig, configurer);
+                                                   @Tag(Tag.Factory.class) @Nullable Configurer<okhttp3.OkHttpClient.Builder> configurer,
+                                                   @Nullable HttpClientTelemetryFactory telemetryFactory) {
+        return new OkHttpClientWrapper(config, baseConfig, configurer, this.baseConfigPath, telemetryFactory);
     }
 }
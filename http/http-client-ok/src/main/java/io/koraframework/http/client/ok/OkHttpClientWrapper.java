@@ -1,5 +1,7 @@
 package io.koraframework.http.client.ok;
 
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import org.slf4j.Logger;
@@ -9,9 +11,14 @@ import io.koraframework.application.graph.Wrapped;
 import io.koraframework.common.Configurer;
 import io.koraframework.common.util.TimeUtils;
 import io.koraframework.http.client.common.HttpClientConfig;
+import io.koraframework.http.client.common.pool.HttpClientConnectionLimiter;
+import io.koraframework.http.client.common.telemetry.HttpClientPoolTelemetry;
+import io.koraframework.http.client.common.telemetry.HttpClientTelemetryFactory;
+import io.koraframework.http.client.common.telemetry.impl.NoopHttpClientPoolTelemetry;
 import org.jspecify.annotations.Nullable;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public final class OkHttpClientWrapper implements Lifecycle, Wrapped<OkHttpClient> {
 
@@ -21,15 +28,29 @@ public final class OkHttpClientWrapper implements Lifecycle, Wrapped<OkHttpClien
     private final HttpClientConfig baseConfig;
     @Nullable
     private final Configurer<OkHttpClient.Builder> configurer;
+    private final String configPath;
+    @Nullable
+    private final HttpClientTelemetryFactory telemetryFactory;
 
     private volatile OkHttpClient client;
+    private volatile HttpClientPoolTelemetry poolTelemetry = NoopHttpClientPoolTelemetry.INSTANCE;
 
     public OkHttpClientWrapper(OkHttpClientConfig config,
                                HttpClientConfig baseConfig,
                                @Nullable Configurer<OkHttpClient.Builder> configurer) {
+        this(config, baseConfig, configurer, "httpClient", null);
+    }
+
+    public OkHttpClientWrapper(OkHttpClientConfig config,
+                               HttpClientConfig baseConfig,
+                               @Nullable Configurer<OkHttpClient.Builder> configurer,
+                               String configPath,
+                               @Nullable HttpClientTelemetryFactory telemetryFactory) {
         this.config = config;
         this.baseConfig = baseConfig;
         this.configurer = configurer;
+        this.configPath = configPath;
+        this.telemetryFactory = telemetryFactory;
     }
 
     @Override
@@ -47,6 +68,23 @@ public final class OkHttpClientWrapper implements Lifecycle, Wrapped<OkHttpClien
         var protocols = getProtocols(this.config.httpVersion());
         builder.protocols(protocols);
 
+        var poolConfig = this.baseConfig.pool();
+        var connectionPool = new ConnectionPool(poolConfig.maxIdleConnections(), poolConfig.idleTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        var poolState = new OkHttpPoolState(connectionPool, poolConfig.maxConnections());
+        this.poolTelemetry = this.telemetryFactory == null
+            ? NoopHttpClientPoolTelemetry.INSTANCE
+            : this.telemetryFactory.pool(this.configPath, poolState);
+        var limiter = new HttpClientConnectionLimiter(poolConfig, this.poolTelemetry);
+        poolState.limiter = limiter;
+        // async calls wait in dispatcher queue instead of blocking dispatcher threads on the limiter
+        var dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(poolConfig.maxConnections());
+        var maxConnectionsPerRoute = poolConfig.maxConnectionsPerRoute();
+        dispatcher.setMaxRequestsPerHost(maxConnectionsPerRoute == null ? poolConfig.maxConnections() : maxConnectionsPerRoute);
+        builder.connectionPool(connectionPool)
+            .dispatcher(dispatcher)
+            .addInterceptor(new OkHttpConnectionLimiterInterceptor(limiter));
+
         var proxyConfig = this.baseConfig.proxy();
         if (this.baseConfig.useEnvProxy()) {
             proxyConfig = HttpClientConfig.HttpClientProxyConfig.fromEnv();
@@ -85,6 +123,8 @@ public final class OkHttpClientWrapper implements Lifecycle, Wrapped<OkHttpClien
 
             var pool = client.connectionPool();
             pool.evictAll();
+            this.poolTelemetry.close();
+            this.poolTelemetry = NoopHttpClientPoolTelemetry.INSTANCE;
 
             logger.info("OkHttpClient stopped in {}", TimeUtils.tookForLogging(started));
         }
@@ -94,4 +134,38 @@ public final class OkHttpClientWrapper implements Lifecycle, Wrapped<OkHttpClien
     public OkHttpClient value() {
         return this.client;
     }
+
+    private static final class OkHttpPoolState implements HttpClientPoolTelemetry.PoolState {
+
+        private final ConnectionPool connectionPool;
+        private final int maxConnections;
+        @Nullable
+        private volatile HttpClientConnectionLimiter limiter;
+
+        private OkHttpPoolState(ConnectionPool connectionPool, int maxConnections) {
+            this.connectionPool = connectionPool;
+            this.maxConnections = maxConnections;
+        }
+
+        @Override
+        public int leased() {
+            return this.connectionPool.connectionCount() - this.connectionPool.idleConnectionCount();
+        }
+
+        @Override
+        public int idle() {
+            return this.connectionPool.idleConnectionCount();
+        }
+
+        @Override
+        public int pending() {
+            var limiter = this.limiter;
+            return limiter == null ? 0 : limiter.pending();
+        }
+
+        @Override
+        public int max() {
+            return this.maxConnections;
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package io.koraframework.http.client.ok;
+
+import io.koraframework.http.client.common.pool.HttpClientConnectionLimiter;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * OkHttp connection pool limits only idle connections, so the number of connections in use is limited by holding a permit until response body is closed.
+ */
+final class OkHttpConnectionLimiterInterceptor implements Interceptor {
+
+    private final HttpClientConnectionLimiter limiter;
+
+    OkHttpConnectionLimiterInterceptor(HttpClientConnectionLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        var permit = this.limiter.acquire(chain.request().url().uri());
+        final Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (Throwable e) {
+            permit.close();
+            throw e;
+        }
+        return response.newBuilder()
+            .body(new PermitResponseBody(response.body(), permit))
+            .build();
+    }
+
+    private static final class PermitResponseBody extends ResponseBody {
+
+        private final ResponseBody body;
+        private final BufferedSource source;
+        private final HttpClientConnectionLimiter.Permit permit;
+
+        private PermitResponseBody(ResponseBody body, HttpClientConnectionLimiter.Permit permit) {
+            this.body = body;
+            this.permit = permit;
+            this.source = Okio.buffer(new ForwardingSource(body.source()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        permit.close();
+                    }
+                }
+            });
+        }
+
+        @Nullable
+        @Override
+        public MediaType contentType() {
+            return this.body.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return this.body.contentLength();
+        }
+
+        @Override
+        public BufferedSource source() {
+            return this.source;
+        }
+
+        @Override
+        public void close() {
+            try {
+                this.body.close();
+            } finally {
+                this.permit.close();
+            }
+        }
+    }
+}
@@ -76,6 +76,19 @@ class ClientClassGenerator(private val resolver: Resolver) {
 
         builder.primaryConstructor(this.buildConstructor(builder, declaration, methods))
         builder.addProperty("rootUrl", String::class.asClassName(), KModifier.PRIVATE, KModifier.FINAL);
+        builder.addProperty("httpClient", httpClient, KModifier.PRIVATE, KModifier.FINAL)
+        builder.addProperty("ownsHttpClient", Boolean::class.asClassName(), KModifier.PRIVATE, KModifier.FINAL)
+        // balancing is configured at runtime, so the client is always Lifecycle, but closes only the balancer it created
+        builder.addSuperinterface(CommonClassNames.lifecycle)
+        builder.addFunction(FunSpec.builder("init")
+            .addModifiers(KModifier.OVERRIDE)
+            .build())
+        builder.addFunction(FunSpec.builder("release")
+            .addModifiers(KModifier.OVERRIDE)
+            .beginControlFlow("if (this.ownsHttpClient)")
+            .addStatement("(this.httpClient as? %T)?.close()", AutoCloseable::class.asClassName())
+            .endControlFlow()
+            .build())
 
         for (method in methods) {
             if (method.declaration.isSuspend()) {
@@ -743,6 +756,10 @@ class ClientClassGenerator(private val resolver: Resolver) {
             builder.addParameter(converterName, converterType)
         }
         builder.addStatement("this.rootUrl = config.url()")
+        // balancer is shared by all operations of the client
+        builder.addStatement("this.httpClient = config.balance(httpClient)")
+        // root client is a graph component released by the graph itself
+        builder.addStatement("this.ownsHttpClient = this.httpClient !== httpClient")
 
         for (classInterceptor in classInterceptors) {
             if (addedInterceptorsMap.containsKey(classInterceptor)) {
@@ -799,7 +816,7 @@ class ClientClassGenerator(private val resolver: Resolver) {
             }
             val name = method.simpleName.asString()
             builder.addCode(
-                "val %L = config.apply(httpClient, %S, %T::class.java, %S, config.%L(), telemetryFactory, %S)\n",
+                "val %L = config.apply(this.httpClient, %S, %T::class.java, %S, config.%L(), telemetryFactory, %S)\n",
                 name,
                 configPath,
                 declaration.toClassName(),
@@ -0,0 +1,66 @@
+package io.koraframework.http.common.body;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+
+/**
+ * <b>Русский</b>: Тело HTTP ответа из области файла, серверы могут отправлять его без копирования через {@link FileChannel#transferTo}
+ * <hr>
+ * <b>English</b>: HTTP response body backed by a file region, servers can send it without copying via {@link FileChannel#transferTo}
+ */
+public class FileHttpBodyOutput implements HttpBodyOutput {
+    @Nullable
+    private final String contentType;
+    private final FileChannel channel;
+    private final long position;
+    private final long count;
+
+    public FileHttpBodyOutput(@Nullable String contentType, FileChannel channel, long position, long count) {
+        this.contentType = contentType;
+        this.channel = channel;
+        this.position = position;
+        this.count = count;
+    }
+
+    @Override
+    public long contentLength() {
+        return this.count;
+    }
+
+    @Nullable
+    @Override
+    public String contentType() {
+        return this.contentType;
+    }
+
+    public FileChannel channel() {
+        return this.channel;
+    }
+
+    public long position() {
+        return this.position;
+    }
+
+    @Override
+    public void write(OutputStream os) throws IOException {
+        var target = Channels.newChannel(os);
+        var position = this.position;
+        var end = this.position + this.count;
+        while (position < end) {
+            var transferred = this.channel.transferTo(position, end - position, target);
+            if (transferred <= 0) {
+                throw new IOException("File ended before " + this.count + " bytes were sent");
+            }
+            position += transferred;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
@@ -6,6 +6,12 @@ import org.jspecify.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Flow;
 
 /**
  * <b>Русский</b>: Описывает тело HTTP ответа
@@ -54,6 +60,23 @@ public interface HttpBodyOutput extends HttpBody {
         return new StreamingHttpBodyOutput("application/octet-stream", length, writer);
     }
 
+    static HttpBodyOutput ofPublisher(String contentType, Flow.Publisher<? extends ByteBuffer> publisher) {
+        return new PublisherHttpBodyOutput(contentType, -1, publisher);
+    }
+
+    static HttpBodyOutput ofPublisher(String contentType, long length, Flow.Publisher<? extends ByteBuffer> publisher) {
+        return new PublisherHttpBodyOutput(contentType, length, publisher);
+    }
+
+    static HttpBodyOutput file(String contentType, Path path) {
+        try {
+            var channel = FileChannel.open(path, StandardOpenOption.READ);
+            return new FileHttpBodyOutput(contentType, channel, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     interface HttpBodyWriter {
         void write(OutputStream os) throws IOException;
     }
@@ -0,0 +1,107 @@
+package io.koraframework.http.common.body;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+
+/**
+ * <b>Русский</b>: Тело HTTP ответа, публикуемое асинхронно с поддержкой обратного давления, серверы с асинхронной записью не занимают поток на время отправки
+ * <hr>
+ * <b>English</b>: HTTP response body published asynchronously with backpressure, servers with async write path do not hold a thread while sending it
+ */
+public class PublisherHttpBodyOutput implements HttpBodyOutput {
+    @Nullable
+    private final String contentType;
+    private final long contentLength;
+    private final Flow.Publisher<? extends ByteBuffer> content;
+
+    public PublisherHttpBodyOutput(@Nullable String contentType, long contentLength, Flow.Publisher<? extends ByteBuffer> content) {
+        this.contentType = contentType;
+        this.contentLength = contentLength;
+        this.content = content;
+    }
+
+    @Override
+    public long contentLength() {
+        return this.contentLength;
+    }
+
+    @Nullable
+    @Override
+    public String contentType() {
+        return this.contentType;
+    }
+
+    public Flow.Publisher<? extends ByteBuffer> publisher() {
+        return this.content;
+    }
+
+    @Override
+    public void write(OutputStream os) throws IOException {
+        var future = new CompletableFuture<Void>();
+        this.content.subscribe(new Flow.Subscriber<ByteBuffer>() {
+            private Flow.@Nullable Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                try {
+                    writeBuffer(os, item);
+                } catch (IOException e) {
+                    this.subscription.cancel();
+                    future.completeExceptionally(e);
+                    return;
+                }
+                this.subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(null);
+            }
+        });
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            if (e.getCause() instanceof UncheckedIOException uioe) {
+                throw uioe.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static void writeBuffer(OutputStream os, ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            os.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            return;
+        }
+        var buf = new byte[Math.min(buffer.remaining(), 8192)];
+        while (buffer.hasRemaining()) {
+            var len = Math.min(buffer.remaining(), buf.length);
+            buffer.get(buf, 0, len);
+            os.write(buf, 0, len);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {}
+}
@@ -67,4 +67,48 @@ public interface HttpServerConfig {
      * @return Telemetry configuration for logging, metrics and tracing of incoming requests.
      */
     HttpServerTelemetryConfig telemetry();
+
+    /**
+     * @return HTTP/2 configuration, cleartext connections use h2c upgrade or prior knowledge and TLS connections negotiate h2 via ALPN.
+     */
+    HttpServerHttp2Config http2();
+
+    @ConfigMapper
+    interface HttpServerHttp2Config {
+
+        /**
+         * @return Whether to accept HTTP/2 connections alongside HTTP/1.1.
+         */
+        default boolean enabled() {
+            return false;
+        }
+
+        /**
+         * @return Maximum number of concurrent streams a client may open on a single connection.
+         */
+        default int maxConcurrentStreams() {
+            return 100;
+        }
+
+        /**
+         * @return Initial flow-control window size of each stream.
+         */
+        default Size initialWindowSize() {
+            return Size.ofBytesBinary(65535);
+        }
+
+        /**
+         * @return Maximum size of a frame payload the server is willing to receive.
+         */
+        default Size maxFrameSize() {
+            return Size.of(16, Size.Type.KiB);
+        }
+
+        /**
+         * @return Maximum size of the header list the server is willing to accept.
+         */
+        default Size maxHeaderListSize() {
+            return Size.of(16, Size.Type.KiB);
+        }
+    }
 }
@@ -3,6 +3,10 @@ package io.koraframework.http.server.common;
 import io.koraframework.application.graph.All;
 import io.koraframework.common.annotation.DefaultComponent;
 import io.koraframework.common.annotation.Tag;
+import io.koraframework.config.common.Config;
+import io.koraframework.config.common.mapper.ConfigValueMapper;
+import io.koraframework.http.server.common.compression.HttpServerCompressionConfig;
+import io.koraframework.http.server.common.compression.HttpServerCompressionInterceptor;
 import io.koraframework.http.server.common.interceptor.HttpServerInterceptor;
 import io.koraframework.http.server.common.request.HttpServerRequestHandler;
 import io.koraframework.http.server.common.request.mapper.HttpServerParameterReaderModule;
@@ -29,6 +33,16 @@ public interface HttpServerModule extends HttpServerParameterReaderModule, HttpS
         return new DefaultHttpServerTelemetryFactory(meterRegistry, tracer, loggerFactory, metricsFactory, bodyLogger);
     }
 
+    default HttpServerCompressionConfig httpServerCompressionConfig(Config config, ConfigValueMapper<HttpServerCompressionConfig> mapper) {
+        return mapper.mapOrThrow(config.get("httpServer.compression"));
+    }
+
+    @Tag(HttpServer.class)
+    @DefaultComponent
+    default HttpServerCompressionInterceptor httpServerCompressionInterceptor(HttpServerCompressionConfig config, HttpServerConfig serverConfig, @Nullable MeterRegistry meterRegistry) {
+        return new HttpServerCompressionInterceptor(config, serverConfig.maxRequestBodySize().toBytes(), meterRegistry);
+    }
+
     default HttpServerRouter publicHttpApiRouter(All<HttpServerRequestHandler> handlers,
                                                  @Tag(HttpServer.class) All<HttpServerInterceptor> interceptors,
                                                  HttpServerConfig config) {
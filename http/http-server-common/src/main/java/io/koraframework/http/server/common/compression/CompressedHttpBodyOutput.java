@@ -0,0 +1,52 @@
+package io.koraframework.http.server.common.compression;
+
+import io.koraframework.http.common.body.HttpBodyOutput;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+final class CompressedHttpBodyOutput implements HttpBodyOutput {
+
+    private final HttpBodyOutput delegate;
+    private final HttpServerCompressionConfig.Encoding encoding;
+    private final ZipPool pool;
+    private final HttpServerCompressionInterceptor.CompressionMetrics metrics;
+
+    CompressedHttpBodyOutput(HttpBodyOutput delegate, HttpServerCompressionConfig.Encoding encoding, ZipPool pool, HttpServerCompressionInterceptor.CompressionMetrics metrics) {
+        this.delegate = delegate;
+        this.encoding = encoding;
+        this.pool = pool;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Nullable
+    @Override
+    public String contentType() {
+        return this.delegate.contentType();
+    }
+
+    @Override
+    public void write(OutputStream os) throws IOException {
+        var started = System.nanoTime();
+        var deflater = this.pool.acquireDeflater();
+        try {
+            var cos = new CompressingOutputStream(os, deflater, this.encoding == HttpServerCompressionConfig.Encoding.gzip);
+            this.delegate.write(cos);
+            cos.finish();
+            this.metrics.record(this.encoding, cos.bytesIn(), cos.bytesOut(), System.nanoTime() - started);
+        } finally {
+            this.pool.release(deflater);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.delegate.close();
+    }
+}
@@ -0,0 +1,110 @@
+package io.koraframework.http.server.common.compression;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Deflate stream over an externally owned {@link Deflater}, unlike {@link java.util.zip.GZIPOutputStream}
+ * it does not allocate a native deflater per response, gzip framing is written manually.
+ */
+final class CompressingOutputStream extends OutputStream {
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final OutputStream out;
+    private final Deflater deflater;
+    @Nullable
+    private final CRC32 crc;
+    private final byte[] buffer = new byte[8192];
+    private long bytesIn;
+    private long bytesOut;
+    private boolean finished;
+
+    CompressingOutputStream(OutputStream out, Deflater deflater, boolean gzip) throws IOException {
+        this.out = out;
+        this.deflater = deflater;
+        if (gzip) {
+            this.crc = new CRC32();
+            this.out.write(GZIP_HEADER);
+            this.bytesOut += GZIP_HEADER.length;
+        } else {
+            this.crc = null;
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        this.write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+        this.deflater.setInput(b, off, len);
+        if (this.crc != null) {
+            this.crc.update(b, off, len);
+        }
+        this.bytesIn += len;
+        while (!this.deflater.needsInput()) {
+            this.deflate();
+        }
+    }
+
+    void finish() throws IOException {
+        if (this.finished) {
+            return;
+        }
+        this.finished = true;
+        this.deflater.finish();
+        while (!this.deflater.finished()) {
+            this.deflate();
+        }
+        if (this.crc != null) {
+            var trailer = new byte[8];
+            writeIntLE(trailer, 0, (int) this.crc.getValue());
+            writeIntLE(trailer, 4, (int) this.bytesIn);
+            this.out.write(trailer);
+            this.bytesOut += trailer.length;
+        }
+    }
+
+    long bytesIn() {
+        return this.bytesIn;
+    }
+
+    long bytesOut() {
+        return this.bytesOut;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.finish();
+        this.out.flush();
+    }
+
+    private void deflate() throws IOException {
+        var len = this.deflater.deflate(this.buffer, 0, this.buffer.length);
+        if (len > 0) {
+            this.out.write(this.buffer, 0, len);
+            this.bytesOut += len;
+        }
+    }
+
+    private static void writeIntLE(byte[] buf, int offset, int value) {
+        buf[offset] = (byte) value;
+        buf[offset + 1] = (byte) (value >> 8);
+        buf[offset + 2] = (byte) (value >> 16);
+        buf[offset + 3] = (byte) (value >> 24);
+    }
+}
@@ -0,0 +1,129 @@
+package io.koraframework.http.server.common.compression;
+
+import io.koraframework.http.common.body.HttpBodyInput;
+import io.koraframework.http.server.common.response.HttpServerResponseException;
+import org.jspecify.annotations.Nullable;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+final class DecompressedHttpBodyInput implements HttpBodyInput {
+
+    private final HttpBodyInput delegate;
+    private final HttpServerCompressionConfig.Encoding encoding;
+    private final ZipPool pool;
+    private final long maxSize;
+
+    DecompressedHttpBodyInput(HttpBodyInput delegate, HttpServerCompressionConfig.Encoding encoding, ZipPool pool, long maxSize) {
+        this.delegate = delegate;
+        this.encoding = encoding;
+        this.pool = pool;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Nullable
+    @Override
+    public String contentType() {
+        return this.delegate.contentType();
+    }
+
+    @Override
+    public InputStream asInputStream() {
+        return new LimitedInputStream(this.decompressed(), this.maxSize);
+    }
+
+    private InputStream decompressed() {
+        var in = this.delegate.asInputStream();
+        if (this.encoding == HttpServerCompressionConfig.Encoding.gzip) {
+            // gzip header has optional variable length fields, JDK parser is used as is
+            try {
+                return new GZIPInputStream(in, 8192);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        var inflater = this.pool.acquireInflater();
+        return new InflaterInputStream(in, inflater, 8192) {
+            private boolean closed;
+
+            @Override
+            public void close() throws IOException {
+                if (this.closed) {
+                    return;
+                }
+                this.closed = true;
+                try {
+                    super.close();
+                } finally {
+                    pool.release(inflater);
+                }
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.delegate.close();
+    }
+
+    /**
+     * Small compressed payload may expand to gigabytes, so decompressed bytes are limited by max request body size
+     */
+    static final class LimitedInputStream extends FilterInputStream {
+        private final long maxSize;
+        private long read;
+
+        LimitedInputStream(InputStream in, long maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var b = super.read();
+            if (b >= 0) {
+                this.count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var n = super.read(b, off, len);
+            if (n > 0) {
+                this.count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            var skipped = super.skip(n);
+            if (skipped > 0) {
+                this.count(skipped);
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(long n) {
+            this.read += n;
+            if (this.read > this.maxSize) {
+                throw HttpServerResponseException.of(413, "Decompressed request body exceeds " + this.maxSize + " bytes");
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.koraframework.http.server.common.compression;
+
+import io.koraframework.common.util.Size;
+import io.koraframework.config.common.annotation.ConfigMapper;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Set;
+
+@ConfigMapper
+public interface HttpServerCompressionConfig {
+
+    /**
+     * @return Whether to compress responses and decompress requests for all routes of the server.
+     */
+    default boolean enabled() {
+        return false;
+    }
+
+    /**
+     * @return Supported response encodings in order of server preference, picked by the client Accept-Encoding header.
+     */
+    default List<Encoding> encodings() {
+        return List.of(Encoding.gzip, Encoding.deflate);
+    }
+
+    /**
+     * @return Compression level from 1 (fastest) to 9 (smallest).
+     */
+    default int level() {
+        return 6;
+    }
+
+    /**
+     * @return Minimum response body size to compress, bodies of unknown length are always compressed.
+     */
+    default Size minResponseSize() {
+        return Size.of(1, Size.Type.KiB);
+    }
+
+    /**
+     * @return Response content types (without parameters) eligible for compression.
+     */
+    default Set<String> contentTypes() {
+        return Set.of(
+            "application/json",
+            "application/x-ndjson",
+            "application/xml",
+            "application/javascript",
+            "text/plain",
+            "text/html",
+            "text/css",
+            "text/csv",
+            "text/xml"
+        );
+    }
+
+    /**
+     * @return Route templates eligible for compression, all routes are eligible if not specified.
+     */
+    @Nullable
+    Set<String> routes();
+
+    /**
+     * @return Whether to decompress request bodies sent with a supported Content-Encoding.
+     */
+    default boolean requestDecompression() {
+        return true;
+    }
+
+    /**
+     * @return Maximum number of idle Deflater/Inflater instances kept per encoding to avoid native memory churn.
+     */
+    default int poolSize() {
+        return Runtime.getRuntime().availableProcessors() * 2;
+    }
+
+    enum Encoding {
+        gzip, deflate
+    }
+}
@@ -0,0 +1,246 @@
+package io.koraframework.http.server.common.compression;
+
+import io.koraframework.http.common.body.EmptyHttpBody;
+import io.koraframework.http.common.body.FileHttpBodyOutput;
+import io.koraframework.http.common.body.HttpBody;
+import io.koraframework.http.common.body.PublisherHttpBodyOutput;
+import io.koraframework.http.server.common.interceptor.HttpServerInterceptor;
+import io.koraframework.http.server.common.request.HttpServerRequest;
+import io.koraframework.http.server.common.response.HttpServerResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jspecify.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>Русский</b>: Сжимает тела HTTP ответов согласно заголовку Accept-Encoding и распаковывает сжатые тела запросов
+ * <hr>
+ * <b>English</b>: Compresses HTTP response bodies negotiated by the Accept-Encoding header and decompresses compressed request bodies
+ * <br>
+ * <br>
+ * Bodies sent asynchronously ({@link PublisherHttpBodyOutput}, {@link FileHttpBodyOutput}) are left as is to keep their zero-copy path.
+ */
+public final class HttpServerCompressionInterceptor implements HttpServerInterceptor {
+
+    private final HttpServerCompressionConfig config;
+    private final long maxRequestBodySize;
+    private final Map<HttpServerCompressionConfig.Encoding, ZipPool> pools = new EnumMap<>(HttpServerCompressionConfig.Encoding.class);
+    private final CompressionMetrics metrics;
+
+    /**
+     * @param maxRequestBodySize максимальный размер распакованного тела запроса / maximum size of decompressed request body
+     */
+    public HttpServerCompressionInterceptor(HttpServerCompressionConfig config, long maxRequestBodySize, @Nullable MeterRegistry meterRegistry) {
+        this.config = config;
+        this.maxRequestBodySize = maxRequestBodySize;
+        for (var encoding : HttpServerCompressionConfig.Encoding.values()) {
+            this.pools.put(encoding, new ZipPool(config.level(), encoding == HttpServerCompressionConfig.Encoding.gzip, config.poolSize()));
+        }
+        this.metrics = new CompressionMetrics(meterRegistry);
+    }
+
+    @Override
+    public HttpServerResponse intercept(HttpServerRequest request, InterceptChain chain) throws Exception {
+        if (!this.config.enabled()) {
+            return chain.process(request);
+        }
+        var routes = this.config.routes();
+        if (routes != null && !routes.contains(request.pathTemplate())) {
+            return chain.process(request);
+        }
+        if (this.config.requestDecompression()) {
+            request = this.decompress(request);
+        }
+        var response = chain.process(request);
+        return this.compress(request, response);
+    }
+
+    private HttpServerRequest decompress(HttpServerRequest request) {
+        var contentEncoding = request.headers().getFirst("content-encoding");
+        if (contentEncoding == null) {
+            return request;
+        }
+        var encoding = switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "gzip", "x-gzip" -> HttpServerCompressionConfig.Encoding.gzip;
+            case "deflate" -> HttpServerCompressionConfig.Encoding.deflate;
+            default -> null;
+        };
+        if (encoding == null) {
+            return request;
+        }
+        return request.toBuilder()
+            .headerRemove("content-encoding")
+            .headerRemove("content-length")
+            .body(new DecompressedHttpBodyInput(request.body(), encoding, this.pools.get(encoding), this.maxRequestBodySize))
+            .build();
+    }
+
+    private HttpServerResponse compress(HttpServerRequest request, HttpServerResponse response) throws IOException {
+        var body = response.body();
+        if (body == null || body == EmptyHttpBody.INSTANCE || body instanceof PublisherHttpBodyOutput || body instanceof FileHttpBodyOutput) {
+            return response;
+        }
+        var code = response.code();
+        if (code < 200 || code == 204 || code == 304 || request.method().equals("HEAD")) {
+            return response;
+        }
+        if (response.headers().has("content-encoding")) {
+            return response;
+        }
+        if (!this.isCompressible(body.contentType())) {
+            return response;
+        }
+        // representation depends on accept-encoding even when sent as is, so caches must not reuse it for other clients
+        var headers = response.headers().toMutable();
+        if (!varyOnAcceptEncoding(headers.getAll("vary"))) {
+            headers.add("vary", "accept-encoding");
+        }
+        var contentLength = body.contentLength();
+        if (contentLength >= 0 && contentLength < this.config.minResponseSize().toBytes()) {
+            return HttpServerResponse.of(code, headers, body);
+        }
+        var encoding = this.negotiate(request.headers().getAll("accept-encoding"));
+        if (encoding == null) {
+            return HttpServerResponse.of(code, headers, body);
+        }
+
+        headers.set("content-encoding", encoding.name());
+        headers.remove("content-length");
+
+        var pool = this.pools.get(encoding);
+        var full = body.getFullContentIfAvailable();
+        if (full == null) {
+            return HttpServerResponse.of(code, headers, new CompressedHttpBodyOutput(body, encoding, pool, this.metrics));
+        }
+
+        // full bodies are compressed eagerly so the response keeps a known content length
+        var started = System.nanoTime();
+        var deflater = pool.acquireDeflater();
+        try (body) {
+            var baos = new ByteArrayOutputStream(Math.max(full.remaining() / 4, 64));
+            var cos = new CompressingOutputStream(baos, deflater, encoding == HttpServerCompressionConfig.Encoding.gzip);
+            if (full.hasArray()) {
+                cos.write(full.array(), full.arrayOffset() + full.position(), full.remaining());
+            } else {
+                var bytes = new byte[full.remaining()];
+                full.get(bytes);
+                cos.write(bytes);
+            }
+            cos.finish();
+            this.metrics.record(encoding, cos.bytesIn(), cos.bytesOut(), System.nanoTime() - started);
+            return HttpServerResponse.of(code, headers, HttpBody.of(body.contentType(), ByteBuffer.wrap(baos.toByteArray())));
+        } finally {
+            pool.release(deflater);
+        }
+    }
+
+    private boolean isCompressible(@Nullable String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        var paramsIdx = contentType.indexOf(';');
+        var mimeType = paramsIdx < 0 ? contentType : contentType.substring(0, paramsIdx);
+        return this.config.contentTypes().contains(mimeType.trim().toLowerCase(Locale.ROOT));
+    }
+
+    @Nullable
+    private HttpServerCompressionConfig.Encoding negotiate(List<String> acceptEncodings) {
+        if (acceptEncodings.isEmpty()) {
+            return null;
+        }
+        var accepted = new EnumMap<HttpServerCompressionConfig.Encoding, Boolean>(HttpServerCompressionConfig.Encoding.class);
+        var wildcard = false;
+        for (var header : acceptEncodings) {
+            for (var token : header.split(",")) {
+                var paramsIdx = token.indexOf(';');
+                var name = (paramsIdx < 0 ? token : token.substring(0, paramsIdx)).trim().toLowerCase(Locale.ROOT);
+                var acceptable = paramsIdx < 0 || !isZeroQuality(token.substring(paramsIdx + 1));
+                if (name.equals("*")) {
+                    wildcard = acceptable;
+                } else if (name.equals("gzip") || name.equals("x-gzip")) {
+                    accepted.put(HttpServerCompressionConfig.Encoding.gzip, acceptable);
+                } else if (name.equals("deflate")) {
+                    accepted.put(HttpServerCompressionConfig.Encoding.deflate, acceptable);
+                }
+            }
+        }
+        for (var encoding : this.config.encodings()) {
+            var acceptable = accepted.get(encoding);
+            if (acceptable != null ? acceptable : wildcard) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    private static boolean varyOnAcceptEncoding(List<String> vary) {
+        for (var header : vary) {
+            for (var token : header.split(",")) {
+                var name = token.trim();
+                if (name.equals("*") || name.equalsIgnoreCase("accept-encoding")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String params) {
+        for (var param : params.split(";")) {
+            var eqIdx = param.indexOf('=');
+            if (eqIdx > 0 && param.substring(0, eqIdx).trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(param.substring(eqIdx + 1).trim()) <= 0.0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    static final class CompressionMetrics {
+
+        @Nullable
+        private final Map<HttpServerCompressionConfig.Encoding, DistributionSummary> ratio;
+        @Nullable
+        private final Map<HttpServerCompressionConfig.Encoding, Timer> duration;
+
+        CompressionMetrics(@Nullable MeterRegistry meterRegistry) {
+            if (meterRegistry == null) {
+                this.ratio = null;
+                this.duration = null;
+                return;
+            }
+            this.ratio = new EnumMap<>(HttpServerCompressionConfig.Encoding.class);
+            this.duration = new EnumMap<>(HttpServerCompressionConfig.Encoding.class);
+            for (var encoding : HttpServerCompressionConfig.Encoding.values()) {
+                this.ratio.put(encoding, DistributionSummary.builder("http.server.compression.ratio")
+                    .tag("http.content_encoding", encoding.name())
+                    .register(meterRegistry));
+                this.duration.put(encoding, Timer.builder("http.server.compression.duration")
+                    .tag("http.content_encoding", encoding.name())
+                    .register(meterRegistry));
+            }
+        }
+
+        void record(HttpServerCompressionConfig.Encoding encoding, long bytesIn, long bytesOut, long processingTimeNanos) {
+            if (this.ratio == null || this.duration == null) {
+                return;
+            }
+            if (bytesOut > 0) {
+                this.ratio.get(encoding).record((double) bytesIn / bytesOut);
+            }
+            this.duration.get(encoding).record(processingTimeNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.koraframework.http.server.common.compression;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Bounded lock-free pool of {@link Deflater} and {@link Inflater} instances, their native buffers are reused
+ * instead of being allocated and released on every request.
+ */
+final class ZipPool {
+
+    private final int level;
+    private final boolean nowrap;
+    private final int maxSize;
+    private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger deflatersSize = new AtomicInteger();
+    private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inflatersSize = new AtomicInteger();
+
+    ZipPool(int level, boolean nowrap, int maxSize) {
+        this.level = level;
+        this.nowrap = nowrap;
+        this.maxSize = maxSize;
+    }
+
+    Deflater acquireDeflater() {
+        var deflater = this.deflaters.poll();
+        if (deflater == null) {
+            return new Deflater(this.level, this.nowrap);
+        }
+        this.deflatersSize.decrementAndGet();
+        return deflater;
+    }
+
+    void release(Deflater deflater) {
+        deflater.reset();
+        if (this.deflatersSize.incrementAndGet() <= this.maxSize) {
+            this.deflaters.offer(deflater);
+        } else {
+            this.deflatersSize.decrementAndGet();
+            deflater.end();
+        }
+    }
+
+    Inflater acquireInflater() {
+        var inflater = this.inflaters.poll();
+        if (inflater == null) {
+            return new Inflater(this.nowrap);
+        }
+        this.inflatersSize.decrementAndGet();
+        return inflater;
+    }
+
+    void release(Inflater inflater) {
+        inflater.reset();
+        if (this.inflatersSize.incrementAndGet() <= this.maxSize) {
+            this.inflaters.offer(inflater);
+        } else {
+            this.inflatersSize.decrementAndGet();
+            inflater.end();
+        }
+    }
+}
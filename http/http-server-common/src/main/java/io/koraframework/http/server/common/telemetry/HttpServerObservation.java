@@ -12,4 +12,13 @@ public interface HttpServerObservation extends Observation {
     HttpServerRequest observeRequest(HttpServerRequest request);
 
     HttpServerResponse observeResponse(HttpServerResponse response);
+
+    /**
+     * Observes the HTTP protocol version the request arrived on, for HTTP/2 every request is a separate stream of a shared connection.
+     *
+     * @param protocolVersion protocol version such as 1.1 or 2
+     */
+    default void observeProtocol(String protocolVersion) {
+
+    }
 }
@@ -10,6 +10,7 @@ import io.koraframework.http.server.common.telemetry.HttpServerObservation;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.StatusCode;
 import io.opentelemetry.semconv.HttpAttributes;
+import io.opentelemetry.semconv.NetworkAttributes;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -171,6 +172,12 @@ public class DefaultHttpServerObservation implements HttpServerObservation {
         }
     }
 
+    @Override
+    public void observeProtocol(String protocolVersion) {
+        this.span.setAttribute(NetworkAttributes.NETWORK_PROTOCOL_NAME, "http");
+        this.span.setAttribute(NetworkAttributes.NETWORK_PROTOCOL_VERSION, protocolVersion);
+    }
+
     @Override
     public Span span() {
         return this.span;
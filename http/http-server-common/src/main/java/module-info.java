@@ -10,6 +10,7 @@ module kora.http.server.common {
     exports io.koraframework.http.server.common;
     exports io.koraframework.http.server.common.annotation;
     exports io.koraframework.http.server.common.auth;
+    exports io.koraframework.http.server.common.compression;
     exports io.koraframework.http.server.common.interceptor;
     exports io.koraframework.http.server.common.router;
     exports io.koraframework.http.server.common.telemetry;
@@ -0,0 +1,162 @@
+package io.koraframework.http.server.common.compression;
+
+import io.koraframework.http.common.body.HttpBody;
+import io.koraframework.http.common.body.HttpBodyInput;
+import io.koraframework.http.common.body.HttpBodyOutput;
+import io.koraframework.http.common.header.HttpHeaders;
+import io.koraframework.http.server.common.request.SimpleHttpServerRequest;
+import io.koraframework.http.server.common.response.HttpServerResponse;
+import io.koraframework.http.server.common.response.HttpServerResponseException;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpServerCompressionInterceptorTest {
+
+    private static final String JSON = "{\"items\":[" + "{\"id\":1,\"name\":\"value\"},".repeat(200) + "{}]}";
+
+    private final HttpServerCompressionInterceptor interceptor = new HttpServerCompressionInterceptor(config(null), 1024 * 1024, null);
+
+    @Test
+    void fullBodyCompressedWithGzip() throws Exception {
+        var request = request(HttpHeaders.of("accept-encoding", "br;q=1.0, gzip;q=0.8, deflate;q=0.5"), HttpBody.empty());
+
+        var response = interceptor.intercept(request, _ -> HttpServerResponse.of(200, HttpBody.json(JSON)));
+
+        assertEquals("gzip", response.headers().getFirst("content-encoding"));
+        assertEquals("accept-encoding", response.headers().getFirst("vary"));
+        var compressed = toBytes(response.body());
+        assertEquals(compressed.length, response.body().contentLength());
+        assertTrue(compressed.length < JSON.length());
+        try (var is = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertEquals(JSON, new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void streamingBodyCompressedWithDeflate() throws Exception {
+        var request = request(HttpHeaders.of("accept-encoding", "deflate, gzip;q=0"), HttpBody.empty());
+        var body = HttpBodyOutput.of("application/json", os -> os.write(JSON.getBytes(StandardCharsets.UTF_8)));
+
+        var response = interceptor.intercept(request, _ -> HttpServerResponse.of(200, body));
+
+        assertEquals("deflate", response.headers().getFirst("content-encoding"));
+        assertEquals(-1, response.body().contentLength());
+        try (var is = new InflaterInputStream(new ByteArrayInputStream(toBytes(response.body())))) {
+            assertEquals(JSON, new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void smallOrUnsupportedBodiesNotCompressed() throws Exception {
+        var request = request(HttpHeaders.of("accept-encoding", "gzip"), HttpBody.empty());
+
+        var small = interceptor.intercept(request, _ -> HttpServerResponse.of(200, HttpBody.json("{}")));
+        var binary = interceptor.intercept(request, _ -> HttpServerResponse.of(200, HttpBody.octetStream(JSON.getBytes(StandardCharsets.UTF_8))));
+
+        assertFalse(small.headers().has("content-encoding"));
+        assertEquals("accept-encoding", small.headers().getFirst("vary"));
+        assertFalse(binary.headers().has("content-encoding"));
+        assertFalse(binary.headers().has("vary"));
+    }
+
+    @Test
+    void noAcceptEncodingNotCompressed() throws Exception {
+        var request = request(HttpHeaders.of("accept-encoding", "identity"), HttpBody.empty());
+
+        var response = interceptor.intercept(request, _ -> HttpServerResponse.of(200, HttpBody.json(JSON)));
+
+        assertFalse(response.headers().has("content-encoding"));
+        assertEquals(List.of("accept-encoding"), response.headers().getAll("vary"));
+    }
+
+    @Test
+    void routeNotListedNotCompressed() throws Exception {
+        var interceptor = new HttpServerCompressionInterceptor(config(Set.of("/other")), 1024 * 1024, null);
+        var request = request(HttpHeaders.of("accept-encoding", "gzip"), HttpBody.empty());
+
+        var response = interceptor.intercept(request, _ -> HttpServerResponse.of(200, HttpBody.json(JSON)));
+
+        assertFalse(response.headers().has("content-encoding"));
+    }
+
+    @Test
+    void requestBodyDecompressed() throws Exception {
+        var gzipped = new ByteArrayOutputStream();
+        try (var os = new GZIPOutputStream(gzipped)) {
+            os.write(JSON.getBytes(StandardCharsets.UTF_8));
+        }
+        var deflated = new ByteArrayOutputStream();
+        try (var os = new DeflaterOutputStream(deflated)) {
+            os.write(JSON.getBytes(StandardCharsets.UTF_8));
+        }
+
+        for (var encoded : Map.of("gzip", gzipped.toByteArray(), "deflate", deflated.toByteArray()).entrySet()) {
+            var request = request(HttpHeaders.of("content-encoding", encoded.getKey()), HttpBody.json(encoded.getValue()));
+
+            interceptor.intercept(request, r -> {
+                assertFalse(r.headers().has("content-encoding"));
+                try (var is = r.body().asInputStream()) {
+                    assertEquals(JSON, new String(is.readAllBytes(), StandardCharsets.UTF_8));
+                }
+                return HttpServerResponse.of(200);
+            });
+        }
+    }
+
+    @Test
+    void decompressedRequestBodyLimited() throws Exception {
+        var interceptor = new HttpServerCompressionInterceptor(config(null), 1024, null);
+        var gzipped = new ByteArrayOutputStream();
+        try (var os = new GZIPOutputStream(gzipped)) {
+            os.write(new byte[1024 * 1024]);
+        }
+        var request = request(HttpHeaders.of("content-encoding", "gzip"), HttpBody.octetStream(gzipped.toByteArray()));
+
+        interceptor.intercept(request, r -> {
+            try (var is = r.body().asInputStream()) {
+                var e = assertThrows(HttpServerResponseException.class, is::readAllBytes);
+                assertEquals(413, e.code());
+            }
+            return HttpServerResponse.of(200);
+        });
+    }
+
+    private static byte[] toBytes(HttpBodyOutput body) throws IOException {
+        var baos = new ByteArrayOutputStream();
+        body.write(baos);
+        return baos.toByteArray();
+    }
+
+    private static SimpleHttpServerRequest request(HttpHeaders headers, HttpBodyInput body) {
+        return new SimpleHttpServerRequest("localhost", "http", "POST", "/test", "/test", Map.of(), Map.of(), headers, List.of(), body, 0);
+    }
+
+    private static HttpServerCompressionConfig config(@Nullable Set<String> routes) {
+        return new HttpServerCompressionConfig() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+
+            @Nullable
+            @Override
+            public Set<String> routes() {
+                return routes;
+            }
+        };
+    }
+}
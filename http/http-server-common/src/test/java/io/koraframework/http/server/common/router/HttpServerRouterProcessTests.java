@@ -1,28 +1,39 @@
 package io.koraframework.http.server.common.router;
 
 import io.koraframework.application.graph.All;
+import io.koraframework.common.annotation.Tag;
 import io.koraframework.common.util.Size;
 import io.koraframework.http.common.body.HttpBody;
 import io.koraframework.http.common.body.HttpBodyInput;
 import io.koraframework.http.common.header.HttpHeaders;
 import io.koraframework.http.server.common.$HttpServerConfig_ConfigValueMapper.HttpServerConfig_Impl;
+import io.koraframework.http.server.common.$HttpServerConfig_HttpServerHttp2Config_ConfigValueMapper;
+import io.koraframework.http.server.common.HttpServer;
 import io.koraframework.http.server.common.HttpServerConfig;
+import io.koraframework.http.server.common.HttpServerModule;
+import io.koraframework.http.server.common.compression.HttpServerCompressionConfig;
+import io.koraframework.http.server.common.interceptor.HttpServerInterceptor;
 import io.koraframework.http.server.common.request.HttpServerRequestHandler;
 import io.koraframework.http.server.common.request.HttpServerRequestHandlerImpl;
 import io.koraframework.http.server.common.response.HttpServerResponse;
 import io.koraframework.http.server.common.response.HttpServerResponseException;
 import io.koraframework.http.server.common.telemetry.*;
 import io.koraframework.http.server.common.telemetry.impl.NoopHttpServerTelemetry;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -167,6 +178,39 @@ class HttpServerRouterProcessTests {
             });
     }
 
+    @Test
+    void compressionInterceptorFromModuleIsAppliedByRouter() throws Exception {
+        // router only collects interceptors tagged with HttpServer
+        var method = HttpServerModule.class.getMethod("httpServerCompressionInterceptor", HttpServerCompressionConfig.class, MeterRegistry.class);
+        var tag = method.getAnnotation(Tag.class);
+        assertThat(tag).isNotNull();
+        assertThat(tag.value()).isEqualTo(HttpServer.class);
+
+        var compressionConfig = new HttpServerCompressionConfig() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+        };
+        var module = new HttpServerModule() {};
+        var interceptor = module.httpServerCompressionInterceptor(compressionConfig, null);
+        var json = "{\"items\":[" + "{\"id\":1,\"name\":\"value\"},".repeat(200) + "{}]}";
+        var handlers = List.<HttpServerRequestHandler>of(new HttpServerRequestHandlerImpl("GET", "/json", _ -> HttpServerResponse.of(200, HttpBody.json(json))));
+        var router = new HttpServerRouter(handlers, All.<HttpServerInterceptor>of(interceptor), config(false));
+
+        var request = new UnroutedHttpRequestImpl("GET", "/json", "foo", "http", HttpHeaders.of("accept-encoding", "gzip"), Map.of(), HttpBody.empty());
+        var routed = router.route(request);
+        var rs = routed.proceed(routed.routedRequest());
+
+        assertThat(rs.code()).isEqualTo(200);
+        assertThat(rs.headers().getFirst("content-encoding")).isEqualTo("gzip");
+        var compressed = new ByteArrayOutputStream();
+        rs.body().write(compressed);
+        try (var is = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertThat(new String(is.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(json);
+        }
+    }
+
     private HttpServerConfig config(boolean ignoreTrailingSlash) {
         return new HttpServerConfig_Impl(
             8080,
@@ -182,7 +226,8 @@ class HttpServerRouterProcessTests {
                 new $HttpServerTelemetryConfig_HttpServerLoggingConfig_ConfigValueMapper.HttpServerLoggingConfig_Defaults(),
                 new $HttpServerTelemetryConfig_HttpServerMetricsConfig_ConfigValueMapper.HttpServerMetricsConfig_Defaults(),
                 new $HttpServerTelemetryConfig_HttpServerTracingConfig_ConfigValueMapper.HttpServerTracingConfig_Defaults()
-            )
+            ),
+            new $HttpServerConfig_HttpServerHttp2Config_ConfigValueMapper.HttpServerHttp2Config_Defaults()
         );
     }
 
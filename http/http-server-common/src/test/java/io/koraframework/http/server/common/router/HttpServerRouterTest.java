@@ -2,6 +2,7 @@ package io.koraframework.http.server.common.router;
 
 import io.koraframework.common.util.Size;
 import io.koraframework.http.server.common.$HttpServerConfig_ConfigValueMapper;
+import io.koraframework.http.server.common.$HttpServerConfig_HttpServerHttp2Config_ConfigValueMapper;
 import io.koraframework.http.server.common.HttpServerConfig;
 import io.koraframework.http.server.common.request.HttpServerRequestHandler;
 import io.koraframework.http.server.common.request.HttpServerRequestHandlerImpl;
@@ -153,7 +154,8 @@ class HttpServerRouterTest {
                 new $HttpServerTelemetryConfig_HttpServerLoggingConfig_ConfigValueMapper.HttpServerLoggingConfig_Defaults(),
                 new $HttpServerTelemetryConfig_HttpServerMetricsConfig_ConfigValueMapper.HttpServerMetricsConfig_Defaults(),
                 new $HttpServerTelemetryConfig_HttpServerTracingConfig_ConfigValueMapper.HttpServerTracingConfig_Defaults()
-            )
+            ),
+            new $HttpServerConfig_HttpServerHttp2Config_ConfigValueMapper.HttpServerHttp2Config_Defaults()
         );
     }
 
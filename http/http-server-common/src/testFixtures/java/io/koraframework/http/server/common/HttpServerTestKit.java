@@ -49,11 +49,13 @@ import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static io.koraframework.http.common.HttpMethod.GET;
@@ -514,6 +516,188 @@ public abstract class HttpServerTestKit {
         verifyResponse("GET", "/", 200, null);
     }
 
+    @Test
+    void testPublisherResult() throws IOException {
+        var dataList = new ArrayList<byte[]>(100);
+        var data = new byte[102400];
+        for (int i = 0; i < 100; i++) {
+            var bytes = new byte[1024];
+            ThreadLocalRandom.current().nextBytes(bytes);
+            dataList.add(bytes);
+            System.arraycopy(bytes, 0, data, i * 1024, 1024);
+        }
+
+        Flow.Publisher<ByteBuffer> publisher = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+            private final AtomicInteger index = new AtomicInteger();
+
+            @Override
+            public void request(long n) {
+                for (long i = 0; i < n; i++) {
+                    var idx = this.index.getAndIncrement();
+                    if (idx < dataList.size()) {
+                        var buffer = ByteBuffer.allocateDirect(1024);
+                        buffer.put(dataList.get(idx)).flip();
+                        subscriber.onNext(buffer);
+                    } else {
+                        if (idx == dataList.size()) {
+                            subscriber.onComplete();
+                        }
+                        return;
+                    }
+                }
+            }
+
+            @Override
+            public void cancel() {}
+        });
+        var handler = handler(GET, "/", (_) -> HttpServerResponse.of(200, HttpHeaders.of(), HttpBodyOutput.ofPublisher("text/plain", publisher)));
+
+        this.startServer(handler);
+
+        var request = request("/")
+            .get()
+            .build();
+
+        try (var response = client.newCall(request).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.body().bytes()).isEqualTo(data);
+        }
+        verifyResponse("GET", "/", 200, null);
+    }
+
+    @Test
+    void testPublisherResultEmittedAfterHandlerReturns() throws IOException {
+        var dataList = new ArrayList<byte[]>(20);
+        var data = new byte[20 * 1024];
+        for (int i = 0; i < 20; i++) {
+            var bytes = new byte[1024];
+            ThreadLocalRandom.current().nextBytes(bytes);
+            dataList.add(bytes);
+            System.arraycopy(bytes, 0, data, i * 1024, 1024);
+        }
+        var handlerReturned = new CountDownLatch(1);
+        var scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            Flow.Publisher<ByteBuffer> publisher = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+                private final AtomicInteger index = new AtomicInteger();
+
+                @Override
+                public void request(long n) {
+                    // every signal comes from a foreign thread and only after the handler has returned
+                    scheduler.schedule(() -> {
+                        try {
+                            handlerReturned.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        var idx = this.index.getAndIncrement();
+                        if (idx < dataList.size()) {
+                            subscriber.onNext(ByteBuffer.wrap(dataList.get(idx)));
+                        } else if (idx == dataList.size()) {
+                            subscriber.onComplete();
+                        }
+                    }, 5, TimeUnit.MILLISECONDS);
+                }
+
+                @Override
+                public void cancel() {}
+            });
+            var handler = handler(GET, "/", (_) -> HttpServerResponse.of(200, HttpHeaders.of(), HttpBodyOutput.ofPublisher("text/plain", publisher)));
+            var interceptor = new HttpServerInterceptor() {
+                @Override
+                public HttpServerResponse intercept(HttpServerRequest request, InterceptChain chain) throws Exception {
+                    try {
+                        return chain.process(request);
+                    } finally {
+                        handlerReturned.countDown();
+                    }
+                }
+            };
+
+            this.startServer(List.of(interceptor), handler);
+
+            var request = request("/")
+                .get()
+                .build();
+
+            try (var response = client.newCall(request).execute()) {
+                assertThat(response.code()).isEqualTo(200);
+                assertThat(response.body().bytes()).isEqualTo(data);
+            }
+            verifyResponse("GET", "/", 200, null, timeout(1000));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPublisherErrorAfterHandlerReturnsEndsObservation() {
+        var error = new RuntimeException("publisher failed");
+        var scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            Flow.Publisher<ByteBuffer> publisher = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+                private final AtomicInteger index = new AtomicInteger();
+
+                @Override
+                public void request(long n) {
+                    scheduler.schedule(() -> {
+                        if (this.index.getAndIncrement() < 3) {
+                            subscriber.onNext(ByteBuffer.wrap(new byte[1024]));
+                        } else {
+                            subscriber.onError(error);
+                        }
+                    }, 5, TimeUnit.MILLISECONDS);
+                }
+
+                @Override
+                public void cancel() {}
+            });
+            var handler = handler(GET, "/", (_) -> HttpServerResponse.of(200, HttpHeaders.of(), HttpBodyOutput.ofPublisher("text/plain", publisher)));
+
+            this.startServer(handler);
+
+            var request = request("/")
+                .get()
+                .build();
+
+            assertThatThrownBy(() -> {
+                try (var response = client.newCall(request).execute()) {
+                    response.body().bytes();
+                }
+            }).isInstanceOf(IOException.class);
+            verify(this.observation, timeout(1000)).observeError(error);
+            verify(this.observation, timeout(1000)).end();
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFileResult() throws IOException {
+        var data = new byte[1024 * 1024];
+        ThreadLocalRandom.current().nextBytes(data);
+        var file = Files.createTempFile("kora-http-server", ".bin");
+        try {
+            Files.write(file, data);
+            var handler = handler(GET, "/", (_) -> HttpServerResponse.of(200, HttpHeaders.of(), HttpBodyOutput.file("application/octet-stream", file)));
+
+            this.startServer(handler);
+
+            var request = request("/")
+                .get()
+                .build();
+
+            try (var response = client.newCall(request).execute()) {
+                assertThat(response.code()).isEqualTo(200);
+                assertThat(response.header("content-length")).isEqualTo(String.valueOf(data.length));
+                assertThat(response.body().bytes()).isEqualTo(data);
+            }
+            verifyResponse("GET", "/", 200, null);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
     @Test
     void testHelloWorldParallel() throws ExecutionException, InterruptedException {
         var httpResponse = HttpServerResponse.of(200, HttpBody.plaintext("hello world"));
@@ -1023,7 +1207,8 @@ public abstract class HttpServerTestKit {
                 new $HttpServerTelemetryConfig_HttpServerLoggingConfig_ConfigValueMapper.HttpServerLoggingConfig_Defaults(),
                 new $HttpServerTelemetryConfig_HttpServerMetricsConfig_ConfigValueMapper.HttpServerMetricsConfig_Defaults(),
                 new $HttpServerTelemetryConfig_HttpServerTracingConfig_ConfigValueMapper.HttpServerTracingConfig_Defaults()
-            )
+            ),
+            new $HttpServerConfig_HttpServerHttp2Config_ConfigValueMapper.HttpServerHttp2Config_Defaults()
         );
         var publicApiHandler = new HttpServerRouter(List.of(handlers), interceptors, config);
         this.httpServer = this.httpServer(valueOf(config), publicApiHandler, this.telemetry);
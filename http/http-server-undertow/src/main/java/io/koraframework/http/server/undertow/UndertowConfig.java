@@ -14,4 +14,39 @@ public interface UndertowConfig {
     default Duration threadKeepAliveTimeout() {
         return Duration.ofSeconds(60);
     }
+
+    /**
+     * @return Configuration of how requests are handed over from IO threads to virtual threads.
+     */
+    DispatchConfig dispatch();
+
+    @ConfigMapper
+    interface DispatchConfig {
+
+        /**
+         * @return Dispatch mode: CONNECTION gives each connection its own single virtual thread executor, SHARED runs each request on its own virtual thread with in-flight limits.
+         */
+        default DispatchMode mode() {
+            return DispatchMode.CONNECTION;
+        }
+
+        /**
+         * @return Maximum number of requests processed concurrently by the server in SHARED mode, excess requests are queued, 0 means unlimited.
+         */
+        default int maxInFlightRequests() {
+            return 0;
+        }
+
+        /**
+         * @return Maximum number of requests processed concurrently per connection in SHARED mode, 1 preserves request order within a connection, 0 means unlimited.
+         */
+        default int maxInFlightRequestsPerConnection() {
+            return 1;
+        }
+    }
+
+    enum DispatchMode {
+        CONNECTION,
+        SHARED
+    }
 }
@@ -18,6 +18,7 @@ import org.slf4j.LoggerFactory;
 import org.xnio.Options;
 import org.xnio.XnioWorker;
 
+import javax.net.ssl.SSLContext;
 import java.net.BindException;
 import java.net.InetSocketAddress;
 import java.time.Duration;
@@ -34,6 +35,8 @@ public class UndertowHttpServer implements HttpServer, ReadinessProbe {
     private final XnioWorker xnioWorker;
     @Nullable
     private final Configurer<Undertow.Builder> configurer;
+    @Nullable
+    private final SSLContext sslContext;
 
     private volatile Undertow undertow;
 
@@ -43,10 +46,21 @@ public class UndertowHttpServer implements HttpServer, ReadinessProbe {
                               ValueOf<? extends HttpServerConfig> config,
                               @Nullable Configurer<Undertow.Builder> configurer,
                               @Nullable Configurer<HttpHandler> handlerConfigurer) {
+        this(name, httpHandler, xnioWorker, config, configurer, handlerConfigurer, null);
+    }
+
+    public UndertowHttpServer(String name,
+                              ValueOf<HttpHandler> httpHandler,
+                              XnioWorker xnioWorker,
+                              ValueOf<? extends HttpServerConfig> config,
+                              @Nullable Configurer<Undertow.Builder> configurer,
+                              @Nullable Configurer<HttpHandler> handlerConfigurer,
+                              @Nullable SSLContext sslContext) {
         this.config = config;
         this.name = name;
         this.xnioWorker = xnioWorker;
         this.configurer = configurer;
+        this.sslContext = sslContext;
 
         var handler = httpHandler.get();
         if (handlerConfigurer != null) {
@@ -102,7 +116,6 @@ public class UndertowHttpServer implements HttpServer, ReadinessProbe {
         var config = this.config.get();
         var undertow = Undertow.builder()
             .setHandler(this.gracefulShutdown)
-            .addHttpListener(config.port(), "0.0.0.0")
             .setWorker(this.xnioWorker)
             .setSocketOption(Options.READ_TIMEOUT, ((int) config.socketReadTimeout().toMillis()))
             .setSocketOption(Options.WRITE_TIMEOUT, ((int) config.socketWriteTimeout().toMillis()))
@@ -111,6 +124,23 @@ public class UndertowHttpServer implements HttpServer, ReadinessProbe {
             .setServerOption(UndertowOptions.ALWAYS_SET_DATE, config.headerServerDateEnabled())
             .setServerOption(UndertowOptions.MAX_ENTITY_SIZE, config.maxRequestBodySize().toBytes());
 
+        if (this.sslContext != null) {
+            undertow = undertow.addHttpsListener(config.port(), "0.0.0.0", this.sslContext);
+        } else {
+            undertow = undertow.addHttpListener(config.port(), "0.0.0.0");
+        }
+
+        var http2 = config.http2();
+        if (http2.enabled()) {
+            // cleartext listener gets h2c upgrade and prior knowledge support, TLS listener negotiates h2 via ALPN
+            undertow = undertow
+                .setServerOption(UndertowOptions.ENABLE_HTTP2, true)
+                .setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_CONCURRENT_STREAMS, http2.maxConcurrentStreams())
+                .setServerOption(UndertowOptions.HTTP2_SETTINGS_INITIAL_WINDOW_SIZE, (int) http2.initialWindowSize().toBytes())
+                .setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_FRAME_SIZE, (int) http2.maxFrameSize().toBytes())
+                .setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_HEADER_LIST_SIZE, (int) http2.maxHeaderListSize().toBytes());
+        }
+
         if (this.configurer != null) {
             undertow = this.configurer.configure(undertow);
         }
@@ -10,12 +10,16 @@ import io.koraframework.http.server.common.HttpServerFactoryModule;
 import io.koraframework.http.server.common.router.HttpServerRouter;
 import io.koraframework.http.server.common.telemetry.HttpServerTelemetryFactory;
 import io.koraframework.http.server.undertow.handler.KoraRequestProcessingHttpHandler;
+import io.koraframework.http.server.undertow.handler.KoraSharedVirtualThreadDispatchHttpHandler;
 import io.koraframework.http.server.undertow.handler.KoraVirtualThreadDispatchHttpHandler;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.undertow.Undertow;
 import io.undertow.server.HttpHandler;
 import org.jspecify.annotations.Nullable;
 import org.xnio.XnioWorker;
 
+import javax.net.ssl.SSLContext;
+
 public class UndertowHttpServerFactoryModule extends HttpServerFactoryModule {
 
     private final String name;
@@ -31,18 +35,25 @@ public class UndertowHttpServerFactoryModule extends HttpServerFactoryModule {
                                      @Tag(Tag.Factory.class) ValueOf<HttpHandler> httpHandler,
                                      @Tag(Tag.Factory.class) ValueOf<HttpServerConfig> config,
                                      @Tag(Tag.Factory.class) @Nullable Configurer<Undertow.Builder> configurer,
-                                     @Tag(Tag.Factory.class) @Nullable Configurer<HttpHandler> handlerConfigurer) {
-        return new UndertowHttpServer(this.name, httpHandler, worker, config, configurer, handlerConfigurer);
+                                     @Tag(Tag.Factory.class) @Nullable Configurer<HttpHandler> handlerConfigurer,
+                                     @Tag(Tag.Factory.class) @Nullable SSLContext sslContext) {
+        return new UndertowHttpServer(this.name, httpHandler, worker, config, configurer, handlerConfigurer, sslContext);
     }
 
     @DefaultComponent
     @Tag(Tag.Factory.class)
     public HttpHandler handler(@Tag(Tag.Factory.class) HttpServerConfig config,
                                @Tag(Tag.Factory.class) HttpServerRouter httpServerRouter,
-                               HttpServerTelemetryFactory telemetryFactory) {
+                               HttpServerTelemetryFactory telemetryFactory,
+                               UndertowConfig undertowConfig,
+                               @Nullable MeterRegistry meterRegistry) {
         var telemetry = telemetryFactory.get(this.name, config.port(), config.telemetry());
         var handler = (HttpHandler) new KoraRequestProcessingHttpHandler(telemetry, httpServerRouter);
-        handler = new KoraVirtualThreadDispatchHttpHandler(this.name, handler);
+        var dispatch = undertowConfig.dispatch();
+        handler = switch (dispatch.mode()) {
+            case CONNECTION -> new KoraVirtualThreadDispatchHttpHandler(this.name, handler);
+            case SHARED -> new KoraSharedVirtualThreadDispatchHttpHandler(this.name, handler, dispatch.maxInFlightRequests(), dispatch.maxInFlightRequestsPerConnection(), meterRegistry);
+        };
         return handler;
     }
 }
@@ -18,11 +18,13 @@ import io.opentelemetry.context.propagation.TextMapSetter;
 import io.undertow.UndertowMessages;
 import io.undertow.io.BufferWritableOutputStream;
 import io.undertow.server.HttpHandler;
+import io.undertow.server.ExchangeCompletionListener;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.util.HeaderMap;
 import io.undertow.util.HeaderValues;
 import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
+import io.undertow.util.Protocols;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +36,7 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class KoraRequestProcessingHttpHandler implements HttpHandler {
 
@@ -56,25 +59,27 @@ public final class KoraRequestProcessingHttpHandler implements HttpHandler {
             .where(OpentelemetryContext.VALUE, rootCtx)
             .run(() -> {
                 MDC.clear();
+                var asyncResponse = false;
+                ObservationEnd observationEnd = null;
                 try {
                     exchange.startBlocking();
                     var request = new UndertowUnroutedHttpRequest(exchange);
                     var invocation = this.httpServerRouter.route(request);
                     var observation = this.telemetry.observe(invocation.routedRequest());
+                    var end = new ObservationEnd(observation);
+                    observationEnd = end;
+                    exchange.addExchangeCompleteListener(end);
+                    observation.observeProtocol(protocolVersion(exchange.getProtocol()));
                     var ctx = rootCtx.with(observation.span());
                     W3CTraceContextPropagator.getInstance().inject(
                         ctx,
                         exchange.getResponseHeaders(),
                         HttpServerExchangeMapGetter.INSTANCE
                     );
-                    exchange.addExchangeCompleteListener((e, nextListener) -> {
-                        observation.end();
-                        nextListener.proceed();
-                    });
-                    ScopedValue
+                    asyncResponse = ScopedValue
                         .where(OpentelemetryContext.VALUE, ctx)
                         .where(Observation.VALUE, observation)
-                        .run(() -> {
+                        .call(() -> {
                             HttpServerResponse response;
                             try {
                                 var httpServerRequest = observation.observeRequest(invocation.routedRequest());
@@ -82,13 +87,12 @@ public final class KoraRequestProcessingHttpHandler implements HttpHandler {
                             } catch (Throwable e) {
                                 observation.observeError(e);
                                 if (e instanceof HttpServerResponse rs) {
-                                    this.sendResponse(observation, exchange, rs);
+                                    return this.sendResponse(observation, end, exchange, rs);
                                 } else {
-                                    this.sendResponse(observation, exchange, HttpServerResponse.of(500, HttpBody.plaintext(Objects.requireNonNullElse(e.getMessage(), "Unknown error"))));
+                                    return this.sendResponse(observation, end, exchange, HttpServerResponse.of(500, HttpBody.plaintext(Objects.requireNonNullElse(e.getMessage(), "Unknown error"))));
                                 }
-                                return;
                             }
-                            this.sendResponse(observation, exchange, response);
+                            return this.sendResponse(observation, end, exchange, response);
                         });
                 } catch (Throwable exception) {
                     exchange.setStatusCode(500);
@@ -99,13 +103,22 @@ public final class KoraRequestProcessingHttpHandler implements HttpHandler {
                         exception.addSuppressed(e);
                     }
                     logger.warn("Error dropped", exception);
+                    if (observationEnd != null) {
+                        // connection is closed, so the exchange completion listener may never be called
+                        observationEnd.fail(exception);
+                    }
                 } finally {
-                    exchange.endExchange();
+                    if (!asyncResponse) {
+                        exchange.endExchange();
+                    }
                 }
             });
     }
 
-    private void sendResponse(HttpServerObservation observation, HttpServerExchange exchange, HttpServerResponse httpResponse) {
+    /**
+     * @return true if the body is being sent asynchronously and the sender takes care of ending the exchange
+     */
+    private boolean sendResponse(HttpServerObservation observation, Runnable endObservation, HttpServerExchange exchange, HttpServerResponse httpResponse) {
         httpResponse = observation.observeResponse(httpResponse);
         var headers = httpResponse.headers();
         exchange.setStatusCode(httpResponse.code());
@@ -113,7 +126,29 @@ public final class KoraRequestProcessingHttpHandler implements HttpHandler {
         var body = httpResponse.body();
         if (body == null) {
             this.setHeaders(exchange.getResponseHeaders(), headers, null);
-            return;
+            return false;
+        }
+        if (UndertowAsyncResponseSender.isSupported(body)) {
+            try {
+                var contentType = body.contentType();
+                this.setHeaders(exchange.getResponseHeaders(), headers, contentType);
+                if (contentType != null) {
+                    exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, contentType);
+                }
+                if (body.contentLength() >= 0) {
+                    exchange.setResponseContentLength(body.contentLength());
+                }
+                UndertowAsyncResponseSender.send(exchange, observation, body, endObservation);
+                return true;
+            } catch (Throwable e) {
+                observation.observeError(e);
+                try {
+                    body.close();
+                } catch (IOException ex) {
+                    e.addSuppressed(ex);
+                }
+                return false;
+            }
         }
         try (body) {
             var contentType = body.contentType();
@@ -130,7 +165,7 @@ public final class KoraRequestProcessingHttpHandler implements HttpHandler {
                     var full = body.getFullContentIfAvailable();
                     if (full != null) {
                         this.writeBuffer(exchange, os, full);
-                        return;
+                        return false;
                     }
                     body.write(os);
                 } catch (Throwable t) {
@@ -149,6 +184,17 @@ public final class KoraRequestProcessingHttpHandler implements HttpHandler {
         } catch (Throwable e) {
             observation.observeError(e);
         }
+        return false;
+    }
+
+    private static String protocolVersion(HttpString protocol) {
+        if (Protocols.HTTP_2_0.equals(protocol)) {
+            return "2";
+        }
+        if (Protocols.HTTP_1_0.equals(protocol)) {
+            return "1.0";
+        }
+        return "1.1";
     }
 
     private void setHeaders(HeaderMap responseHeaders, HttpHeaders headers, @Nullable String contentType) {
@@ -192,6 +238,42 @@ public final class KoraRequestProcessingHttpHandler implements HttpHandler {
         }
     }
 
+    /**
+     * Ends observation exactly once, either on exchange completion or when the connection is dropped
+     */
+    private static final class ObservationEnd implements Runnable, ExchangeCompletionListener {
+
+        private final HttpServerObservation observation;
+        private final AtomicBoolean ended = new AtomicBoolean(false);
+
+        private ObservationEnd(HttpServerObservation observation) {
+            this.observation = observation;
+        }
+
+        @Override
+        public void run() {
+            if (this.ended.compareAndSet(false, true)) {
+                this.observation.end();
+            }
+        }
+
+        void fail(Throwable error) {
+            if (!this.ended.get()) {
+                this.observation.observeError(error);
+            }
+            this.run();
+        }
+
+        @Override
+        public void exchangeEvent(HttpServerExchange exchange, NextListener nextListener) {
+            try {
+                this.run();
+            } finally {
+                nextListener.proceed();
+            }
+        }
+    }
+
     public static class HttpServerExchangeMapGetter implements TextMapGetter<HeaderMap>, TextMapSetter<HeaderMap> {
         public static final HttpServerExchangeMapGetter INSTANCE = new HttpServerExchangeMapGetter();
 
@@ -0,0 +1,96 @@
+package io.koraframework.http.server.undertow.handler;
+
+import io.koraframework.application.graph.Lifecycle;
+import io.koraframework.common.util.BoundedExecutor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.AttachmentKey;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dispatches every request to its own virtual thread from one server wide executor.
+ * Concurrency is bounded per server and per connection, requests above the limits wait in lock-free queues
+ * instead of holding a thread, connection limit of 1 keeps requests of a connection in order.
+ * Gauges are removed and the executor is shut down on release, so a refreshed handler does not leave stale meters behind.
+ */
+public final class KoraSharedVirtualThreadDispatchHttpHandler implements HttpHandler, Lifecycle {
+
+    private final AttachmentKey<BoundedExecutor> executorAttachmentKey = AttachmentKey.create(BoundedExecutor.class);
+
+    private final HttpHandler delegate;
+    private final int maxInFlightRequestsPerConnection;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ExecutorService virtualExecutor;
+    private final BoundedExecutor serverExecutor;
+    @Nullable
+    private final MeterRegistry meterRegistry;
+    private final List<Meter> meters = new ArrayList<>();
+
+    public KoraSharedVirtualThreadDispatchHttpHandler(String name,
+                                                      HttpHandler delegate,
+                                                      int maxInFlightRequests,
+                                                      int maxInFlightRequestsPerConnection,
+                                                      @Nullable MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxInFlightRequestsPerConnection = maxInFlightRequestsPerConnection;
+        this.virtualExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+        this.serverExecutor = new BoundedExecutor(this.virtualExecutor, maxInFlightRequests, this.queued);
+        this.meterRegistry = meterRegistry;
+
+        if (meterRegistry != null) {
+            this.meters.add(Gauge.builder("http.server.dispatch.queued_requests", this.queued, AtomicInteger::get)
+                .tag("server.name", name)
+                .strongReference(true)
+                .register(meterRegistry));
+            this.meters.add(Gauge.builder("http.server.dispatch.in_flight_requests", this.serverExecutor, BoundedExecutor::inFlight)
+                .tag("server.name", name)
+                .strongReference(true)
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void init() {}
+
+    @Override
+    public void release() {
+        if (this.meterRegistry != null) {
+            for (var meter : this.meters) {
+                this.meterRegistry.remove(meter);
+            }
+            this.meters.clear();
+        }
+        // server is released before its handler, so only requests that outlived graceful shutdown are still running here
+        this.virtualExecutor.shutdown();
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) {
+        exchange.dispatch(this.getExecutor(exchange), this.delegate);
+    }
+
+    private Executor getExecutor(HttpServerExchange exchange) {
+        if (this.maxInFlightRequestsPerConnection <= 0) {
+            return this.serverExecutor;
+        }
+        var connection = exchange.getConnection();
+        var existingExecutor = connection.getAttachment(this.executorAttachmentKey);
+        if (existingExecutor != null) {
+            return existingExecutor;
+        }
+        // connection executor holds no threads, so it is simply dropped together with the connection
+        var executor = new BoundedExecutor(this.serverExecutor, this.maxInFlightRequestsPerConnection, this.queued);
+        connection.putAttachment(this.executorAttachmentKey, executor);
+        return executor;
+    }
+}
@@ -0,0 +1,221 @@
+package io.koraframework.http.server.undertow.handler;
+
+import io.koraframework.http.common.HttpResultCode;
+import io.koraframework.http.common.body.FileHttpBodyOutput;
+import io.koraframework.http.common.body.HttpBodyOutput;
+import io.koraframework.http.common.body.PublisherHttpBodyOutput;
+import io.koraframework.http.server.common.telemetry.HttpServerObservation;
+import io.undertow.server.HttpServerExchange;
+import org.jspecify.annotations.Nullable;
+import org.xnio.ChannelListener;
+import org.xnio.ChannelListeners;
+import org.xnio.IoUtils;
+import org.xnio.channels.StreamSinkChannel;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes {@link PublisherHttpBodyOutput} and {@link FileHttpBodyOutput} bodies straight into the response channel,
+ * parking on XNIO write readiness instead of a thread, so long streaming responses do not pin a virtual thread.
+ * The exchange is dispatched to its IO thread, which keeps it open after the handler returns,
+ * and every channel operation including publisher signals from other threads runs on that IO thread.
+ */
+final class UndertowAsyncResponseSender {
+
+    private final HttpServerExchange exchange;
+    private final HttpServerObservation observation;
+    private final HttpBodyOutput body;
+    private final Runnable endObservation;
+    private final Executor ioThread;
+    private final AtomicBoolean done = new AtomicBoolean(false);
+    private StreamSinkChannel channel;
+
+    private UndertowAsyncResponseSender(HttpServerExchange exchange, HttpServerObservation observation, HttpBodyOutput body, Runnable endObservation) {
+        this.exchange = exchange;
+        this.observation = observation;
+        this.body = body;
+        this.endObservation = endObservation;
+        this.ioThread = exchange.getIoThread();
+    }
+
+    static boolean isSupported(HttpBodyOutput body) {
+        return body instanceof PublisherHttpBodyOutput || body instanceof FileHttpBodyOutput;
+    }
+
+    /**
+     * Dispatches the exchange so it outlives the handler and starts sending body on the IO thread once the handler returns.
+     * Exchange is ended by the sender once the body is fully written, on failure the connection is closed and {@code endObservation} is called.
+     */
+    static void send(HttpServerExchange exchange, HttpServerObservation observation, HttpBodyOutput body, Runnable endObservation) throws IOException {
+        // request stream is drained here while still on a worker thread, so ending the exchange later on an IO thread never blocks
+        exchange.getInputStream().close();
+        var sender = new UndertowAsyncResponseSender(exchange, observation, body, endObservation);
+        // without dispatch Undertow ends the exchange as soon as the root handler returns and cuts the body off
+        exchange.dispatch(sender.ioThread, sender::start);
+    }
+
+    private void start() {
+        try {
+            this.channel = this.exchange.getResponseChannel();
+            switch (this.body) {
+                case PublisherHttpBodyOutput publisher -> publisher.publisher().subscribe(new PublisherWriter());
+                case FileHttpBodyOutput file -> new FileWriter(file).transfer();
+                default -> throw new IllegalArgumentException("Unsupported async body: " + this.body.getClass());
+            }
+        } catch (Throwable e) {
+            this.complete(e);
+        }
+    }
+
+    private void finish() {
+        try {
+            this.channel.shutdownWrites();
+            if (this.channel.flush()) {
+                this.complete(null);
+                return;
+            }
+            this.channel.getWriteSetter().set(ChannelListeners.flushingChannelListener(
+                _ -> this.complete(null),
+                (_, e) -> this.complete(e)
+            ));
+            this.channel.resumeWrites();
+        } catch (IOException e) {
+            this.complete(e);
+        }
+    }
+
+    private void complete(@Nullable Throwable error) {
+        if (!this.done.compareAndSet(false, true)) {
+            return;
+        }
+        IoUtils.safeClose(this.body);
+        if (error == null) {
+            this.exchange.endExchange();
+            return;
+        }
+        this.observation.observeError(error);
+        this.observation.observeResultCode(HttpResultCode.CONNECTION_ERROR);
+        // response is already committed, so the only way to signal failure to the client is to drop the connection
+        IoUtils.safeClose(this.exchange.getConnection());
+        // exchange is never ended on a dropped connection, so its completion listener would not end the observation
+        this.endObservation.run();
+    }
+
+    private final class PublisherWriter implements Flow.Subscriber<ByteBuffer>, ChannelListener<StreamSinkChannel> {
+
+        // fields below are accessed only on the IO thread
+        private Flow.@Nullable Subscription subscription;
+        @Nullable
+        private ByteBuffer pending;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            // publisher may signal from any thread, while XNIO channel must only be touched from its IO thread
+            ioThread.execute(() -> {
+                this.pending = item;
+                this.writePending();
+            });
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            ioThread.execute(() -> complete(throwable));
+        }
+
+        @Override
+        public void onComplete() {
+            ioThread.execute(() -> {
+                this.completed = true;
+                if (this.pending == null) {
+                    finish();
+                }
+            });
+        }
+
+        @Override
+        public void handleEvent(StreamSinkChannel channel) {
+            channel.suspendWrites();
+            this.writePending();
+        }
+
+        private void writePending() {
+            var buffer = this.pending;
+            if (buffer == null || done.get()) {
+                return;
+            }
+            try {
+                while (buffer.hasRemaining()) {
+                    // direct buffers go to the socket as is, heap buffers are copied by the channel once
+                    if (channel.write(buffer) == 0) {
+                        channel.getWriteSetter().set(this);
+                        channel.resumeWrites();
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                this.subscription.cancel();
+                complete(e);
+                return;
+            }
+            this.pending = null;
+            if (this.completed) {
+                finish();
+            } else {
+                this.subscription.request(1);
+            }
+        }
+    }
+
+    private final class FileWriter implements ChannelListener<StreamSinkChannel> {
+
+        private final FileHttpBodyOutput file;
+        private final long end;
+        private long position;
+
+        private FileWriter(FileHttpBodyOutput file) {
+            this.file = file;
+            this.position = file.position();
+            this.end = file.position() + file.contentLength();
+        }
+
+        @Override
+        public void handleEvent(StreamSinkChannel channel) {
+            channel.suspendWrites();
+            this.transfer();
+        }
+
+        private void transfer() {
+            try {
+                while (this.position < this.end) {
+                    // lets the underlying conduit use sendfile when the connection allows it
+                    var transferred = channel.transferFrom(this.file.channel(), this.position, this.end - this.position);
+                    if (transferred == 0) {
+                        if (this.position >= this.file.channel().size()) {
+                            throw new EOFException("File ended before " + this.file.contentLength() + " bytes were sent");
+                        }
+                        channel.getWriteSetter().set(this);
+                        channel.resumeWrites();
+                        return;
+                    }
+                    this.position += transferred;
+                }
+            } catch (IOException e) {
+                complete(e);
+                return;
+            }
+            finish();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.koraframework.http.server.undertow;
+
+import io.koraframework.common.util.Size;
+import io.koraframework.http.common.body.HttpBody;
+import io.koraframework.http.server.common.$HttpServerConfig_ConfigValueMapper.HttpServerConfig_Impl;
+import io.koraframework.http.server.common.telemetry.$HttpServerTelemetryConfig_ConfigValueMapper;
+import io.koraframework.http.server.common.telemetry.$HttpServerTelemetryConfig_HttpServerLoggingConfig_ConfigValueMapper;
+import io.koraframework.http.server.common.telemetry.$HttpServerTelemetryConfig_HttpServerMetricsConfig_ConfigValueMapper;
+import io.koraframework.http.server.common.telemetry.$HttpServerTelemetryConfig_HttpServerTracingConfig_ConfigValueMapper;
+import io.koraframework.http.server.common.HttpServerConfig;
+import io.koraframework.http.server.common.request.HttpServerRequestHandlerImpl;
+import io.koraframework.http.server.common.response.HttpServerResponse;
+import io.koraframework.http.server.common.router.HttpServerRouter;
+import io.koraframework.http.server.common.telemetry.impl.NoopHttpServerTelemetry;
+import io.koraframework.http.server.undertow.handler.KoraRequestProcessingHttpHandler;
+import io.koraframework.http.server.undertow.handler.KoraSharedVirtualThreadDispatchHttpHandler;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UndertowHttp2ServerTest {
+
+    private UndertowHttpServer server;
+
+    @BeforeEach
+    void setUp() {
+        var config = new HttpServerConfig_Impl(
+            0,
+            false,
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(1),
+            false,
+            false,
+            true,
+            Duration.ofMillis(1),
+            Size.of(1, Size.Type.GiB),
+            new $HttpServerTelemetryConfig_ConfigValueMapper.HttpServerTelemetryConfig_Impl(
+                new $HttpServerTelemetryConfig_HttpServerLoggingConfig_ConfigValueMapper.HttpServerLoggingConfig_Defaults(),
+                new $HttpServerTelemetryConfig_HttpServerMetricsConfig_ConfigValueMapper.HttpServerMetricsConfig_Defaults(),
+                new $HttpServerTelemetryConfig_HttpServerTracingConfig_ConfigValueMapper.HttpServerTracingConfig_Defaults()
+            ),
+            new HttpServerConfig.HttpServerHttp2Config() {
+                @Override
+                public boolean enabled() {
+                    return true;
+                }
+            }
+        );
+        var router = new HttpServerRouter(
+            List.of(HttpServerRequestHandlerImpl.get("/", _ -> HttpServerResponse.of(200, HttpBody.plaintext("hello world")))),
+            List.of(),
+            config
+        );
+        var handler = new KoraSharedVirtualThreadDispatchHttpHandler("h2", new KoraRequestProcessingHttpHandler(NoopHttpServerTelemetry.INSTANCE, router), 0, 0, null);
+        this.server = new UndertowHttpServer("test", () -> handler, null, () -> config, null, null);
+        this.server.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.server.release();
+    }
+
+    @Test
+    void priorKnowledgeNegotiatesHttp2() throws Exception {
+        var client = new OkHttpClient.Builder()
+            .protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE))
+            .build();
+        var request = new Request.Builder()
+            .url("http://localhost:%d/".formatted(this.server.port()))
+            .get()
+            .build();
+
+        try (var response = client.newCall(request).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.protocol()).isEqualTo(Protocol.H2_PRIOR_KNOWLEDGE);
+            assertThat(response.body().string()).isEqualTo("hello world");
+        } finally {
+            client.dispatcher().executorService().shutdown();
+            client.connectionPool().evictAll();
+        }
+    }
+
+    @Test
+    void h2cUpgradeNegotiatesHttp2() throws Exception {
+        try (var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build()) {
+            var request = HttpRequest.newBuilder(URI.create("http://localhost:%d/".formatted(this.server.port())))
+                .GET()
+                .build();
+
+            var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.version()).isEqualTo(HttpClient.Version.HTTP_2);
+            assertThat(response.body()).isEqualTo("hello world");
+        }
+    }
+
+    @Test
+    void http11StillServedWhenHttp2Enabled() throws Exception {
+        try (var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            var request = HttpRequest.newBuilder(URI.create("http://localhost:%d/".formatted(this.server.port())))
+                .GET()
+                .build();
+
+            var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.version()).isEqualTo(HttpClient.Version.HTTP_1_1);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.koraframework.jms;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Session;
+import java.util.List;
+
+/**
+ * Receives messages in batches of up to {@link JmsListenerContainerConfig#commitBatchSize()} messages,
+ * whole batch is committed after listener returns or rolled back when it throws.
+ */
+public interface JmsBatchMessageListener {
+    void onMessages(Session session, List<Message> messages) throws JMSException;
+}
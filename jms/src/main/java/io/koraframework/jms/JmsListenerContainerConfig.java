@@ -3,6 +3,8 @@ package io.koraframework.jms;
 import io.koraframework.config.common.annotation.ConfigMapper;
 import io.koraframework.jms.telemetry.JmsConsumerTelemetryConfig;
 
+import java.time.Duration;
+
 @ConfigMapper
 public interface JmsListenerContainerConfig {
     /**
@@ -15,6 +17,27 @@ public interface JmsListenerContainerConfig {
      */
     int threads();
 
+    /**
+     * @return Maximum time a consumer thread blocks waiting for the next message before checking whether the listener is stopped.
+     */
+    default Duration receiveTimeout() {
+        return Duration.ofSeconds(1);
+    }
+
+    /**
+     * @return Number of messages committed in one transaction, for a batch listener also the maximum number of messages in one batch.
+     */
+    default int commitBatchSize() {
+        return 1;
+    }
+
+    /**
+     * @return Maximum time since the first uncommitted message was received after which the transaction is committed even if the batch is not full.
+     */
+    default Duration commitInterval() {
+        return Duration.ofSeconds(1);
+    }
+
     /**
      * @return Telemetry configuration for logging, metrics and tracing of consumed messages.
      */
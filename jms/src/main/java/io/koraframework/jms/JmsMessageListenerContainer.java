@@ -7,28 +7,31 @@ import org.slf4j.MDC;
 import io.koraframework.application.graph.Lifecycle;
 import io.koraframework.common.telemetry.Observation;
 import io.koraframework.common.util.TimeUtils;
+import io.koraframework.jms.telemetry.JmsConsumerObservation;
 import io.koraframework.jms.telemetry.JmsConsumerTelemetry;
 import io.koraframework.jms.telemetry.JmsConsumerTelemetryFactory;
 
 import javax.jms.ConnectionFactory;
 import javax.jms.JMSException;
+import javax.jms.Message;
 import javax.jms.Session;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public class JmsMessageListenerContainer implements Lifecycle {
 
     private static final Logger logger = LoggerFactory.getLogger(JmsMessageListenerContainer.class);
 
-    private static final ConcurrentHashMap<String, AtomicInteger> threadCounters = new ConcurrentHashMap<>();
-
     private final ConnectionFactory connectionFactory;
     private final JmsListenerContainerConfig config;
+    @Nullable
     private final JmsMessageListener messageListener;
+    @Nullable
+    private final JmsBatchMessageListener batchMessageListener;
     private final Logger log;
     private final JmsConsumerTelemetry telemetry;
     private final AtomicBoolean isStarted = new AtomicBoolean(false);
@@ -37,9 +40,18 @@ public class JmsMessageListenerContainer implements Lifecycle {
     private volatile ExecutorService executorService;
 
     public JmsMessageListenerContainer(ConnectionFactory connectionFactory, JmsListenerContainerConfig config, JmsMessageListener messageListener, JmsConsumerTelemetryFactory telemetryFactory) {
+        this(connectionFactory, config, messageListener, null, telemetryFactory);
+    }
+
+    JmsMessageListenerContainer(ConnectionFactory connectionFactory,
+                                JmsListenerContainerConfig config,
+                                @Nullable JmsMessageListener messageListener,
+                                @Nullable JmsBatchMessageListener batchMessageListener,
+                                JmsConsumerTelemetryFactory telemetryFactory) {
         this.connectionFactory = connectionFactory;
         this.config = config;
         this.messageListener = messageListener;
+        this.batchMessageListener = batchMessageListener;
         this.log = LoggerFactory.getLogger(JmsMessageListenerContainer.class);
         this.telemetry = telemetryFactory.get(config.telemetry(), config.queueName());
     }
@@ -54,7 +66,7 @@ public class JmsMessageListenerContainer implements Lifecycle {
             logger.debug("JmsMessageListener starting...");
             var started = System.nanoTime();
 
-            this.executorService = Executors.newFixedThreadPool(this.config.threads());
+            this.executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jms-" + this.config.queueName() + "-", 0).factory());
             for (int i = 0; i < this.config.threads(); i++) {
                 this.executorService.submit(this::connectLoop);
             }
@@ -85,8 +97,6 @@ public class JmsMessageListenerContainer implements Lifecycle {
     }
 
     private void connectLoop() {
-        var counter = threadCounters.computeIfAbsent(this.config.queueName(), s -> new AtomicInteger());
-        Thread.currentThread().setName("jms-" + this.config.queueName() + "-" + counter.getAndIncrement());
         log.info("listening...");
         while (this.isStarted.get()) {
             try {
@@ -117,48 +127,139 @@ public class JmsMessageListenerContainer implements Lifecycle {
 
     private void pollLoop(Session session) throws JMSException {
         var queue = session.createQueue(this.config.queueName());
+        var commitBatchSize = Math.max(this.config.commitBatchSize(), 1);
+        var commitIntervalNanos = this.config.commitInterval().toNanos();
+        var receiveTimeoutMillis = Math.max(this.config.receiveTimeout().toMillis(), 1);
+        var uncommitted = new ArrayList<Message>(commitBatchSize);
+        var uncommittedSince = 0L;
         try (var consumer = session.createConsumer(queue, null)) {
             while (this.isStarted.get()) {
+                var timeout = receiveTimeoutMillis;
+                if (!uncommitted.isEmpty()) {
+                    var untilCommit = TimeUnit.NANOSECONDS.toMillis(commitIntervalNanos - (System.nanoTime() - uncommittedSince));
+                    // receive(0) blocks forever
+                    timeout = Math.clamp(untilCommit, 1, receiveTimeoutMillis);
+                }
+                final Message message;
+                try {
+                    message = consumer.receive(timeout);
+                } catch (JMSException e) {
+                    // receive fails on connection loss and when release() interrupts the thread, messages handled so far must not be redelivered
+                    try {
+                        this.completeUncommitted(session, uncommitted);
+                    } catch (JMSException completeError) {
+                        e.addSuppressed(completeError);
+                    }
+                    throw e;
+                }
                 try {
-                    var message = consumer.receiveNoWait();
                     if (message == null) {
                         log.trace("No message was received");
-                        Thread.sleep(1000);
-                        session.commit();
+                    } else {
+                        if (uncommitted.isEmpty()) {
+                            uncommittedSince = System.nanoTime();
+                        }
+                        uncommitted.add(message);
+                        if (this.messageListener != null) {
+                            this.process(session, message, this.messageListener);
+                        }
+                    }
+                    if (uncommitted.isEmpty()) {
                         continue;
                     }
-                    var observation = this.telemetry.observe(message);
-                    try {
-                        Observation.scoped(observation)
-                            .where(io.koraframework.logging.common.MDC.VALUE, new io.koraframework.logging.common.MDC())
-                            .call(() -> {
-                                try {
-                                    observation.observeProcess();
-                                    this.messageListener.onMessage(session, message);
-                                } catch (Throwable t) {
-                                    observation.observeError(t);
-                                    throw t;
-                                } finally {
-                                    observation.end();
-                                }
-                                return null;
-                            });
+                    if (uncommitted.size() >= commitBatchSize || System.nanoTime() - uncommittedSince >= commitIntervalNanos) {
+                        if (this.batchMessageListener != null) {
+                            this.processBatch(session, uncommitted, this.batchMessageListener);
+                        }
                         session.commit();
-                    } finally {
-                        MDC.clear();
+                        uncommitted.clear();
                     }
-                } catch (InterruptedException e) {
-                    log.trace("Jms thread interrupted");
                 } catch (JMSException e) {
+                    uncommitted.clear();
                     session.rollback();
                     throw e;
                 } catch (Exception e) {
                     log.debug("Exception caught while processing message", e);
+                    uncommitted.clear();
                     session.rollback();
                 }
             }
+            this.completeUncommitted(session, uncommitted);
             log.trace("Poll loop end");
         }
     }
 
+    /**
+     * Commits messages handled by a single message listener, messages of a batch listener were not processed yet, so they are returned to the queue
+     */
+    private void completeUncommitted(Session session, List<Message> uncommitted) throws JMSException {
+        if (uncommitted.isEmpty()) {
+            return;
+        }
+        // release() interrupts consumer threads and client could refuse blocking commit of an interrupted thread
+        var interrupted = Thread.interrupted();
+        try {
+            if (this.batchMessageListener != null) {
+                session.rollback();
+            } else {
+                session.commit();
+            }
+        } finally {
+            uncommitted.clear();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void process(Session session, Message message, JmsMessageListener listener) throws Exception {
+        var observation = this.telemetry.observe(message);
+        try {
+            Observation.scoped(observation)
+                .where(io.koraframework.logging.common.MDC.VALUE, new io.koraframework.logging.common.MDC())
+                .call(() -> {
+                    try {
+                        observation.observeProcess();
+                        listener.onMessage(session, message);
+                    } catch (Throwable t) {
+                        observation.observeError(t);
+                        throw t;
+                    } finally {
+                        observation.end();
+                    }
+                    return null;
+                });
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void processBatch(Session session, List<Message> messages, JmsBatchMessageListener listener) throws Exception {
+        var observations = new ArrayList<JmsConsumerObservation>(messages.size());
+        try {
+            for (var message : messages) {
+                var observation = this.telemetry.observe(message);
+                observations.add(observation);
+                observation.observeProcess();
+            }
+            var batch = List.copyOf(messages);
+            // batch has no observation of its own, so listener calls are traced in the context of the first message
+            Observation.scoped(observations.getFirst())
+                .where(io.koraframework.logging.common.MDC.VALUE, new io.koraframework.logging.common.MDC())
+                .call(() -> {
+                    listener.onMessages(session, batch);
+                    return null;
+                });
+        } catch (Throwable t) {
+            for (var observation : observations) {
+                observation.observeError(t);
+            }
+            throw t;
+        } finally {
+            for (var observation : observations) {
+                observation.end();
+            }
+            MDC.clear();
+        }
+    }
 }
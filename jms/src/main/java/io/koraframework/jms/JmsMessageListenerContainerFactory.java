@@ -17,4 +17,8 @@ public class JmsMessageListenerContainerFactory {
     public JmsMessageListenerContainer build(JmsListenerContainerConfig config, JmsMessageListener messageListener) {
         return new JmsMessageListenerContainer(this.jmsConnectionFactory, config, messageListener, this.telemetry);
     }
+
+    public JmsMessageListenerContainer buildBatch(JmsListenerContainerConfig config, JmsBatchMessageListener messageListener) {
+        return new JmsMessageListenerContainer(this.jmsConnectionFactory, config, null, messageListener, this.telemetry);
+    }
 }
@@ -0,0 +1,192 @@
+package io.koraframework.jms;
+
+import io.koraframework.jms.telemetry.JmsConsumerTelemetryConfig;
+import io.koraframework.jms.telemetry.JmsConsumerTelemetryFactory;
+import io.koraframework.jms.telemetry.impl.NoopJmsConsumerTelemetry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.jms.*;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class JmsMessageListenerContainerTest {
+
+    private static final JmsConsumerTelemetryFactory TELEMETRY = (config, queueName) -> NoopJmsConsumerTelemetry.INSTANCE;
+
+    private final BlockingQueue<Message> queue = new LinkedBlockingQueue<>();
+    private final ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+    private final Connection connection = mock(Connection.class);
+    private final Session session = mock(Session.class);
+    private final MessageConsumer consumer = mock(MessageConsumer.class);
+    private JmsMessageListenerContainer container;
+
+    @BeforeEach
+    void setUp() throws JMSException {
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createConsumer(any(), any())).thenReturn(consumer);
+        when(consumer.receive(anyLong())).thenAnswer(invocation -> {
+            try {
+                return queue.poll(invocation.<Long>getArgument(0), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                var error = new JMSException("Receive interrupted");
+                error.setLinkedException(e);
+                throw error;
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (container != null) {
+            container.release();
+        }
+    }
+
+    @Test
+    void commitsWhenBatchSizeIsReached() throws Exception {
+        var processed = new CountDownLatch(3);
+        container = new JmsMessageListenerContainer(connectionFactory, config(3, Duration.ofMinutes(1)), (session, message) -> processed.countDown(), TELEMETRY);
+        container.init();
+
+        queue.add(mock(Message.class));
+        queue.add(mock(Message.class));
+        verify(session, after(300).never()).commit();
+        queue.add(mock(Message.class));
+
+        assertThat(processed.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(session, timeout(5000).times(1)).commit();
+        verify(session, never()).rollback();
+    }
+
+    @Test
+    void commitsWhenIntervalPasses() throws Exception {
+        var processed = new CountDownLatch(1);
+        container = new JmsMessageListenerContainer(connectionFactory, config(100, Duration.ofMillis(100)), (session, message) -> processed.countDown(), TELEMETRY);
+        container.init();
+
+        queue.add(mock(Message.class));
+
+        assertThat(processed.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(session, timeout(5000).times(1)).commit();
+        verify(session, never()).rollback();
+    }
+
+    @Test
+    void rollsBackWhenListenerFails() throws Exception {
+        container = new JmsMessageListenerContainer(connectionFactory, config(1, Duration.ofMinutes(1)), (session, message) -> {
+            throw new IllegalStateException("Listener failed");
+        }, TELEMETRY);
+        container.init();
+
+        queue.add(mock(Message.class));
+
+        verify(session, timeout(5000).times(1)).rollback();
+        verify(session, never()).commit();
+    }
+
+    @Test
+    void rollsBackBatchWhenListenerFails() throws Exception {
+        var batches = new CopyOnWriteArrayList<List<Message>>();
+        JmsBatchMessageListener listener = (session, messages) -> {
+            batches.add(messages);
+            throw new IllegalStateException("Listener failed");
+        };
+        container = new JmsMessageListenerContainer(connectionFactory, config(2, Duration.ofMinutes(1)), null, listener, TELEMETRY);
+        container.init();
+
+        queue.add(mock(Message.class));
+        queue.add(mock(Message.class));
+
+        verify(session, timeout(5000).times(1)).rollback();
+        verify(session, never()).commit();
+        assertThat(batches).hasSize(1);
+        assertThat(batches.getFirst()).hasSize(2);
+    }
+
+    @Test
+    void commitsProcessedMessagesOnShutdown() throws Exception {
+        var processed = new CountDownLatch(2);
+        container = new JmsMessageListenerContainer(connectionFactory, config(10, Duration.ofMinutes(1)), (session, message) -> processed.countDown(), TELEMETRY);
+        container.init();
+
+        queue.add(mock(Message.class));
+        queue.add(mock(Message.class));
+        assertThat(processed.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(session, never()).commit();
+
+        container.release();
+
+        verify(session, times(1)).commit();
+        verify(session, never()).rollback();
+    }
+
+    @Test
+    void returnsUnprocessedBatchOnShutdown() throws Exception {
+        var listener = mock(JmsBatchMessageListener.class);
+        container = new JmsMessageListenerContainer(connectionFactory, config(10, Duration.ofMinutes(1)), null, listener, TELEMETRY);
+        container.init();
+
+        queue.add(mock(Message.class));
+        queue.add(mock(Message.class));
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!queue.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(queue).isEmpty();
+
+        container.release();
+
+        verify(session, times(1)).rollback();
+        verify(session, never()).commit();
+        verify(listener, never()).onMessages(any(), anyList());
+    }
+
+    private static JmsListenerContainerConfig config(int commitBatchSize, Duration commitInterval) {
+        return new JmsListenerContainerConfig() {
+            @Override
+            public String queueName() {
+                return "test";
+            }
+
+            @Override
+            public int threads() {
+                return 1;
+            }
+
+            @Override
+            public Duration receiveTimeout() {
+                return Duration.ofMillis(50);
+            }
+
+            @Override
+            public int commitBatchSize() {
+                return commitBatchSize;
+            }
+
+            @Override
+            public Duration commitInterval() {
+                return commitInterval;
+            }
+
+            @Override
+            public JmsConsumerTelemetryConfig telemetry() {
+                return Mockito.mock(JmsConsumerTelemetryConfig.class);
+            }
+        };
+    }
+}
@@ -73,7 +73,7 @@ public class KafkaConsumerContainerGenerator {
 
         var consumerParameter = parameters.stream().filter(r -> r instanceof ConsumerParameter.Consumer).map(ConsumerParameter.Consumer.class::cast).findFirst();
         if (handlerTypeName.rawType().equals(recordHandler)) {
-            methodBuilder.addCode("var wrappedHandler = $T.wrapHandlerRecord($L, handler);\n", handlerWrapper, consumerParameter.isEmpty());
+            methodBuilder.addCode("var wrappedHandler = $T.wrapHandlerRecord($L, handler, config);\n", handlerWrapper, consumerParameter.isEmpty());
         } else {
             methodBuilder.addCode("var wrappedHandler = $T.wrapHandlerRecords($L, handler, config.allowEmptyRecords());\n", handlerWrapper, consumerParameter.isEmpty());
         }
@@ -42,7 +42,7 @@ class KafkaContainerGenerator {
         funBuilder.addStatement("val telemetry = telemetryFactory.get(%S, %S, config.driverProperties(), config.telemetry())",
             configPath, consumerName)
         if (handlerType.rawType == KafkaClassNames.recordHandler) {
-            funBuilder.addStatement("val wrappedHandler = %T.wrapHandlerRecord(%L, handler)", KafkaClassNames.handlerWrapper, consumerParameter == null)
+            funBuilder.addStatement("val wrappedHandler = %T.wrapHandlerRecord(%L, handler, config)", KafkaClassNames.handlerWrapper, consumerParameter == null)
         } else {
             funBuilder.addStatement("val wrappedHandler = %T.wrapHandlerRecords(%L, handler, config.allowEmptyRecords())", KafkaClassNames.handlerWrapper, consumerParameter == null)
         }
@@ -94,6 +94,70 @@ public interface KafkaListenerConfig {
      */
     KafkaConsumerTelemetryConfig telemetry();
 
+    /**
+     * @return Parallel processing configuration for listeners that handle a single record at a time.
+     */
+    ParallelConfig parallel();
+
+    @ConfigMapper
+    interface ParallelConfig {
+
+        /**
+         * @return Whether records of one poll are processed in parallel on virtual threads, records with the same key within a partition are still processed in order.
+         */
+        default boolean enabled() {
+            return false;
+        }
+
+        /**
+         * @return Maximum number of records processed concurrently within one partition, 0 means unlimited.
+         */
+        default int maxInFlightRecordsPerPartition() {
+            return 64;
+        }
+    }
+
+    /**
+     * @return Offset commit configuration for listeners that do not commit offsets on their own.
+     */
+    CommitConfig commit();
+
+    @ConfigMapper
+    interface CommitConfig {
+
+        /**
+         * @return Commit strategy: sync commits after every handled record or batch, async commits without waiting and falls back to a sync commit every syncInterval or after a failed async commit, periodic commits every records or interval whichever comes first. Listeners without group.id don't commit offsets and support only sync.
+         */
+        default CommitStrategy strategy() {
+            return CommitStrategy.sync;
+        }
+
+        /**
+         * @return Maximum time between sync commits for the async strategy.
+         */
+        default Duration syncInterval() {
+            return Duration.ofSeconds(5);
+        }
+
+        /**
+         * @return Number of handled records after which offsets are committed for the periodic strategy.
+         */
+        default int records() {
+            return 500;
+        }
+
+        /**
+         * @return Maximum time between commits for the periodic strategy.
+         */
+        default Duration interval() {
+            return Duration.ofSeconds(5);
+        }
+    }
+
+    enum CommitStrategy {
+        sync, async, periodic
+    }
+
     enum Offset {
         latest, earliest
     }
@@ -115,7 +179,9 @@ public interface KafkaListenerConfig {
             shutdownWait(),
             allowEmptyRecords(),
             initializationFailTimeout(),
-            telemetry()
+            telemetry(),
+            parallel(),
+            commit()
         );
     }
 }
@@ -18,12 +18,24 @@ public final class ConsumerWrapper<K, V> implements Consumer<K, V> {
     private final KafkaClientMetrics driverMetrics;
     private final Deserializer<K> keyDeserializer;
     private final Deserializer<V> valueDeserializer;
+    @Nullable
+    private final KafkaOffsetCommitter committer;
 
     public ConsumerWrapper(Consumer<byte[], byte[]> realConsumer, @Nullable KafkaClientMetrics driverMetrics, Deserializer<K> keyDeserializer, Deserializer<V> valueDeserializer) {
+        this(realConsumer, driverMetrics, keyDeserializer, valueDeserializer, null);
+    }
+
+    public ConsumerWrapper(Consumer<byte[], byte[]> realConsumer, @Nullable KafkaClientMetrics driverMetrics, Deserializer<K> keyDeserializer, Deserializer<V> valueDeserializer, @Nullable KafkaOffsetCommitter committer) {
         this.realConsumer = realConsumer;
         this.driverMetrics = driverMetrics;
         this.keyDeserializer = keyDeserializer;
         this.valueDeserializer = valueDeserializer;
+        this.committer = committer;
+    }
+
+    @Nullable
+    public KafkaOffsetCommitter committer() {
+        return this.committer;
     }
 
     @Override
@@ -69,6 +69,10 @@ public final class KafkaAssignConsumerContainer<K, V> implements GeneratedListen
         if (topics == null || topics.isEmpty()) {
             throw new IllegalArgumentException("@KafkaListener with assign strategy (when group.id is null) requires at least one topic to subscribe, but received: " + topics);
         }
+        if (config.commit().strategy() != KafkaListenerConfig.CommitStrategy.sync) {
+            // assigned partitions have no consumer group, so there is nothing to commit offsets to
+            throw new IllegalArgumentException("@KafkaListener with assign strategy (when group.id is null) does not commit offsets, so commit.strategy '" + config.commit().strategy() + "' is not supported");
+        }
         this.handler = Objects.requireNonNull(handler);
         this.backoffTimeout = new AtomicLong(config.backoffTimeout().toMillis());
         this.keyDeserializer = Objects.requireNonNull(keyDeserializer);
@@ -381,6 +385,16 @@ public final class KafkaAssignConsumerContainer<K, V> implements GeneratedListen
                         .log("KafkaListener failed completing graceful shutdown in {}", config.shutdownWait());
                 }
             }
+            if (handler instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.atWarn()
+                        .addKeyValue("listenerName", this.listenerConfig)
+                        .setCause(e)
+                        .log("KafkaListener failed closing records handler");
+                }
+            }
 
             logger.atInfo()
                 .addKeyValue("listenerName", this.listenerConfig)
@@ -0,0 +1,236 @@
+package io.koraframework.kafka.common.consumer.containers;
+
+import io.koraframework.kafka.common.consumer.$KafkaListenerConfig_CommitConfig_ConfigValueMapper;
+import io.koraframework.kafka.common.consumer.KafkaListenerConfig;
+import io.koraframework.kafka.common.consumer.telemetry.KafkaConsumerTelemetry;
+import io.koraframework.kafka.common.consumer.telemetry.impl.NoopKafkaConsumerTelemetry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.requests.OffsetFetchResponse;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Commits offsets of handled records according to {@link KafkaListenerConfig.CommitStrategy}.
+ * <p>
+ * One committer belongs to one consumer and is used only from its poll thread, async commit callbacks are invoked on the same thread by the consumer.
+ * Offsets that are handled but not committed yet are always committed synchronously on partition revocation and on consumer shutdown.
+ */
+public final class KafkaOffsetCommitter {
+
+    private static final KafkaListenerConfig.CommitConfig SYNC = new $KafkaListenerConfig_CommitConfig_ConfigValueMapper.CommitConfig_Defaults();
+
+    private final Consumer<?, ?> consumer;
+    private final KafkaListenerConfig.CommitConfig config;
+    private final KafkaConsumerTelemetry telemetry;
+    private final Map<TopicPartition, OffsetAndMetadata> pending = new HashMap<>();
+    private final Map<TopicPartition, Long> committed = new HashMap<>();
+    private boolean pendingAsync = false;
+    private boolean asyncFailed = false;
+    private int uncommittedRecords = 0;
+    private long lastSyncCommit = System.nanoTime();
+
+    public KafkaOffsetCommitter(Consumer<?, ?> consumer, KafkaListenerConfig.CommitConfig config, KafkaConsumerTelemetry telemetry) {
+        this.consumer = consumer;
+        this.config = config;
+        this.telemetry = telemetry;
+    }
+
+    /**
+     * @return committer of consumer created by container or a committer that commits synchronously for any other consumer
+     */
+    public static KafkaOffsetCommitter of(Consumer<?, ?> consumer) {
+        if (consumer instanceof ConsumerWrapper<?, ?> wrapper && wrapper.committer() != null) {
+            return wrapper.committer();
+        }
+        return new KafkaOffsetCommitter(consumer, SYNC, NoopKafkaConsumerTelemetry.INSTANCE);
+    }
+
+    /**
+     * Commits positions of all records returned by last poll.
+     */
+    public void commit(ConsumerRecords<?, ?> records) {
+        if (this.config.strategy() == KafkaListenerConfig.CommitStrategy.sync) {
+            this.commitSync(null);
+            return;
+        }
+        if (records.isEmpty()) {
+            this.maybeCommit();
+            return;
+        }
+
+        var offsets = new HashMap<TopicPartition, OffsetAndMetadata>(records.partitions().size());
+        for (var partition : records.partitions()) {
+            var partitionRecords = records.records(partition);
+            var first = partitionRecords.getFirst();
+            var last = partitionRecords.getLast();
+            this.trackUncommitted(partition, first.offset());
+            offsets.put(partition, new OffsetAndMetadata(last.offset() + 1, last.leaderEpoch(), OffsetFetchResponse.NO_METADATA));
+        }
+        this.commit(offsets, records.count());
+    }
+
+    /**
+     * @param offsets next offsets to consume for partitions, i.e. last handled record offset + 1
+     * @param records number of records handled since previous call
+     */
+    public void commit(Map<TopicPartition, OffsetAndMetadata> offsets, int records) {
+        if (this.config.strategy() == KafkaListenerConfig.CommitStrategy.sync) {
+            this.commitSync(offsets);
+            return;
+        }
+        for (var entry : offsets.entrySet()) {
+            // offset of first handled record is known only when records belong to a single partition, otherwise at least the last one is uncommitted
+            var handled = offsets.size() == 1 ? Math.max(records, 1) : 1;
+            this.trackUncommitted(entry.getKey(), entry.getValue().offset() - handled);
+            this.pending.put(entry.getKey(), entry.getValue());
+            this.telemetry.reportUncommittedOffsets(entry.getKey(), entry.getValue().offset() - this.committed.get(entry.getKey()));
+        }
+        this.pendingAsync = true;
+        this.uncommittedRecords += records;
+        this.maybeCommit();
+    }
+
+    /**
+     * Commits pending offsets if strategy demands, called by container after every poll so time based commits happen on idle topics too.
+     */
+    public void maybeCommit() {
+        if (this.pending.isEmpty()) {
+            return;
+        }
+        var sinceSync = System.nanoTime() - this.lastSyncCommit;
+        switch (this.config.strategy()) {
+            case sync -> this.commitPending();
+            case async -> {
+                if (this.asyncFailed || sinceSync >= this.config.syncInterval().toNanos()) {
+                    this.commitPending();
+                } else if (this.pendingAsync) {
+                    this.commitAsync();
+                }
+            }
+            case periodic -> {
+                if (this.uncommittedRecords >= this.config.records() || sinceSync >= this.config.interval().toNanos()) {
+                    this.commitPending();
+                }
+            }
+        }
+    }
+
+    /**
+     * Synchronously commits all handled offsets, used on consumer shutdown.
+     */
+    public void flush() {
+        if (!this.pending.isEmpty()) {
+            this.commitPending();
+        }
+    }
+
+    /**
+     * Synchronously commits all handled offsets before partitions are reassigned, so the next owner does not handle them again.
+     */
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        try {
+            this.flush();
+        } finally {
+            this.forget(partitions);
+        }
+    }
+
+    /**
+     * Partitions are already owned by another consumer, so their offsets can not be committed anymore.
+     */
+    public void onPartitionsLost(Collection<TopicPartition> partitions) {
+        this.forget(partitions);
+    }
+
+    /**
+     * Committed position of a partition is unknown until first commit, so it is taken as offset of the first handled record,
+     * the same baseline is used by both commit methods, so uncommitted offsets are reported as number of handled records
+     */
+    private void trackUncommitted(TopicPartition partition, long firstHandledOffset) {
+        this.committed.putIfAbsent(partition, firstHandledOffset);
+    }
+
+    private void forget(Collection<TopicPartition> partitions) {
+        for (var partition : partitions) {
+            this.pending.remove(partition);
+            if (this.committed.remove(partition) != null) {
+                this.telemetry.reportUncommittedOffsets(partition, 0);
+            }
+        }
+    }
+
+    private void commitPending() {
+        var offsets = Map.copyOf(this.pending);
+        this.commitSync(offsets);
+        this.lastSyncCommit = System.nanoTime();
+        this.asyncFailed = false;
+        this.pendingAsync = false;
+        this.uncommittedRecords = 0;
+        this.onCommitted(offsets);
+    }
+
+    private void commitSync(@Nullable Map<TopicPartition, OffsetAndMetadata> offsets) {
+        var started = System.nanoTime();
+        try {
+            try {
+                this.doCommitSync(offsets);
+            } catch (WakeupException e) {
+                // retry commit if thrown on consumer release
+                this.doCommitSync(offsets);
+                throw e;
+            }
+            this.telemetry.reportCommit(false, System.nanoTime() - started, null);
+        } catch (WakeupException e) {
+            this.telemetry.reportCommit(false, System.nanoTime() - started, null);
+            throw e;
+        } catch (RuntimeException e) {
+            this.telemetry.reportCommit(false, System.nanoTime() - started, e);
+            throw e;
+        }
+    }
+
+    private void doCommitSync(@Nullable Map<TopicPartition, OffsetAndMetadata> offsets) {
+        if (offsets == null) {
+            this.consumer.commitSync();
+        } else {
+            this.consumer.commitSync(offsets);
+        }
+    }
+
+    private void commitAsync() {
+        var started = System.nanoTime();
+        this.pendingAsync = false;
+        this.consumer.commitAsync(Map.copyOf(this.pending), (offsets, exception) -> {
+            this.telemetry.reportCommit(true, System.nanoTime() - started, exception);
+            if (exception != null) {
+                // async commits are not retried, newer offsets would be committed anyway, so next commit is done synchronously instead
+                this.asyncFailed = true;
+            } else {
+                this.onCommitted(offsets);
+            }
+        });
+    }
+
+    private void onCommitted(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        for (var entry : offsets.entrySet()) {
+            var partition = entry.getKey();
+            var offset = entry.getValue().offset();
+            var pendingOffset = this.pending.get(partition);
+            if (pendingOffset == null) {
+                continue;
+            }
+            if (pendingOffset.offset() <= offset) {
+                this.pending.remove(partition);
+            }
+            this.committed.put(partition, offset);
+            this.telemetry.reportUncommittedOffsets(partition, Math.max(0, pendingOffset.offset() - offset));
+        }
+    }
+}
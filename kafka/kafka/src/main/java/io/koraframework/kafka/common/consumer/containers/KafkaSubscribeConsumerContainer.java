@@ -91,6 +91,7 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements GeneratedLis
                 .addKeyValue("listenerName", this.listenerConfig)
                 .log("{} started in {}", listenerLogName, TimeUtils.tookForLogging(started));
 
+            var committer = KafkaOffsetCommitter.of(consumer);
             boolean isFirstPoll = true;
             KafkaConsumerPollObservation observation = null;
             while (isActive.get()) {
@@ -111,6 +112,7 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements GeneratedLis
                     }
 
                     handler.handle(observation, records, consumer, this.commitAllowed);
+                    committer.maybeCommit();
                     backoffTimeout.set(config.backoffTimeout().toMillis());
                 } catch (WakeupException ignore) {
                 } catch (Exception e) {
@@ -135,6 +137,13 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements GeneratedLis
                     break;
                 }
             }
+            try {
+                committer.flush();
+            } catch (Exception e) {
+                logger.atWarn()
+                    .addKeyValue("listenerName", this.listenerConfig)
+                    .log("{} failed to commit handled offsets on stop", listenerLogName, e);
+            }
         } catch (Exception e) {
             logger.atError()
                 .addKeyValue("listenerName", this.listenerConfig)
@@ -203,6 +212,16 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements GeneratedLis
                         .log("KafkaListener failed completing graceful shutdown in {}", config.shutdownWait());
                 }
             }
+            if (handler instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.atWarn()
+                        .addKeyValue("listenerName", this.listenerConfig)
+                        .setCause(e)
+                        .log("KafkaListener failed closing records handler");
+                }
+            }
 
             logger.atInfo()
                 .addKeyValue("listenerName", this.listenerConfig)
@@ -253,49 +272,37 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements GeneratedLis
 
     private Consumer<K, V> buildConsumer() {
         var consumer = new KafkaConsumer<>(this.config.driverProperties(), new ByteArrayDeserializer(), new ByteArrayDeserializer());
+        var committer = new KafkaOffsetCommitter(consumer, this.config.commit(), this.telemetry);
         try {
-            if (config.topicsPattern() != null) {
-                if (rebalanceListener != null) {
-                    consumer.subscribe(config.topicsPattern(), new ConsumerRebalanceListener() {
-                        @Override
-                        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
-                            rebalanceListener.onPartitionsRevoked(consumer, partitions);
-                        }
-
-                        @Override
-                        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
-                            rebalanceListener.onPartitionsAssigned(consumer, partitions);
-                        }
-
-                        @Override
-                        public void onPartitionsLost(Collection<TopicPartition> partitions) {
-                            rebalanceListener.onPartitionsLost(consumer, partitions);
-                        }
-                    });
-                } else {
-                    consumer.subscribe(config.topicsPattern());
+            var listener = new ConsumerRebalanceListener() {
+                @Override
+                public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                    // offsets handled so far must be committed while partitions are still owned
+                    committer.onPartitionsRevoked(partitions);
+                    if (rebalanceListener != null) {
+                        rebalanceListener.onPartitionsRevoked(consumer, partitions);
+                    }
                 }
-            } else if (config.topics() != null) {
-                if (rebalanceListener != null) {
-                    consumer.subscribe(config.topics(), new ConsumerRebalanceListener() {
-                        @Override
-                        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
-                            rebalanceListener.onPartitionsRevoked(consumer, partitions);
-                        }
 
-                        @Override
-                        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
-                            rebalanceListener.onPartitionsAssigned(consumer, partitions);
-                        }
+                @Override
+                public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+                    if (rebalanceListener != null) {
+                        rebalanceListener.onPartitionsAssigned(consumer, partitions);
+                    }
+                }
 
-                        @Override
-                        public void onPartitionsLost(Collection<TopicPartition> partitions) {
-                            rebalanceListener.onPartitionsLost(consumer, partitions);
-                        }
-                    });
-                } else {
-                    consumer.subscribe(config.topics());
+                @Override
+                public void onPartitionsLost(Collection<TopicPartition> partitions) {
+                    committer.onPartitionsLost(partitions);
+                    if (rebalanceListener != null) {
+                        rebalanceListener.onPartitionsLost(consumer, partitions);
+                    }
                 }
+            };
+            if (config.topicsPattern() != null) {
+                consumer.subscribe(config.topicsPattern(), listener);
+            } else if (config.topics() != null) {
+                consumer.subscribe(config.topics(), listener);
             }
         } catch (Exception e) {
             try {
@@ -312,6 +319,6 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements GeneratedLis
             driverMetrics = metrics;
         }
 
-        return new ConsumerWrapper<>(consumer, driverMetrics, keyDeserializer, valueDeserializer);
+        return new ConsumerWrapper<>(consumer, driverMetrics, keyDeserializer, valueDeserializer, committer);
     }
 }
@@ -0,0 +1,237 @@
+package io.koraframework.kafka.common.consumer.containers.handlers.impl;
+
+import io.koraframework.application.graph.ValueOf;
+import io.koraframework.common.telemetry.Observation;
+import io.koraframework.kafka.common.consumer.containers.KafkaOffsetCommitter;
+import io.koraframework.kafka.common.consumer.containers.handlers.BaseKafkaRecordsHandler;
+import io.koraframework.kafka.common.consumer.containers.handlers.KafkaRecordHandler;
+import io.koraframework.kafka.common.consumer.telemetry.KafkaConsumerPollObservation;
+import io.koraframework.kafka.common.exceptions.KafkaSkipRecordException;
+import io.koraframework.kafka.common.exceptions.SkippableRecordException;
+import io.koraframework.logging.common.MDC;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.requests.OffsetFetchResponse;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Handles records of one poll in parallel on virtual threads while keeping order of records with the same key within a partition.
+ * <p>
+ * Records of a partition are grouped by key, every group is processed sequentially and groups run concurrently up to the partition limit.
+ * The poll thread waits for the whole batch, so the consumer is never touched concurrently and rebalance happens only between batches.
+ * Offsets are committed per partition up to the first record that was not processed, so a failed record and everything after it is redelivered.
+ */
+public class KeyOrderedParallelRecordHandler<K, V> implements BaseKafkaRecordsHandler<K, V>, AutoCloseable {
+
+    private static final Object NULL_KEY = new Object();
+
+    private final ValueOf<KafkaRecordHandler<K, V>> handler;
+    private final boolean shouldCommit;
+    private final int maxInFlightRecordsPerPartition;
+    private final ExecutorService executor;
+
+    public KeyOrderedParallelRecordHandler(boolean shouldCommit, ValueOf<KafkaRecordHandler<K, V>> handler, int maxInFlightRecordsPerPartition) {
+        this.handler = handler;
+        this.shouldCommit = shouldCommit;
+        this.maxInFlightRecordsPerPartition = maxInFlightRecordsPerPartition <= 0 ? Integer.MAX_VALUE : maxInFlightRecordsPerPartition;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kafka-record-", 0).factory());
+    }
+
+    @Override
+    public void handle(KafkaConsumerPollObservation observation, ConsumerRecords<K, V> records, Consumer<K, V> consumer, boolean commitAllowed) {
+        if (records.isEmpty()) {
+            return;
+        }
+        var mdc = new MDC();
+        Observation.scoped(observation)
+            .where(MDC.VALUE, mdc)
+            .run(() -> {
+                observation.observeRecords(records);
+                try {
+                    var handler = this.handler.get();
+                    var failure = new AtomicReference<@Nullable Throwable>();
+                    var partitions = new ArrayList<PartitionBatch>(records.partitions().size());
+                    var partitionFutures = new ArrayList<Future<?>>(records.partitions().size());
+                    for (var partition : records.partitions()) {
+                        var batch = new PartitionBatch(partition, records.records(partition));
+                        partitions.add(batch);
+                        partitionFutures.add(this.executor.submit(() -> batch.process(observation, handler, consumer, mdc, failure)));
+                    }
+                    awaitAll(partitionFutures);
+
+                    if (this.shouldCommit && commitAllowed) {
+                        var offsets = new HashMap<TopicPartition, OffsetAndMetadata>(partitions.size());
+                        for (var batch : partitions) {
+                            var offset = batch.committableOffset();
+                            if (offset != null) {
+                                offsets.put(batch.partition, offset);
+                            }
+                        }
+                        if (!offsets.isEmpty()) {
+                            KafkaOffsetCommitter.of(consumer).commit(offsets, records.count());
+                        }
+                    }
+
+                    var error = failure.get();
+                    if (error != null) {
+                        if (error instanceof RuntimeException re) {
+                            throw re;
+                        }
+                        if (error instanceof Error e) {
+                            throw e;
+                        }
+                        throw new IllegalStateException(error);
+                    }
+                } catch (Exception e) {
+                    observation.observeError(e);
+                    throw e;
+                } finally {
+                    observation.end();
+                }
+            });
+    }
+
+    /**
+     * Stops the record executor, called by the container after the poll loop has finished, so no batch is in flight anymore
+     */
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        var interrupted = false;
+        for (var future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    // records already in flight must finish before offsets are committed or the batch is abandoned
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Object groupKey(@Nullable Object key) {
+        if (key == null) {
+            return NULL_KEY;
+        }
+        // arrays have identity equality, records with equal byte keys must still land in one group
+        if (key instanceof byte[] bytes) {
+            return ByteBuffer.wrap(bytes);
+        }
+        return key;
+    }
+
+    private final class PartitionBatch {
+
+        private final TopicPartition partition;
+        private final List<ConsumerRecord<K, V>> records;
+        private final boolean[] processed;
+
+        private PartitionBatch(TopicPartition partition, List<ConsumerRecord<K, V>> records) {
+            this.partition = partition;
+            this.records = records;
+            this.processed = new boolean[records.size()];
+        }
+
+        private void process(KafkaConsumerPollObservation observation, KafkaRecordHandler<K, V> handler, Consumer<K, V> consumer, MDC mdc, AtomicReference<@Nullable Throwable> failure) {
+            var groups = new LinkedHashMap<Object, List<Integer>>();
+            for (int i = 0; i < this.records.size(); i++) {
+                groups.computeIfAbsent(groupKey(this.records.get(i).key()), _ -> new ArrayList<>()).add(i);
+            }
+
+            var permits = new Semaphore(Math.min(maxInFlightRecordsPerPartition, groups.size()));
+            var futures = new ArrayList<Future<?>>(groups.size());
+            try {
+                for (var group : groups.values()) {
+                    permits.acquire();
+                    if (failure.get() != null) {
+                        permits.release();
+                        break;
+                    }
+                    futures.add(executor.submit(() -> {
+                        try {
+                            for (var index : group) {
+                                if (failure.get() != null) {
+                                    return;
+                                }
+                                if (!this.processRecord(observation, handler, consumer, mdc, this.records.get(index), failure)) {
+                                    return;
+                                }
+                                this.processed[index] = true;
+                            }
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                }
+            } catch (InterruptedException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                awaitAll(futures);
+            }
+        }
+
+        private boolean processRecord(KafkaConsumerPollObservation observation, KafkaRecordHandler<K, V> handler, Consumer<K, V> consumer, MDC mdc, ConsumerRecord<K, V> record, AtomicReference<@Nullable Throwable> failure) {
+            var recordObservation = observation.observeRecord(record);
+            return Observation.scoped(recordObservation)
+                .where(MDC.VALUE, mdc.fork())
+                .call(() -> {
+                    try {
+                        recordObservation.observeHandle();
+                        handler.handle(consumer, recordObservation, record);
+                        return true;
+                    } catch (Throwable e) {
+                        recordObservation.observeError(e);
+                        if (e instanceof KafkaSkipRecordException || e instanceof SkippableRecordException) {
+                            return true;
+                        }
+                        failure.compareAndSet(null, e);
+                        return false;
+                    } finally {
+                        recordObservation.end();
+                    }
+                });
+        }
+
+        @Nullable
+        private OffsetAndMetadata committableOffset() {
+            ConsumerRecord<K, V> last = null;
+            for (int i = 0; i < this.records.size() && this.processed[i]; i++) {
+                last = this.records.get(i);
+            }
+            if (last == null) {
+                return null;
+            }
+            /*
+             * The committed offset should be the next message your application will consume, i.e. lastProcessedMessageOffset + 1
+             * @see org.apache.kafka.clients.consumer.KafkaConsumer#commitSync(Map)
+             */
+            return new OffsetAndMetadata(last.offset() + 1, last.leaderEpoch(), OffsetFetchResponse.NO_METADATA);
+        }
+    }
+}
@@ -4,10 +4,10 @@ import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
-import org.apache.kafka.common.errors.WakeupException;
 import org.apache.kafka.common.requests.OffsetFetchResponse;
 import io.koraframework.application.graph.ValueOf;
 import io.koraframework.common.telemetry.Observation;
+import io.koraframework.kafka.common.consumer.containers.KafkaOffsetCommitter;
 import io.koraframework.kafka.common.consumer.containers.handlers.BaseKafkaRecordsHandler;
 import io.koraframework.kafka.common.consumer.containers.handlers.KafkaRecordHandler;
 import io.koraframework.kafka.common.consumer.telemetry.KafkaConsumerPollObservation;
@@ -38,6 +38,7 @@ public class RecordHandler<K, V> implements BaseKafkaRecordsHandler<K, V> {
                 observation.observeRecords(records);
                 try {
                     var handler = this.handler.get();
+                    var committer = KafkaOffsetCommitter.of(consumer);
                     for (var record : records) {
                         var recordObservation = observation.observeRecord(record);
                         Observation.scoped(recordObservation)
@@ -62,12 +63,7 @@ public class RecordHandler<K, V> implements BaseKafkaRecordsHandler<K, V> {
                                             new OffsetAndMetadata(record.offset() + 1, record.leaderEpoch(), OffsetFetchResponse.NO_METADATA));
 
                                         try {
-                                            consumer.commitSync(topicAndOffsetAndMeta);
-                                        } catch (WakeupException e) {
-                                            // retry commit if thrown on consumer release
-                                            recordObservation.observeError(e);
-                                            consumer.commitSync(topicAndOffsetAndMeta);
-                                            throw e;
+                                            committer.commit(topicAndOffsetAndMeta, 1);
                                         } catch (Exception e) {
                                             recordObservation.observeError(e);
                                             throw e;
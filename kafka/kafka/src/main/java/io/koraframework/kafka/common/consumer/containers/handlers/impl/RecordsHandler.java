@@ -3,10 +3,10 @@ package io.koraframework.kafka.common.consumer.containers.handlers.impl;
 import io.opentelemetry.context.Context;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
-import org.apache.kafka.common.errors.WakeupException;
 import io.koraframework.application.graph.ValueOf;
 import io.koraframework.common.telemetry.Observation;
 import io.koraframework.common.telemetry.OpentelemetryContext;
+import io.koraframework.kafka.common.consumer.containers.KafkaOffsetCommitter;
 import io.koraframework.kafka.common.consumer.containers.handlers.BaseKafkaRecordsHandler;
 import io.koraframework.kafka.common.consumer.containers.handlers.KafkaRecordsHandler;
 import io.koraframework.kafka.common.consumer.telemetry.KafkaConsumerPollObservation;
@@ -40,12 +40,7 @@ public class RecordsHandler<K, V> implements BaseKafkaRecordsHandler<K, V> {
                     var handler = this.handler.get();
                     handler.handle(consumer, observation, records);
                     if (this.shouldCommit && commitAllowed) {
-                        try {
-                            consumer.commitSync();
-                        } catch (WakeupException e) {
-                            // retry commit if thrown on consumer release
-                            consumer.commitSync();
-                        }
+                        KafkaOffsetCommitter.of(consumer).commit(records);
                     }
                 } catch (Throwable e) {
                     observation.observeError(e);
@@ -1,9 +1,11 @@
 package io.koraframework.kafka.common.consumer.containers.handlers.wrapper;
 
 import io.koraframework.application.graph.ValueOf;
+import io.koraframework.kafka.common.consumer.KafkaListenerConfig;
 import io.koraframework.kafka.common.consumer.containers.handlers.BaseKafkaRecordsHandler;
 import io.koraframework.kafka.common.consumer.containers.handlers.KafkaRecordHandler;
 import io.koraframework.kafka.common.consumer.containers.handlers.KafkaRecordsHandler;
+import io.koraframework.kafka.common.consumer.containers.handlers.impl.KeyOrderedParallelRecordHandler;
 import io.koraframework.kafka.common.consumer.containers.handlers.impl.RecordHandler;
 import io.koraframework.kafka.common.consumer.containers.handlers.impl.RecordsHandler;
 
@@ -15,6 +17,14 @@ public final class HandlerWrapper {
         return new RecordHandler<>(shouldCommit, handler);
     }
 
+    public static <K, V> BaseKafkaRecordsHandler<K, V> wrapHandlerRecord(boolean shouldCommit, ValueOf<KafkaRecordHandler<K, V>> handler, KafkaListenerConfig config) {
+        // listener that receives Consumer commits on its own and Consumer is not thread safe, so such listeners stay sequential
+        if (shouldCommit && config.parallel().enabled()) {
+            return new KeyOrderedParallelRecordHandler<>(true, handler, config.parallel().maxInFlightRecordsPerPartition());
+        }
+        return new RecordHandler<>(shouldCommit, handler);
+    }
+
     public static <K, V> BaseKafkaRecordsHandler<K, V> wrapHandlerRecords(boolean shouldCommit, ValueOf<KafkaRecordsHandler<K, V>> handler, boolean allowEmptyRecords) {
         return new RecordsHandler<>(shouldCommit, handler, allowEmptyRecords);
     }
@@ -2,6 +2,7 @@ package io.koraframework.kafka.common.consumer.telemetry;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.common.TopicPartition;
+import org.jspecify.annotations.Nullable;
 
 public interface KafkaConsumerTelemetry {
     MeterRegistry meterRegistry();
@@ -9,4 +10,17 @@ public interface KafkaConsumerTelemetry {
     KafkaConsumerPollObservation observePoll();
 
     void reportLag(TopicPartition partition, long lag);
+
+    /**
+     * @param async          whether commit was asynchronous, for async commits duration is measured until callback is invoked
+     * @param tookInNanos    commit duration
+     * @param error          commit error if commit failed
+     */
+    default void reportCommit(boolean async, long tookInNanos, @Nullable Throwable error) {}
+
+    /**
+     * @param partition   partition with handled records
+     * @param uncommitted number of handled records which offsets are not committed yet
+     */
+    default void reportUncommittedOffsets(TopicPartition partition, long uncommitted) {}
 }
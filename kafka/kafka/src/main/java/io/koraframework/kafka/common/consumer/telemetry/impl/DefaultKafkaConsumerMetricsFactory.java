@@ -55,9 +55,20 @@ public class DefaultKafkaConsumerMetricsFactory {
             }
         }
 
+        public record CommitKey(boolean async,
+                                @Nullable Class<? extends Throwable> errorType,
+                                @Nullable Tags extraTags) {
+
+            public CommitKey withExtraTags(Tags tags) {
+                return new CommitKey(async, errorType, tags);
+            }
+        }
+
         protected final Map<RecordsKey, Timer> batchDurationCache = new ConcurrentHashMap<>();
         protected final Map<RecordKey, Timer> recordDurationCache = new ConcurrentHashMap<>();
         protected final Map<LagKey, AtomicLong> lagGaugeCache = new ConcurrentHashMap<>();
+        protected final Map<CommitKey, Timer> commitDurationCache = new ConcurrentHashMap<>();
+        protected final Map<LagKey, AtomicLong> uncommittedGaugeCache = new ConcurrentHashMap<>();
 
         protected final DefaultKafkaConsumerTelemetry.TelemetryContext context;
 
@@ -104,6 +115,27 @@ public class DefaultKafkaConsumerMetricsFactory {
             lagCounter.set(lag);
         }
 
+        public void reportCommitTook(boolean async, long tookInNanos, @Nullable Throwable error) {
+            var key = createMetricCommitDurationKey(async, error);
+            var meter = this.commitDurationCache.computeIfAbsent(key, _ -> {
+                var builder = createMetricCommitDuration(key);
+                return builder.register(context.meterRegistry());
+            });
+
+            meter.record(tookInNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void reportUncommittedOffsets(TopicPartition partition, long uncommitted) {
+            var key = createMetricLagKey(partition);
+            var counter = this.uncommittedGaugeCache.computeIfAbsent(key, _ -> {
+                var value = new AtomicLong();
+                var builder = createMetricUncommittedOffsets(key, partition, value);
+                builder.register(context.meterRegistry());
+                return value;
+            });
+            counter.set(uncommitted);
+        }
+
         protected RecordsKey createMetricRecordsDurationKey(ConsumerRecords<?, ?> records,
                                                             @Nullable Throwable error) {
             if (error instanceof CompletionException ce && ce.getCause() != null) {
@@ -122,6 +154,11 @@ public class DefaultKafkaConsumerMetricsFactory {
             return new RecordKey(record.topic(), record.partition(), errorType, null);
         }
 
+        protected CommitKey createMetricCommitDurationKey(boolean async, @Nullable Throwable error) {
+            var errorType = error == null ? null : error.getClass();
+            return new CommitKey(async, errorType, null);
+        }
+
         protected LagKey createMetricLagKey(TopicPartition partition) {
             return new LagKey(partition.topic(), partition.partition(), null);
         }
@@ -231,5 +268,72 @@ public class DefaultKafkaConsumerMetricsFactory {
             return Gauge.builder("messaging.kafka.consumer.lag", counter, AtomicLong::get)
                 .tags(Tags.of(tags));
         }
+
+        // DO NOT ADD DYNAMIC TAGS IN BUILDER, use metric key instead of metric collision will happen
+        protected Timer.Builder createMetricCommitDuration(CommitKey metricKey) {
+            var extraTags = 0;
+            if (metricKey.extraTags != null) {
+                for (Tag _ : metricKey.extraTags) {
+                    extraTags++;
+                }
+            }
+            var errorValue = metricKey.errorType == null ? "" : metricKey.errorType.getCanonicalName();
+
+            var tags = new ArrayList<Tag>(8 + context.config().metrics().tags().size() + extraTags);
+            tags.add(Tag.of(MessagingIncubatingAttributes.MESSAGING_SYSTEM.getKey(), MessagingIncubatingAttributes.MessagingSystemIncubatingValues.KAFKA));
+            tags.add(Tag.of(MessagingIncubatingAttributes.MESSAGING_CLIENT_ID.getKey(), context.clientId()));
+            tags.add(Tag.of(MessagingIncubatingAttributes.MESSAGING_CONSUMER_GROUP_NAME.getKey(), context.groupId()));
+            tags.add(Tag.of(DefaultKafkaConsumerTelemetry.SYSTEM_CONFIG_PATH, context.listenerConfig()));
+            tags.add(Tag.of(DefaultKafkaConsumerTelemetry.SYSTEM_NAME_SIMPLE, context.listenerSimpleName()));
+            tags.add(Tag.of(DefaultKafkaConsumerTelemetry.SYSTEM_NAME_CANONICAL, context.listenerCanonicalName()));
+            for (var e : context.config().metrics().tags().entrySet()) {
+                tags.add(Tag.of(e.getKey(), e.getValue()));
+            }
+
+            // dynamic tags from cache key
+            tags.add(Tag.of(ErrorAttributes.ERROR_TYPE.getKey(), errorValue));
+            tags.add(Tag.of("messaging.kafka.commit.async", String.valueOf(metricKey.async())));
+            if (metricKey.extraTags != null) {
+                for (Tag extraTag : metricKey.extraTags) {
+                    tags.add(extraTag);
+                }
+            }
+
+            return Timer.builder("messaging.kafka.consumer.commit.duration")
+                .serviceLevelObjectives(context.config().metrics().slo())
+                .tags(Tags.of(tags));
+        }
+
+        // DO NOT ADD DYNAMIC TAGS IN BUILDER, use metric key instead of metric collision will happen
+        protected Gauge.Builder<AtomicLong> createMetricUncommittedOffsets(LagKey metricKey, TopicPartition partition, AtomicLong counter) {
+            var extraTags = 0;
+            if (metricKey.extraTags != null) {
+                for (Tag _ : metricKey.extraTags) {
+                    extraTags++;
+                }
+            }
+            var tags = new ArrayList<Tag>(8 + context.config().metrics().tags().size() + extraTags);
+            tags.add(Tag.of(MessagingIncubatingAttributes.MESSAGING_SYSTEM.getKey(), MessagingIncubatingAttributes.MessagingSystemIncubatingValues.KAFKA));
+            tags.add(Tag.of(MessagingIncubatingAttributes.MESSAGING_CLIENT_ID.getKey(), context.clientId()));
+            tags.add(Tag.of(MessagingIncubatingAttributes.MESSAGING_CONSUMER_GROUP_NAME.getKey(), context.groupId()));
+            tags.add(Tag.of(DefaultKafkaConsumerTelemetry.SYSTEM_CONFIG_PATH, context.listenerConfig()));
+            tags.add(Tag.of(DefaultKafkaConsumerTelemetry.SYSTEM_NAME_SIMPLE, context.listenerSimpleName()));
+            tags.add(Tag.of(DefaultKafkaConsumerTelemetry.SYSTEM_NAME_CANONICAL, context.listenerCanonicalName()));
+            for (var e : context.config().metrics().tags().entrySet()) {
+                tags.add(Tag.of(e.getKey(), e.getValue()));
+            }
+
+            // dynamic tags from cache key
+            tags.add(Tag.of(MessagingIncubatingAttributes.MESSAGING_DESTINATION_NAME.getKey(), metricKey.topic()));
+            tags.add(Tag.of(MessagingIncubatingAttributes.MESSAGING_DESTINATION_PARTITION_ID.getKey(), String.valueOf(metricKey.partition())));
+            if (metricKey.extraTags != null) {
+                for (Tag extraTag : metricKey.extraTags) {
+                    tags.add(extraTag);
+                }
+            }
+
+            return Gauge.builder("messaging.kafka.consumer.uncommitted_offsets", counter, AtomicLong::get)
+                .tags(Tags.of(tags));
+        }
     }
 }
@@ -10,6 +10,7 @@ import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.semconv.incubating.MessagingIncubatingAttributes;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.TopicPartition;
+import org.jspecify.annotations.Nullable;
 
 import java.util.Properties;
 
@@ -92,6 +93,16 @@ public class DefaultKafkaConsumerTelemetry implements KafkaConsumerTelemetry {
         this.metrics.reportTopicLag(partition, lag);
     }
 
+    @Override
+    public void reportCommit(boolean async, long tookInNanos, @Nullable Throwable error) {
+        this.metrics.reportCommitTook(async, tookInNanos, error);
+    }
+
+    @Override
+    public void reportUncommittedOffsets(TopicPartition partition, long uncommitted) {
+        this.metrics.reportUncommittedOffsets(partition, uncommitted);
+    }
+
     protected SpanBuilder createSpanPoll() {
         var span = context.tracer().spanBuilder("kafka.poll")
             .setSpanKind(SpanKind.CONSUMER)
@@ -27,6 +27,16 @@ public final class NoopKafkaConsumerMetricsFactory extends DefaultKafkaConsumerM
         public void reportTopicLag(TopicPartition partition, long lag) {
             // do nothing
         }
+
+        @Override
+        public void reportCommitTook(boolean async, long tookInNanos, @Nullable Throwable error) {
+            // do nothing
+        }
+
+        @Override
+        public void reportUncommittedOffsets(TopicPartition partition, long uncommitted) {
+            // do nothing
+        }
     };
 
     @Override
@@ -3,15 +3,22 @@ package io.koraframework.kafka.common.producer;
 import io.koraframework.common.util.TimeUtils;
 import io.koraframework.kafka.common.producer.telemetry.KafkaPublisherTelemetry;
 import io.koraframework.kafka.common.producer.telemetry.KafkaPublisherTelemetryConfig;
+import io.koraframework.common.telemetry.Observation;
 import io.micrometer.core.instrument.binder.kafka.KafkaClientMetrics;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.helpers.NOPLogger;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class AbstractPublisher implements GeneratedPublisher {
 
@@ -46,6 +53,60 @@ public abstract class AbstractPublisher implements GeneratedPublisher {
         return this.telemetry;
     }
 
+    /**
+     * Sends records back to back, so they are accumulated by the producer into as few requests as its batch.size and linger.ms allow.
+     * The whole batch is observed by single observation instead of observation per record.
+     *
+     * @param records records to send
+     * @return futures of records in the same order as records, record failing synchronously gets already failed future
+     */
+    public List<CompletableFuture<RecordMetadata>> sendBatch(List<ProducerRecord<byte[], byte[]>> records) {
+        var futures = new ArrayList<CompletableFuture<RecordMetadata>>(records.size());
+        if (records.isEmpty()) {
+            return futures;
+        }
+        var delegate = this.delegate;
+        if (delegate == null) {
+            throw new IllegalStateException("Kafka publisher '%s' is not started".formatted(this.publisherConfig));
+        }
+        var observation = this.telemetry.observeBatch(records.size());
+        Observation.scoped(observation).run(() -> {
+            for (var record : records) {
+                var future = new CompletableFuture<RecordMetadata>();
+                futures.add(future);
+                try {
+                    observation.observeRecord(record);
+                    delegate.send(record, (metadata, exception) -> {
+                        observation.onCompletion(metadata, exception);
+                        if (exception != null) {
+                            future.completeExceptionally(exception);
+                        } else {
+                            future.complete(metadata);
+                        }
+                    });
+                } catch (Exception e) {
+                    // record was not accepted by the producer, callback will never be invoked for it
+                    observation.onCompletion(null, e);
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        return futures;
+    }
+
+    /**
+     * Serializes and sends records as {@link #sendBatch(List)} does.
+     */
+    public <K, V> List<CompletableFuture<RecordMetadata>> sendBatch(List<ProducerRecord<K, V>> records, Serializer<K> keySerializer, Serializer<V> valueSerializer) {
+        var serialized = new ArrayList<ProducerRecord<byte[], byte[]>>(records.size());
+        for (var record : records) {
+            var key = keySerializer.serialize(record.topic(), record.headers(), record.key());
+            var value = valueSerializer.serialize(record.topic(), record.headers(), record.value());
+            serialized.add(new ProducerRecord<>(record.topic(), record.partition(), record.timestamp(), key, value, record.headers()));
+        }
+        return this.sendBatch(serialized);
+    }
+
     @Override
     public void init() throws Exception {
         if (this.delegate != null) {
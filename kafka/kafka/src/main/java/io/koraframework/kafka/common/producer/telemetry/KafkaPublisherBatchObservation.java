@@ -0,0 +1,14 @@
+package io.koraframework.kafka.common.producer.telemetry;
+
+import io.koraframework.common.telemetry.Observation;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.ProducerRecord;
+
+/**
+ * Observation of a whole batch of records sent together, used instead of {@link KafkaPublisherRecordObservation} per record.
+ * Observation is {@link Callback} of every record in the batch and ends by itself when all records are completed.
+ */
+public interface KafkaPublisherBatchObservation extends Callback, Observation {
+
+    void observeRecord(ProducerRecord<byte[], byte[]> record);
+}
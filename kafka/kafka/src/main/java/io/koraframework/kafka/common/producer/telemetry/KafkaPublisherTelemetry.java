@@ -1,5 +1,6 @@
 package io.koraframework.kafka.common.producer.telemetry;
 
+import io.koraframework.kafka.common.producer.telemetry.impl.NoopKafkaPublisherBatchObservation;
 import io.micrometer.core.instrument.MeterRegistry;
 
 public interface KafkaPublisherTelemetry {
@@ -9,4 +10,12 @@ public interface KafkaPublisherTelemetry {
     KafkaPublisherTransactionObservation observeTx();
 
     KafkaPublisherRecordObservation observeSend(String topic);
+
+    /**
+     * @param records number of records in batch
+     * @return single observation for all records of the batch
+     */
+    default KafkaPublisherBatchObservation observeBatch(int records) {
+        return NoopKafkaPublisherBatchObservation.INSTANCE;
+    }
 }
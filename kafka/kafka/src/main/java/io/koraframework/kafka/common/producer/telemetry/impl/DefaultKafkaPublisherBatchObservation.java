@@ -0,0 +1,93 @@
+package io.koraframework.kafka.common.producer.telemetry.impl;
+
+import io.koraframework.kafka.common.producer.telemetry.KafkaPublisherBatchObservation;
+import io.koraframework.kafka.common.producer.telemetry.impl.DefaultKafkaPublisherMetricsFactory.DefaultKafkaPublisherMetrics;
+import io.koraframework.kafka.common.producer.telemetry.impl.DefaultKafkaPublisherTelemetry.TelemetryContext;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DefaultKafkaPublisherBatchObservation implements KafkaPublisherBatchObservation {
+
+    protected final long startedBatchSend = System.nanoTime();
+
+    protected final TelemetryContext context;
+    protected final DefaultKafkaPublisherLoggerFactory.DefaultKafkaPublisherLogger logger;
+    protected final DefaultKafkaPublisherMetrics metrics;
+    protected final Span span;
+    protected final AtomicInteger remaining;
+    protected final Map<String, Integer> sentByTopic = new ConcurrentHashMap<>();
+
+    @Nullable
+    protected volatile Throwable error;
+
+    public DefaultKafkaPublisherBatchObservation(TelemetryContext context,
+                                                 DefaultKafkaPublisherLoggerFactory.DefaultKafkaPublisherLogger logger,
+                                                 DefaultKafkaPublisherMetrics metrics,
+                                                 int records,
+                                                 Span span) {
+        this.context = context;
+        this.logger = logger;
+        this.metrics = metrics;
+        this.span = span;
+        this.remaining = new AtomicInteger(records);
+    }
+
+    @Override
+    public Span span() {
+        return this.span;
+    }
+
+    @Override
+    public void observeRecord(ProducerRecord<byte[], byte[]> record) {
+        // end can run on a producer callback thread, so counts are merged into a concurrent map
+        this.sentByTopic.merge(record.topic(), 1, Integer::sum);
+        W3CTraceContextPropagator.getInstance().inject(Context.root().with(span), record, ProducerRecordTextMapSetter.INSTANCE);
+    }
+
+    @Override
+    public void onCompletion(@Nullable RecordMetadata metadata, @Nullable Exception exception) {
+        if (exception != null && this.error == null) {
+            this.observeError(exception);
+        }
+        if (this.remaining.decrementAndGet() == 0) {
+            this.end();
+        }
+    }
+
+    @Override
+    public void observeError(Throwable e) {
+        this.error = e;
+        this.span.recordException(e);
+        this.span.setStatus(StatusCode.ERROR);
+    }
+
+    @Override
+    public void end() {
+        var error = this.error;
+        this.metrics.reportBatchTook(this.sentByTopic, error, this.startedBatchSend);
+        if (error == null) {
+            this.span.setStatus(StatusCode.OK);
+        }
+        this.span.end();
+    }
+
+    private enum ProducerRecordTextMapSetter implements TextMapSetter<ProducerRecord<?, ?>> {
+        INSTANCE;
+
+        @Override
+        public void set(ProducerRecord<?, ?> carrier, String key, String value) {
+            carrier.headers().add(key, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
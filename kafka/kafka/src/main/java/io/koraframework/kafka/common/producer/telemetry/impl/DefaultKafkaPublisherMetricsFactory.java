@@ -36,7 +36,16 @@ public class DefaultKafkaPublisherMetricsFactory {
             }
         }
 
+        public record BatchKey(@Nullable Class<? extends Throwable> errorType,
+                               @Nullable Tags extraTags) {
+
+            public BatchKey withExtraTags(Tags tags) {
+                return new BatchKey(errorType, tags);
+            }
+        }
+
         protected final Map<RecordKey, Timer> recordDurationCache = new ConcurrentHashMap<>();
+        protected final Map<BatchKey, Timer> batchDurationCache = new ConcurrentHashMap<>();
         protected final Map<RecordKey, Counter> sentMessagesCache = new ConcurrentHashMap<>();
 
         protected final DefaultKafkaPublisherTelemetry.TelemetryContext context;
@@ -68,6 +77,39 @@ public class DefaultKafkaPublisherMetricsFactory {
             counterMeter.increment();
         }
 
+        /**
+         * @param sentByTopic number of records in batch per topic
+         */
+        public void reportBatchTook(Map<String, Integer> sentByTopic,
+                                    @Nullable Throwable error,
+                                    long startedBatchInNanos) {
+            var took = System.nanoTime() - startedBatchInNanos;
+
+            var key = createMetricBatchKey(error);
+            var durationMeter = this.batchDurationCache.computeIfAbsent(key, _ -> {
+                var builder = createMetricBatchDuration(key);
+                return builder.register(context.meterRegistry());
+            });
+            durationMeter.record(took, TimeUnit.NANOSECONDS);
+
+            for (var entry : sentByTopic.entrySet()) {
+                var recordKey = new RecordKey(entry.getKey(), null, key.errorType(), null);
+                var counterMeter = this.sentMessagesCache.computeIfAbsent(recordKey, _ -> {
+                    var builder = createMetricRecordSentCounter(recordKey, entry.getKey(), null, null, null, null, error);
+                    return builder.register(context.meterRegistry());
+                });
+                counterMeter.increment(entry.getValue());
+            }
+        }
+
+        protected BatchKey createMetricBatchKey(@Nullable Throwable error) {
+            if (error instanceof CompletionException ce && ce.getCause() != null) {
+                error = ce.getCause();
+            }
+            var errorType = error == null ? null : error.getClass();
+            return new BatchKey(errorType, null);
+        }
+
         protected RecordKey createMetricRecordKey(String topic,
                                                   @Nullable Object key,
                                                   Object value,
@@ -166,5 +208,39 @@ public class DefaultKafkaPublisherMetricsFactory {
             return Counter.builder("messaging.client.sent.messages")
                 .tags(Tags.of(tags));
         }
+
+        // DO NOT ADD DYNAMIC TAGS IN BUILDER, use metric key instead of metric collision will happen
+        protected Timer.Builder createMetricBatchDuration(BatchKey metricKey) {
+            var extraTags = 0;
+            if (metricKey.extraTags != null) {
+                for (Tag _ : metricKey.extraTags) {
+                    extraTags++;
+                }
+            }
+            var errorValue = metricKey.errorType == null ? "" : metricKey.errorType.getCanonicalName();
+
+            var tags = new ArrayList<Tag>(7 + context.config().metrics().tags().size() + extraTags);
+            tags.add(Tag.of(MessagingIncubatingAttributes.MESSAGING_SYSTEM.getKey(), MessagingIncubatingAttributes.MessagingSystemIncubatingValues.KAFKA));
+            tags.add(Tag.of(MessagingIncubatingAttributes.MESSAGING_CLIENT_ID.getKey(), context.clientId()));
+            tags.add(Tag.of(MessagingIncubatingAttributes.MESSAGING_OPERATION_TYPE.getKey(), MessagingIncubatingAttributes.MessagingOperationTypeIncubatingValues.SEND));
+            tags.add(Tag.of(DefaultKafkaPublisherTelemetry.SYSTEM_CONFIG_PATH, context.publisherConfig()));
+            tags.add(Tag.of(DefaultKafkaPublisherTelemetry.SYSTEM_NAME_SIMPLE, context.publisherSimpleName()));
+            tags.add(Tag.of(DefaultKafkaPublisherTelemetry.SYSTEM_NAME_CANONICAL, context.publisherCanonicalName()));
+            for (var e : context.config().metrics().tags().entrySet()) {
+                tags.add(Tag.of(e.getKey(), e.getValue()));
+            }
+
+            // dynamic tags from cache key
+            tags.add(Tag.of(ErrorAttributes.ERROR_TYPE.getKey(), errorValue));
+            if (metricKey.extraTags != null) {
+                for (Tag extraTag : metricKey.extraTags) {
+                    tags.add(extraTag);
+                }
+            }
+
+            return Timer.builder("messaging.client.batch.duration")
+                .serviceLevelObjectives(context.config().metrics().slo())
+                .tags(Tags.of(tags));
+        }
     }
 }
@@ -91,6 +91,14 @@ public class DefaultKafkaPublisherTelemetry implements KafkaPublisherTelemetry {
         return new DefaultKafkaPublisherRecordObservation(context, logger, metrics, topic, span);
     }
 
+    @Override
+    public KafkaPublisherBatchObservation observeBatch(int records) {
+        var span = this.context.isTracingEnabled()
+            ? createBatchSpan(records).startSpan()
+            : Span.getInvalid();
+        return new DefaultKafkaPublisherBatchObservation(context, logger, metrics, records, span);
+    }
+
     protected SpanBuilder createSendSpan(String topic) {
         var b = this.context.tracer().spanBuilder(topic + " send")
             .setSpanKind(SpanKind.PRODUCER)
@@ -107,6 +115,22 @@ public class DefaultKafkaPublisherTelemetry implements KafkaPublisherTelemetry {
         return b;
     }
 
+    protected SpanBuilder createBatchSpan(int records) {
+        var b = this.context.tracer().spanBuilder("batch send")
+            .setSpanKind(SpanKind.PRODUCER)
+            .setAttribute(MessagingIncubatingAttributes.MESSAGING_SYSTEM, MessagingSystemIncubatingValues.KAFKA)
+            .setAttribute(MessagingIncubatingAttributes.MESSAGING_OPERATION_TYPE, MessagingIncubatingAttributes.MessagingOperationTypeIncubatingValues.SEND)
+            .setAttribute(MessagingIncubatingAttributes.MESSAGING_BATCH_MESSAGE_COUNT, (long) records)
+            .setAttribute(SYSTEM_CONFIG_PATH, context.publisherConfig())
+            .setAttribute(SYSTEM_NAME_SIMPLE, context.publisherSimpleName())
+            .setAttribute(SYSTEM_NAME_CANONICAL, context.publisherCanonicalName());
+        for (var entry : this.context.config().tracing().attributes().entrySet()) {
+            b.setAttribute(entry.getKey(), entry.getValue());
+        }
+
+        return b;
+    }
+
     protected SpanBuilder createTxSpan() {
         var b = this.context.tracer().spanBuilder("producer transaction")
             .setSpanKind(SpanKind.INTERNAL)
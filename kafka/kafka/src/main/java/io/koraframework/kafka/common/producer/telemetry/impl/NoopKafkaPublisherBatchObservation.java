@@ -0,0 +1,37 @@
+package io.koraframework.kafka.common.producer.telemetry.impl;
+
+import io.koraframework.kafka.common.producer.telemetry.KafkaPublisherBatchObservation;
+import io.opentelemetry.api.trace.Span;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.jspecify.annotations.Nullable;
+
+public final class NoopKafkaPublisherBatchObservation implements KafkaPublisherBatchObservation {
+
+    public static final NoopKafkaPublisherBatchObservation INSTANCE = new NoopKafkaPublisherBatchObservation();
+
+    private NoopKafkaPublisherBatchObservation() {}
+
+    @Override
+    public void onCompletion(@Nullable RecordMetadata metadata, @Nullable Exception exception) {}
+
+    @Override
+    public Span span() {
+        return Span.getInvalid();
+    }
+
+    @Override
+    public void end() {
+
+    }
+
+    @Override
+    public void observeError(Throwable e) {
+
+    }
+
+    @Override
+    public void observeRecord(ProducerRecord<byte[], byte[]> record) {
+
+    }
+}
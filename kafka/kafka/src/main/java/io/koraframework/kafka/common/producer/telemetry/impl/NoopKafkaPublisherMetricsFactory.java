@@ -4,6 +4,8 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Map;
+
 public final class NoopKafkaPublisherMetricsFactory extends DefaultKafkaPublisherMetricsFactory {
 
     public static final NoopKafkaPublisherMetricsFactory INSTANCE = new NoopKafkaPublisherMetricsFactory();
@@ -16,6 +18,11 @@ public final class NoopKafkaPublisherMetricsFactory extends DefaultKafkaPublishe
         public void reportHandleRecordTook(String topic, @Nullable Object recordKey, Object recordValue, @Nullable ProducerRecord<byte[], byte[]> record, @Nullable RecordMetadata metadata, @Nullable Throwable error, long startedRecordHandleInNanos) {
             // do nothing
         }
+
+        @Override
+        public void reportBatchTook(Map<String, Integer> sentByTopic, @Nullable Throwable error, long startedBatchInNanos) {
+            // do nothing
+        }
     };
 
     @Override
@@ -1,5 +1,6 @@
 package io.koraframework.kafka.common.producer.telemetry.impl;
 
+import io.koraframework.kafka.common.producer.telemetry.KafkaPublisherBatchObservation;
 import io.koraframework.kafka.common.producer.telemetry.KafkaPublisherRecordObservation;
 import io.koraframework.kafka.common.producer.telemetry.KafkaPublisherTelemetry;
 import io.koraframework.kafka.common.producer.telemetry.KafkaPublisherTransactionObservation;
@@ -28,4 +29,9 @@ public final class NoopKafkaPublisherTelemetry implements KafkaPublisherTelemetr
     public KafkaPublisherRecordObservation observeSend(String topic) {
         return NoopKafkaPublisherRecordObservation.INSTANCE;
     }
+
+    @Override
+    public KafkaPublisherBatchObservation observeBatch(int records) {
+        return NoopKafkaPublisherBatchObservation.INSTANCE;
+    }
 }
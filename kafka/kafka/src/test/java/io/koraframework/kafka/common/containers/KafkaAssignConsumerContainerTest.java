@@ -15,7 +15,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.slf4j.LoggerFactory;
 import io.koraframework.common.Either;
+import io.koraframework.kafka.common.consumer.$KafkaListenerConfig_CommitConfig_ConfigValueMapper;
 import io.koraframework.kafka.common.consumer.$KafkaListenerConfig_ConfigValueMapper;
+import io.koraframework.kafka.common.consumer.$KafkaListenerConfig_ParallelConfig_ConfigValueMapper;
 import io.koraframework.kafka.common.consumer.containers.KafkaAssignConsumerContainer;
 import io.koraframework.kafka.common.consumer.telemetry.*;
 import io.koraframework.test.kafka.KafkaParams;
@@ -30,6 +32,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(KafkaTestContainer.class)
 class KafkaAssignConsumerContainerTest {
@@ -64,7 +67,9 @@ class KafkaAssignConsumerContainerTest {
                 new $KafkaConsumerTelemetryConfig_KafkaConsumerLoggingConfig_ConfigValueMapper.KafkaConsumerLoggingConfig_Defaults(),
                 new $KafkaConsumerTelemetryConfig_KafkaConsumerMetricsConfig_ConfigValueMapper.KafkaConsumerMetricsConfig_Defaults(),
                 new $KafkaConsumerTelemetryConfig_KafkaConsumerTracingConfig_ConfigValueMapper.KafkaConsumerTracingConfig_Defaults()
-            )
+            ),
+            new $KafkaListenerConfig_ParallelConfig_ConfigValueMapper.ParallelConfig_Defaults(),
+            new $KafkaListenerConfig_CommitConfig_ConfigValueMapper.CommitConfig_Defaults()
         );
         var deque = new ConcurrentLinkedDeque<>();
         var telemetry = Mockito.mock(KafkaConsumerTelemetry.class);
@@ -128,4 +133,36 @@ class KafkaAssignConsumerContainerTest {
             container.release();
         }
     }
+
+    @Test
+    void commitStrategyIsRejected() {
+        var driverProps = new Properties();
+        driverProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, params.bootstrapServers());
+        var config = new $KafkaListenerConfig_ConfigValueMapper.KafkaListenerConfig_Impl(
+            driverProps,
+            List.of("test-topic"),
+            null,
+            null,
+            Either.right(KafkaListenerConfig.Offset.earliest),
+            Duration.ofMillis(100),
+            Duration.ofMillis(100),
+            Integer.valueOf(1),
+            Duration.ofSeconds(1),
+            Duration.ofMillis(10000),
+            true,
+            null,
+            new $KafkaConsumerTelemetryConfig_ConfigValueMapper.KafkaConsumerTelemetryConfig_Impl(
+                new $KafkaConsumerTelemetryConfig_KafkaConsumerLoggingConfig_ConfigValueMapper.KafkaConsumerLoggingConfig_Defaults(),
+                new $KafkaConsumerTelemetryConfig_KafkaConsumerMetricsConfig_ConfigValueMapper.KafkaConsumerMetricsConfig_Defaults(),
+                new $KafkaConsumerTelemetryConfig_KafkaConsumerTracingConfig_ConfigValueMapper.KafkaConsumerTracingConfig_Defaults()
+            ),
+            new $KafkaListenerConfig_ParallelConfig_ConfigValueMapper.ParallelConfig_Defaults(),
+            new $KafkaListenerConfig_CommitConfig_ConfigValueMapper.CommitConfig_Impl(KafkaListenerConfig.CommitStrategy.periodic, Duration.ofSeconds(5), 100, Duration.ofSeconds(1))
+        );
+        var telemetry = Mockito.mock(KafkaConsumerTelemetry.class);
+
+        assertThatThrownBy(() -> new KafkaAssignConsumerContainer<>("test", "test", config, new StringDeserializer(), new IntegerDeserializer(), telemetry, (observation, records, consumer, commitAllowed) -> {}))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("commit.strategy");
+    }
 }
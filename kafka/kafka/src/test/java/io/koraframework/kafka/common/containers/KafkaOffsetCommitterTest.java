@@ -0,0 +1,113 @@
+package io.koraframework.kafka.common.containers;
+
+import io.koraframework.kafka.common.consumer.$KafkaListenerConfig_CommitConfig_ConfigValueMapper;
+import io.koraframework.kafka.common.consumer.KafkaListenerConfig;
+import io.koraframework.kafka.common.consumer.containers.KafkaOffsetCommitter;
+import io.koraframework.kafka.common.consumer.telemetry.KafkaConsumerTelemetry;
+import io.koraframework.kafka.common.consumer.telemetry.impl.NoopKafkaConsumerTelemetry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class KafkaOffsetCommitterTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("topic", 0);
+
+    @SuppressWarnings("unchecked")
+    private final Consumer<String, String> consumer = Mockito.mock(Consumer.class);
+
+    @Test
+    void syncStrategyCommitsEveryCall() {
+        var committer = committer(KafkaListenerConfig.CommitStrategy.sync, Duration.ofHours(1), 100, Duration.ofHours(1));
+
+        committer.commit(offsets(1), 1);
+        committer.commit(offsets(2), 1);
+
+        verify(consumer).commitSync(offsets(1));
+        verify(consumer).commitSync(offsets(2));
+        verify(consumer, never()).commitAsync(anyMap(), any());
+    }
+
+    @Test
+    void periodicStrategyCommitsEveryRecords() {
+        var committer = committer(KafkaListenerConfig.CommitStrategy.periodic, Duration.ofHours(1), 3, Duration.ofHours(1));
+
+        committer.commit(offsets(1), 1);
+        committer.commit(offsets(2), 1);
+        verify(consumer, never()).commitSync(anyMap());
+
+        committer.commit(offsets(3), 1);
+        verify(consumer).commitSync(offsets(3));
+
+        committer.commit(offsets(4), 1);
+        committer.flush();
+        verify(consumer).commitSync(offsets(4));
+    }
+
+    @Test
+    void asyncStrategyFallsBackToSyncAfterFailure() {
+        var committer = committer(KafkaListenerConfig.CommitStrategy.async, Duration.ofHours(1), 100, Duration.ofHours(1));
+
+        committer.commit(offsets(1), 1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<TopicPartition, OffsetAndMetadata>> captor = ArgumentCaptor.forClass(Map.class);
+        var callback = ArgumentCaptor.forClass(OffsetCommitCallback.class);
+        verify(consumer).commitAsync(captor.capture(), callback.capture());
+        callback.getValue().onComplete(captor.getValue(), new RuntimeException("test"));
+
+        committer.commit(offsets(2), 1);
+        verify(consumer).commitSync(offsets(2));
+        verify(consumer, times(1)).commitAsync(anyMap(), any());
+    }
+
+    @Test
+    void revokeCommitsPendingOffsets() {
+        var committer = committer(KafkaListenerConfig.CommitStrategy.periodic, Duration.ofHours(1), 100, Duration.ofHours(1));
+
+        committer.commit(offsets(5), 5);
+        committer.onPartitionsRevoked(List.of(PARTITION));
+        verify(consumer).commitSync(offsets(5));
+
+        committer.flush();
+        verify(consumer, times(1)).commitSync(anyMap());
+    }
+
+    @Test
+    void uncommittedOffsetsHaveSameBaselineForRecordsAndOffsets() {
+        var config = new $KafkaListenerConfig_CommitConfig_ConfigValueMapper.CommitConfig_Impl(KafkaListenerConfig.CommitStrategy.periodic, Duration.ofHours(1), 100, Duration.ofHours(1));
+        var telemetry = mock(KafkaConsumerTelemetry.class);
+        var records = new ConsumerRecords<>(Map.of(PARTITION, List.of(
+            new ConsumerRecord<>("topic", 0, 10, "key", "value"),
+            new ConsumerRecord<>("topic", 0, 11, "key", "value"),
+            new ConsumerRecord<>("topic", 0, 12, "key", "value")
+        )));
+
+        new KafkaOffsetCommitter(consumer, config, telemetry).commit(records);
+        new KafkaOffsetCommitter(consumer, config, telemetry).commit(offsets(13), 3);
+
+        verify(telemetry, times(2)).reportUncommittedOffsets(PARTITION, 3);
+    }
+
+    private KafkaOffsetCommitter committer(KafkaListenerConfig.CommitStrategy strategy, Duration syncInterval, int records, Duration interval) {
+        var config = new $KafkaListenerConfig_CommitConfig_ConfigValueMapper.CommitConfig_Impl(strategy, syncInterval, records, interval);
+        return new KafkaOffsetCommitter(consumer, config, NoopKafkaConsumerTelemetry.INSTANCE);
+    }
+
+    private static Map<TopicPartition, OffsetAndMetadata> offsets(long offset) {
+        return Map.of(PARTITION, new OffsetAndMetadata(offset));
+    }
+}
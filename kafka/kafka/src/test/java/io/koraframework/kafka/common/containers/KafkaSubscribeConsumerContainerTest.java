@@ -2,7 +2,9 @@ package io.koraframework.kafka.common.containers;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
+import io.koraframework.kafka.common.consumer.$KafkaListenerConfig_CommitConfig_ConfigValueMapper;
 import io.koraframework.kafka.common.consumer.$KafkaListenerConfig_ConfigValueMapper;
+import io.koraframework.kafka.common.consumer.$KafkaListenerConfig_ParallelConfig_ConfigValueMapper;
 import io.koraframework.kafka.common.consumer.KafkaListenerConfig;
 import io.koraframework.kafka.common.consumer.telemetry.impl.NoopKafkaConsumerTelemetry;
 import org.apache.kafka.clients.CommonClientConfigs;
@@ -64,7 +66,9 @@ class KafkaSubscribeConsumerContainerTest {
                 new $KafkaConsumerTelemetryConfig_KafkaConsumerLoggingConfig_ConfigValueMapper.KafkaConsumerLoggingConfig_Defaults(),
                 new $KafkaConsumerTelemetryConfig_KafkaConsumerMetricsConfig_ConfigValueMapper.KafkaConsumerMetricsConfig_Defaults(),
                 new $KafkaConsumerTelemetryConfig_KafkaConsumerTracingConfig_ConfigValueMapper.KafkaConsumerTracingConfig_Defaults()
-            )
+            ),
+            new $KafkaListenerConfig_ParallelConfig_ConfigValueMapper.ParallelConfig_Defaults(),
+            new $KafkaListenerConfig_CommitConfig_ConfigValueMapper.CommitConfig_Defaults()
         );
         var queue = new ArrayBlockingQueue<>(3);
         var container = new KafkaSubscribeConsumerContainer<>("test", "test", config, new StringDeserializer(), new IntegerDeserializer(), (observation, records, consumer, commitAllowed) -> {
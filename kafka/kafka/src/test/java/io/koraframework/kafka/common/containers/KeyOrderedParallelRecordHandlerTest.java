@@ -0,0 +1,147 @@
+package io.koraframework.kafka.common.containers;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.koraframework.common.Either;
+import io.koraframework.kafka.common.consumer.$KafkaListenerConfig_CommitConfig_ConfigValueMapper;
+import io.koraframework.kafka.common.consumer.$KafkaListenerConfig_ConfigValueMapper;
+import io.koraframework.kafka.common.consumer.$KafkaListenerConfig_ParallelConfig_ConfigValueMapper;
+import io.koraframework.kafka.common.consumer.KafkaListenerConfig;
+import io.koraframework.kafka.common.consumer.containers.KafkaSubscribeConsumerContainer;
+import io.koraframework.kafka.common.consumer.containers.handlers.KafkaRecordHandler;
+import io.koraframework.kafka.common.consumer.containers.handlers.impl.KeyOrderedParallelRecordHandler;
+import io.koraframework.kafka.common.consumer.containers.handlers.wrapper.HandlerWrapper;
+import io.koraframework.kafka.common.consumer.telemetry.*;
+import io.koraframework.kafka.common.consumer.telemetry.impl.NoopKafkaConsumerPollObservation;
+import io.koraframework.kafka.common.consumer.telemetry.impl.NoopKafkaConsumerTelemetry;
+import io.koraframework.test.kafka.KafkaParams;
+import io.koraframework.test.kafka.KafkaTestContainer;
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.IntegerDeserializer;
+import org.apache.kafka.common.serialization.IntegerSerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(KafkaTestContainer.class)
+class KeyOrderedParallelRecordHandlerTest {
+    static {
+        if (LoggerFactory.getLogger("org.apache.kafka") instanceof Logger log) {
+            log.setLevel(Level.OFF);
+        }
+    }
+
+    KafkaParams params;
+
+    @Test
+    void recordsWithSameKeyAreProcessedInOrderAndDifferentKeysInParallel() throws InterruptedException {
+        var driverProps = new Properties();
+        driverProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, params.bootstrapServers());
+        driverProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        driverProps.put(CommonClientConfigs.GROUP_ID_CONFIG, UUID.randomUUID().toString());
+        var testTopic = params.createTopic("test-topic", 1);
+        var config = new $KafkaListenerConfig_ConfigValueMapper.KafkaListenerConfig_Impl(
+            driverProps,
+            List.of(testTopic),
+            null,
+            null,
+            Either.right(KafkaListenerConfig.Offset.earliest),
+            Duration.ofMillis(100),
+            Duration.ofMillis(100),
+            Integer.valueOf(1),
+            Duration.ofMillis(10000),
+            Duration.ofMillis(10000),
+            false,
+            null,
+            new $KafkaConsumerTelemetryConfig_ConfigValueMapper.KafkaConsumerTelemetryConfig_Impl(
+                new $KafkaConsumerTelemetryConfig_KafkaConsumerLoggingConfig_ConfigValueMapper.KafkaConsumerLoggingConfig_Defaults(),
+                new $KafkaConsumerTelemetryConfig_KafkaConsumerMetricsConfig_ConfigValueMapper.KafkaConsumerMetricsConfig_Defaults(),
+                new $KafkaConsumerTelemetryConfig_KafkaConsumerTracingConfig_ConfigValueMapper.KafkaConsumerTracingConfig_Defaults()
+            ),
+            new $KafkaListenerConfig_ParallelConfig_ConfigValueMapper.ParallelConfig_Impl(true, 4),
+            new $KafkaListenerConfig_CommitConfig_ConfigValueMapper.CommitConfig_Defaults()
+        );
+
+        var keys = 4;
+        var count = 40;
+        var received = new ConcurrentHashMap<String, List<Integer>>();
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var latch = new CountDownLatch(count);
+        KafkaRecordHandler<String, Integer> recordHandler = (consumer, observation, record) -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            received.computeIfAbsent(record.key(), _ -> new CopyOnWriteArrayList<>()).add(record.value());
+            inFlight.decrementAndGet();
+            latch.countDown();
+        };
+        var handler = HandlerWrapper.wrapHandlerRecord(true, () -> recordHandler, config);
+        var container = new KafkaSubscribeConsumerContainer<>("test", "test", config, new StringDeserializer(), new IntegerDeserializer(), handler, new NoopKafkaConsumerTelemetry(), null);
+        try {
+            params.withProducer(new IntegerSerializer(), producer -> {
+                for (int i = 0; i < count; i++) {
+                    producer.send(new ProducerRecord<>(testTopic, 0, "key-" + (i % keys), i));
+                }
+                producer.flush();
+            });
+            container.init();
+
+            assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+            assertThat(received).hasSize(keys);
+            for (var entry : received.entrySet()) {
+                assertThat(entry.getValue()).isSorted();
+            }
+            assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+        } finally {
+            container.release();
+        }
+    }
+
+    @Test
+    void closedHandlerRejectsRecords() {
+        var processed = new AtomicInteger();
+        var handler = new KeyOrderedParallelRecordHandler<String, Integer>(false, () -> (consumer, observation, record) -> processed.incrementAndGet(), 4);
+        var records = new ConsumerRecords<>(Map.of(
+            new TopicPartition("test", 0),
+            List.of(new ConsumerRecord<>("test", 0, 0, "key", 1))
+        ));
+        @SuppressWarnings("unchecked")
+        Consumer<String, Integer> consumer = mock(Consumer.class);
+
+        handler.handle(NoopKafkaConsumerPollObservation.INSTANCE, records, consumer, false);
+        assertThat(processed.get()).isEqualTo(1);
+
+        handler.close();
+
+        assertThatThrownBy(() -> handler.handle(NoopKafkaConsumerPollObservation.INSTANCE, records, consumer, false))
+            .isInstanceOf(RejectedExecutionException.class);
+        assertThat(processed.get()).isEqualTo(1);
+    }
+}
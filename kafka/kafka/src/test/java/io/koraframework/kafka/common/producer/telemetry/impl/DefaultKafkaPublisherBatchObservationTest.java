@@ -0,0 +1,51 @@
+package io.koraframework.kafka.common.producer.telemetry.impl;
+
+import io.opentelemetry.api.trace.Span;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class DefaultKafkaPublisherBatchObservationTest {
+
+    @Test
+    void observationEndsOnceWhenAllRecordsComplete() {
+        var metrics = Mockito.mock(DefaultKafkaPublisherMetricsFactory.DefaultKafkaPublisherMetrics.class);
+        var observation = new DefaultKafkaPublisherBatchObservation(DefaultKafkaPublisherTelemetry.TelemetryContext.EMPTY, null, metrics, 3, Span.getInvalid());
+
+        observation.observeRecord(new ProducerRecord<>("topic1", new byte[0]));
+        observation.observeRecord(new ProducerRecord<>("topic1", new byte[0]));
+        observation.observeRecord(new ProducerRecord<>("topic2", new byte[0]));
+        var metadata = new RecordMetadata(new TopicPartition("topic1", 0), 0, 0, 0, 0, 0);
+        observation.onCompletion(metadata, null);
+        observation.onCompletion(metadata, null);
+        verify(metrics, never()).reportBatchTook(Mockito.any(), Mockito.any(), anyLong());
+
+        observation.onCompletion(metadata, null);
+        verify(metrics).reportBatchTook(eq(Map.of("topic1", 2, "topic2", 1)), isNull(), anyLong());
+    }
+
+    @Test
+    void failedRecordFailsBatch() {
+        var metrics = Mockito.mock(DefaultKafkaPublisherMetricsFactory.DefaultKafkaPublisherMetrics.class);
+        var observation = new DefaultKafkaPublisherBatchObservation(DefaultKafkaPublisherTelemetry.TelemetryContext.EMPTY, null, metrics, 2, Span.getInvalid());
+        var error = new IllegalStateException("test");
+
+        observation.observeRecord(new ProducerRecord<>("topic", new byte[0]));
+        observation.observeRecord(new ProducerRecord<>("topic", new byte[0]));
+        observation.onCompletion(null, error);
+        observation.onCompletion(new RecordMetadata(new TopicPartition("topic", 0), 0, 0, 0, 0, 0), null);
+
+        verify(metrics).reportBatchTook(eq(Map.of("topic", 2)), same(error), anyLong());
+    }
+}
@@ -10,11 +10,8 @@ import ch.qos.logback.core.status.Status;
 import io.opentelemetry.api.trace.SpanContext;
 import io.koraframework.logging.common.arg.StructuredArgument;
 import io.koraframework.logging.common.arg.StructuredArgumentWriter;
-import tools.jackson.core.json.JsonFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
@@ -22,22 +19,23 @@ import java.time.format.DateTimeFormatter;
 import static java.time.ZoneOffset.UTC;
 
 public final class ConsoleTextRecordEncoder implements Encoder<ILoggingEvent> {
-    private final JsonFactory jsonFactory = new JsonFactory();
     private final CachingDateFormatter formatter = new CachingDateFormatter();
     private final Abbreviator abbreviator = new TargetLengthBasedClassNameAbbreviator(100);
 
     @Override
     public byte[] encode(ILoggingEvent event) {
+        var buffer = EncoderBuffer.acquire();
         try {
-            return this.encode0(event);
+            return this.encode0(event, buffer);
         } catch (IOException e) {
             return "<error>".getBytes(StandardCharsets.UTF_8);
+        } finally {
+            buffer.release();
         }
     }
 
-    private byte[] encode0(ILoggingEvent event) throws IOException {
-        var baos = new ByteArrayOutputStream(256);
-        var w = new OutputStreamWriter(baos, StandardCharsets.UTF_8);
+    private byte[] encode0(ILoggingEvent event, EncoderBuffer buffer) throws IOException {
+        var w = buffer.writer();
 
         String levelSuffix = event.getLevel().levelStr.length() == 4 ? "  " : " ";
         w.append(this.formatter.format(event.getTimeStamp())).append(" ")
@@ -48,7 +46,7 @@ public final class ConsoleTextRecordEncoder implements Encoder<ILoggingEvent> {
             .append(" - ")
             .flush();
 
-        if (event instanceof KoraLoggingEvent koraEvent) {
+        if (event instanceof KoraLoggingEventContext koraEvent) {
             if (koraEvent.span() != SpanContext.getInvalid()) {
                 w.append("traceId=").append(koraEvent.span().getTraceId()).append(" ");
                 w.append("spanId=").append(koraEvent.span().getSpanId()).append(" ");
@@ -58,7 +56,7 @@ public final class ConsoleTextRecordEncoder implements Encoder<ILoggingEvent> {
                 var key = e.getKey();
                 var value = e.getValue();
                 w.append(key).append("=").flush();
-                this.writeJson(baos, value);
+                this.writeJson(buffer, value);
                 w.append(" ");
             }
             w.flush();
@@ -78,7 +76,7 @@ public final class ConsoleTextRecordEncoder implements Encoder<ILoggingEvent> {
                     w.append("\n")
                         .append("\t").append(structuredArgument.fieldName()).append("=")
                         .flush();
-                    this.writeJson(baos, structuredArgument);
+                    this.writeJson(buffer, structuredArgument);
                 }
             }
         }
@@ -89,7 +87,7 @@ public final class ConsoleTextRecordEncoder implements Encoder<ILoggingEvent> {
                     w.append("\n")
                         .append("\t").append(structuredArgument.fieldName()).append("=")
                         .flush();
-                    this.writeJson(baos, structuredArgument);
+                    this.writeJson(buffer, structuredArgument);
                 }
             }
         }
@@ -100,7 +98,7 @@ public final class ConsoleTextRecordEncoder implements Encoder<ILoggingEvent> {
                     w.append("\n")
                         .append("\t").append(keyValue.key).append("=")
                         .flush();
-                    this.writeJson(baos, structuredArgument);
+                    this.writeJson(buffer, structuredArgument);
                 }
             }
         }
@@ -110,14 +108,13 @@ public final class ConsoleTextRecordEncoder implements Encoder<ILoggingEvent> {
             w.append(ThrowableProxyUtil.asString(event.getThrowableProxy()));
             w.append("\n");
         }
-        w.flush();
-        return baos.toByteArray();
+        return buffer.toByteArray();
     }
 
-    private void writeJson(ByteArrayOutputStream b, StructuredArgumentWriter value) {
-        try (var gen = this.jsonFactory.createGenerator(b)) {
-            value.writeTo(gen);
-        }
+    private void writeJson(EncoderBuffer buffer, StructuredArgumentWriter value) {
+        var gen = buffer.json();
+        value.writeTo(gen);
+        gen.flush();
     }
 
     @Override
@@ -0,0 +1,108 @@
+package io.koraframework.logging.logback;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.json.JsonFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Per-thread output buffer of encoders: the byte buffer, the text writer and the json generator are created once per platform thread and reused for every event.
+ * Virtual threads and nested encoding (an argument logging from its own toString) get a fresh buffer, so thread locals are not multiplied per virtual thread.
+ */
+final class EncoderBuffer {
+    private static final int INITIAL_SIZE = 1024;
+    private static final int MAX_RETAINED_SIZE = 64 * 1024;
+    // generator is reused for many root values, so no separator must be written between them
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+        .rootValueSeparator((String) null)
+        .build();
+    private static final ThreadLocal<EncoderBuffer> LOCAL = new ThreadLocal<>();
+
+    private final Output out = new Output();
+    private final Writer writer = new OutputStreamWriter(this.out, StandardCharsets.UTF_8);
+    private final JsonGenerator json = JSON_FACTORY.createGenerator(this.out);
+    private final boolean local;
+    private boolean inUse;
+
+    private EncoderBuffer(boolean local) {
+        this.local = local;
+    }
+
+    static EncoderBuffer acquire() {
+        if (Thread.currentThread().isVirtual()) {
+            return new EncoderBuffer(false);
+        }
+        var buffer = LOCAL.get();
+        if (buffer == null) {
+            buffer = new EncoderBuffer(true);
+            LOCAL.set(buffer);
+        } else if (buffer.inUse) {
+            return new EncoderBuffer(false);
+        }
+        buffer.inUse = true;
+        return buffer;
+    }
+
+    Output out() {
+        return this.out;
+    }
+
+    /**
+     * Text writer, must be flushed before anything is written with {@link #json()} or directly to {@link #out()}
+     */
+    Writer writer() {
+        return this.writer;
+    }
+
+    /**
+     * Json generator, must be flushed before anything is written with {@link #writer()} or directly to {@link #out()}
+     */
+    JsonGenerator json() {
+        return this.json;
+    }
+
+    byte[] toByteArray() throws IOException {
+        this.writer.flush();
+        this.json.flush();
+        return this.out.toByteArray();
+    }
+
+    void release() {
+        if (!this.local) {
+            this.json.close();
+            return;
+        }
+        this.inUse = false;
+        try {
+            // drop leftovers of failed event before buffer is reset
+            this.writer.flush();
+            this.json.flush();
+        } catch (IOException | RuntimeException e) {
+            LOCAL.remove();
+            return;
+        }
+        if (!this.json.streamWriteContext().inRoot()) {
+            // event failed in the middle of json value, generator state can't be reused
+            LOCAL.remove();
+            return;
+        }
+        this.out.recycle();
+    }
+
+    static final class Output extends ByteArrayOutputStream {
+        private Output() {
+            super(INITIAL_SIZE);
+        }
+
+        private void recycle() {
+            if (this.buf.length > MAX_RETAINED_SIZE) {
+                this.buf = new byte[INITIAL_SIZE];
+            }
+            this.count = 0;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.koraframework.logging.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+import io.koraframework.logging.common.arg.StructuredArgument;
+import io.koraframework.logging.common.arg.StructuredArgumentWriter;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonGenerator;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Set;
+
+import static java.time.ZoneOffset.UTC;
+
+/**
+ * <b>Русский</b>: Кодирует событие в одну строку JSON с полями в формате Elastic Common Schema:
+ * {@code @timestamp}, {@code log.level}, {@code log.logger}, {@code process.thread.name}, {@code message},
+ * {@code trace.id} и {@code span.id} текущего контекста трассировки, {@code error.type}, {@code error.message} и {@code error.stack_trace}.
+ * Структурированный MDC, MDC логбэка и структурированные аргументы записываются полями верхнего уровня.
+ * Ключи MDC, совпадающие с полями выше, пропускаются, а ключ MDC логбэка не записывается, если он уже есть в структурированном MDC.
+ * Буфер и JSON генератор переиспользуются потоком, поэтому на событие выделяется только итоговый массив байт, которого требует {@link ch.qos.logback.core.encoder.Encoder}.
+ * Переиспользование работает в платформенных потоках, поэтому кодировщик стоит использовать с {@link KoraRingBufferAppender}, который кодирует события в своем потоке.
+ * <hr>
+ * <b>English</b>: Encodes event as a single JSON line with Elastic Common Schema fields:
+ * {@code @timestamp}, {@code log.level}, {@code log.logger}, {@code process.thread.name}, {@code message},
+ * {@code trace.id} and {@code span.id} of current tracing context, {@code error.type}, {@code error.message} and {@code error.stack_trace}.
+ * Structured MDC, logback MDC and structured arguments are written as top level fields.
+ * MDC keys that match the fields above are skipped, and a logback MDC key is not written when structured MDC already has it.
+ * Buffer and JSON generator are reused by thread, so the only per-event allocation is the resulting byte array required by {@link ch.qos.logback.core.encoder.Encoder}.
+ * Reuse works on platform threads, so the encoder is best used with {@link KoraRingBufferAppender}, which encodes events on its own thread.
+ */
+public final class JsonRecordEncoder extends EncoderBase<ILoggingEvent> {
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(UTC);
+    private static final byte[] EMPTY = new byte[0];
+    private static final Set<String> RESERVED_FIELDS = Set.of(
+        "@timestamp", "log.level", "log.logger", "process.thread.name", "message",
+        "trace.id", "span.id", "error.type", "error.message", "error.stack_trace"
+    );
+
+    private volatile CachedTimestamp lastTimestamp = new CachedTimestamp(-1, "");
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        var buffer = EncoderBuffer.acquire();
+        try {
+            var gen = buffer.json();
+            this.writeEvent(gen, event);
+            gen.flush();
+            buffer.out().write('\n');
+            return buffer.toByteArray();
+        } catch (Exception e) {
+            this.addError("Failed to encode logging event", e);
+            return EMPTY;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private void writeEvent(JsonGenerator gen, ILoggingEvent event) {
+        gen.writeStartObject();
+        gen.writeStringProperty("@timestamp", this.timestamp(event.getTimeStamp()));
+        gen.writeStringProperty("log.level", event.getLevel().levelStr);
+        gen.writeStringProperty("log.logger", event.getLoggerName());
+        gen.writeStringProperty("process.thread.name", event.getThreadName());
+        gen.writeStringProperty("message", event.getFormattedMessage());
+
+        var koraMdc = Map.<String, StructuredArgumentWriter>of();
+        if (event instanceof KoraLoggingEventContext koraEvent) {
+            var span = koraEvent.span();
+            if (span.isValid()) {
+                gen.writeStringProperty("trace.id", span.getTraceId());
+                gen.writeStringProperty("span.id", span.getSpanId());
+            }
+            koraMdc = koraEvent.koraMdc();
+            for (var e : koraMdc.entrySet()) {
+                this.writeStructured(gen, e.getKey(), e.getValue());
+            }
+        }
+
+        var mdc = event.getMDCPropertyMap();
+        if (mdc != null) {
+            for (var e : mdc.entrySet()) {
+                if (!RESERVED_FIELDS.contains(e.getKey()) && !koraMdc.containsKey(e.getKey())) {
+                    gen.writeStringProperty(e.getKey(), e.getValue());
+                }
+            }
+        }
+
+        var markers = event.getMarkerList();
+        if (markers != null) {
+            for (var marker : markers) {
+                if (marker instanceof StructuredArgument structuredArgument) {
+                    this.writeStructured(gen, structuredArgument.fieldName(), structuredArgument);
+                }
+            }
+        }
+
+        var arguments = event.getArgumentArray();
+        if (arguments != null) {
+            for (var arg : arguments) {
+                if (arg instanceof StructuredArgument structuredArgument) {
+                    this.writeStructured(gen, structuredArgument.fieldName(), structuredArgument);
+                }
+            }
+        }
+
+        var keyValuePairs = event.getKeyValuePairs();
+        if (keyValuePairs != null) {
+            for (var keyValue : keyValuePairs) {
+                if (keyValue.value instanceof StructuredArgumentWriter structuredArgument) {
+                    this.writeStructured(gen, keyValue.key, structuredArgument);
+                }
+            }
+        }
+
+        var throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            gen.writeStringProperty("error.type", throwable.getClassName());
+            if (throwable.getMessage() != null) {
+                gen.writeStringProperty("error.message", throwable.getMessage());
+            }
+            gen.writeStringProperty("error.stack_trace", ThrowableProxyUtil.asString(throwable));
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeStructured(JsonGenerator gen, String name, @Nullable StructuredArgumentWriter value) {
+        if (RESERVED_FIELDS.contains(name)) {
+            // duplicate name would make the record invalid JSON or shadow the event field
+            return;
+        }
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            value.writeTo(gen);
+        }
+    }
+
+    private String timestamp(long millis) {
+        var last = this.lastTimestamp;
+        if (last.millis == millis) {
+            return last.formatted;
+        }
+        var formatted = TIMESTAMP_FORMATTER.format(Instant.ofEpochMilli(millis));
+        this.lastTimestamp = new CachedTimestamp(millis, formatted);
+        return formatted;
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return EMPTY;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return EMPTY;
+    }
+
+    private record CachedTimestamp(long millis, String formatted) {}
+}
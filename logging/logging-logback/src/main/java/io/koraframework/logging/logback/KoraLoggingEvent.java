@@ -29,7 +29,7 @@ public record KoraLoggingEvent(
     List<KeyValuePair> keyValuePairs,
     Map<String, StructuredArgumentWriter> koraMdc,
     SpanContext span
-) implements ILoggingEvent {
+) implements ILoggingEvent, KoraLoggingEventContext {
     @Override
     public String getThreadName() {
         return this.threadName;
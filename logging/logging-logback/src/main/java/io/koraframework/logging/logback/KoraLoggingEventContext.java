@@ -0,0 +1,23 @@
+package io.koraframework.logging.logback;
+
+import io.koraframework.logging.common.arg.StructuredArgumentWriter;
+import io.opentelemetry.api.trace.SpanContext;
+
+import java.util.Map;
+
+/**
+ * <b>Русский</b>: Контекст Kora, захваченный асинхронным аппендером в потоке, где было залогировано событие:
+ * структурированный MDC и контекст трассировки.
+ * <hr>
+ * <b>English</b>: Kora context captured by an async appender on the thread where the event was logged:
+ * structured MDC and tracing context.
+ *
+ * @see KoraAsyncAppender
+ * @see KoraRingBufferAppender
+ */
+public interface KoraLoggingEventContext {
+
+    Map<String, StructuredArgumentWriter> koraMdc();
+
+    SpanContext span();
+}
@@ -7,7 +7,7 @@ import io.koraframework.logging.common.MDC;
 public final class KoraMdcConverter extends ClassicConverter {
     @Override
     public String convert(ILoggingEvent event) {
-        var mdc = event instanceof KoraLoggingEvent e
+        var mdc = event instanceof KoraLoggingEventContext e
             ? e.koraMdc()
             : MDC.get().values();
         if (mdc.isEmpty()) {
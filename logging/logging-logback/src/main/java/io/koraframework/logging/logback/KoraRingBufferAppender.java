@@ -0,0 +1,461 @@
+package io.koraframework.logging.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.LoggerContextVO;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import io.koraframework.logging.common.MDC;
+import io.koraframework.logging.common.arg.StructuredArgumentWriter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <b>Русский</b>: Асинхронный аппендер на кольцевом буфере без блокировок: потоки приложения публикуют события в заранее выделенные ячейки,
+ * а один фоновый поток передает их вложенным аппендерам.
+ * Ячейки переиспользуются, событие и контекст Kora ({@link KoraLoggingEventContext}) не копируются,
+ * поэтому вложенные аппендеры не должны сохранять ссылку на событие после {@link Appender#doAppend(Object)}.
+ * При заполненном буфере поведение задается {@link OverflowPolicy}, отброшенные события считаются в {@link #getDroppedEvents()}
+ * и публикуются метрикой {@code logging.appender.events.dropped} через {@link LogbackModule}.
+ * <hr>
+ * <b>English</b>: Async appender backed by a lock-free ring buffer: application threads publish events into preallocated slots
+ * and a single background thread passes them to attached appenders.
+ * Slots are reused, the event and its Kora context ({@link KoraLoggingEventContext}) are not copied,
+ * so attached appenders must not keep a reference to the event after {@link Appender#doAppend(Object)}.
+ * When the buffer is full behaviour is defined by {@link OverflowPolicy}, dropped events are counted in {@link #getDroppedEvents()}
+ * and published as {@code logging.appender.events.dropped} metric by {@link LogbackModule}.
+ * <pre>{@code
+ * <appender name="ASYNC" class="io.koraframework.logging.logback.KoraRingBufferAppender">
+ *     <queueSize>16384</queueSize>
+ *     <overflowPolicy>DROP</overflowPolicy>
+ *     <appender-ref ref="STDOUT"/>
+ * </appender>
+ * }</pre>
+ */
+public final class KoraRingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent> implements AppenderAttachable<ILoggingEvent> {
+
+    /**
+     * <b>Русский</b>: Поведение при заполненном буфере.
+     * <hr>
+     * <b>English</b>: Behaviour when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Logging thread waits for free slot, no events are lost
+         */
+        BLOCK,
+        /**
+         * Event is dropped and counted, logging thread never waits
+         */
+        DROP
+    }
+
+    public static final int DEFAULT_QUEUE_SIZE = 8192;
+    public static final int DEFAULT_MAX_FLUSH_TIME = 1000;
+
+    private static final int SPIN_TRIES = 128;
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long DROP_REPORT_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicBoolean consumerParked = new AtomicBoolean();
+    private final LongAdder droppedEvents = new LongAdder();
+
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private int maxFlushTime = DEFAULT_MAX_FLUSH_TIME;
+
+    private Slot[] slots = new Slot[0];
+    private int mask;
+    // written only by worker thread
+    private volatile long head;
+    @Nullable
+    private volatile Thread worker;
+
+    public KoraRingBufferAppender() {}
+
+    @Override
+    public void start() {
+        if (this.isStarted()) {
+            return;
+        }
+        if (!this.appenders.iteratorForAppenders().hasNext()) {
+            this.addError("No attached appenders found for appender [" + this.name + "]");
+            return;
+        }
+        if (this.queueSize < 1) {
+            this.addError("Invalid queue size [" + this.queueSize + "]");
+            return;
+        }
+        // a single slot can't tell a published event from a free one, so there are at least two
+        var capacity = Math.max(2, Integer.highestOneBit(this.queueSize));
+        if (capacity < this.queueSize) {
+            capacity <<= 1;
+        }
+        var slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(i);
+        }
+        this.slots = slots;
+        this.mask = capacity - 1;
+        this.head = 0;
+        this.tail.set(0);
+        super.start();
+        this.worker = Thread.ofPlatform()
+            .name("kora-logback-ring-buffer-" + this.name)
+            .daemon(true)
+            .start(this::drainJob);
+        this.addInfo("Started ring buffer appender [" + this.name + "] with capacity " + capacity + " and overflow policy " + this.overflowPolicy);
+    }
+
+    @Override
+    public void stop() {
+        if (!this.isStarted()) {
+            return;
+        }
+        super.stop();
+        var worker = this.worker;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            try {
+                worker.join(this.maxFlushTime);
+                if (worker.isAlive()) {
+                    this.addWarn("Max queue flush timeout (" + this.maxFlushTime + " ms) exceeded, " + this.getQueueSize() + " queued events were possibly discarded");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.addError("Failed to join worker thread, " + this.getQueueSize() + " queued events may be discarded", e);
+            }
+            this.worker = null;
+        }
+        this.appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // computes formatted message, thread name and logback MDC on logging thread
+        event.prepareForDeferredProcessing();
+        // an event logged outside a request or message scope has no MDC bound, and reading an
+        // unbound ScopedValue would throw here and make the appender drop the event
+        var koraMdc = MDC.VALUE.isBound() ? MDC.get().values() : Map.<String, StructuredArgumentWriter>of();
+        var span = Span.current().getSpanContext();
+        while (!this.tryPublish(event, koraMdc, span)) {
+            if (this.overflowPolicy == OverflowPolicy.DROP || !this.isStarted() || Thread.currentThread() == this.worker) {
+                // worker must never wait for itself when attached appender logs
+                this.droppedEvents.increment();
+                return;
+            }
+            this.wakeUpConsumer();
+            LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+        }
+        this.wakeUpConsumer();
+    }
+
+    private boolean tryPublish(ILoggingEvent event, Map<String, StructuredArgumentWriter> koraMdc, SpanContext span) {
+        var slots = this.slots;
+        var position = this.tail.get();
+        while (true) {
+            var slot = slots[(int) (position & this.mask)];
+            var diff = slot.sequence - position;
+            if (diff == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    slot.event = event;
+                    slot.koraMdc = koraMdc;
+                    slot.span = span;
+                    slot.sequence = position + 1;
+                    return true;
+                }
+                position = this.tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = this.tail.get();
+            }
+        }
+    }
+
+    private void wakeUpConsumer() {
+        if (this.consumerParked.get() && this.consumerParked.compareAndSet(true, false)) {
+            LockSupport.unpark(this.worker);
+        }
+    }
+
+    private void drainJob() {
+        var lastReportedDropped = 0L;
+        var lastReportTime = 0L;
+        var idle = 0;
+        while (this.isStarted()) {
+            if (this.drainOne()) {
+                idle = 0;
+                continue;
+            }
+            var dropped = this.droppedEvents.sum();
+            var reportDelayMillis = 0L;
+            if (dropped != lastReportedDropped) {
+                var now = System.currentTimeMillis();
+                reportDelayMillis = DROP_REPORT_INTERVAL_MILLIS - (now - lastReportTime);
+                if (reportDelayMillis <= 0) {
+                    this.addWarn("Appender [" + this.name + "] dropped " + (dropped - lastReportedDropped) + " events because ring buffer of size " + this.slots.length + " was full");
+                    lastReportedDropped = dropped;
+                    lastReportTime = now;
+                    reportDelayMillis = 0;
+                }
+            }
+            if (idle++ < SPIN_TRIES) {
+                Thread.onSpinWait();
+                continue;
+            }
+            this.consumerParked.set(true);
+            if (!this.hasNext() && this.isStarted()) {
+                // producers and stop unpark the worker, it wakes up by itself only to report dropped events
+                if (reportDelayMillis > 0) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(reportDelayMillis));
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+            this.consumerParked.set(false);
+        }
+        while (this.drainOne()) {
+            // flush events published before stop
+        }
+    }
+
+    private boolean hasNext() {
+        return this.slots[(int) (this.head & this.mask)].sequence == this.head + 1;
+    }
+
+    private boolean drainOne() {
+        var head = this.head;
+        var slot = this.slots[(int) (head & this.mask)];
+        if (slot.sequence != head + 1) {
+            return false;
+        }
+        try {
+            this.appenders.appendLoopOnAppenders(slot);
+        } catch (RuntimeException e) {
+            this.addError("Failed to pass event to attached appenders", e);
+        } finally {
+            slot.event = null;
+            slot.koraMdc = Map.of();
+            slot.span = SpanContext.getInvalid();
+            this.head = head + 1;
+            slot.sequence = head + this.slots.length;
+        }
+        return true;
+    }
+
+    /**
+     * @return количество отброшенных событий / number of dropped events
+     */
+    public long getDroppedEvents() {
+        return this.droppedEvents.sum();
+    }
+
+    /**
+     * @return количество событий в буфере / number of events in the buffer
+     */
+    public int getQueueSize() {
+        var size = this.tail.get() - this.head;
+        return (int) Math.max(0, Math.min(size, this.slots.length));
+    }
+
+    /**
+     * @return размер буфера, степень двойки не меньше queueSize и 2 / buffer size, power of two not less than queueSize and 2
+     */
+    public int getCapacity() {
+        return this.slots.length;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return this.overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public int getMaxFlushTime() {
+        return this.maxFlushTime;
+    }
+
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        this.addInfo("Attaching appender named [" + newAppender.getName() + "] to ring buffer appender.");
+        this.appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return this.appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return this.appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return this.appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        this.appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return this.appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return this.appenders.detachAppender(name);
+    }
+
+    private static final class Slot implements ILoggingEvent, KoraLoggingEventContext {
+        private volatile long sequence;
+        @Nullable
+        private ILoggingEvent event;
+        private Map<String, StructuredArgumentWriter> koraMdc = Map.of();
+        private SpanContext span = SpanContext.getInvalid();
+
+        private Slot(long sequence) {
+            this.sequence = sequence;
+        }
+
+        private ILoggingEvent event() {
+            var event = this.event;
+            if (event == null) {
+                throw new IllegalStateException("Ring buffer slot was used after event was passed to appenders");
+            }
+            return event;
+        }
+
+        @Override
+        public Map<String, StructuredArgumentWriter> koraMdc() {
+            return this.koraMdc;
+        }
+
+        @Override
+        public SpanContext span() {
+            return this.span;
+        }
+
+        @Override
+        public String getThreadName() {
+            return this.event().getThreadName();
+        }
+
+        @Override
+        public Level getLevel() {
+            return this.event().getLevel();
+        }
+
+        @Override
+        public String getMessage() {
+            return this.event().getMessage();
+        }
+
+        @Override
+        public Object[] getArgumentArray() {
+            return this.event().getArgumentArray();
+        }
+
+        @Override
+        public String getFormattedMessage() {
+            return this.event().getFormattedMessage();
+        }
+
+        @Override
+        public String getLoggerName() {
+            return this.event().getLoggerName();
+        }
+
+        @Override
+        public LoggerContextVO getLoggerContextVO() {
+            return this.event().getLoggerContextVO();
+        }
+
+        @Override
+        public IThrowableProxy getThrowableProxy() {
+            return this.event().getThrowableProxy();
+        }
+
+        @Override
+        public StackTraceElement[] getCallerData() {
+            return null;
+        }
+
+        @Override
+        public boolean hasCallerData() {
+            return false;
+        }
+
+        @Override
+        public List<Marker> getMarkerList() {
+            return this.event().getMarkerList();
+        }
+
+        @Override
+        public Map<String, String> getMDCPropertyMap() {
+            return this.event().getMDCPropertyMap();
+        }
+
+        @Override
+        @Deprecated
+        public Map<String, String> getMdc() {
+            return this.event().getMDCPropertyMap();
+        }
+
+        @Override
+        public long getTimeStamp() {
+            return this.event().getTimeStamp();
+        }
+
+        @Override
+        public int getNanoseconds() {
+            return this.event().getNanoseconds();
+        }
+
+        @Override
+        public long getSequenceNumber() {
+            return this.event().getSequenceNumber();
+        }
+
+        @Override
+        public List<KeyValuePair> getKeyValuePairs() {
+            return this.event().getKeyValuePairs();
+        }
+
+        @Override
+        public void prepareForDeferredProcessing() {
+        }
+    }
+}
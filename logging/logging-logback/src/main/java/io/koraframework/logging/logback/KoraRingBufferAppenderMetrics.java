@@ -0,0 +1,76 @@
+package io.koraframework.logging.logback;
+
+import ch.qos.logback.classic.LoggerContext;
+import io.koraframework.application.graph.Lifecycle;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * <b>Русский</b>: Публикует метрики всех {@link KoraRingBufferAppender}, подключенных к логгерам:
+ * {@code logging.appender.events.dropped}, {@code logging.appender.queue.size} и {@code logging.appender.queue.capacity} с тегом {@code appender}.
+ * <hr>
+ * <b>English</b>: Publishes metrics of all {@link KoraRingBufferAppender} attached to loggers:
+ * {@code logging.appender.events.dropped}, {@code logging.appender.queue.size} and {@code logging.appender.queue.capacity} with {@code appender} tag.
+ */
+public final class KoraRingBufferAppenderMetrics implements Lifecycle {
+
+    private final LoggerContext loggerContext;
+    @Nullable
+    private final MeterRegistry meterRegistry;
+    private final List<Meter> meters = new ArrayList<>();
+
+    public KoraRingBufferAppenderMetrics(LoggerContext loggerContext, @Nullable MeterRegistry meterRegistry) {
+        this.loggerContext = loggerContext;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void init() {
+        if (this.meterRegistry == null) {
+            return;
+        }
+        var appenders = Collections.newSetFromMap(new IdentityHashMap<KoraRingBufferAppender, Boolean>());
+        for (var logger : this.loggerContext.getLoggerList()) {
+            var it = logger.iteratorForAppenders();
+            while (it.hasNext()) {
+                if (it.next() instanceof KoraRingBufferAppender appender) {
+                    appenders.add(appender);
+                }
+            }
+        }
+        for (var appender : appenders) {
+            var tags = Tags.of("appender", String.valueOf(appender.getName()));
+            this.meters.add(FunctionCounter.builder("logging.appender.events.dropped", appender, KoraRingBufferAppender::getDroppedEvents)
+                .tags(tags)
+                .register(this.meterRegistry));
+            this.meters.add(Gauge.builder("logging.appender.queue.size", appender, KoraRingBufferAppender::getQueueSize)
+                .tags(tags)
+                .strongReference(true)
+                .register(this.meterRegistry));
+            this.meters.add(Gauge.builder("logging.appender.queue.capacity", appender, KoraRingBufferAppender::getCapacity)
+                .tags(tags)
+                .strongReference(true)
+                .register(this.meterRegistry));
+        }
+    }
+
+    @Override
+    public void release() {
+        if (this.meterRegistry == null) {
+            return;
+        }
+        for (var meter : this.meters) {
+            this.meterRegistry.remove(meter);
+        }
+        this.meters.clear();
+    }
+}
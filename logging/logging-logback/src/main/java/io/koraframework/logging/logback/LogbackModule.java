@@ -2,6 +2,9 @@ package io.koraframework.logging.logback;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.LoggerContext;
+import io.koraframework.common.annotation.Root;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.LoggerFactory;
 import io.koraframework.logging.common.LoggingLevelApplier;
 import io.koraframework.logging.common.LoggingModule;
@@ -28,4 +31,9 @@ public interface LogbackModule extends LoggingModule {
             }
         };
     }
+
+    @Root
+    default KoraRingBufferAppenderMetrics koraRingBufferAppenderMetrics(@Nullable MeterRegistry meterRegistry) {
+        return new KoraRingBufferAppenderMetrics((LoggerContext) LoggerFactory.getILoggerFactory(), meterRegistry);
+    }
 }
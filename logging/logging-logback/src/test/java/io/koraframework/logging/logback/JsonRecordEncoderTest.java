@@ -0,0 +1,192 @@
+package io.koraframework.logging.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import io.koraframework.logging.common.arg.StructuredArgument;
+import io.koraframework.logging.common.arg.StructuredArgumentWriter;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.KeyValuePair;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonRecordEncoderTest {
+
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+
+    private final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final Logger logger = this.context.getLogger("test.logger");
+    private final JsonRecordEncoder encoder = new JsonRecordEncoder();
+
+    @BeforeEach
+    void setUp() {
+        this.encoder.setContext(this.context);
+        this.encoder.start();
+    }
+
+    @Test
+    void writesEcsFields() {
+        var event = new LoggingEvent(Logger.class.getName(), this.logger, Level.WARN, "Hello {}", null, new Object[]{"world"});
+        event.setTimeStamp(0);
+
+        var bytes = this.encoder.encode(event);
+
+        assertThat(bytes[bytes.length - 1]).isEqualTo((byte) '\n');
+        var json = parse(bytes);
+        assertThat(json.propertyNames()).containsExactly("@timestamp", "log.level", "log.logger", "process.thread.name", "message");
+        assertThat(json.get("@timestamp").asString()).isEqualTo("1970-01-01T00:00:00.000Z");
+        assertThat(json.get("log.level").asString()).isEqualTo("WARN");
+        assertThat(json.get("log.logger").asString()).isEqualTo("test.logger");
+        assertThat(json.get("process.thread.name").asString()).isEqualTo(Thread.currentThread().getName());
+        assertThat(json.get("message").asString()).isEqualTo("Hello world");
+    }
+
+    @Test
+    void writesStructuredArgumentsMarkersAndKeyValues() {
+        var event = new LoggingEvent(Logger.class.getName(), this.logger, Level.INFO, "User {}", null, new Object[]{
+            StructuredArgument.arg("user", gen -> {
+                gen.writeStartObject();
+                gen.writeStringProperty("name", "bob");
+                gen.writeEndObject();
+            })
+        });
+        event.addMarker(StructuredArgument.marker("count", 3));
+        event.addKeyValuePair(new KeyValuePair("enabled", (StructuredArgumentWriter) gen -> gen.writeBoolean(true)));
+        event.addKeyValuePair(new KeyValuePair("plain", "ignored"));
+
+        var json = parse(this.encoder.encode(event));
+
+        assertThat(json.get("user").get("name").asString()).isEqualTo("bob");
+        assertThat(json.get("count").asInt()).isEqualTo(3);
+        assertThat(json.get("enabled").asBoolean()).isTrue();
+        assertThat(json.has("plain")).isFalse();
+    }
+
+    @Test
+    void writesMdcAndTracingContext() {
+        var span = SpanContext.create("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331", TraceFlags.getSampled(), TraceState.getDefault());
+        var event = koraEvent(
+            Map.of("request", "logback", "shared", "logback"),
+            Map.of("userId", gen -> gen.writeNumber(42), "shared", gen -> gen.writeString("kora")),
+            span
+        );
+
+        var json = parse(this.encoder.encode(event));
+
+        assertThat(json.get("trace.id").asString()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+        assertThat(json.get("span.id").asString()).isEqualTo("b7ad6b7169203331");
+        assertThat(json.get("userId").asInt()).isEqualTo(42);
+        assertThat(json.get("request").asString()).isEqualTo("logback");
+        assertThat(json.get("shared").asString()).isEqualTo("kora");
+    }
+
+    @Test
+    void skipsMdcKeysThatMatchEventFields() {
+        var event = koraEvent(
+            Map.of("message", "logback", "log.level", "logback"),
+            Map.of("@timestamp", gen -> gen.writeString("kora"), "trace.id", gen -> gen.writeString("kora")),
+            SpanContext.getInvalid()
+        );
+
+        var bytes = this.encoder.encode(event);
+        var text = new String(bytes, StandardCharsets.UTF_8);
+        var json = parse(bytes);
+
+        assertThat(json.get("message").asString()).isEqualTo("test message");
+        assertThat(json.get("log.level").asString()).isEqualTo("INFO");
+        assertThat(json.get("@timestamp").asString()).isNotEqualTo("kora");
+        assertThat(json.has("trace.id")).isFalse();
+        assertThat(text).doesNotContain("logback", "kora");
+    }
+
+    @Test
+    void skipsStructuredArgumentsMarkersAndKeyValuesThatMatchEventFields() {
+        var event = new LoggingEvent(Logger.class.getName(), this.logger, Level.INFO, "Hello {}", null, new Object[]{
+            StructuredArgument.arg("message", gen -> gen.writeString("kora"))
+        });
+        event.addMarker(StructuredArgument.marker("log.level", "kora"));
+        event.addKeyValuePair(new KeyValuePair("error.type", (StructuredArgumentWriter) gen -> gen.writeString("kora")));
+
+        var bytes = this.encoder.encode(event);
+        var text = new String(bytes, StandardCharsets.UTF_8);
+        var json = parse(bytes);
+
+        assertThat(text.split("\"message\":", -1)).hasSize(2);
+        assertThat(json.get("message").asString()).startsWith("Hello");
+        assertThat(json.get("log.level").asString()).isEqualTo("INFO");
+        assertThat(json.has("error.type")).isFalse();
+    }
+
+    @Test
+    void writesError() {
+        var error = new IllegalStateException("Something failed");
+        var event = new LoggingEvent(Logger.class.getName(), this.logger, Level.ERROR, "Failure", error, null);
+
+        var json = parse(this.encoder.encode(event));
+
+        assertThat(json.get("error.type").asString()).isEqualTo(IllegalStateException.class.getName());
+        assertThat(json.get("error.message").asString()).isEqualTo("Something failed");
+        assertThat(json.get("error.stack_trace").asString())
+            .startsWith(IllegalStateException.class.getName() + ": Something failed")
+            .contains("JsonRecordEncoderTest.writesError");
+    }
+
+    @Test
+    void reusesBufferAfterFailedEvent() {
+        var failing = new LoggingEvent(Logger.class.getName(), this.logger, Level.INFO, "Failing {}", null, new Object[]{
+            StructuredArgument.arg("broken", gen -> {
+                gen.writeStartObject();
+                gen.writeStringProperty("partial", "value");
+                throw new IllegalStateException("Writer failed");
+            })
+        });
+        var event = new LoggingEvent(Logger.class.getName(), this.logger, Level.INFO, "Next", null, null);
+
+        assertThat(this.encoder.encode(failing)).isEmpty();
+        var first = this.encoder.encode(event);
+        var second = this.encoder.encode(event);
+
+        assertThat(parse(first).get("message").asString()).isEqualTo("Next");
+        assertThat(new String(first, StandardCharsets.UTF_8)).doesNotContain("partial");
+        assertThat(second).isEqualTo(first);
+    }
+
+    private ILoggingEvent koraEvent(Map<String, String> mdc, Map<String, StructuredArgumentWriter> koraMdc, SpanContext span) {
+        return new KoraLoggingEvent(
+            "main",
+            "test.logger",
+            this.context.getLoggerContextRemoteView(),
+            Level.INFO,
+            "test message",
+            "test message",
+            null,
+            null,
+            null,
+            mdc,
+            System.currentTimeMillis(),
+            0,
+            0,
+            List.of(),
+            koraMdc,
+            span
+        );
+    }
+
+    private static JsonNode parse(byte[] bytes) {
+        assertThat(bytes).isNotEmpty();
+        return MAPPER.readTree(bytes);
+    }
+}
@@ -0,0 +1,209 @@
+package io.koraframework.logging.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Timeout(30)
+class KoraRingBufferAppenderTest {
+
+    private final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final Logger logger = this.context.getLogger(KoraRingBufferAppenderTest.class);
+    private final KoraRingBufferAppender appender = new KoraRingBufferAppender();
+    private final RecordingAppender recording = new RecordingAppender();
+
+    @AfterEach
+    void tearDown() {
+        this.appender.stop();
+    }
+
+    @Test
+    void deliversEventsOfEveryProducerInPublishOrder() throws InterruptedException {
+        var producers = 8;
+        var eventsPerProducer = 10_000;
+        this.start(64, KoraRingBufferAppender.OverflowPolicy.BLOCK, _ -> {});
+
+        var threads = new ArrayList<Thread>();
+        var ready = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            var producer = p;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    ready.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    this.appender.doAppend(this.event(producer + ":" + i));
+                }
+            }));
+        }
+        ready.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+        this.appender.stop();
+
+        assertThat(this.recording.messages).hasSize(producers * eventsPerProducer);
+        assertThat(this.appender.getDroppedEvents()).isZero();
+        var lastByProducer = new HashMap<String, Integer>();
+        for (var message : this.recording.messages) {
+            var parts = message.split(":");
+            var previous = lastByProducer.put(parts[0], Integer.parseInt(parts[1]));
+            assertThat(Integer.parseInt(parts[1])).isEqualTo(previous == null ? 0 : previous + 1);
+        }
+    }
+
+    @Test
+    void dropPolicyCountsEventsThatDontFit() throws InterruptedException {
+        var entered = new CountDownLatch(1);
+        var proceed = new CountDownLatch(1);
+        this.start(4, KoraRingBufferAppender.OverflowPolicy.DROP, blockFirst(entered, proceed));
+
+        this.appender.doAppend(this.event("0"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        // slot of the event in progress is taken until attached appenders return
+        for (int i = 1; i <= 5; i++) {
+            this.appender.doAppend(this.event(String.valueOf(i)));
+        }
+        assertThat(this.appender.getDroppedEvents()).isEqualTo(2);
+
+        proceed.countDown();
+        this.appender.stop();
+
+        assertThat(this.recording.messages).containsExactly("0", "1", "2", "3");
+        assertThat(this.appender.getDroppedEvents()).isEqualTo(2);
+    }
+
+    @Test
+    void blockPolicyWaitsForFreeSlot() throws InterruptedException {
+        var entered = new CountDownLatch(1);
+        var proceed = new CountDownLatch(1);
+        this.start(4, KoraRingBufferAppender.OverflowPolicy.BLOCK, blockFirst(entered, proceed));
+
+        this.appender.doAppend(this.event("0"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        var producer = Thread.ofPlatform().start(() -> {
+            for (int i = 1; i <= 5; i++) {
+                this.appender.doAppend(this.event(String.valueOf(i)));
+            }
+        });
+        producer.join(300);
+        assertThat(producer.isAlive()).isTrue();
+
+        proceed.countDown();
+        producer.join();
+        this.appender.stop();
+
+        assertThat(this.recording.messages).containsExactly("0", "1", "2", "3", "4", "5");
+        assertThat(this.appender.getDroppedEvents()).isZero();
+    }
+
+    @Test
+    void stopFlushesQueuedEvents() {
+        this.start(1024, KoraRingBufferAppender.OverflowPolicy.BLOCK, _ -> {});
+
+        for (int i = 0; i < 1000; i++) {
+            this.appender.doAppend(this.event(String.valueOf(i)));
+        }
+        this.appender.stop();
+
+        assertThat(this.recording.messages).hasSize(1000);
+        assertThat(this.recording.messages.getFirst()).isEqualTo("0");
+        assertThat(this.recording.messages.getLast()).isEqualTo("999");
+        assertThat(this.recording.isStarted()).isFalse();
+        assertThat(this.appender.getQueueSize()).isZero();
+    }
+
+    @Test
+    void workerLoggingToItselfIsDroppedInsteadOfBlocking() {
+        var filled = new CountDownLatch(1);
+        this.start(2, KoraRingBufferAppender.OverflowPolicy.BLOCK, message -> {
+            if (message.equals("outer")) {
+                try {
+                    filled.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                // both slots are taken and only the worker could free them, so waiting would never end
+                this.appender.doAppend(this.event("inner"));
+            }
+        });
+
+        this.appender.doAppend(this.event("outer"));
+        this.appender.doAppend(this.event("filler"));
+        filled.countDown();
+        this.appender.stop();
+
+        assertThat(this.recording.messages).containsExactly("outer", "filler");
+        assertThat(this.appender.getDroppedEvents()).isEqualTo(1);
+    }
+
+    @Test
+    void singleSlotQueueIsRoundedUp() {
+        this.start(1, KoraRingBufferAppender.OverflowPolicy.BLOCK, _ -> {});
+
+        assertThat(this.appender.getCapacity()).isEqualTo(2);
+    }
+
+    private void start(int queueSize, KoraRingBufferAppender.OverflowPolicy overflowPolicy, Consumer<String> onAppend) {
+        this.recording.onAppend = onAppend;
+        this.recording.setContext(this.context);
+        this.recording.start();
+        this.appender.setContext(this.context);
+        this.appender.setName("test");
+        this.appender.setQueueSize(queueSize);
+        this.appender.setOverflowPolicy(overflowPolicy);
+        this.appender.setMaxFlushTime(10_000);
+        this.appender.addAppender(this.recording);
+        this.appender.start();
+        assertThat(this.appender.isStarted()).isTrue();
+    }
+
+    private ILoggingEvent event(String message) {
+        return new LoggingEvent(Logger.class.getName(), this.logger, Level.INFO, message, null, null);
+    }
+
+    private static Consumer<String> blockFirst(CountDownLatch entered, CountDownLatch proceed) {
+        return message -> {
+            if (message.equals("0")) {
+                entered.countDown();
+                try {
+                    proceed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
+    private static final class RecordingAppender extends AppenderBase<ILoggingEvent> {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private Consumer<String> onAppend = _ -> {};
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            // slot is reused after append returns, so only copied values are kept
+            var message = event.getFormattedMessage();
+            this.messages.add(message);
+            this.onAppend.accept(message);
+        }
+    }
+}
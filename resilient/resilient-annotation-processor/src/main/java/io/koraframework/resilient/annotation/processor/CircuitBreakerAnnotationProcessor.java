@@ -62,6 +62,17 @@ public class CircuitBreakerAnnotationProcessor extends AbstractKoraProcessor {
             ClassName.get("io.koraframework.resilient.ratelimiter.telemetry", "RateLimiterTelemetryConfig"),
             ClassName.get("io.koraframework.resilient.ratelimiter.telemetry", "RateLimiterOperationTelemetryConfig"),
             "rateLimiter"
+        ),
+        new Spec(
+            ClassName.get("io.koraframework.resilient.bulkhead.annotation", "BulkheadSpec"),
+            ClassName.get("io.koraframework.resilient.bulkhead", "Bulkhead"),
+            ClassName.get("io.koraframework.resilient.bulkhead", "KoraBulkhead"),
+            ClassName.get("io.koraframework.resilient.bulkhead", "BulkheadConfig"),
+            null,
+            ClassName.get("io.koraframework.resilient.bulkhead.telemetry", "BulkheadTelemetryFactory"),
+            ClassName.get("io.koraframework.resilient.bulkhead.telemetry", "BulkheadTelemetryConfig"),
+            ClassName.get("io.koraframework.resilient.bulkhead.telemetry", "BulkheadOperationTelemetryConfig"),
+            "bulkhead"
         )
     );
 
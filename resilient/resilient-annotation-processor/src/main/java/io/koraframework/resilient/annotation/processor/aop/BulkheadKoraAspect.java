@@ -0,0 +1,89 @@
+package io.koraframework.resilient.annotation.processor.aop;
+
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import io.koraframework.annotation.processor.common.CommonClassNames;
+import io.koraframework.annotation.processor.common.MethodUtils;
+import io.koraframework.annotation.processor.common.ProcessingErrorException;
+import io.koraframework.aop.annotation.processor.KoraAspect;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.palantir.javapoet.CodeBlock.joining;
+
+public class BulkheadKoraAspect implements KoraAspect {
+
+    private static final ClassName ANNOTATION_TYPE = ClassName.get("io.koraframework.resilient.bulkhead.annotation", "Bulkhead");
+    private static final ClassName BULKHEAD = ClassName.get("io.koraframework.resilient.bulkhead", "Bulkhead");
+
+    private final ProcessingEnvironment env;
+
+    public BulkheadKoraAspect(ProcessingEnvironment env) {
+        this.env = env;
+    }
+
+    @Override
+    public Set<ClassName> getSupportedAnnotationClassNames() {
+        return Set.of(ANNOTATION_TYPE);
+    }
+
+    @Override
+    public ApplyResult apply(ExecutableElement method, String superCall, AspectContext aspectContext) {
+        if (MethodUtils.isPublisher(method)) {
+            throw new ProcessingErrorException(ResilientAopErrors.unsupportedReturnTypeError("@Bulkhead", method, CommonClassNames.publisher), method);
+        } else if(MethodUtils.isCompletionStage(method)) {
+            throw new ProcessingErrorException(ResilientAopErrors.unsupportedReturnTypeError("@Bulkhead", method, method.getReturnType()), method);
+        } else if(MethodUtils.isFuture(method)) {
+            throw new ProcessingErrorException(ResilientAopErrors.unsupportedReturnTypeError("@Bulkhead", method, method.getReturnType()), method);
+        }
+
+        final Optional<? extends AnnotationMirror> mirror = method.getAnnotationMirrors().stream()
+            .filter(a -> a.getAnnotationType().toString().equals(ANNOTATION_TYPE.canonicalName()))
+            .findFirst();
+
+        final TypeMirror bulkheadTypeMirror = mirror.flatMap(a -> a.getElementValues().entrySet().stream()
+                .filter(e -> e.getKey().getSimpleName().contentEquals("value"))
+                .map(e -> (TypeMirror) e.getValue().getValue())
+                .findFirst())
+            .orElseThrow();
+
+        var bulkheadElement = (TypeElement) env.getTypeUtils().asElement(bulkheadTypeMirror);
+        var baseBulkheadType = env.getElementUtils().getTypeElement(BULKHEAD.canonicalName()).asType();
+        if (!env.getTypeUtils().isAssignable(bulkheadTypeMirror, baseBulkheadType)) {
+            throw new ProcessingErrorException(ResilientAopErrors.invalidResilientContractError("@Bulkhead", method, BULKHEAD.canonicalName()), method);
+        }
+        var bulkheadType = env.getTypeUtils().getDeclaredType(bulkheadElement);
+        var fieldBulkhead = aspectContext.fieldFactory().constructorParam(bulkheadType, List.of());
+
+        return new ApplyResult.MethodBody(buildBodySync(method, superCall, fieldBulkhead));
+    }
+
+    private CodeBlock buildBodySync(ExecutableElement method, String superCall, String bulkheadField) {
+        final CodeBlock superMethod = buildMethodCall(method, superCall);
+        final CodeBlock methodCall = MethodUtils.isVoid(method)
+            ? superMethod
+            : CodeBlock.of("return $L", superMethod.toString());
+
+        return CodeBlock.builder().add("""
+            $L.acquire();
+            try {
+                $L;
+            } finally {
+                $L.release();
+            }
+            """, bulkheadField, methodCall.toString(), bulkheadField).build();
+    }
+
+    private CodeBlock buildMethodCall(ExecutableElement method, String call) {
+        return method.getParameters().stream()
+            .map(p -> CodeBlock.of("$L", p))
+            .collect(joining(", ", call + "(", ")"));
+    }
+}
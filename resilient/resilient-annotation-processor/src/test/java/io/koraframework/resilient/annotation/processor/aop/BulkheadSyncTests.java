@@ -0,0 +1,72 @@
+package io.koraframework.resilient.annotation.processor.aop;
+
+import io.koraframework.resilient.bulkhead.exception.BulkheadFullException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BulkheadSyncTests extends ResilientAopTestSupport {
+
+    @Test
+    void syncBulkheadCallSucceeds() {
+        var service = compileBulkheadTarget("""
+            @Bulkhead(TestBulkhead.class)
+            public String call(Runnable body) {
+                body.run();
+                return "OK";
+            }
+            """);
+
+        assertEquals("OK", invoke(service, "call", (Runnable) () -> {}));
+    }
+
+    @Test
+    void syncBulkheadConcurrentCallIsRejected() {
+        var service = compileBulkheadTarget("""
+            @Bulkhead(TestBulkhead.class)
+            public String call(Runnable body) {
+                body.run();
+                return "OK";
+            }
+            """);
+
+        Runnable nested = () -> invoke(service, "call", (Runnable) () -> {});
+
+        assertThrows(BulkheadFullException.class, () -> invoke(service, "call", nested));
+        assertEquals("OK", invoke(service, "call", (Runnable) () -> {}));
+    }
+
+    @Test
+    void voidBulkheadReleasesPermitOnFailure() {
+        var service = compileBulkheadTarget("""
+            @Bulkhead(TestBulkhead.class)
+            public void call(Runnable body) {
+                body.run();
+            }
+            """);
+
+        assertThrows(IllegalStateException.class, () -> invoke(service, "call", (Runnable) () -> {
+            throw new IllegalStateException("test");
+        }));
+        assertDoesNotThrow(() -> invoke(service, "call", (Runnable) () -> {}));
+    }
+
+    private Object compileBulkheadTarget(String method) {
+        return compileApp("""
+            custom1 {
+              maxConcurrentCalls = 1
+            }
+            """, """
+            @BulkheadSpec("custom1")
+            public interface TestBulkhead extends io.koraframework.resilient.bulkhead.Bulkhead {}
+            """, """
+            @Component
+            @Root
+            public class TestTarget {
+                %s
+            }
+            """.formatted(method));
+    }
+}
@@ -312,6 +312,7 @@ class CircuitBreakerSyncTests extends AbstractAnnotationProcessorTest {
                                 timeout {}
                                 fallback {}
                                 rateLimiter {}
+                                bulkhead {}
                               }
                               circuitbreaker {
                                 custom1 {
@@ -355,6 +356,7 @@ class CircuitBreakerSyncTests extends AbstractAnnotationProcessorTest {
                                 timeout {}
                                 fallback {}
                                 rateLimiter {}
+                                bulkhead {}
                               }
                             }
                             \"""
@@ -383,6 +385,7 @@ class CircuitBreakerSyncTests extends AbstractAnnotationProcessorTest {
                                 timeout {}
                                 fallback {}
                                 rateLimiter {}
+                                bulkhead {}
                               }
                               circuitbreaker {
                                 custom1 {
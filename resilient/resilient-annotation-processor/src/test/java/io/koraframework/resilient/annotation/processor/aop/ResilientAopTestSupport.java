@@ -23,6 +23,8 @@ abstract class ResilientAopTestSupport extends AbstractAnnotationProcessorTest {
             import io.koraframework.config.common.origin.SimpleConfigOrigin;
             import io.koraframework.config.hocon.HoconConfigFactory;
             import io.koraframework.resilient.ResilientModule;
+            import io.koraframework.resilient.bulkhead.annotation.Bulkhead;
+            import io.koraframework.resilient.bulkhead.annotation.BulkheadSpec;
             import io.koraframework.resilient.fallback.annotation.Fallback;
             import io.koraframework.resilient.ratelimiter.annotation.RateLimited;
             import io.koraframework.resilient.ratelimiter.annotation.RateLimiterSpec;
@@ -85,6 +87,7 @@ abstract class ResilientAopTestSupport extends AbstractAnnotationProcessorTest {
                               timeout {}
                               fallback {}
                               rateLimiter {}
+                              bulkhead {}
                             }
                             %s
                             \"""
@@ -0,0 +1,68 @@
+package io.koraframework.resilient.bulkhead;
+
+import io.koraframework.resilient.bulkhead.exception.BulkheadFullException;
+import io.koraframework.resilient.common.ThrowableCallable;
+import io.koraframework.resilient.common.ThrowableRunnable;
+
+/**
+ * A {@link Bulkhead} limits the number of concurrent calls to a backend system
+ * to {@link BulkheadConfig#maxConcurrentCalls()}, so a slow dependency can not take all threads and connections of the application.
+ * <p>
+ * When no permit becomes available within {@link BulkheadConfig#maxWaitDuration()} or wait queue is full, a {@link BulkheadFullException} is thrown.
+ * <p>
+ * Usage via typed style: declare a spec interface with {@code @BulkheadSpec}
+ * and apply {@code @Bulkhead} to protected methods.
+ */
+public interface Bulkhead {
+
+    /**
+     * Try to acquire a permit without waiting.
+     *
+     * @return {@code true} if permit was acquired, {@code false} if bulkhead is full
+     */
+    boolean tryAcquire();
+
+    /**
+     * Acquire a permit, waiting up to {@link BulkheadConfig#maxWaitDuration()} for it.
+     *
+     * @throws BulkheadFullException when permit was not acquired
+     */
+    void acquire() throws BulkheadFullException;
+
+    /**
+     * Release permit previously acquired with {@link #tryAcquire()} or {@link #acquire()}.
+     */
+    void release();
+
+    /**
+     * Execute runnable with bulkhead protection.
+     *
+     * @param runnable to execute
+     * @throws BulkheadFullException when permit was not acquired
+     */
+    default <E extends Throwable> void execute(ThrowableRunnable<E> runnable) throws E, BulkheadFullException {
+        acquire();
+        try {
+            runnable.run();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Execute supplier with bulkhead protection.
+     *
+     * @param callable to execute for result
+     * @param <T>      type of result
+     * @return result from supplier
+     * @throws BulkheadFullException when permit was not acquired
+     */
+    default <T, E extends Throwable> T execute(ThrowableCallable<T, E> callable) throws E, BulkheadFullException {
+        acquire();
+        try {
+            return callable.call();
+        } finally {
+            release();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.koraframework.resilient.bulkhead;
+
+import io.koraframework.config.common.annotation.ConfigMapper;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigMapper
+public interface BulkheadConfig {
+
+    default boolean enabled() {
+        return true;
+    }
+
+    /**
+     * @return Maximum number of calls executed concurrently.
+     */
+    int maxConcurrentCalls();
+
+    /**
+     * @return Maximum time a call waits for a permit when all permits are taken, zero means calls are rejected immediately.
+     */
+    default Duration maxWaitDuration() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * @return Maximum number of calls waiting for a permit at the same time, calls above it are rejected immediately, unlimited if not specified.
+     */
+    @Nullable
+    Integer maxQueueSize();
+
+    @Nullable
+    TelemetryConfig telemetry();
+
+    @ConfigMapper
+    interface TelemetryConfig {
+
+        LoggingConfig logging();
+
+        MetricsConfig metrics();
+
+        TracingConfig tracing();
+
+        @ConfigMapper
+        interface LoggingConfig {
+
+            @Nullable
+            Boolean enabled();
+        }
+
+        @ConfigMapper
+        interface MetricsConfig {
+
+            @Nullable
+            Boolean enabled();
+
+            Duration @Nullable [] slo();
+
+            @Nullable
+            Map<String, String> tags();
+        }
+
+        @ConfigMapper
+        interface TracingConfig {
+
+            @Nullable
+            Boolean enabled();
+
+            @Nullable
+            Map<String, String> attributes();
+        }
+    }
+}
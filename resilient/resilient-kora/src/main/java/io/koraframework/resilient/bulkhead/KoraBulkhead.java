@@ -0,0 +1,98 @@
+package io.koraframework.resilient.bulkhead;
+
+import io.koraframework.resilient.bulkhead.exception.BulkheadFullException;
+import io.koraframework.resilient.bulkhead.telemetry.BulkheadTelemetry;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Permits are taken from non-fair {@link Semaphore}, so an uncontended call acquires permit with a single CAS,
+ * calls that have to wait are counted to limit the wait queue size.
+ */
+public class KoraBulkhead implements Bulkhead {
+
+    private final String name;
+    private final BulkheadConfig config;
+    private final BulkheadTelemetry telemetry;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final long maxWaitNanos;
+    private final int maxQueueSize;
+
+    public KoraBulkhead(String name, BulkheadConfig config, BulkheadTelemetry telemetry) {
+        this.name = name;
+        this.config = config;
+        this.telemetry = telemetry;
+        this.permits = new Semaphore(config.maxConcurrentCalls());
+        this.maxWaitNanos = config.maxWaitDuration().toNanos();
+        this.maxQueueSize = config.maxQueueSize() == null ? Integer.MAX_VALUE : config.maxQueueSize();
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        if (!config.enabled()) {
+            return true;
+        }
+        var observation = telemetry.observe();
+        boolean acquired = false;
+        try {
+            acquired = permits.tryAcquire();
+            return acquired;
+        } catch (Throwable e) {
+            observation.observeError(e);
+            throw e;
+        } finally {
+            observation.recordAcquire(acquired);
+            observation.end();
+        }
+    }
+
+    @Override
+    public void acquire() throws BulkheadFullException {
+        if (!config.enabled()) {
+            return;
+        }
+        var observation = telemetry.observe();
+        boolean acquired = false;
+        try {
+            acquired = permits.tryAcquire() || tryAcquireWaiting();
+        } catch (Throwable e) {
+            observation.observeError(e);
+            throw e;
+        } finally {
+            observation.recordAcquire(acquired);
+            observation.end();
+        }
+        if (!acquired) {
+            throw new BulkheadFullException(name);
+        }
+    }
+
+    @Override
+    public void release() {
+        if (!config.enabled()) {
+            return;
+        }
+        permits.release();
+    }
+
+    private boolean tryAcquireWaiting() {
+        if (maxWaitNanos <= 0) {
+            return false;
+        }
+        if (waiting.incrementAndGet() > maxQueueSize) {
+            waiting.decrementAndGet();
+            return false;
+        }
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.koraframework.resilient.bulkhead.exception;
+
+import io.koraframework.resilient.bulkhead.Bulkhead;
+import io.koraframework.resilient.exception.ResilientException;
+
+/**
+ * Exception thrown when all permits of a given {@link Bulkhead} are taken and none was released within max wait duration.
+ */
+public final class BulkheadFullException extends ResilientException {
+
+    public BulkheadFullException(String name) {
+        super(name, "Bulkhead '" + name + "' is full");
+    }
+}
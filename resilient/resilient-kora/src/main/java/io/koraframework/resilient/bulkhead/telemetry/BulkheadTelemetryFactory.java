@@ -0,0 +1,6 @@
+package io.koraframework.resilient.bulkhead.telemetry;
+
+public interface BulkheadTelemetryFactory {
+
+    BulkheadTelemetry get(String name, BulkheadTelemetryConfig config);
+}
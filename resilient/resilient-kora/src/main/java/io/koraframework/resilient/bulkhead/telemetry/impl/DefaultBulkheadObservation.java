@@ -0,0 +1,50 @@
+package io.koraframework.resilient.bulkhead.telemetry.impl;
+
+import io.koraframework.resilient.bulkhead.telemetry.BulkheadObservation;
+import io.opentelemetry.api.trace.Span;
+import org.jspecify.annotations.Nullable;
+
+public class DefaultBulkheadObservation implements BulkheadObservation {
+
+    protected final DefaultBulkheadTelemetry.TelemetryContext context;
+    protected final DefaultBulkheadLoggerFactory.DefaultBulkheadLogger logger;
+    protected final DefaultBulkheadMetricsFactory.DefaultBulkheadMetrics metrics;
+    protected final long startNanos = System.nanoTime();
+
+    @Nullable
+    protected Boolean acquired;
+    @Nullable
+    protected Throwable exception;
+
+    public DefaultBulkheadObservation(DefaultBulkheadTelemetry.TelemetryContext context,
+                                      DefaultBulkheadLoggerFactory.DefaultBulkheadLogger logger,
+                                      DefaultBulkheadMetricsFactory.DefaultBulkheadMetrics metrics) {
+        this.context = context;
+        this.logger = logger;
+        this.metrics = metrics;
+        logger.logStartAcquire();
+    }
+
+    @Override
+    public void recordAcquire(boolean acquired) {
+        this.acquired = acquired;
+    }
+
+    @Override
+    public Span span() {
+        return Span.getInvalid();
+    }
+
+    @Override
+    public void end() {
+        if (this.acquired != null) {
+            this.metrics.recordAcquire(this.acquired);
+            this.logger.logAcquire(this.acquired, System.nanoTime() - this.startNanos, this.exception);
+        }
+    }
+
+    @Override
+    public void observeError(Throwable e) {
+        this.exception = e;
+    }
+}
@@ -0,0 +1,16 @@
+package io.koraframework.resilient.bulkhead.telemetry.impl;
+
+import io.koraframework.resilient.bulkhead.*;
+import io.koraframework.resilient.bulkhead.telemetry.*;
+
+public final class NoopBulkheadTelemetry implements BulkheadTelemetry {
+
+    public static final NoopBulkheadTelemetry INSTANCE = new NoopBulkheadTelemetry();
+
+    private NoopBulkheadTelemetry() {}
+
+    @Override
+    public BulkheadObservation observe() {
+        return NoopBulkheadObservation.INSTANCE;
+    }
+}
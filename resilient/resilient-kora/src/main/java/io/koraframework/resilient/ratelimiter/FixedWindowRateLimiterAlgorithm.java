@@ -0,0 +1,56 @@
+package io.koraframework.resilient.ratelimiter;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Window start moves into the future when permits of the next windows are reserved, so waiting calls are served in order.
+ * Window start and used permits are replaced together with a single CAS, so acquire never takes a lock.
+ */
+final class FixedWindowRateLimiterAlgorithm implements RateLimiterAlgorithm {
+
+    private final int limit;
+    private final long periodNanos;
+    private final AtomicReference<Window> window;
+
+    FixedWindowRateLimiterAlgorithm(RateLimiterConfig config) {
+        this.limit = config.limitForPeriod();
+        this.periodNanos = config.limitRefreshPeriod().toNanos();
+        this.window = new AtomicReference<>(new Window(System.nanoTime(), 0));
+    }
+
+    @Override
+    public long reserve(int permits, long nowNanos, long maxWaitNanos) {
+        if (permits > limit) {
+            return REJECTED;
+        }
+        while (true) {
+            var current = window.get();
+            var windowStart = current.start();
+            var used = current.used();
+            var elapsed = nowNanos - windowStart;
+            if (elapsed >= periodNanos) {
+                windowStart += elapsed - elapsed % periodNanos;
+                used = 0;
+            }
+            final long wait;
+            final Window next;
+            if (used + permits <= limit) {
+                // window could already be moved into the future by calls that reserved it
+                wait = Math.max(windowStart - nowNanos, 0);
+                next = new Window(windowStart, used + permits);
+            } else {
+                var nextWindow = windowStart + periodNanos;
+                wait = nextWindow - nowNanos;
+                next = new Window(nextWindow, permits);
+            }
+            if (wait > maxWaitNanos) {
+                return REJECTED;
+            }
+            if (window.compareAndSet(current, next)) {
+                return wait;
+            }
+        }
+    }
+
+    private record Window(long start, int used) {}
+}
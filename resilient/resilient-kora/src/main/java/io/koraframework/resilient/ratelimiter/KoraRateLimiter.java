@@ -3,44 +3,64 @@ package io.koraframework.resilient.ratelimiter;
 import io.koraframework.resilient.ratelimiter.exception.RateLimitExceededException;
 import io.koraframework.resilient.ratelimiter.telemetry.RateLimiterTelemetry;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.time.Duration;
 
+/**
+ * Permits are reserved by {@link RateLimiterAlgorithm} selected with {@link RateLimiterConfig#type()},
+ * a call that got permits reserved in the future sleeps until then, which on a virtual thread parks it without holding a carrier thread.
+ */
 public class KoraRateLimiter implements RateLimiter {
 
     private final String name;
     private final RateLimiterConfig config;
     private final RateLimiterTelemetry telemetry;
-    private final AtomicInteger permissions;
-    private final AtomicLong refreshNanos;
+    private final RateLimiterAlgorithm algorithm;
+    private final Duration maxWaitDuration;
 
     public KoraRateLimiter(String name, RateLimiterConfig config, RateLimiterTelemetry telemetry) {
+        RateLimiterConfig.validate(name, config);
         this.name = name;
         this.config = config;
         this.telemetry = telemetry;
-        this.permissions = new AtomicInteger(config.limitForPeriod());
-        this.refreshNanos = new AtomicLong(System.nanoTime() + config.limitRefreshPeriod().toNanos());
+        this.maxWaitDuration = config.maxWaitDuration();
+        this.algorithm = switch (config.type()) {
+            case FIXED_WINDOW -> new FixedWindowRateLimiterAlgorithm(config);
+            case TOKEN_BUCKET -> new TokenBucketRateLimiterAlgorithm(config);
+            case SLIDING_WINDOW -> new SlidingWindowRateLimiterAlgorithm(config);
+        };
     }
 
     @Override
     public boolean tryAcquire() {
+        return tryAcquire(1, Duration.ZERO);
+    }
+
+    @Override
+    public boolean tryAcquire(int permits, Duration timeout) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("RateLimiter '%s' permits must be positive, but was: %s".formatted(name, permits));
+        }
+        if (!config.enabled()) {
+            return true;
+        }
         var observation = telemetry.observe();
         boolean acquired = false;
         try {
-            if (!config.enabled()) {
-                return true;
+            var waitNanos = algorithm.reserve(permits, System.nanoTime(), Math.max(timeout.toNanos(), 0));
+            if (waitNanos == RateLimiterAlgorithm.REJECTED) {
+                return false;
             }
-            refreshIfNeeded();
-            while (true) {
-                var current = permissions.get();
-                if (current <= 0) {
+            if (waitNanos > 0) {
+                try {
+                    Thread.sleep(Duration.ofNanos(waitNanos));
+                } catch (InterruptedException e) {
+                    // reserved permits are not returned, interrupted call just gives them up
+                    Thread.currentThread().interrupt();
                     return false;
                 }
-                if (permissions.compareAndSet(current, current - 1)) {
-                    acquired = true;
-                    return true;
-                }
             }
+            acquired = true;
+            return true;
         } catch (Throwable e) {
             observation.observeError(e);
             throw e;
@@ -52,20 +72,13 @@ public class KoraRateLimiter implements RateLimiter {
 
     @Override
     public void acquire() throws RateLimitExceededException {
-        if (!tryAcquire()) {
-            throw new RateLimitExceededException(name);
-        }
+        acquire(1);
     }
 
-    private void refreshIfNeeded() {
-        var now = System.nanoTime();
-        var nextRefresh = refreshNanos.get();
-        if (now < nextRefresh) {
-            return;
-        }
-        var next = now + config.limitRefreshPeriod().toNanos();
-        if (refreshNanos.compareAndSet(nextRefresh, next)) {
-            permissions.set(config.limitForPeriod());
+    @Override
+    public void acquire(int permits) throws RateLimitExceededException {
+        if (!tryAcquire(permits, maxWaitDuration)) {
+            throw new RateLimitExceededException(name);
         }
     }
 }
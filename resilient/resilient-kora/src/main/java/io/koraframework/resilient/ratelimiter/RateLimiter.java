@@ -4,12 +4,14 @@ import io.koraframework.resilient.common.ThrowableCallable;
 import io.koraframework.resilient.common.ThrowableRunnable;
 import io.koraframework.resilient.ratelimiter.exception.RateLimitExceededException;
 
+import java.time.Duration;
+
 /**
  * A {@link RateLimiter} limits the rate of calls to a backend system.
  * The rate is defined as a maximum number of calls ({@link RateLimiterConfig#limitForPeriod()})
- * within a period ({@link RateLimiterConfig#limitRefreshPeriod()}).
+ * within a period ({@link RateLimiterConfig#limitRefreshPeriod()}), the way it is enforced is selected with {@link RateLimiterConfig#type()}.
  * <p>
- * When the rate limit is exceeded, a {@link RateLimitExceededException} is thrown.
+ * When no permit becomes available within {@link RateLimiterConfig#maxWaitDuration()}, a {@link RateLimitExceededException} is thrown.
  * <p>
  * Usage via typed style: declare a spec interface with {@code @RateLimiterSpec}
  * and apply {@code @RateLimited} to protected methods.
@@ -24,12 +26,55 @@ public interface RateLimiter {
     boolean tryAcquire();
 
     /**
-     * Acquire a rate limit permit, throwing an exception if rate limit is exceeded.
+     * Try to acquire weighted permits without waiting.
+     *
+     * @param permits number of permits that call costs
+     * @return {@code true} if permits were acquired, {@code false} if rate limit is exceeded
+     */
+    default boolean tryAcquire(int permits) {
+        return tryAcquire(permits, Duration.ZERO);
+    }
+
+    /**
+     * Try to acquire weighted permits, waiting up to timeout for them.
+     * Permits are reserved in order of calls, so waiting calls are not starved by the later ones,
+     * and the calling thread is parked until reserved permits become available.
+     *
+     * Default implementation supports only a single permit and doesn't wait for it.
+     *
+     * @param permits number of permits that call costs
+     * @param timeout maximum time to wait for permits
+     * @return {@code true} if permits were acquired, {@code false} if they can't be acquired within timeout
+     */
+    default boolean tryAcquire(int permits, Duration timeout) {
+        if (permits == 1) {
+            return tryAcquire();
+        }
+        throw new UnsupportedOperationException("Weighted permits are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Acquire a rate limit permit, waiting up to {@link RateLimiterConfig#maxWaitDuration()} for it.
      *
      * @throws RateLimitExceededException when rate limit is exceeded
      */
     void acquire() throws RateLimitExceededException;
 
+    /**
+     * Acquire weighted permits, waiting up to {@link RateLimiterConfig#maxWaitDuration()} for them.
+     *
+     * Default implementation supports only a single permit.
+     *
+     * @param permits number of permits that call costs
+     * @throws RateLimitExceededException when rate limit is exceeded
+     */
+    default void acquire(int permits) throws RateLimitExceededException {
+        if (permits != 1) {
+            throw new UnsupportedOperationException("Weighted permits are not supported by " + getClass().getName());
+        }
+        acquire();
+    }
+
     /**
      * Execute runnable with rate limiting protection.
      *
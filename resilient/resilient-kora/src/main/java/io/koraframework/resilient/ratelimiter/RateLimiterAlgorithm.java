@@ -0,0 +1,13 @@
+package io.koraframework.resilient.ratelimiter;
+
+sealed interface RateLimiterAlgorithm permits FixedWindowRateLimiterAlgorithm, TokenBucketRateLimiterAlgorithm, SlidingWindowRateLimiterAlgorithm {
+
+    long REJECTED = -1;
+
+    /**
+     * Reserves permits at the earliest time they are available, unless that time is further than maxWaitNanos from now.
+     *
+     * @return nanos to wait until reserved permits are available, 0 if they are available now, or {@link #REJECTED} if nothing was reserved
+     */
+    long reserve(int permits, long nowNanos, long maxWaitNanos);
+}
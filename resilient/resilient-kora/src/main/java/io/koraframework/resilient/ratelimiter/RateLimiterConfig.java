@@ -9,6 +9,11 @@ import java.util.Map;
 @ConfigMapper
 public interface RateLimiterConfig {
 
+    /**
+     * Maximum {@link #limitForPeriod()} of {@link RateLimiterType#SLIDING_WINDOW}, which allocates one {@code long} per permit.
+     */
+    int SLIDING_WINDOW_MAX_LIMIT = 1 << 20;
+
     default boolean enabled() {
         return true;
     }
@@ -17,9 +22,44 @@ public interface RateLimiterConfig {
 
     Duration limitRefreshPeriod();
 
+    default RateLimiterType type() {
+        return RateLimiterType.FIXED_WINDOW;
+    }
+
+    /**
+     * Maximum permits that {@link RateLimiterType#TOKEN_BUCKET} allows to acquire at once after being idle, {@link #limitForPeriod()} if not set.
+     */
+    @Nullable
+    Integer burstCapacity();
+
+    /**
+     * How long {@link RateLimiter#acquire()} waits for permits before throwing {@link io.koraframework.resilient.ratelimiter.exception.RateLimitExceededException}.
+     */
+    default Duration maxWaitDuration() {
+        return Duration.ZERO;
+    }
+
     @Nullable
     TelemetryConfig telemetry();
 
+    enum RateLimiterType {
+        /**
+         * Cheapest implementation, counts permits in fixed windows of {@link #limitForPeriod()}.
+         * Calls at the end of one window and at the start of the next one can get up to twice the limit within one period.
+         */
+        FIXED_WINDOW,
+        /**
+         * Smooth rate implementation, permits are refilled one by one every {@code limitRefreshPeriod / limitForPeriod}
+         * and up to {@link #burstCapacity()} of them can be accumulated while limiter is idle.
+         */
+        TOKEN_BUCKET,
+        /**
+         * Exact implementation, no period of {@link #limitRefreshPeriod()} length ever has more than {@link #limitForPeriod()} permits.
+         * It keeps acquisition time of every permit in the window, so it allocates one {@code long} per permit of {@link #limitForPeriod()}.
+         */
+        SLIDING_WINDOW
+    }
+
     @ConfigMapper
     interface TelemetryConfig {
 
@@ -58,4 +98,29 @@ public interface RateLimiterConfig {
             Map<String, String> attributes();
         }
     }
+
+    static RateLimiterConfig validate(String name, RateLimiterConfig config) {
+        if (config.limitForPeriod() < 1) {
+            throw new IllegalArgumentException("RateLimiter '%s' property '%s' can't be negative or zero value, but was: %s"
+                .formatted(name, "limitForPeriod", config.limitForPeriod()));
+        }
+        if (config.limitRefreshPeriod().isNegative() || config.limitRefreshPeriod().isZero()) {
+            throw new IllegalArgumentException("RateLimiter '%s' property '%s' can't be negative or zero value, but was: %s"
+                .formatted(name, "limitRefreshPeriod", config.limitRefreshPeriod()));
+        }
+        if (config.burstCapacity() != null && config.burstCapacity() < 1) {
+            throw new IllegalArgumentException("RateLimiter '%s' property '%s' can't be negative or zero value, but was: %s"
+                .formatted(name, "burstCapacity", config.burstCapacity()));
+        }
+        if (config.maxWaitDuration().isNegative()) {
+            throw new IllegalArgumentException("RateLimiter '%s' property '%s' can't be negative value, but was: %s"
+                .formatted(name, "maxWaitDuration", config.maxWaitDuration()));
+        }
+        if (config.type() == RateLimiterType.SLIDING_WINDOW && config.limitForPeriod() > SLIDING_WINDOW_MAX_LIMIT) {
+            throw new IllegalArgumentException("RateLimiter '%s' property '%s' can't be greater than %s for '%s' type, but was: %s"
+                .formatted(name, "limitForPeriod", SLIDING_WINDOW_MAX_LIMIT, RateLimiterType.SLIDING_WINDOW, config.limitForPeriod()));
+        }
+
+        return config;
+    }
 }
@@ -0,0 +1,53 @@
+package io.koraframework.resilient.ratelimiter;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sliding log of the last {@code limitForPeriod} permits kept in a ring buffer ordered by time,
+ * permits can be acquired once the permits they replace are older than the period.
+ */
+final class SlidingWindowRateLimiterAlgorithm implements RateLimiterAlgorithm {
+
+    private final long periodNanos;
+    private final long[] acquiredAt;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int oldest;
+    private long lastAcquiredAt;
+
+    SlidingWindowRateLimiterAlgorithm(RateLimiterConfig config) {
+        this.periodNanos = config.limitRefreshPeriod().toNanos();
+        this.acquiredAt = new long[config.limitForPeriod()];
+        this.lastAcquiredAt = System.nanoTime() - this.periodNanos;
+        Arrays.fill(this.acquiredAt, this.lastAcquiredAt);
+    }
+
+    @Override
+    public long reserve(int permits, long nowNanos, long maxWaitNanos) {
+        if (permits > acquiredAt.length) {
+            return REJECTED;
+        }
+        lock.lock();
+        try {
+            var at = acquiredAt[(oldest + permits - 1) % acquiredAt.length] + periodNanos;
+            if (at - nowNanos < 0) {
+                at = nowNanos;
+            }
+            if (at - lastAcquiredAt < 0) {
+                at = lastAcquiredAt;
+            }
+            var wait = at - nowNanos;
+            if (wait > maxWaitNanos) {
+                return REJECTED;
+            }
+            for (int i = 0; i < permits; i++) {
+                acquiredAt[oldest] = at;
+                oldest = (oldest + 1) % acquiredAt.length;
+            }
+            lastAcquiredAt = at;
+            return wait;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
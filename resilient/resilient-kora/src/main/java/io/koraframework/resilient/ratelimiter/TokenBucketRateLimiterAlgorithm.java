@@ -0,0 +1,42 @@
+package io.koraframework.resilient.ratelimiter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket in its GCRA form: the whole state is a single theoretical arrival time updated with CAS,
+ * each permit moves it by one emission interval and a call conforms while it is at most burst capacity intervals ahead of now.
+ */
+final class TokenBucketRateLimiterAlgorithm implements RateLimiterAlgorithm {
+
+    private final int capacity;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucketRateLimiterAlgorithm(RateLimiterConfig config) {
+        this.capacity = config.burstCapacity() == null ? config.limitForPeriod() : config.burstCapacity();
+        // rounded up, so rounding never lets through more than the configured rate
+        this.emissionIntervalNanos = Math.ceilDiv(config.limitRefreshPeriod().toNanos(), config.limitForPeriod());
+        this.burstToleranceNanos = this.capacity * this.emissionIntervalNanos;
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public long reserve(int permits, long nowNanos, long maxWaitNanos) {
+        if (permits > capacity) {
+            return REJECTED;
+        }
+        var increment = permits * emissionIntervalNanos;
+        while (true) {
+            var current = theoreticalArrival.get();
+            var next = (current - nowNanos > 0 ? current : nowNanos) + increment;
+            var wait = next - burstToleranceNanos - nowNanos;
+            if (wait > maxWaitNanos) {
+                return REJECTED;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return Math.max(wait, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package io.koraframework.resilient.timeout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Interrupts threads that run past their deadline for {@link TimeoutConfig.ExecutionMode#CALLER} timeouters.
+ * <p>
+ * Scheduling and cancelling are a queue offer and a CAS, all wheel bookkeeping is done by a single worker thread,
+ * so the hot path neither allocates a thread nor contends on a lock. Timeouts fire with up to one tick of delay.
+ * Worker parks until the nearest bucket with timeouts is due, and indefinitely while there are none.
+ */
+final class HashedWheelTimer {
+
+    static final HashedWheelTimer INSTANCE = new HashedWheelTimer(Duration.ofMillis(10), 512);
+
+    private static final int RUNNING = 0;
+    private static final int WAITING = 1;
+    private static final int IDLE = 2;
+
+    private final long tickNanos;
+    private final int mask;
+    private final ArrayList<Timeout>[] wheel;
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final long startNanos;
+    private final Thread worker;
+    private volatile int workerState = RUNNING;
+    private volatile long wakeupNanos;
+    // accessed by timer thread only
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    HashedWheelTimer(Duration tick, int wheelSize) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two, but was: " + wheelSize);
+        }
+        this.tickNanos = tick.toNanos();
+        this.mask = wheelSize - 1;
+        this.wheel = new ArrayList[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            this.wheel[i] = new ArrayList<>();
+        }
+        this.startNanos = System.nanoTime();
+        this.worker = Thread.ofPlatform()
+            .name("kora-timeouter-timer")
+            .daemon(true)
+            .start(this::run);
+    }
+
+    Timeout schedule(Thread thread, long deadlineNanos) {
+        var timeout = new Timeout(thread, deadlineNanos);
+        this.scheduled.offer(timeout);
+        var state = this.workerState;
+        if (state == IDLE || state == WAITING && deadlineNanos - this.wakeupNanos < 0) {
+            LockSupport.unpark(this.worker);
+        }
+        return timeout;
+    }
+
+    private void run() {
+        long tick = 0;
+        while (true) {
+            var dueTicks = (System.nanoTime() - this.startNanos) / this.tickNanos;
+            if (tick >= dueTicks) {
+                this.park(tick);
+                continue;
+            }
+            if (this.size == 0) {
+                // wheel is empty, so skipped ticks have nothing to expire
+                tick = dueTicks - 1;
+            }
+            this.transferScheduled(tick);
+            this.expire(this.wheel[(int) (tick & this.mask)], System.nanoTime());
+            tick++;
+        }
+    }
+
+    /**
+     * Parks until the tick of the nearest bucket with timeouts, or until {@link #schedule} wakes the worker when the wheel is empty
+     */
+    private void park(long tick) {
+        this.transferScheduled(tick);
+        if (this.size == 0) {
+            this.workerState = IDLE;
+            if (this.scheduled.isEmpty()) {
+                LockSupport.park(this);
+            }
+        } else {
+            var wakeupTick = tick;
+            while (this.wheel[(int) (wakeupTick & this.mask)].isEmpty()) {
+                wakeupTick++;
+            }
+            var wakeupNanos = this.startNanos + (wakeupTick + 1) * this.tickNanos;
+            this.wakeupNanos = wakeupNanos;
+            this.workerState = WAITING;
+            long sleep;
+            // timeouts scheduled after transfer and before the state is published are not missed, as schedule offers before reading the state
+            if (this.scheduled.isEmpty() && (sleep = wakeupNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, sleep);
+            }
+        }
+        this.workerState = RUNNING;
+    }
+
+    private void transferScheduled(long currentTick) {
+        Timeout timeout;
+        while ((timeout = this.scheduled.poll()) != null) {
+            if (timeout.state.get() == Timeout.CANCELLED) {
+                continue;
+            }
+            var ticks = Math.max(Math.ceilDiv(timeout.deadlineNanos - this.startNanos, this.tickNanos) - 1, currentTick);
+            this.wheel[(int) (ticks & this.mask)].add(timeout);
+            this.size++;
+        }
+    }
+
+    private void expire(ArrayList<Timeout> bucket, long now) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            var timeout = bucket.get(i);
+            if (timeout.state.get() == Timeout.CANCELLED) {
+                continue;
+            }
+            // timeouts of later rounds share the bucket, ticks can be skipped while parked, so deadline is checked directly
+            if (timeout.deadlineNanos - now <= 0) {
+                timeout.expire();
+                continue;
+            }
+            bucket.set(kept++, timeout);
+        }
+        this.size -= bucket.size() - kept;
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    static final class Timeout {
+
+        private static final int PENDING = 0;
+        private static final int INTERRUPTING = 1;
+        private static final int EXPIRED = 2;
+        private static final int CANCELLED = 3;
+
+        private final Thread thread;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private Timeout(Thread thread, long deadlineNanos) {
+            this.thread = thread;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * @return true if timeout was cancelled before it fired, false if thread is interrupted or about to be
+         */
+        boolean cancel() {
+            return this.state.compareAndSet(PENDING, CANCELLED);
+        }
+
+        /**
+         * Waits until thread interruption is done, so the caller can clear interrupt flag without racing with the timer
+         */
+        void awaitExpired() {
+            while (this.state.get() != EXPIRED) {
+                Thread.onSpinWait();
+            }
+        }
+
+        private void expire() {
+            if (this.state.compareAndSet(PENDING, INTERRUPTING)) {
+                this.thread.interrupt();
+                this.state.set(EXPIRED);
+            }
+        }
+    }
+}
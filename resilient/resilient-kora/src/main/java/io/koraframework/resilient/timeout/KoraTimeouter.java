@@ -1,8 +1,13 @@
 package io.koraframework.resilient.timeout;
 
+import io.koraframework.common.Deadline;
+import io.koraframework.common.telemetry.Observation;
+import io.koraframework.common.telemetry.OpentelemetryContext;
+import io.koraframework.logging.common.MDC;
 import io.koraframework.resilient.common.ThrowableCallable;
 import io.koraframework.resilient.common.ThrowableRunnable;
 import io.koraframework.resilient.timeout.exception.TimeoutExhaustedException;
+import io.koraframework.resilient.timeout.telemetry.TimeoutObservation;
 import io.koraframework.resilient.timeout.telemetry.TimeoutTelemetry;
 
 import java.time.Duration;
@@ -45,9 +50,32 @@ public class KoraTimeouter implements Timeouter {
         }
 
         var observation = telemetry.observe(duration);
+        try {
+            var deadline = Deadline.after(duration).nearest();
+            if (config.mode() == TimeoutConfig.ExecutionMode.CALLER) {
+                return executeOnCaller(callable, observation, deadline);
+            } else {
+                return executeOnThread(callable, observation, deadline);
+            }
+        } finally {
+            observation.end();
+        }
+    }
+
+    private <T, E extends Throwable> T executeOnThread(ThrowableCallable<T, E> callable, TimeoutObservation observation, Deadline deadline) throws E {
+        // scoped values are not inherited by executor tasks, context is carried to the new thread explicitly
+        var carrier = ScopedValue.where(Deadline.VALUE, deadline)
+            .where(MDC.VALUE, MDC.VALUE.isBound() ? MDC.VALUE.get().fork() : new MDC());
+        if (Observation.VALUE.isBound()) {
+            carrier = carrier.where(Observation.VALUE, Observation.VALUE.get());
+        }
+        if (OpentelemetryContext.VALUE.isBound()) {
+            carrier = carrier.where(OpentelemetryContext.VALUE, OpentelemetryContext.VALUE.get());
+        }
+        var scope = carrier;
         var future = executor.submit(() -> {
             try {
-                return callable.call();
+                return scope.call(callable::call);
             } catch (Throwable e) {
                 KoraTimeouterUtils.doThrow(e);
                 return null;
@@ -69,8 +97,37 @@ public class KoraTimeouter implements Timeouter {
             observation.observeError(e);
             KoraTimeouterUtils.doThrow(e);
             return null;
-        } finally {
-            observation.end();
         }
     }
+
+    private <T, E extends Throwable> T executeOnCaller(ThrowableCallable<T, E> callable, TimeoutObservation observation, Deadline deadline) throws E {
+        var wasInterrupted = Thread.currentThread().isInterrupted();
+        var timeout = HashedWheelTimer.INSTANCE.schedule(Thread.currentThread(), System.nanoTime() + duration.toNanos());
+        T result;
+        try {
+            result = ScopedValue.where(Deadline.VALUE, deadline).call(callable::call);
+        } catch (Throwable e) {
+            if (timeout.cancel()) {
+                observation.observeError(e);
+                throw e;
+            }
+            throw timeoutExhausted(timeout, observation, wasInterrupted);
+        }
+        if (!timeout.cancel()) {
+            // call ignored interruption and completed late, the result is not trusted to be on time
+            throw timeoutExhausted(timeout, observation, wasInterrupted);
+        }
+        return result;
+    }
+
+    private TimeoutExhaustedException timeoutExhausted(HashedWheelTimer.Timeout timeout, TimeoutObservation observation, boolean wasInterrupted) {
+        timeout.awaitExpired();
+        // interrupt was issued by timer, it must not leak to whatever the caller thread does next
+        Thread.interrupted();
+        if (wasInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        observation.recordTimeout(duration.toNanos());
+        return new TimeoutExhaustedException(name, "Timeout exceeded " + duration);
+    }
 }
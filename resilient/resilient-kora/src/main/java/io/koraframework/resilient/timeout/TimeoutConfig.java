@@ -15,9 +15,28 @@ public interface TimeoutConfig {
 
     Duration duration();
 
+    /**
+     * @return where the protected call runs, see {@link ExecutionMode}
+     */
+    default ExecutionMode mode() {
+        return ExecutionMode.THREAD;
+    }
+
     @Nullable
     TelemetryConfig telemetry();
 
+    enum ExecutionMode {
+        /**
+         * Call runs on a new virtual thread while the caller waits for it, the call is interrupted and abandoned on timeout
+         */
+        THREAD,
+        /**
+         * Call runs on the caller thread which is interrupted by a shared timer on timeout,
+         * cheaper than {@link #THREAD} but the call must react to interruption to be cut short
+         */
+        CALLER
+    }
+
     @ConfigMapper
     interface TelemetryConfig {
 
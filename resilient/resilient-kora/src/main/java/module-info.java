@@ -8,6 +8,11 @@ module kora.resilent.kora {
 
     exports io.koraframework.resilient;
     exports io.koraframework.resilient.exception;
+    exports io.koraframework.resilient.bulkhead;
+    exports io.koraframework.resilient.bulkhead.annotation;
+    exports io.koraframework.resilient.bulkhead.exception;
+    exports io.koraframework.resilient.bulkhead.telemetry;
+    exports io.koraframework.resilient.bulkhead.telemetry.impl;
     exports io.koraframework.resilient.circuitbreaker;
     exports io.koraframework.resilient.circuitbreaker.annotation;
     exports io.koraframework.resilient.circuitbreaker.exception;
@@ -0,0 +1,113 @@
+package io.koraframework.resilient.ratelimiter;
+
+import io.koraframework.resilient.ratelimiter.RateLimiterConfig.RateLimiterType;
+import io.koraframework.resilient.ratelimiter.exception.RateLimitExceededException;
+import io.koraframework.resilient.ratelimiter.telemetry.impl.NoopRateLimiterTelemetry;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KoraRateLimiterTests {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void fixedWindowResetsPermitsEveryPeriod() {
+        var algorithm = new FixedWindowRateLimiterAlgorithm(config(RateLimiterType.FIXED_WINDOW, 2, null));
+        var now = System.nanoTime();
+
+        assertEquals(0, algorithm.reserve(1, now, 0));
+        assertEquals(0, algorithm.reserve(1, now, 0));
+        assertEquals(RateLimiterAlgorithm.REJECTED, algorithm.reserve(1, now, 0));
+        assertEquals(0, algorithm.reserve(2, now + SECOND, 0));
+    }
+
+    @Test
+    void fixedWindowReservesPermitsOfNextWindow() {
+        var algorithm = new FixedWindowRateLimiterAlgorithm(config(RateLimiterType.FIXED_WINDOW, 1, null));
+        var now = System.nanoTime();
+
+        assertEquals(0, algorithm.reserve(1, now, SECOND * 10));
+        var firstWait = algorithm.reserve(1, now, SECOND * 10);
+        assertTrue(firstWait > 0 && firstWait <= SECOND);
+        assertEquals(firstWait + SECOND, algorithm.reserve(1, now, SECOND * 10));
+        assertEquals(RateLimiterAlgorithm.REJECTED, algorithm.reserve(1, now, firstWait));
+    }
+
+    @Test
+    void fixedWindowRejectsFreePermitsOfReservedWindowBeyondMaxWait() {
+        var algorithm = new FixedWindowRateLimiterAlgorithm(config(RateLimiterType.FIXED_WINDOW, 2, null));
+        var now = System.nanoTime();
+
+        assertEquals(0, algorithm.reserve(2, now, 0));
+        var wait = algorithm.reserve(1, now, SECOND * 10);
+        assertTrue(wait > 0 && wait <= SECOND);
+        // the reserved window still has a free permit, but it starts later than caller agrees to wait
+        assertEquals(RateLimiterAlgorithm.REJECTED, algorithm.reserve(1, now, 0));
+        assertEquals(RateLimiterAlgorithm.REJECTED, algorithm.reserve(1, now, wait - 1));
+        assertEquals(wait, algorithm.reserve(1, now, wait));
+    }
+
+    @Test
+    void tokenBucketAllowsBurstThenRefillsSmoothly() {
+        var algorithm = new TokenBucketRateLimiterAlgorithm(config(RateLimiterType.TOKEN_BUCKET, 10, 3));
+        var now = System.nanoTime();
+        var interval = SECOND / 10;
+
+        assertEquals(0, algorithm.reserve(3, now, 0));
+        assertEquals(RateLimiterAlgorithm.REJECTED, algorithm.reserve(1, now, 0));
+        assertEquals(interval, algorithm.reserve(1, now, interval));
+        assertEquals(0, algorithm.reserve(1, now + interval * 2, 0));
+        assertEquals(RateLimiterAlgorithm.REJECTED, algorithm.reserve(4, now + SECOND * 10, SECOND * 10));
+    }
+
+    @Test
+    void slidingWindowNeverExceedsLimitWithinPeriod() {
+        var algorithm = new SlidingWindowRateLimiterAlgorithm(config(RateLimiterType.SLIDING_WINDOW, 3, null));
+        var now = System.nanoTime();
+
+        assertEquals(0, algorithm.reserve(2, now, 0));
+        assertEquals(0, algorithm.reserve(1, now + SECOND / 2, 0));
+        // fixed window would allow it at period boundary, sliding window waits for the first permits to leave the window
+        assertEquals(RateLimiterAlgorithm.REJECTED, algorithm.reserve(1, now + SECOND - 1, 0));
+        assertEquals(0, algorithm.reserve(2, now + SECOND, 0));
+        assertEquals(SECOND / 2, algorithm.reserve(1, now + SECOND, SECOND));
+    }
+
+    @Test
+    void tryAcquireWaitsForPermits() {
+        var rateLimiter = new KoraRateLimiter("test", config(RateLimiterType.TOKEN_BUCKET, 1, null, Duration.ofMillis(100), Duration.ZERO), NoopRateLimiterTelemetry.INSTANCE);
+
+        assertTrue(rateLimiter.tryAcquire());
+        assertFalse(rateLimiter.tryAcquire());
+        var started = System.nanoTime();
+        assertTrue(rateLimiter.tryAcquire(1, Duration.ofSeconds(1)));
+        assertTrue(System.nanoTime() - started >= Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    void acquireThrowsWhenPermitsAreNotAvailableWithinMaxWait() {
+        var rateLimiter = new KoraRateLimiter("test", config(RateLimiterType.SLIDING_WINDOW, 2, null, Duration.ofMinutes(1), Duration.ofMillis(10)), NoopRateLimiterTelemetry.INSTANCE);
+
+        rateLimiter.acquire(2);
+        assertThrows(RateLimitExceededException.class, rateLimiter::acquire);
+        assertThrows(IllegalArgumentException.class, () -> rateLimiter.acquire(0));
+    }
+
+    @Test
+    void invalidConfigIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new KoraRateLimiter("test", config(RateLimiterType.FIXED_WINDOW, 0, null), NoopRateLimiterTelemetry.INSTANCE));
+        assertThrows(IllegalArgumentException.class, () -> new KoraRateLimiter("test", config(RateLimiterType.TOKEN_BUCKET, 1, 0), NoopRateLimiterTelemetry.INSTANCE));
+    }
+
+    private static RateLimiterConfig config(RateLimiterType type, int limit, @Nullable Integer burstCapacity) {
+        return config(type, limit, burstCapacity, Duration.ofSeconds(1), Duration.ZERO);
+    }
+
+    private static RateLimiterConfig config(RateLimiterType type, int limit, @Nullable Integer burstCapacity, Duration period, Duration maxWait) {
+        return new $RateLimiterConfig_ConfigValueMapper.RateLimiterConfig_Impl(true, limit, period, type, burstCapacity, maxWait, null);
+    }
+}
@@ -1,5 +1,8 @@
 package io.koraframework.resilient.telemetry;
 
+import io.koraframework.resilient.bulkhead.BulkheadConfig;
+import io.koraframework.resilient.bulkhead.telemetry.BulkheadOperationTelemetryConfig;
+import io.koraframework.resilient.bulkhead.telemetry.BulkheadTelemetryConfig;
 import io.koraframework.resilient.circuitbreaker.CircuitBreakerConfig;
 import io.koraframework.resilient.circuitbreaker.telemetry.CircuitBreakerOperationTelemetryConfig;
 import io.koraframework.resilient.circuitbreaker.telemetry.CircuitBreakerTelemetryConfig;
@@ -49,6 +52,11 @@ class ResilientOperationTelemetryConfigTests {
         assertMerged(new RateLimiterOperationTelemetryConfig(global(), operation()));
     }
 
+    @Test
+    void bulkheadTelemetryMergesOperationPropertiesOverGlobalProperties() {
+        assertMerged(new BulkheadOperationTelemetryConfig(global(), operation()));
+    }
+
     private static void assertMerged(TelemetryConfig telemetry) {
         assertEquals(false, telemetry.logging().enabled());
         assertEquals(true, telemetry.metrics().enabled());
@@ -66,7 +74,7 @@ class ResilientOperationTelemetryConfigTests {
         return new OperationTelemetryConfig();
     }
 
-    private static final class GlobalTelemetryConfig implements CircuitBreakerTelemetryConfig, RetryTelemetryConfig, TimeoutTelemetryConfig, RateLimiterTelemetryConfig {
+    private static final class GlobalTelemetryConfig implements CircuitBreakerTelemetryConfig, RetryTelemetryConfig, TimeoutTelemetryConfig, RateLimiterTelemetryConfig, BulkheadTelemetryConfig {
 
         @Override
         public GlobalLoggingConfig logging() {
@@ -85,7 +93,8 @@ class ResilientOperationTelemetryConfigTests {
     }
 
     private static final class GlobalLoggingConfig implements CircuitBreakerTelemetryConfig.CircuitBreakerLoggingConfig, RetryTelemetryConfig.RetryLoggingConfig,
-        TimeoutTelemetryConfig.TimeoutLoggingConfig, RateLimiterTelemetryConfig.RateLimiterLoggingConfig {
+        TimeoutTelemetryConfig.TimeoutLoggingConfig, RateLimiterTelemetryConfig.RateLimiterLoggingConfig,
+        BulkheadTelemetryConfig.BulkheadLoggingConfig {
 
         @Override
         public boolean enabled() {
@@ -94,7 +103,8 @@ class ResilientOperationTelemetryConfigTests {
     }
 
     private static final class GlobalMetricsConfig implements CircuitBreakerTelemetryConfig.CircuitBreakerMetricsConfig, RetryTelemetryConfig.RetryMetricsConfig,
-        TimeoutTelemetryConfig.TimeoutMetricsConfig, RateLimiterTelemetryConfig.RateLimiterMetricsConfig {
+        TimeoutTelemetryConfig.TimeoutMetricsConfig, RateLimiterTelemetryConfig.RateLimiterMetricsConfig,
+        BulkheadTelemetryConfig.BulkheadMetricsConfig {
 
         @Override
         public boolean enabled() {
@@ -113,7 +123,8 @@ class ResilientOperationTelemetryConfigTests {
     }
 
     private static final class GlobalTracingConfig implements CircuitBreakerTelemetryConfig.CircuitBreakerTracingConfig, RetryTelemetryConfig.RetryTracingConfig,
-        TimeoutTelemetryConfig.TimeoutTracingConfig, RateLimiterTelemetryConfig.RateLimiterTracingConfig {
+        TimeoutTelemetryConfig.TimeoutTracingConfig, RateLimiterTelemetryConfig.RateLimiterTracingConfig,
+        BulkheadTelemetryConfig.BulkheadTracingConfig {
 
         @Override
         public boolean enabled() {
@@ -127,7 +138,7 @@ class ResilientOperationTelemetryConfigTests {
     }
 
     private static final class OperationTelemetryConfig implements CircuitBreakerConfig.TelemetryConfig, RetryConfig.TelemetryConfig,
-        TimeoutConfig.TelemetryConfig, RateLimiterConfig.TelemetryConfig {
+        TimeoutConfig.TelemetryConfig, RateLimiterConfig.TelemetryConfig, BulkheadConfig.TelemetryConfig {
 
         @Override
         public OperationLoggingConfig logging() {
@@ -146,7 +157,8 @@ class ResilientOperationTelemetryConfigTests {
     }
 
     private static final class OperationLoggingConfig implements CircuitBreakerConfig.TelemetryConfig.LoggingConfig, RetryConfig.TelemetryConfig.LoggingConfig,
-        TimeoutConfig.TelemetryConfig.LoggingConfig, RateLimiterConfig.TelemetryConfig.LoggingConfig {
+        TimeoutConfig.TelemetryConfig.LoggingConfig, RateLimiterConfig.TelemetryConfig.LoggingConfig,
+        BulkheadConfig.TelemetryConfig.LoggingConfig {
 
         @Override
         public @Nullable Boolean enabled() {
@@ -155,7 +167,8 @@ class ResilientOperationTelemetryConfigTests {
     }
 
     private static final class OperationMetricsConfig implements CircuitBreakerConfig.TelemetryConfig.MetricsConfig, RetryConfig.TelemetryConfig.MetricsConfig,
-        TimeoutConfig.TelemetryConfig.MetricsConfig, RateLimiterConfig.TelemetryConfig.MetricsConfig {
+        TimeoutConfig.TelemetryConfig.MetricsConfig, RateLimiterConfig.TelemetryConfig.MetricsConfig,
+        BulkheadConfig.TelemetryConfig.MetricsConfig {
 
         @Override
         public @Nullable Boolean enabled() {
@@ -174,7 +187,8 @@ class ResilientOperationTelemetryConfigTests {
     }
 
     private static final class OperationTracingConfig implements CircuitBreakerConfig.TelemetryConfig.TracingConfig, RetryConfig.TelemetryConfig.TracingConfig,
-        TimeoutConfig.TelemetryConfig.TracingConfig, RateLimiterConfig.TelemetryConfig.TracingConfig {
+        TimeoutConfig.TelemetryConfig.TracingConfig, RateLimiterConfig.TelemetryConfig.TracingConfig,
+        BulkheadConfig.TelemetryConfig.TracingConfig {
 
         @Override
         public @Nullable Boolean enabled() {
@@ -0,0 +1,107 @@
+package io.koraframework.resilient.timeout;
+
+import io.koraframework.common.Deadline;
+import io.koraframework.logging.common.MDC;
+import io.koraframework.resilient.timeout.TimeoutConfig.ExecutionMode;
+import io.koraframework.resilient.timeout.exception.TimeoutExhaustedException;
+import io.koraframework.resilient.timeout.telemetry.impl.NoopTimeoutTelemetry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KoraTimeouterTests {
+
+    @Test
+    void callerModeRunsOnCallerThread() {
+        var timeouter = timeouter(ExecutionMode.CALLER, Duration.ofSeconds(5));
+
+        var thread = timeouter.execute(() -> Thread.currentThread());
+
+        assertSame(Thread.currentThread(), thread);
+    }
+
+    @Test
+    void callerModeInterruptsOnTimeoutAndClearsInterrupt() {
+        var timeouter = timeouter(ExecutionMode.CALLER, Duration.ofMillis(50));
+
+        var started = System.nanoTime();
+        assertThrows(TimeoutExhaustedException.class, () -> timeouter.execute(() -> Thread.sleep(10_000)));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(5)) < 0);
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    void callerModeDoesNotInterruptAfterCompletion() throws InterruptedException {
+        var timeouter = timeouter(ExecutionMode.CALLER, Duration.ofMillis(20));
+
+        assertEquals("ok", timeouter.execute(() -> "ok"));
+        Thread.sleep(100);
+
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    void callerModePropagatesError() {
+        var timeouter = timeouter(ExecutionMode.CALLER, Duration.ofSeconds(5));
+
+        var e = assertThrows(IllegalStateException.class, () -> timeouter.execute(() -> {
+            throw new IllegalStateException("test");
+        }));
+        assertEquals("test", e.getMessage());
+    }
+
+    @Test
+    void deadlineIsBoundInsideCall() {
+        for (var mode : ExecutionMode.values()) {
+            var timeouter = timeouter(mode, Duration.ofSeconds(5));
+
+            var remaining = timeouter.execute(() -> Objects.requireNonNull(Deadline.current()).remaining());
+
+            assertTrue(remaining.compareTo(Duration.ZERO) > 0, mode::name);
+            assertTrue(remaining.compareTo(Duration.ofSeconds(5)) <= 0, mode::name);
+        }
+    }
+
+    @Test
+    void nestedTimeouterCanOnlyShortenDeadline() {
+        var outer = timeouter(ExecutionMode.CALLER, Duration.ofSeconds(1));
+        var inner = timeouter(ExecutionMode.THREAD, Duration.ofMinutes(1));
+
+        var remaining = outer.execute(() -> inner.execute(() -> Objects.requireNonNull(Deadline.current()).remaining()));
+
+        assertTrue(remaining.compareTo(Duration.ofSeconds(1)) <= 0);
+    }
+
+    @Test
+    void threadModeCarriesMdc() {
+        var timeouter = timeouter(ExecutionMode.THREAD, Duration.ofSeconds(5));
+        var mdc = new MDC();
+        mdc.put0("request", "42");
+
+        var values = ScopedValue.where(MDC.VALUE, mdc).call(() -> timeouter.execute(() -> MDC.VALUE.get().values()));
+
+        assertTrue(values.containsKey("request"));
+    }
+
+    @Test
+    void idleTimerWakesUpForNewTimeout() throws InterruptedException {
+        var timer = new HashedWheelTimer(Duration.ofMillis(10), 8);
+        // wheel is empty, so the worker is parked without a deadline
+        Thread.sleep(100);
+
+        var started = System.nanoTime();
+        timer.schedule(Thread.currentThread(), started + Duration.ofMillis(50).toNanos());
+
+        assertThrows(InterruptedException.class, () -> Thread.sleep(10_000));
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(5)) < 0);
+    }
+
+    private static KoraTimeouter timeouter(ExecutionMode mode, Duration duration) {
+        var config = new $TimeoutConfig_ConfigValueMapper.TimeoutConfig_Impl(true, duration, mode, null);
+        return new KoraTimeouter("test", duration, NoopTimeoutTelemetry.INSTANCE, config);
+    }
+}
@@ -274,6 +274,17 @@ class CircuitBreakerSymbolProcessor(
                 ClassName("io.koraframework.resilient.ratelimiter.telemetry", "RateLimiterTelemetryConfig"),
                 ClassName("io.koraframework.resilient.ratelimiter.telemetry", "RateLimiterOperationTelemetryConfig"),
                 "rateLimiter"
+            ),
+            Spec(
+                ClassName("io.koraframework.resilient.bulkhead.annotation", "BulkheadSpec"),
+                ClassName("io.koraframework.resilient.bulkhead", "Bulkhead"),
+                ClassName("io.koraframework.resilient.bulkhead", "KoraBulkhead"),
+                ClassName("io.koraframework.resilient.bulkhead", "BulkheadConfig"),
+                null,
+                ClassName("io.koraframework.resilient.bulkhead.telemetry", "BulkheadTelemetryFactory"),
+                ClassName("io.koraframework.resilient.bulkhead.telemetry", "BulkheadTelemetryConfig"),
+                ClassName("io.koraframework.resilient.bulkhead.telemetry", "BulkheadOperationTelemetryConfig"),
+                "bulkhead"
             )
         )
     }
@@ -0,0 +1,106 @@
+package io.koraframework.resilient.symbol.processor.aop
+
+import com.google.devtools.ksp.getClassDeclarationByName
+import com.google.devtools.ksp.processing.Resolver
+import com.google.devtools.ksp.symbol.KSFunctionDeclaration
+import com.google.devtools.ksp.symbol.KSType
+import com.squareup.kotlinpoet.ClassName
+import com.squareup.kotlinpoet.CodeBlock
+import com.squareup.kotlinpoet.MemberName
+import com.squareup.kotlinpoet.ksp.toTypeName
+import io.koraframework.aop.symbol.processor.KoraAspect
+import io.koraframework.ksp.common.AnnotationUtils.findAnnotation
+import io.koraframework.ksp.common.AnnotationUtils.findValue
+import io.koraframework.ksp.common.CommonClassNames
+import io.koraframework.ksp.common.FunctionUtils.isCompletionStage
+import io.koraframework.ksp.common.FunctionUtils.isFlow
+import io.koraframework.ksp.common.FunctionUtils.isFlux
+import io.koraframework.ksp.common.FunctionUtils.isFuture
+import io.koraframework.ksp.common.FunctionUtils.isMono
+import io.koraframework.ksp.common.exception.ProcessingErrorException
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.Future
+
+class BulkheadKoraAspect(val resolver: Resolver) : KoraAspect {
+
+    companion object {
+        private val ANNOTATION_TYPE = ClassName("io.koraframework.resilient.bulkhead.annotation", "Bulkhead")
+        private val BULKHEAD = ClassName("io.koraframework.resilient.bulkhead", "Bulkhead")
+    }
+
+    override fun getSupportedAnnotationTypes(): Set<String> {
+        return setOf(ANNOTATION_TYPE.canonicalName)
+    }
+
+    override fun apply(ksFunction: KSFunctionDeclaration, superCall: String, aspectContext: KoraAspect.AspectContext): KoraAspect.ApplyResult {
+        if (ksFunction.isFuture()) {
+            throw ProcessingErrorException(unsupportedReturnTypeError("@Bulkhead", ksFunction, Future::class.java), ksFunction)
+        } else if (ksFunction.isCompletionStage()) {
+            throw ProcessingErrorException(unsupportedReturnTypeError("@Bulkhead", ksFunction, CompletionStage::class.java), ksFunction)
+        } else if (ksFunction.isMono()) {
+            throw ProcessingErrorException(unsupportedReturnTypeError("@Bulkhead", ksFunction, CommonClassNames.mono), ksFunction)
+        } else if (ksFunction.isFlux()) {
+            throw ProcessingErrorException(unsupportedReturnTypeError("@Bulkhead", ksFunction, CommonClassNames.flux), ksFunction)
+        }
+
+        val bulkheadType = ksFunction.findAnnotation(ANNOTATION_TYPE)!!
+            .findValue<KSType>("value")!!
+        val baseBulkhead = resolver.getClassDeclarationByName(BULKHEAD.canonicalName)!!.asStarProjectedType()
+        if (!baseBulkhead.isAssignableFrom(bulkheadType)) {
+            throw ProcessingErrorException(invalidResilientContractError("@Bulkhead", ksFunction, BULKHEAD.canonicalName), ksFunction)
+        }
+        val fieldBulkhead = aspectContext.fieldFactory.constructorParam(
+            bulkheadType.toTypeName(),
+            listOf()
+        )
+
+        val body = if (ksFunction.isFlow()) {
+            buildBodyFlow(ksFunction, superCall, fieldBulkhead)
+        } else {
+            buildBodySync(ksFunction, superCall, fieldBulkhead)
+        }
+        return KoraAspect.ApplyResult.MethodBody(body)
+    }
+
+    private fun buildBodySync(
+        method: KSFunctionDeclaration, superCall: String, fieldBulkhead: String
+    ): CodeBlock {
+        val superMethod = buildMethodCall(method, superCall)
+        return CodeBlock.builder().add(
+            """
+            %L.acquire()
+            return try {
+                %L
+            } finally {
+                %L.release()
+            }
+            """.trimIndent(),
+            fieldBulkhead, superMethod, fieldBulkhead
+        ).build()
+    }
+
+    private fun buildBodyFlow(
+        method: KSFunctionDeclaration, superCall: String, fieldBulkhead: String
+    ): CodeBlock {
+        val flowMember = MemberName("kotlinx.coroutines.flow", "flow")
+        val emitMember = MemberName("kotlinx.coroutines.flow", "emitAll")
+        val superMethod = buildMethodCall(method, superCall)
+        return CodeBlock.builder().add(
+            """
+            return %M {
+                %L.acquire()
+                try {
+                    %M(%L)
+                } finally {
+                    %L.release()
+                }
+            }
+            """.trimIndent(),
+            flowMember, fieldBulkhead, emitMember, superMethod.toString(), fieldBulkhead
+        ).build()
+    }
+
+    private fun buildMethodCall(method: KSFunctionDeclaration, call: String): CodeBlock {
+        return CodeBlock.of(method.parameters.asSequence().map { p -> CodeBlock.of("%L", p) }.joinToString(", ", "$call(", ")"))
+    }
+}
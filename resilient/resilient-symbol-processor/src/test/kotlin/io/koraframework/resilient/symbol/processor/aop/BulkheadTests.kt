@@ -0,0 +1,70 @@
+package io.koraframework.resilient.symbol.processor.aop
+
+import com.google.devtools.ksp.KspExperimental
+import io.koraframework.resilient.bulkhead.exception.BulkheadFullException
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@KspExperimental
+class BulkheadTests : ResilientAopSymbolTestSupport() {
+
+    @Test
+    fun syncBulkheadCallSucceeds() {
+        val service = compileBulkheadTarget("""
+            @Bulkhead(TestBulkhead::class)
+            open fun call(body: Runnable): String {
+                body.run()
+                return "OK"
+            }
+        """)
+
+        assertEquals("OK", call(service, "call", Runnable {}))
+    }
+
+    @Test
+    fun syncBulkheadConcurrentCallIsRejected() {
+        val service = compileBulkheadTarget("""
+            @Bulkhead(TestBulkhead::class)
+            open fun call(body: Runnable): String {
+                body.run()
+                return "OK"
+            }
+        """)
+
+        val nested = Runnable { call(service, "call", Runnable {}) }
+
+        assertThrows<BulkheadFullException> { call(service, "call", nested) }
+        assertEquals("OK", call(service, "call", Runnable {}))
+    }
+
+    @Test
+    fun voidBulkheadReleasesPermitOnFailure() {
+        val service = compileBulkheadTarget("""
+            @Bulkhead(TestBulkhead::class)
+            open fun call(body: Runnable) {
+                body.run()
+            }
+        """)
+
+        assertThrows<IllegalStateException> { call(service, "call", Runnable { throw IllegalStateException("test") }) }
+        call(service, "call", Runnable {})
+    }
+
+    private fun compileBulkheadTarget(method: String): Any {
+        return compileApp("""
+            custom1 {
+              maxConcurrentCalls = 1
+            }
+        """, """
+            @BulkheadSpec("custom1")
+            interface TestBulkhead : io.koraframework.resilient.bulkhead.Bulkhead
+        """, """
+            @Component
+            @Root
+            open class TestTarget {
+                $method
+            }
+        """)
+    }
+}
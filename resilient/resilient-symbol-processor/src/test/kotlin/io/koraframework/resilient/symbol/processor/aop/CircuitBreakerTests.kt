@@ -366,6 +366,7 @@ class CircuitBreakerTests : AbstractSymbolProcessorTest() {
                           timeout {}
                           fallback {}
                           rateLimiter {}
+                          bulkhead {}
                         }
                         $config
                     ${"\"\"\""}).resolve())
@@ -389,6 +390,7 @@ class CircuitBreakerTests : AbstractSymbolProcessorTest() {
                           timeout {}
                           fallback {}
                           rateLimiter {}
+                          bulkhead {}
                         }
                         $config
                     ${"\"\"\""}).resolve())
@@ -28,6 +28,8 @@ abstract class ResilientAopSymbolTestSupport : AbstractSymbolProcessorTest() {
             import io.koraframework.config.common.origin.SimpleConfigOrigin
             import io.koraframework.config.hocon.HoconConfigFactory
             import io.koraframework.resilient.ResilientModule
+            import io.koraframework.resilient.bulkhead.annotation.Bulkhead
+            import io.koraframework.resilient.bulkhead.annotation.BulkheadSpec
             import io.koraframework.resilient.fallback.annotation.Fallback
             import io.koraframework.resilient.ratelimiter.annotation.RateLimited
             import io.koraframework.resilient.ratelimiter.annotation.RateLimiterSpec
@@ -84,6 +86,7 @@ abstract class ResilientAopSymbolTestSupport : AbstractSymbolProcessorTest() {
                           timeout {}
                           fallback {}
                           rateLimiter {}
+                          bulkhead {}
                         }
                         $config
                     ${"\"\"\""}).resolve())